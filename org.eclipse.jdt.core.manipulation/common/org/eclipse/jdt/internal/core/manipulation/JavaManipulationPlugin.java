@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -54,6 +54,10 @@ public class JavaManipulationPlugin extends Plugin implements DebugOptionsListen
 
 	public static boolean DEBUG_TYPE_CONSTRAINTS;
 
+	public static boolean DEBUG_REFACTORING_TIMINGS;
+
+	public static boolean DEBUG_REFACTORING_SESSION_CACHE;
+
 	//The shared instance.
 	private static JavaManipulationPlugin fgDefault;
 
@@ -186,5 +190,7 @@ public class JavaManipulationPlugin extends Plugin implements DebugOptionsListen
 	public void optionsChanged(DebugOptions options) {
 		DEBUG_AST_PROVIDER= options.getBooleanOption("org.eclipse.jdt.core.manipulation/debug/ASTProvider", false); //$NON-NLS-1$
 		DEBUG_TYPE_CONSTRAINTS= options.getBooleanOption("org.eclipse.jdt.core.manipulation/debug/TypeConstraints", false); //$NON-NLS-1$
+		DEBUG_REFACTORING_TIMINGS= options.getBooleanOption("org.eclipse.jdt.core.manipulation/debug/RefactoringTimings", false); //$NON-NLS-1$
+		DEBUG_REFACTORING_SESSION_CACHE= options.getBooleanOption("org.eclipse.jdt.core.manipulation/debug/RefactoringSessionCache", false); //$NON-NLS-1$
 	}
 }
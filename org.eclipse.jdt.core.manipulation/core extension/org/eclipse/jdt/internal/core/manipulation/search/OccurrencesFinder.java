@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.jdt.internal.core.manipulation.search;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -102,8 +103,73 @@ public class OccurrencesFinder extends ASTVisitor implements IOccurrencesFinder
 		if (fResult == null) {
 			fResult= new ArrayList<>();
 			fWriteUsages= new HashSet<>();
-			fRoot.accept(this);
+			if (fTargetIsStaticMethodImport) {
+				// method invocations are matched by name, which the index does not know
+				fRoot.accept(this);
+			} else {
+				performIndexedSearch();
+			}
+		}
+	}
+
+	/**
+	 * Finds the same occurrences as visiting the AST, but only looks at the names which are
+	 * candidates for the target according to the {@link OccurrencesIndex} of the AST.
+	 */
+	private void performIndexedSearch() {
+		OccurrencesIndex index= OccurrencesIndex.getIndex(fRoot);
+		for (OccurrencesIndex.Entry entry : index.getEntries(fTarget)) {
+			if (!matches(entry.getBinding()))
+				continue;
+			Name name= entry.getName();
+			if (entry.getKind() == OccurrencesIndex.K_CONSTRUCTOR || isAddedByParent(name) || isVisited(name))
+				addOccurrence(name, index.isWrite(name));
+		}
+		if (fTarget instanceof IMethodBinding) {
+			for (OccurrencesIndex.Entry entry : index.getStaticImports()) {
+				Name name= entry.getName();
+				if (isVisited(name.getParent()) && isPossibleStaticImport(name, (IMethodBinding) entry.getBinding()))
+					fResult.add(new OccurrenceLocation(name.getStartPosition(), name.getLength(), 0, fReadDescription));
+			}
 		}
+		fResult.sort(Comparator.comparingInt(OccurrenceLocation::getOffset));
+	}
+
+	/**
+	 * Tells whether the given name is visited, i.e. it is not part of a qualified name whose
+	 * occurrence has already been added. Mirrors {@link #visit(QualifiedName)}.
+	 *
+	 * @param node the name
+	 * @return <code>true</code> if the name is visited
+	 */
+	private boolean isVisited(ASTNode node) {
+		ASTNode parent= node.getParent();
+		if (!(parent instanceof QualifiedName))
+			return true;
+		QualifiedName qualifiedName= (QualifiedName) parent;
+		if (!isVisited(qualifiedName))
+			return false;
+		IBinding binding= qualifiedName.resolveBinding();
+		if (binding instanceof IVariableBinding && ((IVariableBinding)binding).isField())
+			return !matches(qualifiedName.getName().resolveBinding());
+		if (binding instanceof IMethodBinding && isStaticImport(qualifiedName))
+			return !isPossibleStaticImport(qualifiedName.getName(), (IMethodBinding) binding);
+		return !matches(binding);
+	}
+
+	/**
+	 * Tells whether the given name is the name of a qualified field access that is visited, in
+	 * which case the occurrence is added for the qualified name.
+	 *
+	 * @param name the name
+	 * @return <code>true</code> if the occurrence is added when visiting the parent
+	 */
+	private boolean isAddedByParent(Name name) {
+		ASTNode parent= name.getParent();
+		if (!(parent instanceof QualifiedName) || ((QualifiedName) parent).getName() != name)
+			return false;
+		IBinding binding= ((QualifiedName) parent).resolveBinding();
+		return binding instanceof IVariableBinding && ((IVariableBinding)binding).isField() && isVisited(parent);
 	}
 
 	@Override
@@ -252,8 +318,12 @@ public class OccurrencesFinder extends ASTVisitor implements IOccurrencesFinder
 		return true;
 	}
 
+	private boolean matches(IBinding binding) {
+		return binding != null && Bindings.equals(getBindingDeclaration(binding), fTarget);
+	}
+
 	private boolean addWrite(Name node, IBinding binding) {
-		if (binding != null && Bindings.equals(getBindingDeclaration(binding), fTarget)) {
+		if (matches(binding)) {
 			fWriteUsages.add(node);
 			return true;
 		}
@@ -261,21 +331,24 @@ public class OccurrencesFinder extends ASTVisitor implements IOccurrencesFinder
 	}
 
 	private boolean addUsage(Name node, IBinding binding) {
-		if (binding != null && Bindings.equals(getBindingDeclaration(binding), fTarget)) {
-			int flag= 0;
-			String description= fReadDescription;
-			if (fTarget instanceof IVariableBinding) {
-				boolean isWrite= fWriteUsages.remove(node);
-				flag= isWrite ? F_WRITE_OCCURRENCE : F_READ_OCCURRENCE;
-				if (isWrite)
-					description= fWriteDescription;
-			}
-			fResult.add(new OccurrenceLocation(node.getStartPosition(), node.getLength(), flag, description));
+		if (matches(binding)) {
+			addOccurrence(node, fWriteUsages.remove(node));
 			return true;
 		}
 		return false;
 	}
 
+	private void addOccurrence(Name node, boolean isWrite) {
+		int flag= 0;
+		String description= fReadDescription;
+		if (fTarget instanceof IVariableBinding) {
+			flag= isWrite ? F_WRITE_OCCURRENCE : F_READ_OCCURRENCE;
+			if (isWrite)
+				description= fWriteDescription;
+		}
+		fResult.add(new OccurrenceLocation(node.getStartPosition(), node.getLength(), flag, description));
+	}
+
 	@Override
 	public int getSearchKind() {
 		return K_OCCURRENCE;
@@ -284,15 +357,20 @@ public class OccurrencesFinder extends ASTVisitor implements IOccurrencesFinder
 
 
 	private boolean addPossibleStaticImport(Name node, IMethodBinding binding) {
+		if (isPossibleStaticImport(node, binding)) {
+			fResult.add(new OccurrenceLocation(node.getStartPosition(), node.getLength(), 0, fReadDescription));
+			return true;
+		}
+		return false;
+	}
+
+	private boolean isPossibleStaticImport(Name node, IMethodBinding binding) {
 		if (binding == null || node == null || !(fTarget instanceof IMethodBinding) || !Modifier.isStatic(binding.getModifiers()))
 			return false;
 
 		IMethodBinding targetMethodBinding= (IMethodBinding)fTarget;
 		if ((fTargetIsStaticMethodImport || Modifier.isStatic(targetMethodBinding.getModifiers())) && (targetMethodBinding.getDeclaringClass().getTypeDeclaration() == binding.getDeclaringClass().getTypeDeclaration())) {
-			if (node.getFullyQualifiedName().equals(targetMethodBinding.getName())) {
-				fResult.add(new OccurrenceLocation(node.getStartPosition(), node.getLength(), 0, fReadDescription));
-				return true;
-			}
+			return node.getFullyQualifiedName().equals(targetMethodBinding.getName());
 		}
 		return false;
 	}
@@ -307,7 +385,7 @@ public class OccurrencesFinder extends ASTVisitor implements IOccurrencesFinder
 		return null;
 	}
 
-	private IBinding getBindingDeclaration(IBinding binding) {
+	static IBinding getBindingDeclaration(IBinding binding) {
 		switch (binding.getKind()) {
 			case IBinding.TYPE :
 				return ((ITypeBinding)binding).getTypeDeclaration();
@@ -0,0 +1,284 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.manipulation.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.Assignment;
+import org.eclipse.jdt.core.dom.ClassInstanceCreation;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.FieldAccess;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.IVariableBinding;
+import org.eclipse.jdt.core.dom.ImportDeclaration;
+import org.eclipse.jdt.core.dom.Name;
+import org.eclipse.jdt.core.dom.NameQualifiedType;
+import org.eclipse.jdt.core.dom.ParameterizedType;
+import org.eclipse.jdt.core.dom.PostfixExpression;
+import org.eclipse.jdt.core.dom.PrefixExpression;
+import org.eclipse.jdt.core.dom.QualifiedName;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.SimpleType;
+import org.eclipse.jdt.core.dom.SingleVariableDeclaration;
+import org.eclipse.jdt.core.dom.Type;
+import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
+
+/**
+ * An index of the names of an AST by the declarations of their bindings, used by
+ * {@link OccurrencesFinder}.
+ * <p>
+ * The index is built with a single pass over the AST the first time occurrences are searched in
+ * it, e.g. after a reconcile, and is attached to the root of the AST. Searching the occurrences of
+ * another element in the same AST then only looks at the candidate names of that element instead
+ * of visiting the whole AST again. The index is discarded as soon as the AST is modified.
+ * </p>
+ */
+final class OccurrencesIndex {
+
+	/** An occurrence of a name with a binding */
+	static final int K_NAME= 0;
+
+	/** The type name of a class instance creation, with the binding of the constructor */
+	static final int K_CONSTRUCTOR= 1;
+
+	/** The name of a static import of a method */
+	static final int K_STATIC_IMPORT= 2;
+
+	private static final String PROPERTY= OccurrencesIndex.class.getName();
+
+	/**
+	 * A candidate occurrence.
+	 */
+	static final class Entry {
+
+		private final Name fName;
+
+		private final IBinding fBinding;
+
+		private final int fKind;
+
+		private Entry(Name name, IBinding binding, int kind) {
+			fName= name;
+			fBinding= binding;
+			fKind= kind;
+		}
+
+		/**
+		 * @return the name of the occurrence
+		 */
+		public Name getName() {
+			return fName;
+		}
+
+		/**
+		 * @return the binding the name refers to, not necessarily its declaration
+		 */
+		public IBinding getBinding() {
+			return fBinding;
+		}
+
+		/**
+		 * @return one of {@link OccurrencesIndex#K_NAME}, {@link OccurrencesIndex#K_CONSTRUCTOR} and
+		 *         {@link OccurrencesIndex#K_STATIC_IMPORT}
+		 */
+		public int getKind() {
+			return fKind;
+		}
+	}
+
+	private final AST fAST;
+
+	private final long fModificationCount;
+
+	private final Map<String, List<Entry>> fEntries= new HashMap<>();
+
+	private final List<Entry> fStaticImports= new ArrayList<>();
+
+	private final Set<Name> fWriteNames= Collections.newSetFromMap(new IdentityHashMap<>());
+
+	private OccurrencesIndex(CompilationUnit root) {
+		fAST= root.getAST();
+		fModificationCount= fAST.modificationCount();
+		root.accept(new IndexBuilder());
+	}
+
+	/**
+	 * Returns the index of the given AST, building it if necessary.
+	 *
+	 * @param root the root of the AST
+	 * @return the index
+	 */
+	public static OccurrencesIndex getIndex(CompilationUnit root) {
+		synchronized (root) {
+			OccurrencesIndex index= (OccurrencesIndex) root.getProperty(PROPERTY);
+			if (index == null || index.fModificationCount != index.fAST.modificationCount()) {
+				index= new OccurrencesIndex(root);
+				root.setProperty(PROPERTY, index);
+			}
+			return index;
+		}
+	}
+
+	/**
+	 * Returns the candidate occurrences of the given binding, in the order of the AST. Clients
+	 * still have to compare the bindings of the candidates with the binding.
+	 *
+	 * @param declaration the declaration of a binding
+	 * @return the names and class instance creations whose binding has the same key as the
+	 *         binding, which must not be modified
+	 */
+	public List<Entry> getEntries(IBinding declaration) {
+		List<Entry> result= fEntries.get(getKey(declaration));
+		return result != null ? result : Collections.emptyList();
+	}
+
+	/**
+	 * @return the names of all static imports of methods, which must not be modified
+	 */
+	public List<Entry> getStaticImports() {
+		return fStaticImports;
+	}
+
+	/**
+	 * Tells whether a name is written, e.g. the left hand side of an assignment.
+	 *
+	 * @param name the name
+	 * @return <code>true</code> if the name is written
+	 */
+	public boolean isWrite(Name name) {
+		return fWriteNames.contains(name);
+	}
+
+	private static String getKey(IBinding declaration) {
+		String key= declaration.getKey();
+		return key != null ? key : ""; //$NON-NLS-1$
+	}
+
+	private void add(Name name, IBinding binding, int kind) {
+		if (binding == null)
+			return;
+		Entry entry= new Entry(name, binding, kind);
+		if (kind == K_STATIC_IMPORT) {
+			fStaticImports.add(entry);
+			return;
+		}
+		String key= getKey(OccurrencesFinder.getBindingDeclaration(binding));
+		List<Entry> entries= fEntries.get(key);
+		if (entries == null) {
+			entries= new ArrayList<>(4);
+			fEntries.put(key, entries);
+		}
+		entries.add(entry);
+	}
+
+	private void addWrite(Expression expression) {
+		if (expression instanceof SimpleName)
+			fWriteNames.add((SimpleName) expression);
+		else if (expression instanceof QualifiedName)
+			fWriteNames.add(((QualifiedName) expression).getName());
+		else if (expression instanceof FieldAccess)
+			fWriteNames.add(((FieldAccess) expression).getName());
+	}
+
+	/**
+	 * Collects the same names as {@link OccurrencesFinder} does when visiting the AST, but for
+	 * all bindings at once.
+	 */
+	private class IndexBuilder extends ASTVisitor {
+
+		public IndexBuilder() {
+			super(true);
+		}
+
+		@Override
+		public boolean visit(QualifiedName node) {
+			IBinding binding= node.resolveBinding();
+			if (binding instanceof IVariableBinding && ((IVariableBinding) binding).isField()) {
+				// the occurrence is the simple name, which is visited as a child
+			} else if (binding instanceof IMethodBinding && node.getParent() instanceof ImportDeclaration && ((ImportDeclaration) node.getParent()).isStatic()) {
+				add(node.getName(), binding, K_STATIC_IMPORT);
+			} else {
+				add(node, binding, K_NAME);
+			}
+			return true;
+		}
+
+		@Override
+		public boolean visit(SimpleName node) {
+			add(node, node.resolveBinding(), K_NAME);
+			return true;
+		}
+
+		@Override
+		public boolean visit(ClassInstanceCreation node) {
+			Type type= node.getType();
+			if (type instanceof ParameterizedType) {
+				type= ((ParameterizedType) type).getType();
+			}
+			if (type instanceof SimpleType) {
+				Name name= ((SimpleType) type).getName();
+				if (name instanceof QualifiedName)
+					name= ((QualifiedName)name).getName();
+				add(name, node.resolveConstructorBinding(), K_CONSTRUCTOR);
+			} else if (type instanceof NameQualifiedType) {
+				add(((NameQualifiedType) type).getName(), node.resolveConstructorBinding(), K_CONSTRUCTOR);
+			}
+			return true;
+		}
+
+		@Override
+		public boolean visit(Assignment node) {
+			addWrite(node.getLeftHandSide());
+			return true;
+		}
+
+		@Override
+		public boolean visit(SingleVariableDeclaration node) {
+			fWriteNames.add(node.getName());
+			return true;
+		}
+
+		@Override
+		public boolean visit(VariableDeclarationFragment node) {
+			if (node.getParent() instanceof FieldDeclaration || node.getInitializer() != null)
+				fWriteNames.add(node.getName());
+			return true;
+		}
+
+		@Override
+		public boolean visit(PrefixExpression node) {
+			PrefixExpression.Operator operator= node.getOperator();
+			if (operator == PrefixExpression.Operator.INCREMENT || operator == PrefixExpression.Operator.DECREMENT)
+				addWrite(node.getOperand());
+			return true;
+		}
+
+		@Override
+		public boolean visit(PostfixExpression node) {
+			addWrite(node.getOperand());
+			return true;
+		}
+	}
+}
@@ -0,0 +1,353 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.callhierarchy;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.JavaCore;
+
+/**
+ * A snapshot of the transitive callers or callees of a set of members, as computed by
+ * {@link CallGraphBuilder}.
+ * <p>
+ * Members are stored as handle identifiers and referred to by their index in the graph. The
+ * members the graph has been built for are the first nodes. The edges of a node are the indices
+ * of its callers or callees, depending on the kind of graph.
+ * The graph also records the modification stamps of the compilation units declaring its
+ * members, so that it can be refreshed incrementally.
+ * </p>
+ * <p>
+ * A graph can be written to and read from a compact binary format with {@link #write(OutputStream)}
+ * and {@link #read(InputStream)}.
+ * </p>
+ */
+public final class CallGraph {
+
+	/** The magic number of the binary format */
+	private static final int MAGIC= 0x4A434731; // "JCG1"
+
+	/** The version of the binary format */
+	private static final int VERSION= 2;
+
+	private static final int[] NO_EDGES= new int[0];
+
+	private final boolean fCallers;
+
+	private final List<String> fNodes= new ArrayList<>();
+
+	private final Map<String, Integer> fIndices= new HashMap<>();
+
+	private final List<int[]> fEdges= new ArrayList<>();
+
+	private final Map<String, Long> fUnitStamps= new LinkedHashMap<>();
+
+	private int fRootCount;
+
+	/**
+	 * Creates an empty call graph.
+	 *
+	 * @param callers <code>true</code> if the edges point to the callers of a node,
+	 *            <code>false</code> if they point to its callees
+	 */
+	public CallGraph(boolean callers) {
+		fCallers= callers;
+	}
+
+	/**
+	 * @return <code>true</code> if the edges point to the callers of a node, <code>false</code>
+	 *         if they point to its callees
+	 */
+	public boolean isCallers() {
+		return fCallers;
+	}
+
+	/**
+	 * @return the number of nodes
+	 */
+	public int getNodeCount() {
+		return fNodes.size();
+	}
+
+	/**
+	 * @return the number of members the graph has been built for. These are the nodes with the
+	 *         indices from <code>0</code> to <code>getRootCount() - 1</code>.
+	 */
+	public int getRootCount() {
+		return fRootCount;
+	}
+
+	/**
+	 * Marks all current nodes as the members the graph has been built for.
+	 */
+	void setRootsAdded() {
+		fRootCount= fNodes.size();
+	}
+
+	/**
+	 * Returns the handle identifier of the member of a node.
+	 *
+	 * @param node the index of the node
+	 * @return the handle identifier
+	 */
+	public String getHandleIdentifier(int node) {
+		return fNodes.get(node);
+	}
+
+	/**
+	 * Returns the member of a node.
+	 *
+	 * @param node the index of the node
+	 * @return the member, or <code>null</code> if the handle identifier cannot be resolved
+	 */
+	public IMember getMember(int node) {
+		IJavaElement element= JavaCore.create(fNodes.get(node));
+		return element instanceof IMember ? (IMember) element : null;
+	}
+
+	/**
+	 * Returns the index of the node of a member.
+	 *
+	 * @param handleIdentifier the handle identifier of the member
+	 * @return the index of the node, or <code>-1</code> if the member is not part of the graph
+	 */
+	public int indexOf(String handleIdentifier) {
+		Integer index= fIndices.get(handleIdentifier);
+		return index != null ? index.intValue() : -1;
+	}
+
+	/**
+	 * Returns the edges of a node. The returned array must not be modified.
+	 *
+	 * @param node the index of the node
+	 * @return the indices of the callers or callees of the node
+	 */
+	public int[] getEdges(int node) {
+		return fEdges.get(node);
+	}
+
+	/**
+	 * Adds the given member as a node, if it is not yet part of the graph.
+	 *
+	 * @param handleIdentifier the handle identifier of the member
+	 * @return the index of the node
+	 */
+	int addNode(String handleIdentifier) {
+		Integer index= fIndices.get(handleIdentifier);
+		if (index != null)
+			return index.intValue();
+		int result= fNodes.size();
+		fNodes.add(handleIdentifier);
+		fEdges.add(NO_EDGES);
+		fIndices.put(handleIdentifier, Integer.valueOf(result));
+		return result;
+	}
+
+	void setEdges(int node, int[] edges) {
+		fEdges.set(node, edges);
+	}
+
+	/**
+	 * Removes the nodes which are no longer reachable from the roots, and the nodes of members
+	 * which no longer exist. The nodes keep their order, but their indices may change.
+	 */
+	void prune() {
+		int count= fNodes.size();
+		boolean[] reachable= new boolean[count];
+		ArrayDeque<Integer> pending= new ArrayDeque<>();
+		for (int node= 0; node < fRootCount; node++) {
+			reachable[node]= true;
+			pending.add(Integer.valueOf(node));
+		}
+		while (!pending.isEmpty()) {
+			for (int edge : fEdges.get(pending.remove().intValue())) {
+				if (!reachable[edge]) {
+					IMember member= getMember(edge);
+					if (member != null && member.exists()) {
+						reachable[edge]= true;
+						pending.add(Integer.valueOf(edge));
+					}
+				}
+			}
+		}
+
+		int[] newIndices= new int[count];
+		List<String> nodes= new ArrayList<>();
+		for (int node= 0; node < count; node++) {
+			newIndices[node]= reachable[node] ? nodes.size() : -1;
+			if (reachable[node])
+				nodes.add(fNodes.get(node));
+		}
+		if (nodes.size() == count)
+			return;
+		List<int[]> edges= new ArrayList<>(nodes.size());
+		for (int node= 0; node < count; node++) {
+			if (!reachable[node])
+				continue;
+			int[] oldEdges= fEdges.get(node);
+			int[] newEdges= new int[oldEdges.length];
+			int length= 0;
+			for (int edge : oldEdges) {
+				if (newIndices[edge] != -1)
+					newEdges[length++]= newIndices[edge];
+			}
+			edges.add(length == oldEdges.length ? newEdges : Arrays.copyOf(newEdges, length));
+		}
+		fNodes.clear();
+		fNodes.addAll(nodes);
+		fEdges.clear();
+		fEdges.addAll(edges);
+		fIndices.clear();
+		for (int node= 0; node < fNodes.size(); node++) {
+			fIndices.put(fNodes.get(node), Integer.valueOf(node));
+		}
+	}
+
+	/**
+	 * Returns the compilation units declaring the members of the graph, with the modification
+	 * stamps they had when the graph was built or last refreshed.
+	 *
+	 * @return a map from the handle identifier of a compilation unit to its stamp
+	 */
+	Map<String, Long> getUnitStamps() {
+		return fUnitStamps;
+	}
+
+	/**
+	 * Records the current modification stamps of the compilation units declaring the members
+	 * of the graph.
+	 */
+	void updateUnitStamps() {
+		fUnitStamps.clear();
+		for (int node= 0; node < fNodes.size(); node++) {
+			IMember member= getMember(node);
+			ICompilationUnit unit= member != null ? member.getCompilationUnit() : null;
+			if (unit != null && !fUnitStamps.containsKey(unit.getHandleIdentifier()))
+				fUnitStamps.put(unit.getHandleIdentifier(), Long.valueOf(getStamp(unit)));
+		}
+	}
+
+	static long getStamp(ICompilationUnit unit) {
+		IResource resource= unit.getResource();
+		if (resource == null || !resource.exists() || unit.isWorkingCopy())
+			return IResource.NULL_STAMP;
+		return resource.getModificationStamp();
+	}
+
+	/**
+	 * Fills the method cache of the given call hierarchy root with the calls of this graph, so
+	 * that expanding the root does not search again. The calls do not have call locations.
+	 *
+	 * @param root a root of a call hierarchy of the same kind as this graph
+	 */
+	public void primeCache(MethodWrapper root) {
+		for (int node= 0; node < fNodes.size(); node++) {
+			Map<String, MethodCall> calls= new HashMap<>();
+			for (int edge : fEdges.get(node)) {
+				IMember member= getMember(edge);
+				if (member != null)
+					calls.put(member.getHandleIdentifier(), new MethodCall(member));
+			}
+			root.putCachedCalls(fNodes.get(node), calls);
+		}
+	}
+
+	/**
+	 * Writes this graph in its binary format.
+	 *
+	 * @param stream the stream to write to, which is not closed
+	 * @throws IOException if writing failed
+	 */
+	public void write(OutputStream stream) throws IOException {
+		DataOutputStream output= new DataOutputStream(new BufferedOutputStream(stream));
+		output.writeInt(MAGIC);
+		output.writeInt(VERSION);
+		output.writeBoolean(fCallers);
+		output.writeInt(fNodes.size());
+		output.writeInt(fRootCount);
+		for (String node : fNodes) {
+			output.writeUTF(node);
+		}
+		for (int[] edges : fEdges) {
+			output.writeInt(edges.length);
+			for (int edge : edges) {
+				output.writeInt(edge);
+			}
+		}
+		output.writeInt(fUnitStamps.size());
+		for (Map.Entry<String, Long> entry : fUnitStamps.entrySet()) {
+			output.writeUTF(entry.getKey());
+			output.writeLong(entry.getValue().longValue());
+		}
+		output.flush();
+	}
+
+	/**
+	 * Reads a graph written by {@link #write(OutputStream)}.
+	 *
+	 * @param stream the stream to read from, which is not closed
+	 * @return the graph
+	 * @throws IOException if reading failed or the stream does not contain a call graph
+	 */
+	public static CallGraph read(InputStream stream) throws IOException {
+		DataInputStream input= new DataInputStream(new BufferedInputStream(stream));
+		if (input.readInt() != MAGIC || input.readInt() != VERSION)
+			throw new IOException("Unsupported call graph format"); //$NON-NLS-1$
+		CallGraph graph= new CallGraph(input.readBoolean());
+		int nodes= input.readInt();
+		int roots= input.readInt();
+		if (roots < 0 || roots > nodes)
+			throw new IOException("Invalid call graph roots"); //$NON-NLS-1$
+		for (int node= 0; node < nodes; node++) {
+			graph.addNode(input.readUTF());
+		}
+		graph.fRootCount= roots;
+		for (int node= 0; node < nodes; node++) {
+			// the edges of a node lead to distinct nodes
+			int count= input.readInt();
+			if (count < 0 || count > nodes)
+				throw new IOException("Invalid call graph edge count"); //$NON-NLS-1$
+			int[] edges= new int[count];
+			for (int index= 0; index < edges.length; index++) {
+				edges[index]= input.readInt();
+				if (edges[index] < 0 || edges[index] >= nodes)
+					throw new IOException("Invalid call graph edge"); //$NON-NLS-1$
+			}
+			graph.setEdges(node, edges);
+		}
+		int units= input.readInt();
+		for (int unit= 0; unit < units; unit++) {
+			String handle= input.readUTF();
+			graph.fUnitStamps.put(handle, Long.valueOf(input.readLong()));
+		}
+		return graph;
+	}
+}
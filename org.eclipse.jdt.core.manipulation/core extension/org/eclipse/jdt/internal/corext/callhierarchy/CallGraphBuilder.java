@@ -0,0 +1,224 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.callhierarchy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+import org.eclipse.jdt.internal.corext.util.ParallelUtil;
+
+/**
+ * Computes {@link CallGraph}s without user interface: the transitive closure of the callers or
+ * callees of a set of members.
+ * <p>
+ * Callers are found with the same searches as in the call hierarchy (see
+ * {@link CallerMethodWrapper}), callees by analyzing the ASTs of the members (see
+ * {@link CalleeAnalyzerVisitor}). The search scope and filters are passed by the client and do
+ * not depend on the settings of the call hierarchy. The members of one level of the closure
+ * are processed in parallel.
+ * </p>
+ */
+public final class CallGraphBuilder {
+
+	private CallGraphBuilder() {
+	}
+
+	/**
+	 * Builds the call graph of the given members.
+	 *
+	 * @param roots the members to start with
+	 * @param callers <code>true</code> to compute the transitive callers, <code>false</code> for
+	 *            the transitive callees
+	 * @param settings the search scope and filters
+	 * @param monitor the progress monitor
+	 * @return the call graph
+	 * @throws OperationCanceledException if the monitor has been canceled
+	 */
+	public static CallGraph build(IMember[] roots, boolean callers, CallHierarchySettings settings, IProgressMonitor monitor) {
+		CallGraph graph= new CallGraph(callers);
+		Set<Integer> frontier= new LinkedHashSet<>();
+		for (IMember root : roots) {
+			frontier.add(Integer.valueOf(graph.addNode(root.getHandleIdentifier())));
+		}
+		graph.setRootsAdded();
+		expand(graph, frontier, settings, monitor);
+		graph.updateUnitStamps();
+		return graph;
+	}
+
+	/**
+	 * Updates the given graph after compilation units declaring its members have changed.
+	 * <p>
+	 * The edges of all nodes which may be affected by a changed compilation unit are computed
+	 * again, and new members reached from them are added. Nodes of members which have been
+	 * deleted or are no longer reached from the roots are removed, so the indices of nodes may
+	 * change. Callers in compilation units which do not declare any member of the graph are only
+	 * found by building the graph again.
+	 * </p>
+	 *
+	 * @param graph the graph to refresh
+	 * @param settings the search scope and filters, which should be the ones the graph has been
+	 *            built with
+	 * @param monitor the progress monitor
+	 * @throws OperationCanceledException if the monitor has been canceled
+	 */
+	public static void refresh(CallGraph graph, CallHierarchySettings settings, IProgressMonitor monitor) {
+		List<ICompilationUnit> changed= new ArrayList<>();
+		for (Map.Entry<String, Long> entry : graph.getUnitStamps().entrySet()) {
+			IJavaElement element= JavaCore.create(entry.getKey());
+			if (element instanceof ICompilationUnit) {
+				ICompilationUnit unit= (ICompilationUnit) element;
+				if (!unit.exists() || CallGraph.getStamp(unit) != entry.getValue().longValue())
+					changed.add(unit);
+			}
+		}
+		if (changed.isEmpty())
+			return;
+
+		Set<String> changedHandles= new LinkedHashSet<>();
+		for (ICompilationUnit unit : changed) {
+			changedHandles.add(unit.getHandleIdentifier());
+		}
+		Set<Integer> stale= new LinkedHashSet<>();
+		for (int node= 0; node < graph.getNodeCount(); node++) {
+			if (isDeclaredIn(graph.getMember(node), changedHandles)) {
+				stale.add(Integer.valueOf(node));
+			} else if (graph.isCallers()) {
+				// a caller in a changed unit may no longer call this node
+				for (int edge : graph.getEdges(node)) {
+					if (isDeclaredIn(graph.getMember(edge), changedHandles)) {
+						stale.add(Integer.valueOf(node));
+						break;
+					}
+				}
+			}
+		}
+		if (graph.isCallers()) {
+			// members of changed units may have started calling nodes of the graph
+			for (String callee : findCallees(changed, settings, monitor)) {
+				int node= graph.indexOf(callee);
+				if (node != -1)
+					stale.add(Integer.valueOf(node));
+			}
+		}
+		expand(graph, stale, settings, monitor);
+		graph.prune();
+		graph.updateUnitStamps();
+	}
+
+	private static boolean isDeclaredIn(IMember member, Set<String> unitHandles) {
+		if (member == null)
+			return false;
+		ICompilationUnit unit= member.getCompilationUnit();
+		return unit != null && unitHandles.contains(unit.getHandleIdentifier());
+	}
+
+	/**
+	 * Computes the edges of the given nodes and adds all members reached from them.
+	 *
+	 * @param graph the graph
+	 * @param nodes the nodes whose edges have to be computed
+	 * @param settings the search scope and filters
+	 * @param monitor the progress monitor
+	 */
+	private static void expand(final CallGraph graph, Set<Integer> nodes, final CallHierarchySettings settings, final IProgressMonitor monitor) {
+		final IProgressMonitor cancelMonitor= ParallelUtil.createCancelMonitor(monitor);
+		monitor.beginTask(graph.isCallers() ? CallHierarchyMessages.CallerMethodWrapper_taskname : CallHierarchyMessages.CalleeMethodWrapper_taskname, IProgressMonitor.UNKNOWN);
+		try (ExecutorService executor= ParallelUtil.createExecutor()) {
+			List<Integer> frontier= new ArrayList<>(nodes);
+			while (!frontier.isEmpty()) {
+				List<Future<String[]>> futures= new ArrayList<>(frontier.size());
+				for (Integer node : frontier) {
+					final IMember member= graph.getMember(node.intValue());
+					futures.add(executor.submit(() -> findCalls(member, graph.isCallers(), settings, cancelMonitor)));
+				}
+				// merge sequentially, the graph is not thread-safe
+				List<Integer> next= new ArrayList<>();
+				for (int index= 0; index < frontier.size(); index++) {
+					String[] calls= ParallelUtil.join(futures.get(index), monitor);
+					int[] edges= new int[calls.length];
+					for (int call= 0; call < calls.length; call++) {
+						int count= graph.getNodeCount();
+						edges[call]= graph.addNode(calls[call]);
+						if (edges[call] == count)
+							next.add(Integer.valueOf(count));
+					}
+					graph.setEdges(frontier.get(index).intValue(), edges);
+					monitor.worked(1);
+				}
+				frontier= next;
+			}
+		} finally {
+			monitor.done();
+		}
+	}
+
+	private static String[] findCalls(IMember member, boolean callers, CallHierarchySettings settings, IProgressMonitor monitor) {
+		if (member == null || !member.exists())
+			return new String[0];
+		MethodCall methodCall= new MethodCall(member);
+		MethodWrapper wrapper= callers ? new CallerMethodWrapper(null, methodCall) : new CalleeMethodWrapper(null, methodCall);
+		wrapper.setSettings(settings);
+		if (!wrapper.canHaveChildren())
+			return new String[0];
+		Set<String> result= new LinkedHashSet<>();
+		for (MethodWrapper call : wrapper.getCalls(monitor)) {
+			result.add(call.getMethodCall().getKey());
+		}
+		return result.toArray(new String[result.size()]);
+	}
+
+	private static Set<String> findCallees(List<ICompilationUnit> units, CallHierarchySettings settings, IProgressMonitor monitor) {
+		final IProgressMonitor cancelMonitor= ParallelUtil.createCancelMonitor(monitor);
+		Set<String> result= new LinkedHashSet<>();
+		try (ExecutorService executor= ParallelUtil.createExecutor()) {
+			List<Future<String[]>> futures= new ArrayList<>();
+			for (ICompilationUnit unit : units) {
+				if (!unit.exists())
+					continue;
+				try {
+					for (IType type : unit.getAllTypes()) {
+						for (final IMethod method : type.getMethods()) {
+							futures.add(executor.submit(() -> findCalls(method, false, settings, cancelMonitor)));
+						}
+					}
+				} catch (JavaModelException e) {
+					JavaManipulationPlugin.log(e);
+				}
+			}
+			for (Future<String[]> future : futures) {
+				result.addAll(Arrays.asList(ParallelUtil.join(future, monitor)));
+			}
+		}
+		return result;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2021 IBM Corporation and others.
+ * Copyright (c) 2019, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,8 +20,12 @@ package org.eclipse.jdt.internal.corext.callhierarchy;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.StringTokenizer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -52,6 +56,7 @@ import org.eclipse.jdt.core.search.SearchRequestor;
 import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
 import org.eclipse.jdt.internal.corext.refactoring.util.JavaElementUtil;
+import org.eclipse.jdt.internal.corext.util.ParallelUtil;
 
 import org.eclipse.jdt.internal.ui.util.StringMatcher;
 
@@ -66,6 +71,21 @@ public class CallHierarchyCore {
     public static final String PREF_FILTERS_LIST= "PREF_FILTERS_LIST"; //$NON-NLS-1$
     private String defaultIgnoreFilters= "java.*,javax.*"; //$NON-NLS-1$
 
+    /**
+     * Notified about the calls found while expanding a call hierarchy.
+     */
+    public interface ICallsListener {
+
+    	/**
+    	 * Called when the calls of a method wrapper have been found. May be called from any
+    	 * thread.
+    	 *
+    	 * @param wrapper the method wrapper
+    	 * @param calls the calls of the wrapper
+    	 */
+    	void callsFound(MethodWrapper wrapper, MethodWrapper[] calls);
+    }
+
     private static CallHierarchyCore fgInstance;
     private IJavaSearchScope fSearchScope;
     private StringMatcher[] fFilters;
@@ -130,6 +150,74 @@ public class CallHierarchyCore {
         return getRoots(members, false);
     }
 
+	/**
+	 * Finds the calls of the given method wrappers and of their children, down to the given
+	 * number of levels.
+	 * <p>
+	 * All searches of a level are run in parallel, one per distinct member. All wrappers of the
+	 * same member share the result of that search. The results are memoized in the method cache
+	 * of the call hierarchy, so that expanding the same members in the view afterwards does not
+	 * search again.
+	 * </p>
+	 *
+	 * @param wrappers the method wrappers to expand
+	 * @param levels the number of levels to expand
+	 * @param listener the listener notified as soon as the calls of a wrapper are known, or
+	 *            <code>null</code>
+	 * @param monitor the progress monitor
+	 * @throws OperationCanceledException if the monitor has been canceled
+	 */
+	public void expandCalls(MethodWrapper[] wrappers, int levels, ICallsListener listener, final IProgressMonitor monitor) {
+		final IProgressMonitor cancelMonitor= ParallelUtil.createCancelMonitor(monitor);
+		monitor.beginTask(CallHierarchyMessages.CallerMethodWrapper_taskname, levels);
+		try (ExecutorService executor= ParallelUtil.createExecutor()) {
+			List<MethodWrapper> frontier= Arrays.asList(wrappers);
+			for (int level= 0; level < levels && !frontier.isEmpty(); level++) {
+				// one search per member, the other wrappers of the same member share its result
+				Map<String, List<MethodWrapper>> distinct= new LinkedHashMap<>();
+				for (MethodWrapper wrapper : frontier) {
+					if (wrapper.canHaveChildren() && !wrapper.isRecursive())
+						distinct.computeIfAbsent(getSearchKey(wrapper), key -> new ArrayList<>()).add(wrapper);
+				}
+				List<Future<List<MethodWrapper>>> futures= new ArrayList<>(distinct.size());
+				for (List<MethodWrapper> group : distinct.values()) {
+					futures.add(executor.submit(() -> {
+						MethodWrapper searched= group.get(0);
+						List<MethodWrapper> calls= new ArrayList<>();
+						for (MethodWrapper wrapper : group) {
+							if (wrapper != searched)
+								wrapper.shareCalls(searched);
+							MethodWrapper[] wrapperCalls= wrapper.getCalls(cancelMonitor);
+							if (listener != null)
+								listener.callsFound(wrapper, wrapperCalls);
+							calls.addAll(Arrays.asList(wrapperCalls));
+						}
+						return calls;
+					}));
+				}
+				List<MethodWrapper> next= new ArrayList<>();
+				for (Future<List<MethodWrapper>> future : futures) {
+					next.addAll(ParallelUtil.join(future, monitor));
+				}
+				frontier= next;
+				monitor.worked(1);
+			}
+		} finally {
+			monitor.done();
+		}
+	}
+
+	/**
+	 * Returns the key of the search for the calls of the given wrapper. Wrappers with the same
+	 * key have the same calls.
+	 *
+	 * @param wrapper the method wrapper
+	 * @return the search key
+	 */
+	private static String getSearchKey(MethodWrapper wrapper) {
+		return wrapper.getClass().getName() + '#' + wrapper.getFieldSearchMode() + '#' + wrapper.getMethodCall().getKey();
+	}
+
 	private MethodWrapper[] getRoots(IMember[] members, boolean callers) {
 		ArrayList<MethodWrapper> roots= new ArrayList<>();
 		for (IMember member : members) {
@@ -201,6 +289,15 @@ public class CallHierarchyCore {
         this.fSearchScope= searchScope;
     }
 
+    /**
+     * Returns the current search scope and filters of the call hierarchy.
+     *
+     * @return the settings
+     */
+    public CallHierarchySettings getSettings() {
+        return new CallHierarchySettings(getSearchScope(), isShowAll(), isHideTestCode(), isShowTestCode(), getIgnoreFilters());
+    }
+
 	/**
 	 * Checks whether the fully qualified name is ignored by the set filters.
 	 *
@@ -293,7 +390,7 @@ public class CallHierarchyCore {
 	 * @param listString the string to parse
 	 * @return an array of {@link StringMatcher} objects
 	 */
-    private static StringMatcher[] parseList(String listString) {
+    static StringMatcher[] parseList(String listString) {
         List<StringMatcher> list= new ArrayList<>(10);
         StringTokenizer tokenizer= new StringTokenizer(listString, ","); //$NON-NLS-1$
 
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.callhierarchy;
+
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+
+import org.eclipse.jdt.internal.ui.util.StringMatcher;
+
+/**
+ * The search scope and the filters used to find the calls of members.
+ * <p>
+ * The call hierarchy uses the current settings of {@link CallHierarchyCore}. Other clients, like
+ * {@link CallGraphBuilder}, can pass their own settings to the roots of a hierarchy, see
+ * {@link MethodWrapper#setSettings(CallHierarchySettings)}.
+ * </p>
+ */
+public final class CallHierarchySettings {
+
+	private final IJavaSearchScope fSearchScope;
+
+	private final boolean fShowAll;
+
+	private final boolean fHideTestCode;
+
+	private final boolean fShowTestCodeOnly;
+
+	private final StringMatcher[] fIgnoreFilters;
+
+	/**
+	 * Creates new settings.
+	 *
+	 * @param searchScope the scope to search for callers and callee declarations in
+	 * @param showAll <code>true</code> to find calls from test and main code
+	 * @param hideTestCode <code>true</code> to ignore calls from test code, only used if
+	 *            <code>showAll</code> is <code>false</code>
+	 * @param showTestCodeOnly <code>true</code> to ignore calls from main code, only used if
+	 *            <code>showAll</code> is <code>false</code>
+	 * @param ignoreFilters comma-separated patterns of the fully qualified names of types whose
+	 *            calls are ignored, or <code>null</code> to ignore no calls
+	 */
+	public CallHierarchySettings(IJavaSearchScope searchScope, boolean showAll, boolean hideTestCode, boolean showTestCodeOnly, String ignoreFilters) {
+		this(searchScope, showAll, hideTestCode, showTestCodeOnly, ignoreFilters != null ? CallHierarchyCore.parseList(ignoreFilters) : null);
+	}
+
+	CallHierarchySettings(IJavaSearchScope searchScope, boolean showAll, boolean hideTestCode, boolean showTestCodeOnly, StringMatcher[] ignoreFilters) {
+		fSearchScope= searchScope;
+		fShowAll= showAll;
+		fHideTestCode= hideTestCode;
+		fShowTestCodeOnly= showTestCodeOnly;
+		fIgnoreFilters= ignoreFilters;
+	}
+
+	/**
+	 * @return the scope to search for callers and callee declarations in
+	 */
+	public IJavaSearchScope getSearchScope() {
+		return fSearchScope;
+	}
+
+	/**
+	 * @return <code>true</code> if calls from test and main code are found
+	 */
+	public boolean isShowAll() {
+		return fShowAll;
+	}
+
+	/**
+	 * @return <code>true</code> if calls from test code are ignored
+	 */
+	public boolean isHideTestCode() {
+		return fHideTestCode;
+	}
+
+	/**
+	 * @return <code>true</code> if calls from main code are ignored
+	 */
+	public boolean isShowTestCodeOnly() {
+		return fShowTestCodeOnly;
+	}
+
+	/**
+	 * Checks whether the fully qualified name is ignored by the filters.
+	 *
+	 * @param fullyQualifiedName the fully qualified name
+	 * @return <code>true</code> if the fully qualified name is ignored
+	 */
+	public boolean isIgnored(String fullyQualifiedName) {
+		if (fIgnoreFilters != null) {
+			for (StringMatcher ignoreFilter : fIgnoreFilters) {
+				if (ignoreFilter.match(fullyQualifiedName))
+					return true;
+			}
+		}
+		return false;
+	}
+}
@@ -31,8 +31,11 @@ class CallSearchResultCollector {
      */
     private Map<String, MethodCall> fCalledMembers;
 
-    public CallSearchResultCollector() {
+    private final CallHierarchySettings fSettings;
+
+    public CallSearchResultCollector(CallHierarchySettings settings) {
         this.fCalledMembers = createCalledMethodsData();
+        this.fSettings = settings;
     }
 
     /**
@@ -77,13 +80,13 @@ class CallSearchResultCollector {
 
 		IClasspathEntry classpathEntry= determineClassPathEntry(enclosingElement);
 
-		if (!CallHierarchyCore.getDefault().isShowAll() && classpathEntry != null) {
+		if (!fSettings.isShowAll() && classpathEntry != null) {
 			boolean isTest= classpathEntry.isTest();
-			if (CallHierarchyCore.getDefault().isHideTestCode() && isTest
-					|| CallHierarchyCore.getDefault().isShowTestCode() && !isTest)
+			if (fSettings.isHideTestCode() && isTest
+					|| fSettings.isShowTestCodeOnly() && !isTest)
 				return true;
 		}
-		return CallHierarchyCore.getDefault().isIgnored(fullyQualifiedName);
+		return fSettings.isIgnored(fullyQualifiedName);
 	}
 
 	private static IClasspathEntry determineClassPathEntry(Object element) {
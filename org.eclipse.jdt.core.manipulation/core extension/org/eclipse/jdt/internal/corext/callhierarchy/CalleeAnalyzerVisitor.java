@@ -62,12 +62,14 @@ class CalleeAnalyzerVisitor extends HierarchicalASTVisitor {
     private final IMember fMember;
     private final CompilationUnit fCompilationUnit;
     private final IProgressMonitor fProgressMonitor;
+    private final CallHierarchySettings fSettings;
     private int fMethodEndPosition;
     private int fMethodStartPosition;
 	private CallLocation fCalledAt;
 
-    CalleeAnalyzerVisitor(CallLocation calledAt, IMember member, CompilationUnit compilationUnit, IProgressMonitor progressMonitor) {
-		fSearchResults = new CallSearchResultCollector();
+    CalleeAnalyzerVisitor(CallLocation calledAt, IMember member, CompilationUnit compilationUnit, CallHierarchySettings settings, IProgressMonitor progressMonitor) {
+		fSearchResults = new CallSearchResultCollector(settings);
+        this.fSettings= settings;
         this.fCalledAt= calledAt;
         this.fMember = member;
         this.fCompilationUnit= compilationUnit;
@@ -397,7 +399,7 @@ class CalleeAnalyzerVisitor extends HierarchicalASTVisitor {
     }
 
     private IJavaSearchScope getSearchScope() {
-        return CallHierarchyCore.getDefault().getSearchScope();
+        return fSettings.getSearchScope();
     }
 
     private boolean isNodeWithinMethod(ASTNode node) {
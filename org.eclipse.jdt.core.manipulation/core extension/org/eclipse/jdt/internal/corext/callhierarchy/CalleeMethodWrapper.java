@@ -107,7 +107,7 @@ class CalleeMethodWrapper extends MethodWrapper {
 		    }
 
 			if (cu != null) {
-				CalleeAnalyzerVisitor visitor = new CalleeAnalyzerVisitor(this.getMethodCall().getFirstCallLocation(), member, cu, progressMonitor);
+				CalleeAnalyzerVisitor visitor = new CalleeAnalyzerVisitor(this.getMethodCall().getFirstCallLocation(), member, cu, getSettings(), progressMonitor);
 
 				cu.accept(visitor);
 				return visitor.getCallees();
@@ -129,7 +129,8 @@ class CalleeMethodWrapper extends MethodWrapper {
 			if (path == null)
 				return new HashMap<>(0);
 
-			CallSearchResultCollector collector= new CallSearchResultCollector();
+			CallHierarchySettings settings= getSettings();
+			CallSearchResultCollector collector= new CallSearchResultCollector(settings);
 			SearchParticipant[] participants= SearchEngine.getSearchParticipants();
 
 			for (SearchParticipant participant : participants) {
@@ -139,7 +140,7 @@ class CalleeMethodWrapper extends MethodWrapper {
 
 					for (SearchMatch match : calleeMatches) {
 						if (match.getElement() instanceof IMember callee) {
-							IMember resolved= resolveCallee(callee, monitor);
+							IMember resolved= resolveCallee(callee, settings, monitor);
 							if (resolved != null) {
 								collector.addMember(member, resolved,
 										match.getOffset(),
@@ -156,7 +157,7 @@ class CalleeMethodWrapper extends MethodWrapper {
 		}
 	}
 
-	private IMember resolveCallee(IMember callee, IProgressMonitor monitor) {
+	private IMember resolveCallee(IMember callee, CallHierarchySettings settings, IProgressMonitor monitor) {
 		if (callee.exists()) {
 			return callee;
 		}
@@ -186,7 +187,7 @@ class CalleeMethodWrapper extends MethodWrapper {
 		}
 		return CallHierarchyCore.findFirstDeclaration(
 				callee.getElementName(), searchFor,
-				CallHierarchyCore.getDefault().getSearchScope(), monitor,
+				settings.getSearchScope(), monitor,
 				argCount, receiverTypeFQN, null, argTypes);
 	}
 }
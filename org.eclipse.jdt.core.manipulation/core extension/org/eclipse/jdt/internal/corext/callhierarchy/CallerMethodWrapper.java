@@ -65,7 +65,7 @@ public class CallerMethodWrapper extends MethodWrapper {
 	}
 
     protected IJavaSearchScope getSearchScope() {
-        return CallHierarchyCore.getDefault().getSearchScope();
+        return getSettings().getSearchScope();
     }
 
     @Override
@@ -116,7 +116,7 @@ public class CallerMethodWrapper extends MethodWrapper {
 			if (type != null) {
 				if (type.isAnonymous()) {
 					// search engine does not find reference to anonymous, see https://bugs.eclipse.org/bugs/show_bug.cgi?id=207774
-					CallSearchResultCollector resultCollector= new CallSearchResultCollector();
+					CallSearchResultCollector resultCollector= new CallSearchResultCollector(getSettings());
 					IJavaElement parent= type.getParent();
 					if (parent instanceof IMember) {
 						IMember parentMember= (IMember) parent;
@@ -158,9 +158,10 @@ public class CallerMethodWrapper extends MethodWrapper {
 			ICompilationUnit cu= member.getCompilationUnit();
 			boolean isContributedElement= cu != null
 					&& !JavaCore.isJavaLikeFileName(cu.getElementName());
+			CallHierarchySettings settings= getSettings();
 			MethodReferencesSearchRequestor searchRequestor= isContributedElement
-					? new MethodReferencesSearchRequestor(false)
-					: new MethodReferencesSearchRequestor();
+					? new MethodReferencesSearchRequestor(settings, false)
+					: new MethodReferencesSearchRequestor(settings);
 			IJavaSearchScope defaultSearchScope= getSearchScope();
 			boolean isWorkspaceScope= SearchEngine.createWorkspaceScope().equals(defaultSearchScope);
 			IJavaSearchScope searchScope= isWorkspaceScope ? getAccurateSearchScope(defaultSearchScope, member) : defaultSearchScope;
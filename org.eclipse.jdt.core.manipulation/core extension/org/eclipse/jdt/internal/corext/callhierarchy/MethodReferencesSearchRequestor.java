@@ -25,12 +25,12 @@ class MethodReferencesSearchRequestor extends SearchRequestor {
     private CallSearchResultCollector fSearchResults;
     private boolean fRequireExactMatch = true;
 
-    MethodReferencesSearchRequestor() {
-        fSearchResults = new CallSearchResultCollector();
+    MethodReferencesSearchRequestor(CallHierarchySettings settings) {
+        fSearchResults = new CallSearchResultCollector(settings);
     }
 
-    MethodReferencesSearchRequestor(boolean requireExactMatch) {
-        this();
+    MethodReferencesSearchRequestor(CallHierarchySettings settings, boolean requireExactMatch) {
+        this(settings);
         fRequireExactMatch = requireExactMatch;
     }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ package org.eclipse.jdt.internal.corext.callhierarchy;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -50,7 +51,8 @@ public abstract class MethodWrapper extends PlatformObject {
     /*
      * A cache of previously found methods. This cache should be searched
      * before adding a "new" method object reference to the list of elements.
-     * This way previously found methods won't be searched again.
+     * This way previously found methods won't be searched again. The cache is
+     * shared by all wrappers of a root and may be filled from several threads.
      */
     private Map<String, Map<String, MethodCall>> fMethodCache;
     private final MethodCall fMethodCall;
@@ -61,12 +63,17 @@ public abstract class MethodWrapper extends PlatformObject {
 	 * or {@link IJavaSearchConstants#WRITE_ACCESSES}, or 0 if not set. Only used for root wrappers.
 	 */
     private int fFieldSearchMode;
+	/**
+	 * The search scope and filters, or <code>null</code> to use the current settings of
+	 * {@link CallHierarchyCore}. Only used for root wrappers.
+	 */
+    private CallHierarchySettings fSettings;
 
     public MethodWrapper(MethodWrapper parent, MethodCall methodCall) {
         Assert.isNotNull(methodCall);
 
         if (parent == null) {
-            setMethodCache(new HashMap<>());
+            setMethodCache(new ConcurrentHashMap<>());
             fLevel = 1;
         } else {
             setMethodCache(parent.getMethodCache());
@@ -139,6 +146,32 @@ public abstract class MethodWrapper extends PlatformObject {
 		fFieldSearchMode= fieldSearchMode;
 	}
 
+	/**
+	 * Returns the search scope and filters used to find the calls of this wrapper.
+	 *
+	 * @return the settings of the root of this wrapper, or the current settings of
+	 *         {@link CallHierarchyCore} if the root has none
+	 */
+    public CallHierarchySettings getSettings() {
+    	MethodWrapper current= this;
+    	while (current != null) {
+    		if (current.fSettings != null)
+    			return current.fSettings;
+    		current= current.getParent();
+    	}
+    	return CallHierarchyCore.getDefault().getSettings();
+    }
+
+	/**
+	 * Sets the search scope and filters used to find the calls of this root and of its children.
+	 *
+	 * @param settings the settings, or <code>null</code> to use the current settings of
+	 *            {@link CallHierarchyCore}
+	 */
+    public void setSettings(CallHierarchySettings settings) {
+    	fSettings= settings;
+    }
+
     @Override
 	public boolean equals(Object oth) {
         return fMethodWrapperCore.equals(this,  oth);
@@ -166,11 +199,6 @@ public abstract class MethodWrapper extends PlatformObject {
 
     protected abstract String getTaskName();
 
-    private void addCallToCache(MethodCall methodCall) {
-        Map<String, MethodCall> cachedCalls = lookupMethod(this.getMethodCall());
-        cachedCalls.put(methodCall.getKey(), methodCall);
-    }
-
 	/**
 	 * Creates a method wrapper for the child of the receiver.
 	 *
@@ -182,12 +210,9 @@ public abstract class MethodWrapper extends PlatformObject {
     private void doFindChildren(IProgressMonitor progressMonitor) {
         Map<String, MethodCall> existingResults = lookupMethod(getMethodCall());
 
-        if (existingResults != null && !existingResults.isEmpty()) {
-            fElements = new HashMap<>();
-            fElements.putAll(existingResults);
+        if (existingResults != null) {
+            fElements = new HashMap<>(existingResults);
         } else {
-            initCalls();
-
             if (progressMonitor != null) {
                 progressMonitor.beginTask(getTaskName(), 100);
             }
@@ -246,12 +271,6 @@ public abstract class MethodWrapper extends PlatformObject {
         return fMethodCache;
     }
 
-    private void initCalls() {
-        this.fElements = new HashMap<>();
-
-        initCacheForMethod();
-    }
-
     /**
      * Looks up a previously created search result in the "global" cache.
      * @param methodCall the method call
@@ -262,25 +281,18 @@ public abstract class MethodWrapper extends PlatformObject {
     }
 
     private void performSearch(IProgressMonitor progressMonitor) {
-        fElements = findChildren(progressMonitor);
-
-        for (String string : fElements.keySet()) {
-            checkCanceled(progressMonitor);
+        Map<String, MethodCall> elements = findChildren(progressMonitor);
+        checkCanceled(progressMonitor);
 
-            MethodCall methodCall = getMethodCallFromMap(fElements, string);
-            addCallToCache(methodCall);
-        }
+        fElements = elements;
+        // Only cache complete results, also if there are no calls
+        getMethodCache().put(getMethodCall().getKey(), new HashMap<>(elements));
     }
 
     private MethodCall getMethodCallFromMap(Map<String, MethodCall> elements, String key) {
         return elements.get(key);
     }
 
-    private void initCacheForMethod() {
-        Map<String, MethodCall> cachedCalls = new HashMap<>();
-        getMethodCache().put(this.getMethodCall().getKey(), cachedCalls);
-    }
-
     /**
      * Checks with the progress monitor to see whether the creation of the type hierarchy
      * should be canceled. Should be regularly called
@@ -296,6 +308,29 @@ public abstract class MethodWrapper extends PlatformObject {
         }
     }
 
+	/**
+	 * Sets the calls of the given member in the cache of this wrapper's hierarchy.
+	 *
+	 * @param key the key of the method call of the member
+	 * @param calls the calls, keyed by the keys of their method calls
+	 */
+	void putCachedCalls(String key, Map<String, MethodCall> calls) {
+		getMethodCache().put(key, calls);
+	}
+
+	/**
+	 * Makes the calls found for the given wrapper known to the hierarchy of this wrapper, so that
+	 * they are not searched again. Does nothing if the calls of the given wrapper have not been
+	 * found yet.
+	 *
+	 * @param wrapper a wrapper of the same kind and for the same member as this wrapper
+	 */
+	void shareCalls(MethodWrapper wrapper) {
+		Map<String, MethodCall> calls= wrapper.lookupMethod(wrapper.getMethodCall());
+		if (calls != null)
+			getMethodCache().putIfAbsent(getMethodCall().getKey(), calls);
+	}
+
 	/**
 	 * Removes the given method call from the cache.
 	 *
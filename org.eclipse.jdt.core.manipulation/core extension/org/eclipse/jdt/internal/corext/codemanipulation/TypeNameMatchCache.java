@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.codemanipulation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.manipulation.TypeNameMatchCollector;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+
+/**
+ * Caches the types found for simple type names, per project and kind of source folder.
+ * <p>
+ * Organize imports on many compilation units typically looks up the same unresolved simple
+ * names over and over again. With a cache, every simple name is only searched once per project;
+ * all names not yet known are resolved with a single type name query.
+ * </p>
+ * <p>
+ * The cache does not track changes to the workspace and is meant to be used for the duration of
+ * one operation only. It is thread-safe.
+ * </p>
+ */
+public final class TypeNameMatchCache {
+
+	private final Map<String, Map<String, List<TypeNameMatch>>> fMatches= new HashMap<>();
+
+	/**
+	 * Returns the types with one of the given simple names which are visible in the given project.
+	 *
+	 * @param project the project to search in
+	 * @param excludeTestCode whether test source folders and test dependencies are excluded
+	 * @param simpleNames the simple names of the types to find
+	 * @param monitor the progress monitor, or <code>null</code>
+	 * @return the matches, filtered as by {@link TypeNameMatchCollector}
+	 * @throws JavaModelException if the search failed
+	 */
+	public List<TypeNameMatch> findTypes(IJavaProject project, boolean excludeTestCode, Collection<String> simpleNames, IProgressMonitor monitor) throws JavaModelException {
+		Map<String, List<TypeNameMatch>> known;
+		List<String> missing= new ArrayList<>();
+		synchronized (fMatches) {
+			String key= project.getHandleIdentifier() + (excludeTestCode ? "/main" : "/test"); //$NON-NLS-1$ //$NON-NLS-2$
+			known= fMatches.get(key);
+			if (known == null) {
+				known= new HashMap<>();
+				fMatches.put(key, known);
+			}
+			for (String name : simpleNames) {
+				if (!known.containsKey(name))
+					missing.add(name);
+			}
+		}
+		if (!missing.isEmpty()) {
+			Map<String, List<TypeNameMatch>> found= search(project, excludeTestCode, missing, monitor);
+			synchronized (fMatches) {
+				known.putAll(found);
+			}
+		}
+		List<TypeNameMatch> result= new ArrayList<>();
+		synchronized (fMatches) {
+			for (String name : simpleNames) {
+				List<TypeNameMatch> matches= known.get(name);
+				if (matches != null)
+					result.addAll(matches);
+			}
+		}
+		return result;
+	}
+
+	private static Map<String, List<TypeNameMatch>> search(IJavaProject project, boolean excludeTestCode, List<String> simpleNames, IProgressMonitor monitor) throws JavaModelException {
+		char[][] allTypes= new char[simpleNames.size()][];
+		for (int i= 0; i < allTypes.length; i++) {
+			allTypes[i]= simpleNames.get(i).toCharArray();
+		}
+		List<TypeNameMatch> typesFound= new ArrayList<>();
+		IJavaSearchScope scope= SearchEngine.createJavaSearchScope(excludeTestCode, new IJavaElement[] { project }, true);
+		new SearchEngine().searchAllTypeNames(null, allTypes, scope, new TypeNameMatchCollector(typesFound), IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+
+		Map<String, List<TypeNameMatch>> result= new HashMap<>();
+		for (String name : simpleNames) {
+			result.put(name, Collections.emptyList());
+		}
+		for (TypeNameMatch match : typesFound) {
+			String name= match.getSimpleTypeName();
+			List<TypeNameMatch> matches= result.get(name);
+			if (matches != null) {
+				if (matches.isEmpty()) {
+					matches= new ArrayList<>(2);
+					result.put(name, matches);
+				}
+				matches.add(match);
+			}
+		}
+		return result;
+	}
+}
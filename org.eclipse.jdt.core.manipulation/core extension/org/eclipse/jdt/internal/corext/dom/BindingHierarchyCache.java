@@ -0,0 +1,284 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.dom;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+
+/**
+ * Memoizes the type hierarchy lookups of {@link Bindings} per AST.
+ * <p>
+ * Clients which look up the hierarchy of many bindings of the same AST, e.g. the override
+ * indicators of all methods of a compilation unit or a clean up, can opt into this cache instead
+ * of calling {@link Bindings} directly. Results are keyed by the binding keys of the arguments and
+ * are discarded as soon as the AST is modified. The cache is attached to the root node of the AST
+ * and goes away with it. Bindings without a key, e.g. recovered bindings, are never cached.
+ * </p>
+ * <p>
+ * This class is thread-safe. Returned arrays must not be modified.
+ * </p>
+ */
+public final class BindingHierarchyCache {
+
+	private static final String PROPERTY= BindingHierarchyCache.class.getName();
+
+	/** Marks a cached <code>null</code> result */
+	private static final Object NO_RESULT= new Object();
+
+	private final AST fAST;
+
+	private long fModificationCount;
+
+	private final Map<String, Object> fMethods= new HashMap<>();
+
+	private final Map<String, Map<String, ITypeBinding>> fSuperTypes= new HashMap<>();
+
+	private final Map<String, ITypeBinding[]> fAllSuperTypes= new HashMap<>();
+
+	private int fHits;
+
+	private int fMisses;
+
+	private BindingHierarchyCache(AST ast) {
+		fAST= ast;
+		fModificationCount= ast.modificationCount();
+	}
+
+	/**
+	 * Returns the cache of the AST the given node belongs to, creating it if necessary.
+	 *
+	 * @param node a node of the AST
+	 * @return the cache
+	 */
+	public static BindingHierarchyCache getCache(ASTNode node) {
+		ASTNode root= node.getRoot();
+		synchronized (root) {
+			BindingHierarchyCache cache= (BindingHierarchyCache) root.getProperty(PROPERTY);
+			if (cache == null) {
+				cache= new BindingHierarchyCache(root.getAST());
+				root.setProperty(PROPERTY, cache);
+			}
+			return cache;
+		}
+	}
+
+	/**
+	 * Memoizing variant of {@link Bindings#findMethodInHierarchy(ITypeBinding, String, ITypeBinding[])}.
+	 *
+	 * @param type The type to search the method in
+	 * @param methodName The name of the method to find
+	 * @param parameters The parameter types of the method to find. If <code>null</code> is passed, only the name is matched and parameters are ignored.
+	 * @return the method binding representing the method
+	 */
+	public IMethodBinding findMethodInHierarchy(ITypeBinding type, String methodName, ITypeBinding[] parameters) {
+		String key= getKey('M', type.getKey(), methodName, parameters);
+		if (key == null)
+			return Bindings.findMethodInHierarchy(type, methodName, parameters);
+		synchronized (this) {
+			validate();
+			Object result= fMethods.get(key);
+			if (result != null) {
+				fHits++;
+				return result != NO_RESULT ? (IMethodBinding) result : null;
+			}
+			fMisses++;
+		}
+		IMethodBinding method= Bindings.findMethodInHierarchy(type, methodName, parameters);
+		putMethod(key, method);
+		return method;
+	}
+
+	/**
+	 * Memoizing variant of {@link Bindings#findOverriddenMethod(IMethodBinding, boolean)}.
+	 *
+	 * @param overriding overriding method
+	 * @param testVisibility If true the result is tested on visibility. Null is returned if the method is not visible.
+	 * @return the method binding representing the method
+	 */
+	public IMethodBinding findOverriddenMethod(IMethodBinding overriding, boolean testVisibility) {
+		String key= getKey(testVisibility ? 'V' : 'O', overriding.getKey(), null, null);
+		if (key == null)
+			return Bindings.findOverriddenMethod(overriding, testVisibility);
+		synchronized (this) {
+			validate();
+			Object result= fMethods.get(key);
+			if (result != null) {
+				fHits++;
+				return result != NO_RESULT ? (IMethodBinding) result : null;
+			}
+			fMisses++;
+		}
+		IMethodBinding method= Bindings.findOverriddenMethod(overriding, testVisibility);
+		putMethod(key, method);
+		return method;
+	}
+
+	/**
+	 * Memoizing variant of {@link Bindings#isSuperType(ITypeBinding, ITypeBinding)}.
+	 *
+	 * @param possibleSuperType the type to inspect
+	 * @param type the type whose super types are looked at
+	 * @return <code>true</code> iff <code>possibleSuperType</code> is
+	 * 		a super type of <code>type</code> or is equal to it
+	 */
+	public boolean isSuperType(ITypeBinding possibleSuperType, ITypeBinding type) {
+		return isSuperType(possibleSuperType, type, true);
+	}
+
+	/**
+	 * Memoizing variant of {@link Bindings#isSuperType(ITypeBinding, ITypeBinding, boolean)}. The
+	 * super types of <code>type</code> are collected once and compared by their keys.
+	 *
+	 * @param possibleSuperType the type to inspect
+	 * @param type the type whose super types are looked at
+	 * @param considerTypeArguments if <code>true</code>, consider type arguments of <code>type</code>
+	 * @return <code>true</code> iff <code>possibleSuperType</code> is
+	 * 		a super type of <code>type</code> or is equal to it
+	 */
+	public boolean isSuperType(ITypeBinding possibleSuperType, ITypeBinding type, boolean considerTypeArguments) {
+		if (type.isArray() || type.isPrimitive())
+			return false;
+		String possibleKey= possibleSuperType.getKey();
+		String key= getKey(considerTypeArguments ? 'S' : 'D', type.getKey(), null, null);
+		if (possibleKey == null || key == null)
+			return Bindings.isSuperType(possibleSuperType, type, considerTypeArguments);
+		Map<String, ITypeBinding> superTypes;
+		synchronized (this) {
+			validate();
+			superTypes= fSuperTypes.get(key);
+			if (superTypes != null)
+				fHits++;
+			else
+				fMisses++;
+		}
+		if (superTypes == null) {
+			superTypes= new HashMap<>();
+			if (!collectSuperTypes(type, considerTypeArguments, superTypes))
+				return Bindings.isSuperType(possibleSuperType, type, considerTypeArguments);
+			synchronized (this) {
+				if (fModificationCount == fAST.modificationCount())
+					fSuperTypes.put(key, superTypes);
+			}
+		}
+		return superTypes.containsKey(possibleKey);
+	}
+
+	/**
+	 * Memoizing variant of {@link Bindings#getAllSuperTypes(ITypeBinding)}.
+	 *
+	 * @param type The type to get the supertypes of.
+	 * @return all super types (excluding <code>type</code>), which must not be modified
+	 */
+	public ITypeBinding[] getAllSuperTypes(ITypeBinding type) {
+		String key= type.getKey();
+		if (key == null)
+			return Bindings.getAllSuperTypes(type);
+		synchronized (this) {
+			validate();
+			ITypeBinding[] result= fAllSuperTypes.get(key);
+			if (result != null) {
+				fHits++;
+				return result;
+			}
+			fMisses++;
+		}
+		ITypeBinding[] result= Bindings.getAllSuperTypes(type);
+		synchronized (this) {
+			if (fModificationCount == fAST.modificationCount())
+				fAllSuperTypes.put(key, result);
+		}
+		return result;
+	}
+
+	/**
+	 * @return the number of lookups answered from the cache
+	 */
+	public synchronized int getHitCount() {
+		return fHits;
+	}
+
+	/**
+	 * @return the number of lookups which had to walk the type hierarchy
+	 */
+	public synchronized int getMissCount() {
+		return fMisses;
+	}
+
+	private void validate() {
+		if (fModificationCount != fAST.modificationCount()) {
+			fMethods.clear();
+			fSuperTypes.clear();
+			fAllSuperTypes.clear();
+			fModificationCount= fAST.modificationCount();
+		}
+	}
+
+	private synchronized void putMethod(String key, IMethodBinding method) {
+		if (fModificationCount == fAST.modificationCount())
+			fMethods.put(key, method != null ? method : NO_RESULT);
+	}
+
+	private static String getKey(char kind, String bindingKey, String name, ITypeBinding[] parameters) {
+		if (bindingKey == null)
+			return null;
+		StringBuilder key= new StringBuilder();
+		key.append(kind).append(bindingKey);
+		if (name != null)
+			key.append('#').append(name);
+		if (parameters != null) {
+			key.append('(');
+			for (ITypeBinding parameter : parameters) {
+				String parameterKey= parameter.getKey();
+				if (parameterKey == null)
+					return null;
+				key.append(parameterKey).append(',');
+			}
+			key.append(')');
+		}
+		return key.toString();
+	}
+
+	/**
+	 * Collects the types visited by {@link Bindings#isSuperType(ITypeBinding, ITypeBinding, boolean)}.
+	 *
+	 * @param type the type
+	 * @param considerTypeArguments if <code>true</code>, consider type arguments of <code>type</code>
+	 * @param result the super types by key, including <code>type</code>
+	 * @return <code>false</code> if a type without key was found
+	 */
+	private static boolean collectSuperTypes(ITypeBinding type, boolean considerTypeArguments, Map<String, ITypeBinding> result) {
+		if (type.isArray() || type.isPrimitive())
+			return true;
+		if (!considerTypeArguments)
+			type= type.getTypeDeclaration();
+		String key= type.getKey();
+		if (key == null)
+			return false;
+		if (result.put(key, type) != null)
+			return true;
+		ITypeBinding superClass= type.getSuperclass();
+		if (superClass != null && !collectSuperTypes(superClass, considerTypeArguments, result))
+			return false;
+		for (ITypeBinding superInterface : type.getInterfaces()) {
+			if (!collectSuperTypes(superInterface, considerTypeArguments, result))
+				return false;
+		}
+		return true;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 IBM Corporation and others.
+ * Copyright (c) 2019, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -68,6 +68,7 @@ import org.eclipse.jdt.internal.core.manipulation.StubUtility;
 import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
+import org.eclipse.jdt.internal.corext.dom.BindingHierarchyCache;
 import org.eclipse.jdt.internal.corext.dom.Bindings;
 import org.eclipse.jdt.internal.corext.dom.GenericVisitor;
 import org.eclipse.jdt.internal.corext.dom.ScopeAnalyzer;
@@ -293,7 +294,7 @@ public class CodeStyleFixCore extends CompilationUnitRewriteOperationsFixCore {
 					return true;
 
 				ITypeBinding enclosingTypeBinding= Bindings.getBindingOfParentType(node);
-				if (enclosingTypeBinding == null || Bindings.isSuperType(variablesDeclaringClass, enclosingTypeBinding))
+				if (enclosingTypeBinding == null || BindingHierarchyCache.getCache(node).isSuperType(variablesDeclaringClass, enclosingTypeBinding))
 					//We have a reference to a field of an outer type, and this type inherited
 					//the field. The inner type inherits the same field. We must not remove
 					//the qualifier in this case.
@@ -798,13 +799,14 @@ public class CodeStyleFixCore extends CompilationUnitRewriteOperationsFixCore {
 	private static String getThisExpressionQualifier(ITypeBinding declaringClass, ImportRewrite imports, SimpleName name) {
 		ITypeBinding parentType= Bindings.getBindingOfParentType(name);
 		ITypeBinding currType= parentType;
-		while (currType != null && !Bindings.isSuperType(declaringClass, currType)) {
+		BindingHierarchyCache hierarchyCache= BindingHierarchyCache.getCache(name);
+		while (currType != null && !hierarchyCache.isSuperType(declaringClass, currType)) {
 			currType= currType.getDeclaringClass();
 		}
 		if (currType == null) {
 			declaringClass= declaringClass.getTypeDeclaration();
 			currType= parentType;
-			while (currType != null && !Bindings.isSuperType(declaringClass, currType)) {
+			while (currType != null && !hierarchyCache.isSuperType(declaringClass, currType)) {
 				currType= currType.getDeclaringClass();
 			}
 		}
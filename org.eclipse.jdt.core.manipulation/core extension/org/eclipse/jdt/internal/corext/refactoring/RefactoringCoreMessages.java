@@ -1277,7 +1277,9 @@ public final class RefactoringCoreMessages extends NLS {
 
 	public static String MoveCompilationUnitChange_name;
 
-	public static String MoveCuUpdateCreator_searching;
+	public static String MoveCuUpdateCreator_analyzing;
+
+	public static String MoveCuUpdateCreator_creating_updates;
 
 	public static String MoveCuUpdateCreator_update_imports;
 
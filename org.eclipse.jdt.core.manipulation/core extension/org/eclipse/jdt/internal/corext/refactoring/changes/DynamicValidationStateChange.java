@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,18 +14,31 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.changes;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
+
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.ISafeRunnable;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SafeRunner;
+import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IWorkspaceRunnable;
+import org.eclipse.core.resources.ResourceAttributes;
 import org.eclipse.core.resources.ResourcesPlugin;
 
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+import org.eclipse.core.filebuffers.ITextFileBufferManager;
+import org.eclipse.core.filebuffers.LocationKind;
+
 import org.eclipse.ltk.core.refactoring.Change;
 import org.eclipse.ltk.core.refactoring.CompositeChange;
 import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+import org.eclipse.ltk.core.refactoring.TextFileChange;
 
 import org.eclipse.jdt.core.JavaCore;
 
@@ -41,6 +54,13 @@ public class DynamicValidationStateChange extends CompositeChange implements Wor
 	private long fTimeStamp= DO_NOT_EXPIRE;
 	private ISchedulingRule fSchedulingRule;
 
+	/**
+	 * The modification stamps of the files of the text file changes which have been validated
+	 * successfully, including the changes nested in plain composite children. Such changes are
+	 * not validated again as long as their file and its buffer remain unchanged.
+	 */
+	private final Map<Change, Long> fValidatedStamps= new IdentityHashMap<>();
+
 	private static final long DO_NOT_EXPIRE= -1;
 
 	// 30 minutes
@@ -88,15 +108,87 @@ public class DynamicValidationStateChange extends CompositeChange implements Wor
 			WorkspaceTracker.INSTANCE.removeListener(this);
 			fListenerRegistered= false;
 		}
+		fValidatedStamps.clear();
 		super.dispose();
 	}
 
 	@Override
 	public RefactoringStatus isValid(IProgressMonitor pm) throws CoreException {
-		if (fValidationState == null) {
-			return super.isValid(pm);
+		if (fValidationState != null)
+			return fValidationState;
+		Change[] children= getChildren();
+		// Determine the current stamps of all text files in one pass, before validating any child
+		Map<Change, Long> stamps= new IdentityHashMap<>();
+		collectModificationStamps(children, FileBuffers.getTextFileBufferManager(), stamps);
+		RefactoringStatus result= new RefactoringStatus();
+		validate(children, stamps, result, SubMonitor.convert(pm, children.length));
+		return result;
+	}
+
+	private void validate(Change[] changes, Map<Change, Long> stamps, RefactoringStatus result, SubMonitor monitor) throws CoreException {
+		for (int index= 0; index < changes.length && !result.hasFatalError(); index++) {
+			Change change= changes[index];
+			if (!change.isEnabled()) {
+				monitor.split(1);
+				continue;
+			}
+			if (isPlainComposite(change)) {
+				Change[] children= ((CompositeChange) change).getChildren();
+				validate(children, stamps, result, SubMonitor.convert(monitor.split(1), children.length));
+				continue;
+			}
+			Long stamp= stamps.get(change);
+			if (stamp != null && stamp.equals(fValidatedStamps.get(change))) {
+				monitor.split(1);
+				continue;
+			}
+			RefactoringStatus status= change.isValid(monitor.split(1));
+			if (stamp != null && status.isOK())
+				fValidatedStamps.put(change, stamp);
+			else
+				fValidatedStamps.remove(change);
+			result.merge(status);
+			if (monitor.isCanceled())
+				throw new OperationCanceledException();
+		}
+	}
+
+	/**
+	 * Returns whether the given change is a composite change which only validates its children.
+	 * Subclasses of {@link CompositeChange} may add their own validation and are validated as a whole.
+	 *
+	 * @param change the change
+	 * @return <code>true</code> if the children of the change can be validated instead of the change
+	 */
+	private static boolean isPlainComposite(Change change) {
+		return change.getClass() == CompositeChange.class;
+	}
+
+	/**
+	 * Determines the current modification stamps of the files modified by the text file changes
+	 * among the given changes and the children of their plain composite changes. Changes whose
+	 * file cannot be tracked are not added.
+	 *
+	 * @param changes the changes
+	 * @param manager the text file buffer manager
+	 * @param stamps the map to add the modification stamps to
+	 */
+	private static void collectModificationStamps(Change[] changes, ITextFileBufferManager manager, Map<Change, Long> stamps) {
+		for (Change change : changes) {
+			if (isPlainComposite(change)) {
+				collectModificationStamps(((CompositeChange) change).getChildren(), manager, stamps);
+			} else if (change instanceof TextFileChange) {
+				IFile file= ((TextFileChange) change).getFile();
+				ResourceAttributes attributes= file != null && file.isAccessible() ? file.getResourceAttributes() : null;
+				if (attributes != null && !attributes.isReadOnly()) {
+					ITextFileBuffer buffer= manager.getTextFileBuffer(file.getFullPath(), LocationKind.IFILE);
+					if (buffer == null)
+						stamps.put(change, Long.valueOf(file.getModificationStamp()));
+					else if (!buffer.isDirty())
+						stamps.put(change, Long.valueOf(buffer.getModificationStamp()));
+				}
+			}
 		}
-		return fValidationState;
 	}
 
 	@Override
@@ -126,6 +218,7 @@ public class DynamicValidationStateChange extends CompositeChange implements Wor
 		WorkspaceTracker.INSTANCE.removeListener(this);
 		fListenerRegistered= false;
 		// clear up the children to not hang onto too much memory
+		fValidatedStamps.clear();
 		for (final Change change : clear()) {
 			SafeRunner.run(new ISafeRunnable() {
 				@Override
@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.code.flow;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.BodyDeclaration;
+import org.eclipse.jdt.core.dom.IVariableBinding;
+
+import org.eclipse.jdt.internal.corext.dom.LocalVariableIndex;
+import org.eclipse.jdt.internal.corext.dom.Selection;
+
+/**
+ * Memoizes the results of {@link LocalVariableIndex}, {@link InputFlowAnalyzer} and
+ * {@link InOutFlowAnalyzer} per AST.
+ * <p>
+ * Extract method indexes the local variables of the enclosing body declaration for every
+ * selection. The index does not depend on the selection, so it is shared by all selections in the
+ * same body declaration. The flow infos depend on the selected nodes and are only reused when the
+ * same nodes are analyzed again, e.g. when the quick assist light bulb has checked a selection and
+ * the proposals are then computed for it, or when the body of the same lambda is offered for
+ * extraction at different caret positions.
+ * </p>
+ * <p>
+ * Results are keyed by the ranges of the analyzed nodes and the settings of the flow context, and
+ * are discarded as soon as the AST is modified. The cache is attached to the root node of the AST
+ * and goes away with it.
+ * </p>
+ * <p>
+ * Cached flow infos are shared and must not be modified by clients.
+ * </p>
+ */
+public final class FlowAnalysisCache {
+
+	private static final String PROPERTY= FlowAnalysisCache.class.getName();
+
+	private static final class Entry {
+
+		private final FlowInfo fInfo;
+
+		private final IVariableBinding[] fLocals;
+
+		public Entry(FlowInfo info, IVariableBinding[] locals) {
+			fInfo= info;
+			fLocals= locals != null ? locals.clone() : null;
+		}
+	}
+
+	private final Map<String, Entry> fEntries= new HashMap<>();
+
+	private final Map<String, Integer> fMaxVariableIds= new HashMap<>();
+
+	private final AST fAST;
+
+	private long fModificationCount;
+
+	private FlowAnalysisCache(AST ast) {
+		fAST= ast;
+		fModificationCount= ast.modificationCount();
+	}
+
+	/**
+	 * Returns the maximum number of local variable declarations in the given body declaration,
+	 * computing it only once per body declaration of an AST.
+	 *
+	 * @param node the body declaration
+	 * @return the maximum number of local variables
+	 * @see LocalVariableIndex#perform(BodyDeclaration)
+	 */
+	public static int getMaxVariableId(BodyDeclaration node) {
+		StringBuilder key= new StringBuilder();
+		appendNode(key, node);
+		FlowAnalysisCache cache= getCache(node);
+		Integer result= cache.getMaxVariableId(key.toString());
+		if (result == null) {
+			result= Integer.valueOf(LocalVariableIndex.perform(node));
+			cache.putMaxVariableId(key.toString(), result);
+		}
+		return result.intValue();
+	}
+
+	/**
+	 * Performs an input flow analysis of the given body declaration, or returns the result of an
+	 * equivalent earlier analysis of the same AST.
+	 *
+	 * @param context the flow context, which is initialized as if the analysis had been performed
+	 * @param selection the selection
+	 * @param doLoopReentrance whether loop reentrance is considered
+	 * @param node the body declaration to analyze
+	 * @return the flow info of the body declaration, which must not be modified
+	 * @see InputFlowAnalyzer#perform(BodyDeclaration)
+	 */
+	public static FlowInfo performInputFlowAnalysis(FlowContext context, Selection selection, boolean doLoopReentrance, BodyDeclaration node) {
+		StringBuilder key= createKey('I', context);
+		key.append(selection.getOffset()).append(',').append(selection.getLength());
+		key.append(doLoopReentrance ? 'L' : '-');
+		appendNode(key, node);
+		FlowAnalysisCache cache= getCache(node);
+		FlowInfo result= cache.get(key.toString(), context);
+		if (result == null) {
+			result= new InputFlowAnalyzer(context, selection, doLoopReentrance).perform(node);
+			cache.put(key.toString(), result, context);
+		}
+		return result;
+	}
+
+	/**
+	 * Performs an in/out flow analysis of the given nodes, or returns the result of an equivalent
+	 * earlier analysis of the same AST.
+	 *
+	 * @param context the flow context, which is initialized as if the analysis had been performed
+	 * @param selectedNodes the nodes to analyze, which must not be empty
+	 * @return the flow info of the nodes, which must not be modified
+	 * @see InOutFlowAnalyzer#perform(ASTNode[])
+	 */
+	public static FlowInfo performInOutFlowAnalysis(FlowContext context, ASTNode[] selectedNodes) {
+		StringBuilder key= createKey('O', context);
+		for (ASTNode node : selectedNodes) {
+			appendNode(key, node);
+		}
+		FlowAnalysisCache cache= getCache(selectedNodes[0]);
+		FlowInfo result= cache.get(key.toString(), context);
+		if (result == null) {
+			result= new InOutFlowAnalyzer(context).perform(selectedNodes);
+			cache.put(key.toString(), result, context);
+		}
+		return result;
+	}
+
+	private static StringBuilder createKey(char kind, FlowContext context) {
+		StringBuilder key= new StringBuilder();
+		key.append(kind);
+		key.append(context.getStartingIndex()).append(',').append(context.getArrayLength());
+		key.append(context.considerAccessMode() ? 'A' : '-');
+		key.append(context.computeArguments() ? 'a' : context.computeReturnValues() ? 'r' : context.computeMerge() ? 'm' : '-');
+		return key;
+	}
+
+	private static void appendNode(StringBuilder key, ASTNode node) {
+		key.append('/').append(node.getNodeType()).append(':').append(node.getStartPosition()).append(',').append(node.getLength());
+	}
+
+	private static FlowAnalysisCache getCache(ASTNode node) {
+		ASTNode root= node.getRoot();
+		synchronized (root) {
+			FlowAnalysisCache cache= (FlowAnalysisCache) root.getProperty(PROPERTY);
+			if (cache == null) {
+				cache= new FlowAnalysisCache(root.getAST());
+				root.setProperty(PROPERTY, cache);
+			}
+			return cache;
+		}
+	}
+
+	private boolean isValid() {
+		if (fModificationCount != fAST.modificationCount()) {
+			fEntries.clear();
+			fMaxVariableIds.clear();
+			fModificationCount= fAST.modificationCount();
+			return false;
+		}
+		return true;
+	}
+
+	private synchronized Integer getMaxVariableId(String key) {
+		return isValid() ? fMaxVariableIds.get(key) : null;
+	}
+
+	private synchronized void putMaxVariableId(String key, Integer maxVariableId) {
+		if (fModificationCount == fAST.modificationCount())
+			fMaxVariableIds.put(key, maxVariableId);
+	}
+
+	private synchronized FlowInfo get(String key, FlowContext context) {
+		if (!isValid())
+			return null;
+		Entry entry= fEntries.get(key);
+		if (entry == null)
+			return null;
+		if (entry.fLocals != null) {
+			for (IVariableBinding local : entry.fLocals) {
+				if (local != null)
+					context.manageLocal(local);
+			}
+		}
+		return entry.fInfo;
+	}
+
+	private synchronized void put(String key, FlowInfo info, FlowContext context) {
+		if (fModificationCount == fAST.modificationCount())
+			fEntries.put(key, new Entry(info, context.getLocals()));
+	}
+}
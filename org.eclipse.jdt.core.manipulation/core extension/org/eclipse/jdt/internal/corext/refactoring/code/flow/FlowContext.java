@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -117,6 +117,10 @@ public class FlowContext {
 		fLocals[local.getVariableId() - fStart]= local;
 	}
 
+	IVariableBinding[] getLocals() {
+		return fLocals;
+	}
+
 	//---- Exception handling --------------------------------------------------------
 
 	void pushExcptions(TryStatement node) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -164,6 +164,7 @@ import org.eclipse.jdt.internal.corext.refactoring.rename.RefactoringAnalyzeUtil
 import org.eclipse.jdt.internal.corext.refactoring.rename.RippleMethodFinder2;
 import org.eclipse.jdt.internal.corext.refactoring.rename.TempOccurrenceAnalyzer;
 import org.eclipse.jdt.internal.corext.refactoring.tagging.IDelegateUpdating;
+import org.eclipse.jdt.internal.corext.refactoring.util.ChunkedASTProcessor;
 import org.eclipse.jdt.internal.corext.refactoring.util.JavaElementUtil;
 import org.eclipse.jdt.internal.corext.refactoring.util.JavaStatusContext;
 import org.eclipse.jdt.internal.corext.refactoring.util.JavadocUtil;
@@ -216,6 +217,7 @@ public class ChangeSignatureProcessor extends RefactoringProcessor implements ID
 	private ITypeHierarchy fCachedTypeHierarchy= null;
 	private boolean fDelegateUpdating;
 	private boolean fDelegateDeprecation;
+	private int fWorkingSetSize= ChunkedASTProcessor.DEFAULT_WORKING_SET_SIZE;
 
 	public ChangeSignatureProcessor(JavaRefactoringArguments arguments, RefactoringStatus status) throws JavaModelException {
 		this((IMethod) null);
@@ -420,6 +422,27 @@ public class ChangeSignatureProcessor extends RefactoringProcessor implements ID
 
 	//------------------- /IDelegateUpdating ---------------------
 
+	/**
+	 * Returns the maximal number of referencing compilation units whose ASTs are kept in memory
+	 * at the same time while updating the occurrences.
+	 *
+	 * @return the working set size
+	 */
+	public int getWorkingSetSize() {
+		return fWorkingSetSize;
+	}
+
+	/**
+	 * Sets the maximal number of referencing compilation units whose ASTs are kept in memory
+	 * at the same time while updating the occurrences.
+	 *
+	 * @param size the working set size, must be positive
+	 */
+	public void setWorkingSetSize(int size) {
+		Assert.isTrue(size > 0);
+		fWorkingSetSize= size;
+	}
+
 	public RefactoringStatus checkSignature() {
 		return checkSignature(false);
 	}
@@ -1664,51 +1687,65 @@ public class ChangeSignatureProcessor extends RefactoringProcessor implements ID
 		}else{
 			pm.worked(1);
 		}
-		for (SearchResultGroup occurrence : fOccurrences) {
+		// The ASTs of the other units are created per project in chunks sharing one binding
+		// environment and are released as soon as the changes for their units are created.
+		IProgressMonitor subMonitor= Progress.subMonitor(pm, 1);
+		subMonitor.beginTask("", fOccurrences.length); //$NON-NLS-1$
+		final Map<ICompilationUnit, SearchResultGroup> unitToGroup= new LinkedHashMap<>();
+		for (SearchResultGroup group : fOccurrences) {
 			if (pm.isCanceled())
 				throw new OperationCanceledException();
-			SearchResultGroup group= occurrence;
 			ICompilationUnit cu= group.getCompilationUnit();
-			if (cu == null)
-				continue;
-			CompilationUnitRewrite cuRewrite;
-			if (cu.equals(getCu())) {
-				cuRewrite= fBaseCuRewrite;
+			if (cu == null) {
+				subMonitor.worked(1);
+			} else if (cu.equals(getCu())) {
+				createOccurrenceChanges(group, fBaseCuRewrite, namedSubclassMapping, result);
+				subMonitor.worked(1);
 			} else {
-				cuRewrite= new CompilationUnitRewrite(cu);
-				cuRewrite.getASTRewrite().setTargetSourceRangeComputer(new TightSourceRangeComputer());
-			}
-			//IntroduceParameterObjectRefactoring needs to update declarations first:
-			List<OccurrenceUpdate<? extends ASTNode>> deferredUpdates= new ArrayList<>();
-			for (ASTNode node : ASTNodeSearchUtil.findNodes(group.getSearchResults(), cuRewrite.getRoot())) {
-				OccurrenceUpdate<? extends ASTNode> update= createOccurrenceUpdate(node, cuRewrite, result);
-				if (update instanceof DeclarationUpdate) {
-					update.updateNode();
-				} else {
-					deferredUpdates.add(update);
-				}
+				unitToGroup.put(cu, group);
 			}
-			for (OccurrenceUpdate<? extends ASTNode> occurrenceUpdate : deferredUpdates) {
-				occurrenceUpdate.updateNode();
-			}
-
-			if (namedSubclassMapping != null && namedSubclassMapping.containsKey(cu)) {
-				//only non-anonymous subclasses may have noArgConstructors to modify - see bug 43444
-				for (IType subtype : namedSubclassMapping.get(cu)) {
-					AbstractTypeDeclaration subtypeNode= ASTNodeSearchUtil.getAbstractTypeDeclarationNode(subtype, cuRewrite.getRoot());
-					if (subtypeNode != null)
-						modifyImplicitCallsToNoArgConstructor(subtypeNode, cuRewrite);
-				}
-			}
-			TextChange change= cuRewrite.createChange(true);
-			if (change != null)
-				fChangeManager.manage(cu, change);
 		}
+		final Map<ICompilationUnit, Set<IType>> subclassMapping= namedSubclassMapping;
+		new ChunkedASTProcessor(fWorkingSetSize).process(unitToGroup.keySet(), (cu, root) -> {
+			CompilationUnitRewrite cuRewrite= new CompilationUnitRewrite(cu, root);
+			cuRewrite.getASTRewrite().setTargetSourceRangeComputer(new TightSourceRangeComputer());
+			createOccurrenceChanges(unitToGroup.get(cu), cuRewrite, subclassMapping, result);
+		}, subMonitor);
+		subMonitor.done();
 
 		pm.done();
 		return fChangeManager;
 	}
 
+	private void createOccurrenceChanges(SearchResultGroup group, CompilationUnitRewrite cuRewrite, Map<ICompilationUnit, Set<IType>> namedSubclassMapping, RefactoringStatus result) throws CoreException {
+		ICompilationUnit cu= group.getCompilationUnit();
+		//IntroduceParameterObjectRefactoring needs to update declarations first:
+		List<OccurrenceUpdate<? extends ASTNode>> deferredUpdates= new ArrayList<>();
+		for (ASTNode node : ASTNodeSearchUtil.findNodes(group.getSearchResults(), cuRewrite.getRoot())) {
+			OccurrenceUpdate<? extends ASTNode> update= createOccurrenceUpdate(node, cuRewrite, result);
+			if (update instanceof DeclarationUpdate) {
+				update.updateNode();
+			} else {
+				deferredUpdates.add(update);
+			}
+		}
+		for (OccurrenceUpdate<? extends ASTNode> occurrenceUpdate : deferredUpdates) {
+			occurrenceUpdate.updateNode();
+		}
+
+		if (namedSubclassMapping != null && namedSubclassMapping.containsKey(cu)) {
+			//only non-anonymous subclasses may have noArgConstructors to modify - see bug 43444
+			for (IType subtype : namedSubclassMapping.get(cu)) {
+				AbstractTypeDeclaration subtypeNode= ASTNodeSearchUtil.getAbstractTypeDeclarationNode(subtype, cuRewrite.getRoot());
+				if (subtypeNode != null)
+					modifyImplicitCallsToNoArgConstructor(subtypeNode, cuRewrite);
+			}
+		}
+		TextChange change= cuRewrite.createChange(true);
+		if (change != null)
+			fChangeManager.manage(cu, change);
+	}
+
 	private Map<ICompilationUnit, Set<IType>> createNamedSubclassMapping(IProgressMonitor pm) throws JavaModelException{
 		Map<ICompilationUnit, Set<IType>> result= new HashMap<>();
 		for (IType subclass : getCachedTypeHierarchy(Progress.subMonitor(pm, 1)).getSubclasses(fMethod.getDeclaringType())) {
@@ -23,6 +23,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +33,7 @@ import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 
@@ -132,6 +134,7 @@ import org.eclipse.jdt.core.dom.rewrite.ImportRewrite.ImportRewriteContext;
 import org.eclipse.jdt.core.dom.rewrite.ImportRewrite.TypeLocation;
 import org.eclipse.jdt.core.dom.rewrite.ListRewrite;
 import org.eclipse.jdt.core.manipulation.JavaManipulation;
+import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
 import org.eclipse.jdt.core.refactoring.IJavaRefactorings;
 import org.eclipse.jdt.core.refactoring.descriptors.JavaRefactoringDescriptor;
 import org.eclipse.jdt.core.refactoring.descriptors.MoveMethodDescriptor;
@@ -175,8 +178,10 @@ import org.eclipse.jdt.internal.corext.refactoring.delegates.DelegateMethodCreat
 import org.eclipse.jdt.internal.corext.refactoring.structure.MemberVisibilityAdjustor.IVisibilityAdjustment;
 import org.eclipse.jdt.internal.corext.refactoring.structure.MemberVisibilityAdjustor.IncomingMemberVisibilityAdjustment;
 import org.eclipse.jdt.internal.corext.refactoring.tagging.IDelegateUpdating;
+import org.eclipse.jdt.internal.corext.refactoring.util.ChunkedASTProcessor;
 import org.eclipse.jdt.internal.corext.refactoring.util.JavaStatusContext;
 import org.eclipse.jdt.internal.corext.refactoring.util.JavadocUtil;
+import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringPhaseTimer;
 import org.eclipse.jdt.internal.corext.refactoring.util.ResourceUtil;
 import org.eclipse.jdt.internal.corext.refactoring.util.TextChangeManager;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
@@ -1426,6 +1431,12 @@ public final class MoveInstanceMethodProcessor extends MoveProcessor implements
 	/** Should setter methods be used to resolve visibility issues? */
 	private boolean fUseSetters= true;
 
+	/** The maximal number of referencing compilation units whose ASTs are kept in memory */
+	private int fWorkingSetSize= ChunkedASTProcessor.DEFAULT_WORKING_SET_SIZE;
+
+	/** The changes of referencing compilation units whose rewrites have already been released */
+	private Map<ICompilationUnit, CompilationUnitChange> fReleasedChanges= new HashMap<>();
+
 	/**
 	 * Creates a new move instance method processor.
 	 *
@@ -2335,7 +2346,11 @@ public final class MoveInstanceMethodProcessor extends MoveProcessor implements
 			final TextChangeManager manager= new TextChangeManager();
 			final CompilationUnitRewrite targetRewrite= fMethod.getCompilationUnit().equals(getTargetType().getCompilationUnit()) ? fSourceRewrite : new CompilationUnitRewrite(getTargetType().getCompilationUnit());
 			final MethodDeclaration declaration= ASTNodeSearchUtil.getMethodDeclarationNode(fMethod, fSourceRewrite.getRoot());
+			final RefactoringPhaseTimer timer= new RefactoringPhaseTimer(getProcessorName());
+			timer.startPhase("search references"); //$NON-NLS-1$
 			final SearchResultGroup[] references= computeMethodReferences(Progress.subMonitor(monitor, 1), status);
+			timer.startPhase("create changes"); //$NON-NLS-1$
+			fReleasedChanges.clear();
 			final Map<ICompilationUnit, CompilationUnitRewrite> rewrites= new HashMap<>(2);
 			rewrites.put(fSourceRewrite.getCu(), fSourceRewrite);
 			if (!fSourceRewrite.getCu().equals(targetRewrite.getCu()))
@@ -2354,15 +2369,27 @@ public final class MoveInstanceMethodProcessor extends MoveProcessor implements
 			adjustor.adjustVisibility(Progress.subMonitor(monitor, 1));
 			final IDocument document= new Document(fMethod.getCompilationUnit().getBuffer().getContents());
 			createMethodCopy(document, declaration, sourceRewrite, rewrites, adjustor.getAdjustments(), status, Progress.subMonitor(monitor, 1));
-			createMethodJavadocReferences(rewrites, declaration, references, status, Progress.subMonitor(monitor, 1));
+			// Units which are neither rewritten nor adjusted otherwise are only parsed when their references are updated
+			final Map<ICompilationUnit, SearchResultGroup> referencing= new LinkedHashMap<>();
+			final List<SearchResultGroup> groups= new ArrayList<>(references.length);
+			for (SearchResultGroup group : references) {
+				final ICompilationUnit unit= group.getCompilationUnit();
+				if (unit != null && !rewrites.containsKey(unit) && !isAdjustedUnit(unit, adjustor.getAdjustments()))
+					referencing.put(unit, group);
+				else
+					groups.add(group);
+			}
+			createMethodJavadocReferences(rewrites, declaration, groups.toArray(new SearchResultGroup[groups.size()]), status, Progress.subMonitor(monitor, 1));
 			if (!fSourceRewrite.getCu().equals(targetRewrite.getCu()))
 				createMethodImports(targetRewrite, declaration, Progress.subMonitor(monitor, 1), status);
 			boolean removable= false;
 			if (fInline) {
 				String binaryRefsDescription= Messages.format(RefactoringCoreMessages.ReferencesInBinaryContext_ref_in_binaries_description , BasicElementLabels.getJavaElementName(getMethod().getElementName()));
 				ReferencesInBinaryContext binaryRefs= new ReferencesInBinaryContext(binaryRefsDescription);
-				removable= createMethodDelegator(rewrites, declaration, references, adjustor.getAdjustments(), binaryRefs, status, Progress.subMonitor(monitor, 1));
+				timer.startPhase("inline delegator"); //$NON-NLS-1$
+				removable= createMethodDelegator(rewrites, declaration, groups.toArray(new SearchResultGroup[groups.size()]), referencing, adjustor.getAdjustments(), binaryRefs, status, Progress.subMonitor(monitor, 1));
 				binaryRefs.addErrorIfNecessary(status);
+				timer.startPhase("create changes"); //$NON-NLS-1$
 				if (fRemove && removable) {
 					fSourceRewrite.getASTRewrite().remove(declaration, fSourceRewrite.createGroupDescription(RefactoringCoreMessages.MoveInstanceMethodProcessor_remove_original_method));
 					if (!fSourceRewrite.getCu().equals(fTargetType.getCompilationUnit()))
@@ -2371,6 +2398,8 @@ public final class MoveInstanceMethodProcessor extends MoveProcessor implements
 			}
 			if (!fRemove || !removable)
 				createMethodDelegation(declaration, rewrites, adjustor.getAdjustments(), status, Progress.subMonitor(monitor, 1));
+			// Update the tag references of the units whose invocations have not been inlined
+			createReferencingChanges(rewrites, declaration, referencing, adjustor.getAdjustments(), false, status);
 
 			// Do not adjust visibility of a target field; references to the
 			// field will be removed anyway.
@@ -2390,8 +2419,18 @@ public final class MoveInstanceMethodProcessor extends MoveProcessor implements
 			for (final Iterator<ICompilationUnit> iterator= rewrites.keySet().iterator(); iterator.hasNext();) {
 				unit= iterator.next();
 				rewrite= rewrites.get(unit);
-				manager.manage(unit, rewrite.createChange(true));
+				// A released unit may have been rewritten again, e.g. by a visibility adjustment
+				final CompilationUnitChange released= fReleasedChanges.remove(unit);
+				if (released != null) {
+					rewrite.attachChange(released, true, null);
+					manager.manage(unit, released);
+				} else
+					manager.manage(unit, rewrite.createChange(true));
 			}
+			for (final Map.Entry<ICompilationUnit, CompilationUnitChange> entry : fReleasedChanges.entrySet())
+				manager.manage(entry.getKey(), entry.getValue());
+			fReleasedChanges.clear();
+			timer.report(status);
 			return manager;
 		} finally {
 			monitor.done();
@@ -2931,8 +2970,13 @@ public final class MoveInstanceMethodProcessor extends MoveProcessor implements
 	 * @param declaration
 	 *            the source method declaration
 	 * @param groups
-	 *            the search result groups representing all references to the
-	 *            moved method, including references in comments
+	 *            the search result groups representing the references to the
+	 *            moved method in rewritten compilation units, including
+	 *            references in comments
+	 * @param referencing
+	 *            the map of the other referencing compilation units to their
+	 *            search result groups. The units whose invocations are
+	 *            inlined are removed from the map.
 	 * @param adjustments
 	 *            the map of elements to visibility adjustments
 	 * @param binaryRefs
@@ -2945,10 +2989,11 @@ public final class MoveInstanceMethodProcessor extends MoveProcessor implements
 	 *         method declaration could be inlined, <code>false</code>
 	 *         otherwise
 	 */
-	protected boolean createMethodDelegator(Map<ICompilationUnit, CompilationUnitRewrite> rewrites, MethodDeclaration declaration, SearchResultGroup[] groups, Map<IMember, IncomingMemberVisibilityAdjustment> adjustments, ReferencesInBinaryContext binaryRefs, RefactoringStatus status, IProgressMonitor monitor) {
+	protected boolean createMethodDelegator(Map<ICompilationUnit, CompilationUnitRewrite> rewrites, MethodDeclaration declaration, SearchResultGroup[] groups, Map<ICompilationUnit, SearchResultGroup> referencing, Map<IMember, IncomingMemberVisibilityAdjustment> adjustments, ReferencesInBinaryContext binaryRefs, RefactoringStatus status, IProgressMonitor monitor) {
 		Assert.isNotNull(rewrites);
 		Assert.isNotNull(declaration);
 		Assert.isNotNull(groups);
+		Assert.isNotNull(referencing);
 		Assert.isNotNull(adjustments);
 		Assert.isNotNull(status);
 		Assert.isNotNull(monitor);
@@ -2980,27 +3025,20 @@ public final class MoveInstanceMethodProcessor extends MoveProcessor implements
 					result= false;
 				} else {
 					monitor.worked(1);
-					SearchMatch[] matches= null;
 					IJavaElement element= null;
 					ICompilationUnit unit= null;
-					CompilationUnitRewrite rewrite= null;
 					for (SearchResultGroup group : groups) {
 						element= JavaCore.create(group.getResource());
 						if (element instanceof ICompilationUnit) {
-							matches= group.getSearchResults();
 							unit= (ICompilationUnit) element;
-							rewrite= getCompilationUnitRewrite(rewrites, unit);
-							for (SearchMatch match : matches) {
-								if (match.getAccuracy() == SearchMatch.A_INACCURATE) {
-									status.merge(RefactoringStatus.createWarningStatus(Messages.format(RefactoringCoreMessages.MoveInstanceMethodProcessor_inline_inaccurate, BasicElementLabels.getFileName(unit)), JavaStatusContext.create(unit, new SourceRange(match.getOffset(), match.getLength()))));
-									result= false;
-								} else if (!createInlinedMethodInvocation(rewrite, declaration, match, adjustments, status))
-									result= false;
-							}
+							if (!createInlinedMethodInvocations(getCompilationUnitRewrite(rewrites, unit), unit, group, declaration, adjustments, status))
+								result= false;
 						} else {
 							result= false;
 						}
 					}
+					if (!createReferencingChanges(rewrites, declaration, referencing, adjustments, true, status))
+						result= false;
 					monitor.worked(1);
 				}
 				return result;
@@ -3013,6 +3051,107 @@ public final class MoveInstanceMethodProcessor extends MoveProcessor implements
 		}
 	}
 
+	/**
+	 * Inlines the method invocations represented by the search matches of a
+	 * referencing compilation unit.
+	 *
+	 * @param rewrite
+	 *            the compilation unit rewrite
+	 * @param unit
+	 *            the referencing compilation unit
+	 * @param group
+	 *            the search result group of the compilation unit
+	 * @param declaration
+	 *            the source method declaration
+	 * @param adjustments
+	 *            the map of elements to visibility adjustments
+	 * @param status
+	 *            the refactoring status
+	 * @return <code>true</code> if all invocations could be inlined,
+	 *         <code>false</code> otherwise
+	 * @throws JavaModelException
+	 *             if a problem occurred while creating an inlined target
+	 *             expression
+	 */
+	private boolean createInlinedMethodInvocations(final CompilationUnitRewrite rewrite, final ICompilationUnit unit, final SearchResultGroup group, final MethodDeclaration declaration, final Map<IMember, IncomingMemberVisibilityAdjustment> adjustments, final RefactoringStatus status) throws JavaModelException {
+		boolean result= true;
+		for (SearchMatch match : group.getSearchResults()) {
+			if (match.getAccuracy() == SearchMatch.A_INACCURATE) {
+				status.merge(RefactoringStatus.createWarningStatus(Messages.format(RefactoringCoreMessages.MoveInstanceMethodProcessor_inline_inaccurate, BasicElementLabels.getFileName(unit)), JavaStatusContext.create(unit, new SourceRange(match.getOffset(), match.getLength()))));
+				result= false;
+			} else if (!createInlinedMethodInvocation(rewrite, declaration, match, adjustments, status))
+				result= false;
+		}
+		return result;
+	}
+
+	/**
+	 * Is the compilation unit subject to a pending visibility adjustment?
+	 *
+	 * @param unit
+	 *            the compilation unit
+	 * @param adjustments
+	 *            the map of elements to visibility adjustments
+	 * @return <code>true</code> if the unit declares an adjusted member or
+	 *         is the source or target compilation unit, <code>false</code>
+	 *         otherwise
+	 */
+	private boolean isAdjustedUnit(final ICompilationUnit unit, final Map<IMember, IncomingMemberVisibilityAdjustment> adjustments) {
+		if (unit.equals(fMethod.getCompilationUnit()) || unit.equals(getTargetType().getCompilationUnit()))
+			return true;
+		for (IMember member : adjustments.keySet()) {
+			if (unit.equals(member.getCompilationUnit()))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Updates the references to the original method in compilation units
+	 * which are not rewritten otherwise. The units are parsed in chunks, and
+	 * their rewrites are released right away unless the visibility adjustor
+	 * might still have to modify them. The processed units are removed from
+	 * the map.
+	 *
+	 * @param rewrites
+	 *            the map of compilation units to compilation unit rewrites
+	 * @param declaration
+	 *            the source method declaration
+	 * @param referencing
+	 *            the map of referencing compilation units to their search
+	 *            result groups
+	 * @param adjustments
+	 *            the map of elements to visibility adjustments
+	 * @param inline
+	 *            <code>true</code> to inline the method invocations,
+	 *            <code>false</code> to only update tag references
+	 * @param status
+	 *            the refactoring status
+	 * @return <code>true</code> if all invocations could be inlined,
+	 *         <code>false</code> otherwise
+	 * @throws CoreException
+	 *             if a compilation unit could not be processed
+	 */
+	private boolean createReferencingChanges(final Map<ICompilationUnit, CompilationUnitRewrite> rewrites, final MethodDeclaration declaration, final Map<ICompilationUnit, SearchResultGroup> referencing, final Map<IMember, IncomingMemberVisibilityAdjustment> adjustments, final boolean inline, final RefactoringStatus status) throws CoreException {
+		final boolean[] inlined= { true };
+		new ChunkedASTProcessor(fWorkingSetSize).process(referencing.keySet(), (unit, root) -> {
+			final CompilationUnitRewrite rewrite= new CompilationUnitRewrite(unit, root);
+			final SearchResultGroup group= referencing.get(unit);
+			createMethodJavadocReferences(rewrite, unit, group, declaration, status);
+			if (inline && !createInlinedMethodInvocations(rewrite, unit, group, declaration, adjustments, status))
+				inlined[0]= false;
+			if (isAdjustedUnit(unit, adjustments)) {
+				rewrites.put(unit, rewrite);
+			} else {
+				final CompilationUnitChange change= rewrite.createChange(true);
+				if (change != null)
+					fReleasedChanges.put(unit, change);
+			}
+		}, new NullProgressMonitor());
+		referencing.clear();
+		return inlined[0];
+	}
+
 	/**
 	 * Creates the necessary imports for the copied method in the target
 	 * compilation unit.
@@ -3093,23 +3232,13 @@ public final class MoveInstanceMethodProcessor extends MoveProcessor implements
 		try {
 			monitor.beginTask("", groups.length); //$NON-NLS-1$
 			monitor.setTaskName(RefactoringCoreMessages.MoveInstanceMethodProcessor_creating);
-			SearchMatch[] matches= null;
 			IJavaElement element= null;
 			ICompilationUnit unit= null;
-			CompilationUnitRewrite rewrite= null;
 			for (SearchResultGroup group : groups) {
 				element= JavaCore.create(group.getResource());
-				unit= group.getCompilationUnit();
 				if (element instanceof ICompilationUnit) {
-					matches= group.getSearchResults();
 					unit= (ICompilationUnit) element;
-					rewrite= getCompilationUnitRewrite(rewrites, unit);
-					for (SearchMatch match : matches) {
-						if (match.getAccuracy() == SearchMatch.A_INACCURATE) {
-							status.merge(RefactoringStatus.createWarningStatus(Messages.format(RefactoringCoreMessages.MoveInstanceMethodProcessor_inline_inaccurate, BasicElementLabels.getFileName(unit)), JavaStatusContext.create(unit, new SourceRange(match.getOffset(), match.getLength()))));
-						} else
-							createMethodJavadocReference(rewrite, declaration, match, status);
-					}
+					createMethodJavadocReferences(getCompilationUnitRewrite(rewrites, unit), unit, group, declaration, status);
 				}
 				monitor.worked(1);
 			}
@@ -3118,6 +3247,30 @@ public final class MoveInstanceMethodProcessor extends MoveProcessor implements
 		}
 	}
 
+	/**
+	 * Creates the necessary changes to update tag references to the original
+	 * method in a compilation unit.
+	 *
+	 * @param rewrite
+	 *            the compilation unit rewrite
+	 * @param unit
+	 *            the compilation unit
+	 * @param group
+	 *            the search result group of the compilation unit
+	 * @param declaration
+	 *            the source method declaration
+	 * @param status
+	 *            the refactoring status
+	 */
+	private void createMethodJavadocReferences(final CompilationUnitRewrite rewrite, final ICompilationUnit unit, final SearchResultGroup group, final MethodDeclaration declaration, final RefactoringStatus status) {
+		for (SearchMatch match : group.getSearchResults()) {
+			if (match.getAccuracy() == SearchMatch.A_INACCURATE) {
+				status.merge(RefactoringStatus.createWarningStatus(Messages.format(RefactoringCoreMessages.MoveInstanceMethodProcessor_inline_inaccurate, BasicElementLabels.getFileName(unit)), JavaStatusContext.create(unit, new SourceRange(match.getOffset(), match.getLength()))));
+			} else
+				createMethodJavadocReference(rewrite, declaration, match, status);
+		}
+	}
+
 	/**
 	 * Creates a comment method reference to the moved method
 	 *
@@ -3635,6 +3788,28 @@ public final class MoveInstanceMethodProcessor extends MoveProcessor implements
 		fDelegateDeprecation= deprecate;
 	}
 
+	/**
+	 * Returns the maximal number of referencing compilation units whose ASTs
+	 * are kept in memory at the same time while inlining the delegator.
+	 *
+	 * @return the working set size
+	 */
+	public final int getWorkingSetSize() {
+		return fWorkingSetSize;
+	}
+
+	/**
+	 * Sets the maximal number of referencing compilation units whose ASTs
+	 * are kept in memory at the same time while inlining the delegator.
+	 *
+	 * @param size
+	 *            the working set size, must be positive
+	 */
+	public final void setWorkingSetSize(final int size) {
+		Assert.isTrue(size > 0);
+		fWorkingSetSize= size;
+	}
+
 	/**
 	 * Determines whether the delegator has to be inlined.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -135,8 +135,10 @@ import org.eclipse.jdt.internal.corext.refactoring.delegates.DelegateMethodCreat
 import org.eclipse.jdt.internal.corext.refactoring.participants.JavaProcessors;
 import org.eclipse.jdt.internal.corext.refactoring.structure.MemberVisibilityAdjustor.IncomingMemberVisibilityAdjustment;
 import org.eclipse.jdt.internal.corext.refactoring.tagging.IDelegateUpdating;
+import org.eclipse.jdt.internal.corext.refactoring.util.ChunkedASTProcessor;
 import org.eclipse.jdt.internal.corext.refactoring.util.JavaElementUtil;
 import org.eclipse.jdt.internal.corext.refactoring.util.JavaStatusContext;
+import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringPhaseTimer;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 import org.eclipse.jdt.internal.corext.util.JdtFlags;
 import org.eclipse.jdt.internal.corext.util.Messages;
@@ -165,6 +167,7 @@ public final class MoveStaticMembersProcessor extends MoveProcessor implements I
 	private BodyDeclaration[] fMemberDeclarations;
 	private boolean fDelegateUpdating;
 	private boolean fDelegateDeprecation;
+	private int fWorkingSetSize= ChunkedASTProcessor.DEFAULT_WORKING_SET_SIZE;
 
 	private static class TypeReferenceFinder extends ASTVisitor {
 		List<IBinding> fResult= new ArrayList<>();
@@ -293,6 +296,27 @@ public final class MoveStaticMembersProcessor extends MoveProcessor implements I
 		fDelegateDeprecation= deprecate;
 	}
 
+	/**
+	 * Returns the maximal number of referencing compilation units whose ASTs are kept in memory
+	 * at the same time while updating references.
+	 *
+	 * @return the working set size
+	 */
+	public int getWorkingSetSize() {
+		return fWorkingSetSize;
+	}
+
+	/**
+	 * Sets the maximal number of referencing compilation units whose ASTs are kept in memory
+	 * at the same time while updating references.
+	 *
+	 * @param size the working set size, must be positive
+	 */
+	public void setWorkingSetSize(int size) {
+		Assert.isTrue(size > 0);
+		fWorkingSetSize= size;
+	}
+
 	@Override
 	public String getProcessorName() {
 		return RefactoringCoreMessages.MoveMembersRefactoring_Move_Members;
@@ -856,6 +880,8 @@ public final class MoveStaticMembersProcessor extends MoveProcessor implements I
 			if (status.hasFatalError())
 				return;
 
+			RefactoringPhaseTimer timer= new RefactoringPhaseTimer(getProcessorName());
+			timer.startPhase("search references"); //$NON-NLS-1$
 			ReferencesInBinaryContext binaryRefs= new ReferencesInBinaryContext(RefactoringCoreMessages.ReferencesInBinaryContext_ref_in_binaries_description_plural);
 			IJavaSearchScope scope= RefactoringScopeFactory.create(fMembersToMove, false);
 			SearchPattern pattern= RefactoringSearchEngine.createOrPattern(fMembersToMove, IJavaSearchConstants.ALL_OCCURRENCES);
@@ -880,25 +906,35 @@ public final class MoveStaticMembersProcessor extends MoveProcessor implements I
 			binaryRefs.addErrorIfNecessary(status);
 			ICompilationUnit[] units= affectedCompilationUnits.toArray(new ICompilationUnit[affectedCompilationUnits.size()]);
 
+			timer.startPhase("update references"); //$NON-NLS-1$
 			modifiedCus.addAll(Arrays.asList(units));
 			final MemberVisibilityAdjustor adjustor= new MemberVisibilityAdjustor(fDestinationType, fDestinationType);
-			sub= Progress.subMonitor(monitor, 1);
-			sub.beginTask(RefactoringCoreMessages.MoveMembersRefactoring_creating, units.length);
+			final IProgressMonitor referencesMonitor= Progress.subMonitor(monitor, 1);
+			referencesMonitor.beginTask(RefactoringCoreMessages.MoveMembersRefactoring_creating, units.length);
+			// The source and target rewrites stay alive until the members have been moved,
+			// the ASTs of all other units are released chunk by chunk.
+			List<ICompilationUnit> referencingUnits= new ArrayList<>(units.length);
 			for (ICompilationUnit unit : units) {
-				CompilationUnitRewrite rewrite= getCuRewrite(unit);
-				adjustor.setRewrites(Collections.singletonMap(unit, rewrite));
-				adjustor.setAdjustments(adjustments);
-				adjustor.rewriteVisibility(unit, Progress.subMonitor(sub, 1));
-				ReferenceAnalyzer analyzer= new ReferenceAnalyzer(rewrite, fMemberBindings, targetBinding, fSourceBinding);
-				rewrite.getRoot().accept(analyzer);
-				status.merge(analyzer.getStatus());
-				if (status.hasFatalError()) {
-					fChange= null;
-					return;
+				if (fSource.getCu().equals(unit) || fTarget.getCu().equals(unit)) {
+					if (!updateReferences(unit, getCuRewrite(unit), adjustor, adjustments, targetBinding, status, Progress.subMonitor(referencesMonitor, 1)))
+						return;
+				} else {
+					referencingUnits.add(unit);
 				}
-				if (!fSource.getCu().equals(unit) && !fTarget.getCu().equals(unit))
-					fChange.add(rewrite.createChange(true));
 			}
+			final boolean[] fatal= new boolean[1];
+			new ChunkedASTProcessor(fWorkingSetSize).process(referencingUnits, (unit, root) -> {
+				if (fatal[0])
+					return;
+				CompilationUnitRewrite rewrite= new CompilationUnitRewrite(unit, root);
+				if (updateReferences(unit, rewrite, adjustor, adjustments, targetBinding, status, new NullProgressMonitor()))
+					fChange.add(rewrite.createChange(true));
+				else
+					fatal[0]= true;
+			}, referencesMonitor);
+			if (fatal[0])
+				return;
+			timer.startPhase("move members"); //$NON-NLS-1$
 			status.merge(moveMembers(fMemberDeclarations, memberSources));
 			fChange.add(fSource.createChange(true));
 			modifiedCus.add(fSource.getCu());
@@ -906,12 +942,27 @@ public final class MoveStaticMembersProcessor extends MoveProcessor implements I
 				fChange.add(fTarget.createChange(true));
 				modifiedCus.add(fTarget.getCu());
 			}
+			timer.report(status);
 			monitor.worked(1);
 		} catch (BadLocationException exception) {
 			JavaManipulationPlugin.log(exception);
 		}
 	}
 
+	private boolean updateReferences(ICompilationUnit unit, CompilationUnitRewrite rewrite, MemberVisibilityAdjustor adjustor, Map<IMember, IncomingMemberVisibilityAdjustment> adjustments, ITypeBinding targetBinding, RefactoringStatus status, IProgressMonitor monitor) throws JavaModelException {
+		adjustor.setRewrites(Collections.singletonMap(unit, rewrite));
+		adjustor.setAdjustments(adjustments);
+		adjustor.rewriteVisibility(unit, monitor);
+		ReferenceAnalyzer analyzer= new ReferenceAnalyzer(rewrite, fMemberBindings, targetBinding, fSourceBinding);
+		rewrite.getRoot().accept(analyzer);
+		status.merge(analyzer.getStatus());
+		if (status.hasFatalError()) {
+			fChange= null;
+			return false;
+		}
+		return true;
+	}
+
 	private MoveStaticMembersDescriptor createDescriptor() {
 		final IMember[] members= getMembersToMove();
 		String project= null;
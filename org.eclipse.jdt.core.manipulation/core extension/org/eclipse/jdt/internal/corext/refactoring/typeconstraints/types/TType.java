@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -71,6 +71,7 @@ public abstract class TType {
 	protected static final TType[] EMPTY_TYPE_ARRAY= new TType[0];
 
 	private TypeEnvironment fEnvironment;
+	private final int fTypeId;
 	private String fBindingKey;
 	private int fModifiers;
 	private int fFlags;
@@ -83,6 +84,7 @@ public abstract class TType {
 	 */
 	protected TType(TypeEnvironment environment) {
 		fEnvironment= environment;
+		fTypeId= environment.registerType(this);
 	}
 
 	/**
@@ -142,6 +144,18 @@ public abstract class TType {
 		return fEnvironment;
 	}
 
+	/**
+	 * Returns the dense id of this type. Type ids are unique within the type's
+	 * environment and are allocated consecutively starting from <code>0</code>,
+	 * which makes them suitable as indices into bit sets.
+	 *
+	 * @return the id of this type in its environment
+	 * @see TypeEnvironment#getType(int)
+	 */
+	public final int getTypeId() {
+		return fTypeId;
+	}
+
 	/**
 	 * Returns the key of the binding from which this type
 	 * got constructed.
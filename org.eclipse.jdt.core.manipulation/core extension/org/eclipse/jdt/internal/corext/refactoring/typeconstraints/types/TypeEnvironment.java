@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -70,6 +70,12 @@ public class TypeEnvironment {
 		}
 	}
 
+	/**
+	 * All types of this environment, indexed by {@link TType#getTypeId()}.
+	 * Must be initialized before the primitive types below.
+	 */
+	private final List<TType> fTypesById= new ArrayList<>();
+
 	/** Type code for the primitive type "int". */
 	public final PrimitiveType INT= new PrimitiveType(this, PrimitiveType.INT, BindingKey.createTypeBindingKey("int")); //$NON-NLS-1$
 	/** Type code for the primitive type "char". */
@@ -131,6 +137,10 @@ public class TypeEnvironment {
 	 * information was not requested in the constructor.
 	 */
 	private Map<TType, ArrayList<TType>> fSubTypes;
+	/**
+	 * Number of edges added to {@link #fSubTypes} so far.
+	 */
+	private int fSubTypesModificationCount;
 	/**
 	 * If <code>true</code>, replace all capture types by their wildcard type.
 	 * @since 3.7
@@ -182,6 +192,44 @@ public class TypeEnvironment {
 		fRemoveCapures= removeCapures;
 	}
 
+	int registerType(TType type) {
+		int id= fTypesById.size();
+		fTypesById.add(type);
+		return id;
+	}
+
+	/**
+	 * Returns the type with the given id.
+	 *
+	 * @param typeId a type id as returned by {@link TType#getTypeId()}
+	 * @return the type with the given id
+	 */
+	public TType getType(int typeId) {
+		return fTypesById.get(typeId);
+	}
+
+	/**
+	 * Returns the number of types created so far in this environment. All type ids
+	 * are smaller than this number.
+	 *
+	 * @return the number of types in this environment
+	 */
+	public int getTypeCount() {
+		return fTypesById.size();
+	}
+
+	/**
+	 * Returns the number of subtype relations recorded so far, see {@link TType#getSubTypes()}.
+	 * The count grows whenever a type with known supertypes gets created, but not when array
+	 * or primitive types get created. Subtype closures which were computed while the count
+	 * stayed the same are still valid. Supertypes never change once a type is created.
+	 *
+	 * @return the number of recorded subtype relations
+	 */
+	public int getSubTypesModificationCount() {
+		return fSubTypesModificationCount;
+	}
+
 	Map<TypeTuple, Boolean> getSubTypeCache() {
 		return fSubTypeCache;
 	}
@@ -305,6 +353,7 @@ public class TypeEnvironment {
 			Assert.isTrue(! subtypes.contains(result));
 		}
 		subtypes.add(result);
+		fSubTypesModificationCount++;
 	}
 
 	private void cacheSubTypes(TType[] interfaces, TType result) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets;
 
+import java.util.BitSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -130,9 +131,12 @@ public class EnumeratedTypeSet extends TypeSet {
 	protected TypeSet specialCasesIntersectedWith(TypeSet s2) {
 		if (s2 instanceof EnumeratedTypeSet) {
 			EnumeratedTypeSet result= new EnumeratedTypeSet(getTypeSetEnvironment());
+			BitSet otherIds= ((EnumeratedTypeSet) s2).getMemberIds();
 
-			result.addAll(this); // copy first since retainAll() modifies in-place
-			result.retainAll(s2);
+			for (TType t : fMembers) {
+				if (otherIds.get(t.getTypeId()))
+					result.fMembers.add(t);
+			}
 			if (result.size() > 0)
 				return result;
 			else
@@ -205,6 +209,17 @@ public class EnumeratedTypeSet extends TypeSet {
 		return result;
 	}
 
+	/**
+	 * @return the ids of the members of this set, see {@link TType#getTypeId()}
+	 */
+	public BitSet getMemberIds() {
+		BitSet result= new BitSet();
+		for (TType t : fMembers) {
+			result.set(t.getTypeId());
+		}
+		return result;
+	}
+
 	public int size() {
 		return fMembers.size();
 	}
@@ -319,20 +334,19 @@ public class EnumeratedTypeSet extends TypeSet {
 		EnumeratedTypeSet result= new EnumeratedTypeSet(getTypeSetEnvironment());
 
 		// Add to result each element of fMembers that has no proper supertype in fMembers
-		result.fMembers.addAll(fMembers);
+		BitSet subTypes= new BitSet();
 		for (TType t : fMembers) {
 			if (t.isArrayType()) {
 				ArrayType at= (ArrayType) t;
-				int numDims= at.getDimensions();
-				for(Iterator<TType> subIter=TTypes.getAllSubTypesIterator(at.getElementType()); subIter.hasNext(); ) {
-					result.fMembers.remove(TTypes.createArrayType(subIter.next(), numDims));
-				}
+				subTypes.or(getTypeSetEnvironment().getArraySubTypeClosure(at.getElementType(), at.getDimensions()).getIds());
 			} else {
-				for (Iterator<TType> iterator= TTypes.getAllSubTypesIterator(t); iterator.hasNext();) {
-					result.fMembers.remove(iterator.next());
-				}
+				subTypes.or(getTypeSetEnvironment().getSubTypeClosure(t).getIds());
 			}
 		}
+		for (TType t : fMembers) {
+			if (!subTypes.get(t.getTypeId()))
+				result.fMembers.add(t);
+		}
 		result.initComplete();
 		return result;
 	}
@@ -345,28 +359,26 @@ public class EnumeratedTypeSet extends TypeSet {
 		EnumeratedTypeSet result= new EnumeratedTypeSet(getTypeSetEnvironment());
 
 		// Add to result each element of fMembers that has no proper subtype in fMembers
-		result.fMembers.addAll(fMembers);
-
+		BitSet superTypes= new BitSet();
 		for (TType t : fMembers) {
 			// java.lang.Object is only in the lower bound if fMembers consists
 			// of only java.lang.Object, but that case is handled above.
 			if (t.equals(getJavaLangObject())) {
-				result.fMembers.remove(t);
+				superTypes.set(t.getTypeId());
 				continue;
 			}
 
 			if (t instanceof ArrayType) {
 				ArrayType at= (ArrayType) t;
-				int numDims= at.getDimensions();
-				for(Iterator<TType> superIter=TTypes.getAllSuperTypesIterator(at.getElementType()); superIter.hasNext(); ) {
-					result.fMembers.remove(TTypes.createArrayType(superIter.next(), numDims));
-				}
+				superTypes.or(getTypeSetEnvironment().getArraySuperTypeClosure(at.getElementType(), at.getDimensions()).getIds());
 			} else {
-				for (Iterator<TType> iterator= TTypes.getAllSuperTypesIterator(t); iterator.hasNext();) {
-					result.fMembers.remove(iterator.next());
-				}
+				superTypes.or(getTypeSetEnvironment().getSuperTypeClosure(t).getIds());
 			}
 		}
+		for (TType t : fMembers) {
+			if (!superTypes.get(t.getTypeId()))
+				result.fMembers.add(t);
+		}
 		if (result.size() > 0)
 			return result;
 		else
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -214,9 +214,9 @@ public class SubTypesOfSingleton extends TypeSet {
 		if (fEnumCache == null) {
 			if (fUpperBound instanceof ArrayType) {
 				ArrayType at= (ArrayType) fUpperBound;
-				fEnumCache= EnumeratedTypeSet.makeArrayTypesForElements(TTypes.getAllSubTypesIterator(at.getComponentType()),getTypeSetEnvironment());
+				fEnumCache= EnumeratedTypeSet.makeArrayTypesForElements(getTypeSetEnvironment().getSubTypeClosure(at.getComponentType()).getTypes().iterator(), getTypeSetEnvironment());
 			} else
-				fEnumCache= new EnumeratedTypeSet(TTypes.getAllSubTypesIterator(fUpperBound), getTypeSetEnvironment());
+				fEnumCache= new EnumeratedTypeSet(getTypeSetEnvironment().getSubTypeClosure(fUpperBound).getTypes().iterator(), getTypeSetEnvironment());
 
 			fEnumCache.add(fUpperBound);
 			fEnumCache.initComplete();
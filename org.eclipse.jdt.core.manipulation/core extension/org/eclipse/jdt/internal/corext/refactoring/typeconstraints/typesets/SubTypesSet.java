@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -256,13 +256,10 @@ public class SubTypesSet extends TypeSet {
 
 				if (ub instanceof ArrayType) {
 					ArrayType at= (ArrayType) ub;
-					int numDims= at.getDimensions();
-					for(Iterator<TType> elemSubIter=TTypes.getAllSubTypesIterator(at.getElementType()); elemSubIter.hasNext(); )
-						fEnumCache.add(TTypes.createArrayType(elemSubIter.next(), numDims));
+					for (TType subType : getTypeSetEnvironment().getArraySubTypeClosure(at.getElementType(), at.getDimensions()).getTypes())
+						fEnumCache.add(subType);
 				} else {
-					for (Iterator<TType> iterator= TTypes.getAllSubTypesIterator(ub); iterator.hasNext();) {
-						fEnumCache.fMembers.add(iterator.next());
-					}
+					fEnumCache.fMembers.addAll(getTypeSetEnvironment().getSubTypeClosure(ub).getTypes());
 				}
 				fEnumCache.add(ub);
 			}
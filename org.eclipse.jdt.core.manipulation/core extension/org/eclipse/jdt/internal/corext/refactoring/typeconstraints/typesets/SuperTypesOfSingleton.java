@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -197,10 +197,10 @@ public class SuperTypesOfSingleton extends TypeSet {
 		if (fEnumCache == null) {
 			if (fLowerBound instanceof ArrayType) {
 				ArrayType at= (ArrayType) fLowerBound;
-				fEnumCache= EnumeratedTypeSet.makeArrayTypesForElements(TTypes.getAllSuperTypesIterator(at.getComponentType()), getTypeSetEnvironment());
+				fEnumCache= EnumeratedTypeSet.makeArrayTypesForElements(getTypeSetEnvironment().getSuperTypeClosure(at.getComponentType()).getTypes().iterator(), getTypeSetEnvironment());
 				fEnumCache.add(getJavaLangObject());
 			} else
-				fEnumCache= new EnumeratedTypeSet(TTypes.getAllSuperTypesIterator(fLowerBound), getTypeSetEnvironment());
+				fEnumCache= new EnumeratedTypeSet(getTypeSetEnvironment().getSuperTypeClosure(fLowerBound).getTypes().iterator(), getTypeSetEnvironment());
 
 			fEnumCache.add(fLowerBound);
 			fEnumCache.initComplete();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -248,13 +248,11 @@ public class SuperTypesSet extends TypeSet {
 
 				if (lb instanceof ArrayType) {
 					ArrayType at= (ArrayType) lb;
-					int numDims= at.getDimensions();
-					for(Iterator<TType> elemSuperIter=TTypes.getAllSuperTypesIterator(at.getElementType()); elemSuperIter.hasNext(); )
-						fEnumCache.add(TTypes.createArrayType(elemSuperIter.next(), numDims));
+					for (TType superType : getTypeSetEnvironment().getArraySuperTypeClosure(at.getElementType(), at.getDimensions()).getTypes())
+						fEnumCache.add(superType);
 					anyLBIsIntfOrArray= true;
 				} else {
-					for (Iterator<TType> iterator= TTypes.getAllSuperTypesIterator(lb); iterator.hasNext(); )
-					fEnumCache.fMembers.add(iterator.next());
+					fEnumCache.fMembers.addAll(getTypeSetEnvironment().getSuperTypeClosure(lb).getTypes());
 				}
 				fEnumCache.add(lb);
 			}
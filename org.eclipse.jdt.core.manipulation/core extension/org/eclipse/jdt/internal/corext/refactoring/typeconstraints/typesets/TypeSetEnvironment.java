@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2015 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,11 +14,18 @@
 
 package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TypeEnvironment;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.TTypes;
 
 
 
@@ -33,6 +40,59 @@ public class TypeSetEnvironment {
 	private final Map<TType, SuperTypesOfSingleton> fSuperTypesOfSingletons= new LinkedHashMap<>();//@perf
 	private final Map<Object, SuperTypesSet> fSuperTypesSets= new LinkedHashMap<>();//@perf
 
+	/**
+	 * The types of a hierarchy closure, in the order in which the hierarchy iterators of
+	 * {@link TTypes} enumerate them, and their ids as a bit set over {@link TType#getTypeId()}.
+	 * Closures are shared and must not be modified by clients.
+	 */
+	public static final class TypeClosure {
+		private final List<TType> fTypes;
+		private final BitSet fIds= new BitSet();
+
+		TypeClosure(Iterator<TType> types) {
+			fTypes= new ArrayList<>();
+			while (types.hasNext()) {
+				add(types.next());
+			}
+		}
+
+		TypeClosure(TypeClosure elementTypes, int dimensions) {
+			fTypes= new ArrayList<>(elementTypes.fTypes.size());
+			for (TType elementType : elementTypes.fTypes) {
+				add(TTypes.createArrayType(elementType, dimensions));
+			}
+		}
+
+		private void add(TType type) {
+			fTypes.add(type);
+			fIds.set(type.getTypeId());
+		}
+
+		/**
+		 * @return the types of this closure, possibly with duplicates
+		 */
+		public List<TType> getTypes() {
+			return Collections.unmodifiableList(fTypes);
+		}
+
+		/**
+		 * @return the ids of the types of this closure, must not be modified
+		 */
+		public BitSet getIds() {
+			return fIds;
+		}
+	}
+
+	/**
+	 * Subtype closures are valid as long as no subtype relations get added to the type environment,
+	 * see {@link #fSubTypeClosuresModificationCount}. Supertype closures are always valid.
+	 */
+	private final Map<TType, TypeClosure> fSubTypeClosures= new HashMap<>();
+	private final Map<TType, TypeClosure> fArraySubTypeClosures= new HashMap<>();
+	private final Map<TType, TypeClosure> fSuperTypeClosures= new HashMap<>();
+	private final Map<TType, TypeClosure> fArraySuperTypeClosures= new HashMap<>();
+	private int fSubTypeClosuresModificationCount= -1;
+
 	private int fgCommonExprHits= 0;
 	private int fgCommonExprMisses= 0;
 
@@ -119,6 +179,87 @@ public class TypeSetEnvironment {
 		}
 	}
 
+	/**
+	 * Returns all subtypes of the given type, including the type itself,
+	 * as enumerated by {@link TTypes#getAllSubTypesIterator(TType)}.
+	 *
+	 * @param type a type
+	 * @return the subtypes of <code>type</code>
+	 */
+	public TypeClosure getSubTypeClosure(TType type) {
+		validateSubTypeClosures();
+		TypeClosure closure= fSubTypeClosures.get(type);
+		if (closure == null) {
+			closure= new TypeClosure(TTypes.getAllSubTypesIterator(type));
+			fSubTypeClosures.put(type, closure);
+		}
+		return closure;
+	}
+
+	/**
+	 * Returns the array types with the given dimensions of all subtypes of the given element type,
+	 * including the array type of the element type itself.
+	 *
+	 * @param elementType a non-array type
+	 * @param dimensions the dimensions of the array types
+	 * @return the array types of the subtypes of <code>elementType</code>
+	 */
+	public TypeClosure getArraySubTypeClosure(TType elementType, int dimensions) {
+		validateSubTypeClosures();
+		// creating array types does not add subtype relations, see validateSubTypeClosures()
+		TType arrayType= TTypes.createArrayType(elementType, dimensions);
+		TypeClosure closure= fArraySubTypeClosures.get(arrayType);
+		if (closure == null) {
+			closure= new TypeClosure(getSubTypeClosure(elementType), dimensions);
+			fArraySubTypeClosures.put(arrayType, closure);
+		}
+		return closure;
+	}
+
+	/**
+	 * Returns all proper supertypes of the given type,
+	 * as enumerated by {@link TTypes#getAllSuperTypesIterator(TType)}.
+	 *
+	 * @param type a type
+	 * @return the supertypes of <code>type</code>
+	 */
+	public TypeClosure getSuperTypeClosure(TType type) {
+		TypeClosure closure= fSuperTypeClosures.get(type);
+		if (closure == null) {
+			closure= new TypeClosure(TTypes.getAllSuperTypesIterator(type));
+			fSuperTypeClosures.put(type, closure);
+		}
+		return closure;
+	}
+
+	/**
+	 * Returns the array types with the given dimensions of all proper supertypes of the given
+	 * element type.
+	 *
+	 * @param elementType a non-array type
+	 * @param dimensions the dimensions of the array types
+	 * @return the array types of the supertypes of <code>elementType</code>
+	 */
+	public TypeClosure getArraySuperTypeClosure(TType elementType, int dimensions) {
+		TType arrayType= TTypes.createArrayType(elementType, dimensions);
+		TypeClosure closure= fArraySuperTypeClosures.get(arrayType);
+		if (closure == null) {
+			closure= new TypeClosure(getSuperTypeClosure(elementType), dimensions);
+			fArraySuperTypeClosures.put(arrayType, closure);
+		}
+		return closure;
+	}
+
+	private void validateSubTypeClosures() {
+		// a new subtype relation may extend any subtype closure, supertypes are fixed on creation
+		int modificationCount= fTypeEnvironment.getSubTypesModificationCount();
+		if (modificationCount != fSubTypeClosuresModificationCount) {
+			fSubTypeClosures.clear();
+			fArraySubTypeClosures.clear();
+			fSubTypeClosuresModificationCount= modificationCount;
+		}
+	}
+
 	public void dumpStats() {
 		System.out.println("Common expression hits:   " + fgCommonExprHits); //$NON-NLS-1$
 		System.out.println("Common expression misses: " + fgCommonExprMisses); //$NON-NLS-1$
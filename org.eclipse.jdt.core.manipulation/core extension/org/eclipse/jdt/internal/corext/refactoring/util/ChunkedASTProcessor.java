@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.Assert;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.WorkingCopyOwner;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTRequestor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+
+/**
+ * Creates ASTs with bindings for a potentially large number of compilation units and hands
+ * them to a {@link IUnitProcessor} one at a time.
+ * <p>
+ * The units are parsed per project in chunks of at most {@link #getWorkingSetSize()} units. All
+ * units of a chunk share one binding environment, which is released together with the ASTs of
+ * the chunk before the next chunk is parsed. Processors must therefore not hold on to the ASTs
+ * or bindings they are passed.
+ * </p>
+ */
+public final class ChunkedASTProcessor {
+
+	/**
+	 * Processes the AST of a single compilation unit.
+	 */
+	public interface IUnitProcessor {
+
+		/**
+		 * Processes the given compilation unit.
+		 *
+		 * @param unit the compilation unit
+		 * @param root the AST of the compilation unit, with bindings
+		 * @throws CoreException if the unit could not be processed
+		 */
+		void process(ICompilationUnit unit, CompilationUnit root) throws CoreException;
+	}
+
+	/**
+	 * The default number of compilation units whose ASTs are kept in memory at the same time.
+	 * <p>
+	 * A chunk's binding environment mostly resolves types which are shared by its units, so
+	 * larger chunks hardly save any further binding resolution, while the memory for the ASTs
+	 * grows linearly with the chunk size. 100 units keep the peak memory of a refactoring in the
+	 * range of a few open editors.
+	 * </p>
+	 */
+	public static final int DEFAULT_WORKING_SET_SIZE= 100;
+
+	private final int fWorkingSetSize;
+
+	private WorkingCopyOwner fOwner;
+
+	/**
+	 * Creates a new chunked AST processor.
+	 *
+	 * @param workingSetSize the maximal number of compilation units parsed together, must be positive
+	 */
+	public ChunkedASTProcessor(int workingSetSize) {
+		Assert.isTrue(workingSetSize > 0);
+		fWorkingSetSize= workingSetSize;
+	}
+
+	/**
+	 * @return the maximal number of compilation units parsed together
+	 */
+	public int getWorkingSetSize() {
+		return fWorkingSetSize;
+	}
+
+	/**
+	 * Sets the working copy owner to use, or <code>null</code> for the primary working copies.
+	 *
+	 * @param owner the working copy owner, or <code>null</code>
+	 */
+	public void setWorkingCopyOwner(WorkingCopyOwner owner) {
+		fOwner= owner;
+	}
+
+	/**
+	 * Parses the given compilation units and passes their ASTs to the processor. Units are
+	 * processed in the order of the collection, grouped by project.
+	 *
+	 * @param units the compilation units to process
+	 * @param processor the processor to pass the ASTs to
+	 * @param monitor the progress monitor, one unit of work is reported per compilation unit
+	 * @throws CoreException if the processor failed. Processing stops at the first failure.
+	 */
+	public void process(Collection<ICompilationUnit> units, final IUnitProcessor processor, final IProgressMonitor monitor) throws CoreException {
+		Map<IJavaProject, List<ICompilationUnit>> projects= new LinkedHashMap<>();
+		for (ICompilationUnit unit : units) {
+			List<ICompilationUnit> list= projects.get(unit.getJavaProject());
+			if (list == null) {
+				list= new ArrayList<>();
+				projects.put(unit.getJavaProject(), list);
+			}
+			list.add(unit);
+		}
+		final CoreException[] exception= new CoreException[1];
+		ASTRequestor requestor= new ASTRequestor() {
+			@Override
+			public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+				if (exception[0] != null)
+					return;
+				if (monitor.isCanceled())
+					throw new OperationCanceledException();
+				try {
+					processor.process(source, ast);
+				} catch (CoreException e) {
+					exception[0]= e;
+				}
+				monitor.worked(1);
+			}
+		};
+		for (Map.Entry<IJavaProject, List<ICompilationUnit>> entry : projects.entrySet()) {
+			IJavaProject project= entry.getKey();
+			List<ICompilationUnit> list= entry.getValue();
+			Map<String, String> options= RefactoringASTParser.getCompilerOptions(project);
+			for (int index= 0; index < list.size(); index+= fWorkingSetSize) {
+				List<ICompilationUnit> chunk= list.subList(index, Math.min(list.size(), index + fWorkingSetSize));
+				ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+				parser.setProject(project);
+				parser.setResolveBindings(true);
+				parser.setStatementsRecovery(true);
+				parser.setCompilerOptions(options);
+				if (fOwner != null)
+					parser.setWorkingCopyOwner(fOwner);
+				parser.createASTs(chunk.toArray(new ICompilationUnit[chunk.size()]), new String[0], requestor, null);
+				if (exception[0] != null)
+					throw exception[0];
+			}
+		}
+	}
+}
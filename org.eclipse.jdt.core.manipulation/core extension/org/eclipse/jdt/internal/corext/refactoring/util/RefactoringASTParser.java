@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -55,6 +55,21 @@ public class RefactoringASTParser {
 	}
 
 	public CompilationUnit parse(ITypeRoot typeRoot, WorkingCopyOwner owner, boolean resolveBindings, boolean statementsRecovery, boolean bindingsRecovery, IProgressMonitor pm) {
+		RefactoringSessionCache cache= owner == null && typeRoot instanceof ICompilationUnit ? RefactoringSessionCache.getActive() : null;
+		if (cache != null) {
+			ICompilationUnit unit= (ICompilationUnit) typeRoot;
+			CompilationUnit result= cache.getAST(unit, resolveBindings, statementsRecovery, bindingsRecovery);
+			if (result == null) {
+				int generation= cache.getGeneration();
+				result= internalParse(typeRoot, null, resolveBindings, statementsRecovery, bindingsRecovery, pm);
+				cache.putAST(unit, resolveBindings, statementsRecovery, bindingsRecovery, result, generation);
+			}
+			return result;
+		}
+		return internalParse(typeRoot, owner, resolveBindings, statementsRecovery, bindingsRecovery, pm);
+	}
+
+	private CompilationUnit internalParse(ITypeRoot typeRoot, WorkingCopyOwner owner, boolean resolveBindings, boolean statementsRecovery, boolean bindingsRecovery, IProgressMonitor pm) {
 		fParser.setResolveBindings(resolveBindings);
 		fParser.setStatementsRecovery(statementsRecovery);
 		fParser.setBindingsRecovery(bindingsRecovery);
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+
+/**
+ * Measures the time spent in the phases of a refactoring, e.g. searching and rewriting.
+ * <p>
+ * The timings are reported as info entries of a refactoring status if the
+ * <code>org.eclipse.jdt.core.manipulation/debug/RefactoringTimings</code> debug option is set.
+ * Otherwise the timer does nothing.
+ * </p>
+ */
+public final class RefactoringPhaseTimer {
+
+	private final String fName;
+	private final List<String> fPhases= new ArrayList<>();
+	private final List<Long> fDurations= new ArrayList<>();
+	private String fCurrentPhase;
+	private long fStart;
+
+	/**
+	 * Creates a new timer.
+	 *
+	 * @param name the name of the refactoring, used as prefix of the reported timings
+	 */
+	public RefactoringPhaseTimer(String name) {
+		fName= name;
+	}
+
+	/**
+	 * Ends the current phase, if any, and starts a new one.
+	 *
+	 * @param phase the name of the phase
+	 */
+	public void startPhase(String phase) {
+		if (!JavaManipulationPlugin.DEBUG_REFACTORING_TIMINGS)
+			return;
+		endPhase();
+		fCurrentPhase= phase;
+		fStart= System.nanoTime();
+	}
+
+	/**
+	 * Ends the current phase, if any.
+	 */
+	public void endPhase() {
+		if (fCurrentPhase != null) {
+			fPhases.add(fCurrentPhase);
+			fDurations.add(Long.valueOf((System.nanoTime() - fStart) / 1000000));
+			fCurrentPhase= null;
+		}
+	}
+
+	/**
+	 * Ends the current phase and adds the timings of all phases to the given status.
+	 *
+	 * @param status the status to add the timings to
+	 */
+	public void report(RefactoringStatus status) {
+		if (!JavaManipulationPlugin.DEBUG_REFACTORING_TIMINGS)
+			return;
+		endPhase();
+		for (int index= 0; index < fPhases.size(); index++) {
+			status.addInfo(fName + ": " + fPhases.get(index) + " took " + fDurations.get(index) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		fPhases.clear();
+		fDurations.clear();
+	}
+}
@@ -0,0 +1,322 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+
+/**
+ * A cache for ASTs which is shared by the processor, the participants and the compilation unit
+ * rewrites of a refactoring while its conditions are checked and its change is created. A
+ * history replay keeps one session for all the refactorings of the history.
+ * <p>
+ * A session is bound to the thread which began it: only {@link RefactoringASTParser} requests
+ * from that thread are served from the cache, so reconcilers, quick assists and jobs running
+ * concurrently never see the shared ASTs. Sessions begun again on the same thread are joined
+ * and reference counted, and the cache is discarded when the outermost session ends. A session
+ * can be {@link #suspend() suspended} while the user is asked between the refactorings of a
+ * history, and {@link #resume() resumed} on the thread which performs the next refactoring.
+ * </p>
+ * <p>
+ * ASTs are only cached for primary compilation units without unsaved changes. A cached AST is
+ * used as long as the modification stamp of the underlying file does not change. Whenever a
+ * resource or a Java element changes, and when {@link #invalidate()} is called, the ASTs with
+ * bindings are discarded, since their bindings may refer to the changed units, while the ASTs
+ * without bindings of the units which did not change are kept. Resource change events are
+ * deferred while a workspace operation runs, so clients which perform several changes in one
+ * session, e.g. while replaying a refactoring history, have to call {@link #invalidate()} after
+ * each performed change. {@link #flush()} discards all ASTs. An AST with bindings is also
+ * returned for requests without bindings. Clients obtaining an AST from the cache must not
+ * modify it. A cached AST which has been modified nevertheless, see
+ * {@link org.eclipse.jdt.core.dom.AST#modificationCount()}, is discarded instead of being
+ * handed to the next client.
+ * </p>
+ * <p>
+ * The number of parses avoided by the cache is printed when a session ends if the
+ * <code>org.eclipse.jdt.core.manipulation/debug/RefactoringSessionCache</code> debug option is
+ * set.
+ * </p>
+ */
+public final class RefactoringSessionCache {
+
+	/** The maximal number of cached ASTs */
+	private static final int MAX_ASTS= 32;
+
+	private static final ThreadLocal<RefactoringSessionCache> fgActive= new ThreadLocal<>();
+
+	private static final class ASTEntry {
+
+		private final ICompilationUnit fUnit;
+
+		private final CompilationUnit fRoot;
+
+		private final long fStamp;
+
+		/** The modification count of the AST when it has been cached */
+		private final long fModificationCount;
+
+		private final boolean fResolveBindings;
+
+		public ASTEntry(ICompilationUnit unit, CompilationUnit root, long stamp, boolean resolveBindings) {
+			fUnit= unit;
+			fRoot= root;
+			fStamp= stamp;
+			fResolveBindings= resolveBindings;
+			fModificationCount= root.getAST().modificationCount();
+		}
+	}
+
+	/**
+	 * Starts a new session on the calling thread, or joins the session which is active on it.
+	 * Every call has to be matched by a call to {@link #end()} on the returned session.
+	 *
+	 * @return the session
+	 */
+	public static RefactoringSessionCache begin() {
+		RefactoringSessionCache session= getActive();
+		if (session == null) {
+			session= new RefactoringSessionCache();
+			session.install();
+			fgActive.set(session);
+		}
+		synchronized (session) {
+			session.fNesting++;
+		}
+		return session;
+	}
+
+	/**
+	 * Returns the session which is active on the calling thread.
+	 *
+	 * @return the active session, or <code>null</code> if no session is active on this thread
+	 */
+	public static RefactoringSessionCache getActive() {
+		RefactoringSessionCache session= fgActive.get();
+		if (session != null && session.isEnded()) {
+			fgActive.remove();
+			return null;
+		}
+		return session;
+	}
+
+	private final Map<String, ASTEntry> fASTs= new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, ASTEntry> eldest) {
+			return size() > MAX_ASTS;
+		}
+	};
+
+	private int fNesting;
+
+	/** The number of times the cache has been flushed */
+	private int fGeneration;
+
+	private int fASTRequests;
+
+	private int fParsesAvoided;
+
+	private final IResourceChangeListener fResourceListener= event -> invalidate();
+
+	private final IElementChangedListener fElementListener= event -> invalidate();
+
+	private RefactoringSessionCache() {
+		// only created by begin()
+	}
+
+	private void install() {
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(fResourceListener, IResourceChangeEvent.POST_CHANGE);
+		JavaCore.addElementChangedListener(fElementListener, ElementChangedEvent.POST_CHANGE);
+	}
+
+	/**
+	 * Ends this session. The cache is discarded if this was the outermost session. A session
+	 * may be ended on another thread than the one which began it.
+	 */
+	public void end() {
+		synchronized (this) {
+			if (fNesting == 0 || --fNesting > 0)
+				return;
+			if (JavaManipulationPlugin.DEBUG_REFACTORING_SESSION_CACHE)
+				System.out.println("RefactoringSessionCache - " + getStatistics()); //$NON-NLS-1$
+			fASTs.clear();
+		}
+		ResourcesPlugin.getWorkspace().removeResourceChangeListener(fResourceListener);
+		JavaCore.removeElementChangedListener(fElementListener);
+		if (fgActive.get() == this)
+			fgActive.remove();
+	}
+
+	/**
+	 * Unbinds this session from the calling thread, so that its requests are no longer served
+	 * from the cache. The cache is kept and still invalidated when units change.
+	 */
+	public void suspend() {
+		if (fgActive.get() == this)
+			fgActive.remove();
+	}
+
+	/**
+	 * Binds this session to the calling thread again, unless another session is active on it.
+	 * Does nothing if the session has ended.
+	 */
+	public void resume() {
+		if (!isEnded() && getActive() == null)
+			fgActive.set(this);
+	}
+
+	private synchronized boolean isEnded() {
+		return fNesting == 0;
+	}
+
+	/**
+	 * Discards all cached ASTs.
+	 */
+	public synchronized void flush() {
+		fASTs.clear();
+		fGeneration++;
+	}
+
+	/**
+	 * Discards the cached ASTs which may be outdated by a change: all ASTs with bindings and the
+	 * ASTs of the changed units. Has to be called after a change has been performed while the
+	 * session is active.
+	 */
+	public synchronized void invalidate() {
+		for (Iterator<ASTEntry> iter= fASTs.values().iterator(); iter.hasNext();) {
+			ASTEntry entry= iter.next();
+			if (entry.fResolveBindings || getStamp(entry.fUnit) != entry.fStamp)
+				iter.remove();
+		}
+		fGeneration++;
+	}
+
+	/**
+	 * Returns the current generation of this cache. The generation changes whenever the cache is
+	 * flushed or invalidated. Clients have to obtain it before they create an AST which they want to cache.
+	 *
+	 * @return the generation
+	 */
+	public synchronized int getGeneration() {
+		return fGeneration;
+	}
+
+	/**
+	 * Returns the cached AST of the given compilation unit.
+	 *
+	 * @param unit the compilation unit
+	 * @param resolveBindings whether the AST has bindings
+	 * @param statementsRecovery whether the AST has been created with statements recovery
+	 * @param bindingsRecovery whether the AST has been created with bindings recovery
+	 * @return the cached AST, or <code>null</code> if none is cached or the cached AST is stale or
+	 *         has been modified
+	 */
+	public synchronized CompilationUnit getAST(ICompilationUnit unit, boolean resolveBindings, boolean statementsRecovery, boolean bindingsRecovery) {
+		fASTRequests++;
+		long stamp= getStamp(unit);
+		CompilationUnit result= getAST(getASTKey(unit, resolveBindings, statementsRecovery, bindingsRecovery), stamp);
+		if (result == null && !resolveBindings)
+			result= getAST(getASTKey(unit, true, statementsRecovery, bindingsRecovery), stamp);
+		if (result != null)
+			fParsesAvoided++;
+		return result;
+	}
+
+	private CompilationUnit getAST(String key, long stamp) {
+		ASTEntry entry= fASTs.get(key);
+		if (entry == null)
+			return null;
+		if (entry.fStamp != stamp || entry.fRoot.getAST().modificationCount() != entry.fModificationCount) {
+			fASTs.remove(key);
+			return null;
+		}
+		return entry.fRoot;
+	}
+
+	/**
+	 * Caches the AST of the given compilation unit, if the unit is cacheable.
+	 *
+	 * @param unit the compilation unit
+	 * @param resolveBindings whether the AST has bindings
+	 * @param statementsRecovery whether the AST has been created with statements recovery
+	 * @param bindingsRecovery whether the AST has been created with bindings recovery
+	 * @param root the AST
+	 * @param generation the generation of the cache before the AST has been created, see
+	 *            {@link #getGeneration()}. The AST is not cached if the cache has been flushed
+	 *            or invalidated since, because the AST may reflect outdated sources.
+	 */
+	public synchronized void putAST(ICompilationUnit unit, boolean resolveBindings, boolean statementsRecovery, boolean bindingsRecovery, CompilationUnit root, int generation) {
+		if (generation != fGeneration)
+			return;
+		long stamp= getStamp(unit);
+		if (stamp != IResource.NULL_STAMP)
+			fASTs.put(getASTKey(unit, resolveBindings, statementsRecovery, bindingsRecovery), new ASTEntry(unit, root, stamp, resolveBindings));
+	}
+
+	private static String getASTKey(ICompilationUnit unit, boolean resolveBindings, boolean statementsRecovery, boolean bindingsRecovery) {
+		StringBuilder buffer= new StringBuilder(unit.getHandleIdentifier());
+		buffer.append(resolveBindings ? 'B' : '-');
+		buffer.append(statementsRecovery ? 'S' : '-');
+		buffer.append(bindingsRecovery ? 'R' : '-');
+		return buffer.toString();
+	}
+
+	private static long getStamp(ICompilationUnit unit) {
+		try {
+			if (unit.isWorkingCopy() || unit.hasUnsavedChanges())
+				return IResource.NULL_STAMP;
+		} catch (JavaModelException exception) {
+			return IResource.NULL_STAMP;
+		}
+		IResource resource= unit.getResource();
+		return resource != null ? resource.getModificationStamp() : IResource.NULL_STAMP;
+	}
+
+	/**
+	 * @return the number of ASTs requested from this cache
+	 */
+	public synchronized int getASTRequestCount() {
+		return fASTRequests;
+	}
+
+	/**
+	 * @return the number of AST requests which have been answered with a cached AST
+	 */
+	public synchronized int getParsesAvoided() {
+		return fParsesAvoided;
+	}
+
+	/**
+	 * @return a human readable summary of the parses avoided by this cache
+	 */
+	public synchronized String getStatistics() {
+		return fParsesAvoided + " of " + fASTRequests + " parses avoided"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
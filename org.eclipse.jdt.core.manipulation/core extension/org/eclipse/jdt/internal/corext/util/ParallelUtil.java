@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.util;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+/**
+ * Helpers to run searches and analyses on a small pool of worker threads.
+ * <p>
+ * Progress monitors are not thread-safe. The workers must therefore not report progress, they
+ * only check for cancellation through a monitor created by {@link #createCancelMonitor(IProgressMonitor)}.
+ * Progress is reported by the calling thread while it collects the results.
+ * </p>
+ */
+public final class ParallelUtil {
+
+	/**
+	 * The maximal number of workers. Searches and analyses are mostly limited by the index and
+	 * the model caches they share, so more than 4 workers hardly help.
+	 */
+	public static final int MAX_WORKERS= Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+	/**
+	 * Creates an executor with {@link #MAX_WORKERS} threads. Clients close the executor when all
+	 * tasks have been collected.
+	 *
+	 * @return the executor
+	 */
+	public static ExecutorService createExecutor() {
+		return Executors.newFixedThreadPool(MAX_WORKERS);
+	}
+
+	/**
+	 * Creates a monitor for the workers which is canceled when the given monitor is canceled, and
+	 * which ignores all progress reported to it.
+	 *
+	 * @param monitor the monitor of the calling thread
+	 * @return the monitor to pass to the workers
+	 */
+	public static IProgressMonitor createCancelMonitor(final IProgressMonitor monitor) {
+		return new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return monitor.isCanceled();
+			}
+		};
+	}
+
+	/**
+	 * Waits for the result of a task and rethrows the exception of a failed task.
+	 *
+	 * @param future the future of the task
+	 * @param monitor the monitor of the calling thread
+	 * @param <T> the type of the result
+	 * @return the result of the task
+	 * @throws CoreException if the task failed with a core exception
+	 * @throws OperationCanceledException if the task or the monitor has been canceled
+	 */
+	public static <T> T get(Future<T> future, IProgressMonitor monitor) throws CoreException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			Throwable cause= e.getCause();
+			if (cause instanceof CoreException && !monitor.isCanceled())
+				throw (CoreException) cause;
+			throw toRuntimeException(cause, monitor);
+		}
+	}
+
+	/**
+	 * Waits for the result of a task which does not throw checked exceptions and rethrows the
+	 * exception of a failed task.
+	 *
+	 * @param future the future of the task
+	 * @param monitor the monitor of the calling thread
+	 * @param <T> the type of the result
+	 * @return the result of the task
+	 * @throws OperationCanceledException if the task or the monitor has been canceled
+	 */
+	public static <T> T join(Future<T> future, IProgressMonitor monitor) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			throw toRuntimeException(e.getCause(), monitor);
+		}
+	}
+
+	private static RuntimeException toRuntimeException(Throwable cause, IProgressMonitor monitor) {
+		if (cause instanceof OperationCanceledException || monitor.isCanceled())
+			return new OperationCanceledException();
+		if (cause instanceof RuntimeException)
+			return (RuntimeException) cause;
+		return new IllegalStateException(cause);
+	}
+
+	private ParallelUtil() {
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -97,15 +97,13 @@ import org.eclipse.jdt.internal.corext.dom.ASTNodeFactory;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
 import org.eclipse.jdt.internal.corext.dom.AbortSearchException;
 import org.eclipse.jdt.internal.corext.dom.Bindings;
-import org.eclipse.jdt.internal.corext.dom.LocalVariableIndex;
 import org.eclipse.jdt.internal.corext.dom.Selection;
 import org.eclipse.jdt.internal.corext.dom.TokenScanner;
 import org.eclipse.jdt.internal.corext.refactoring.Checks;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringCoreMessages;
+import org.eclipse.jdt.internal.corext.refactoring.code.flow.FlowAnalysisCache;
 import org.eclipse.jdt.internal.corext.refactoring.code.flow.FlowContext;
 import org.eclipse.jdt.internal.corext.refactoring.code.flow.FlowInfo;
-import org.eclipse.jdt.internal.corext.refactoring.code.flow.InOutFlowAnalyzer;
-import org.eclipse.jdt.internal.corext.refactoring.code.flow.InputFlowAnalyzer;
 import org.eclipse.jdt.internal.corext.refactoring.util.CodeAnalyzer;
 import org.eclipse.jdt.internal.corext.refactoring.util.JavaStatusContext;
 import org.eclipse.jdt.internal.corext.util.Messages;
@@ -245,7 +243,7 @@ public class ExtractMethodAnalyzer extends CodeAnalyzer {
 		}
 
 		fReturnKind= UNDEFINED;
-		fMaxVariableId= LocalVariableIndex.perform(fEnclosingBodyDeclaration);
+		fMaxVariableId= FlowAnalysisCache.getMaxVariableId(fEnclosingBodyDeclaration);
 		if (analyzeSelection(result).hasFatalError())
 			return result;
 
@@ -395,8 +393,7 @@ public class ExtractMethodAnalyzer extends CodeAnalyzer {
 		fInputFlowContext.setConsiderAccessMode(true);
 		fInputFlowContext.setComputeMode(FlowContext.ARGUMENTS);
 
-		InOutFlowAnalyzer flowAnalyzer= new InOutFlowAnalyzer(fInputFlowContext);
-		fInputFlowInfo= flowAnalyzer.perform(getSelectedNodes());
+		fInputFlowInfo= FlowAnalysisCache.performInOutFlowAnalysis(fInputFlowContext, getSelectedNodes());
 
 		if (fInputFlowInfo.branches()) {
 			String canHandleBranchesProblem= canHandleBranches();
@@ -770,7 +767,7 @@ public class ExtractMethodAnalyzer extends CodeAnalyzer {
 		FlowContext flowContext= new FlowContext(0, fMaxVariableId + 1);
 		flowContext.setConsiderAccessMode(true);
 		flowContext.setComputeMode(FlowContext.RETURN_VALUES);
-		FlowInfo returnInfo= new InOutFlowAnalyzer(flowContext).perform(getSelectedNodes());
+		FlowInfo returnInfo= FlowAnalysisCache.performInOutFlowAnalysis(flowContext, getSelectedNodes());
 		IVariableBinding[] returnValues= returnInfo.get(flowContext, FlowInfo.WRITE | FlowInfo.WRITE_POTENTIAL | FlowInfo.UNKNOWN);
 
 		// Remove all local variables declared in the selected region from potential return values
@@ -786,7 +783,7 @@ public class ExtractMethodAnalyzer extends CodeAnalyzer {
 
 		List<IVariableBinding> localReads= new ArrayList<>();
 		flowContext.setComputeMode(FlowContext.ARGUMENTS);
-		FlowInfo argInfo= new InputFlowAnalyzer(flowContext, selection, true).perform(fEnclosingBodyDeclaration);
+		FlowInfo argInfo= FlowAnalysisCache.performInputFlowAnalysis(flowContext, selection, true, fEnclosingBodyDeclaration);
 		IVariableBinding[] reads= argInfo.get(flowContext, FlowInfo.READ | FlowInfo.READ_POTENTIAL | FlowInfo.UNKNOWN);
 		outer: for (int i= 0; i < returnValues.length && localReads.size() < returnValues.length; i++) {
 			IVariableBinding binding= returnValues[i];
@@ -820,7 +817,7 @@ public class ExtractMethodAnalyzer extends CodeAnalyzer {
 				return;
 		}
 		List<IVariableBinding> callerLocals= new ArrayList<>(5);
-		FlowInfo localInfo= new InputFlowAnalyzer(flowContext, selection, false).perform(fEnclosingBodyDeclaration);
+		FlowInfo localInfo= FlowAnalysisCache.performInputFlowAnalysis(flowContext, selection, false, fEnclosingBodyDeclaration);
 		for (IVariableBinding write : localInfo.get(flowContext, FlowInfo.WRITE | FlowInfo.WRITE_POTENTIAL | FlowInfo.UNKNOWN)) {
 			if (getSelection().covers(ASTNodes.findDeclaration(write, fEnclosingBodyDeclaration)))
 				callerLocals.add(write);
@@ -0,0 +1,408 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.nls;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.eclipse.core.runtime.Assert;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.Refactoring;
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
+import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
+import org.eclipse.jdt.internal.corext.refactoring.Checks;
+import org.eclipse.jdt.internal.corext.refactoring.changes.DynamicValidationStateChange;
+import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
+import org.eclipse.jdt.internal.corext.util.Messages;
+import org.eclipse.jdt.internal.corext.util.ParallelUtil;
+
+import org.eclipse.jdt.internal.ui.util.Progress;
+
+/**
+ * Externalizes all strings of a set of compilation units, e.g. of whole packages or projects, in
+ * one pass without user interface.
+ * <p>
+ * All strings which are neither externalized nor ignored are externalized into one properties
+ * file, accessed through one accessor class. The compilation units are analyzed in parallel,
+ * and the change of a compilation unit is created as soon as it has been analyzed, so all
+ * settings have to be made before the initial conditions are checked. Identical strings share a
+ * key, and the properties file and the accessor class are modified by a single change each, no
+ * matter how many compilation units contribute keys.
+ * </p>
+ */
+public final class NLSBatchRefactoring extends Refactoring {
+
+	private final ICompilationUnit[] fUnits;
+
+	private final IPackageFragment fAccessorClassPackage;
+
+	private final String fAccessorClassName;
+
+	private final IPackageFragment fResourceBundlePackage;
+
+	private final String fResourceBundleName;
+
+	private boolean fIsEclipseNLS;
+
+	private String fSubstitutionPattern= NLSRefactoring.DEFAULT_SUBST_PATTERN;
+
+	/** The analyzed compilation units with strings to externalize, in the order of the units */
+	private List<NLSRefactoring> fRefactorings;
+
+	/** The changes of the compilation units, in the order of {@link #fRefactorings} */
+	private List<Change> fUnitChanges;
+
+	/** The newly externalized substitutions of all compilation units */
+	private NLSSubstitution[] fSubstitutions;
+
+	/**
+	 * Assigns the keys of the externalized strings. The keys are generated like in the externalize
+	 * strings wizard, but in a single pass over all strings: a string reuses the key of an
+	 * identical string externalized before, and new keys never collide with keys of the properties
+	 * file or with keys already used by the compilation units externalized before.
+	 */
+	private static final class KeyGenerator {
+
+		private final Set<String> fUsedKeys= new HashSet<>();
+
+		private final Map<String, String> fValueToKey= new HashMap<>();
+
+		private final Map<String, Integer> fNextNumbers= new HashMap<>();
+
+		public KeyGenerator(IFile propertyFile) {
+			if (propertyFile.exists()) {
+				Properties properties= NLSHintHelper.getProperties(propertyFile);
+				if (properties != null)
+					fUsedKeys.addAll(properties.stringPropertyNames());
+			}
+		}
+
+		/**
+		 * Externalizes the internalized strings of a compilation unit and assigns their keys.
+		 *
+		 * @param substitutions the substitutions of the compilation unit
+		 * @param prefix the prefix of new keys
+		 * @param result the list to add the newly externalized substitutions to
+		 */
+		public void externalize(NLSSubstitution[] substitutions, String prefix, List<NLSSubstitution> result) {
+			for (NLSSubstitution substitution : substitutions) {
+				if (substitution.getState() == NLSSubstitution.EXTERNALIZED && substitution.getKey() != null)
+					fUsedKeys.add(substitution.getKey());
+			}
+			for (NLSSubstitution substitution : substitutions) {
+				if (substitution.getState() != NLSSubstitution.INTERNALIZED)
+					continue;
+				String key= fValueToKey.get(substitution.getValueNonEmpty());
+				if (key == null) {
+					Integer next= fNextNumbers.get(prefix);
+					int number= next != null ? next.intValue() : 0;
+					while (fUsedKeys.contains(prefix + number)) {
+						number++;
+					}
+					key= prefix + number;
+					fNextNumbers.put(prefix, Integer.valueOf(number + 1));
+					fUsedKeys.add(key);
+					fValueToKey.put(substitution.getValueNonEmpty(), key);
+				}
+				substitution.setState(NLSSubstitution.EXTERNALIZED);
+				substitution.setPrefix(""); //$NON-NLS-1$
+				substitution.setKey(key);
+				result.add(substitution);
+			}
+		}
+	}
+
+	/**
+	 * Creates a batch refactoring for the given compilation units.
+	 *
+	 * @param units the compilation units to externalize strings in
+	 * @param accessorClassPackage the package of the accessor class
+	 * @param accessorClassName the name of the accessor class
+	 * @param resourceBundlePackage the package of the properties file
+	 * @param resourceBundleName the name of the properties file, e.g. <code>messages.properties</code>
+	 */
+	public NLSBatchRefactoring(ICompilationUnit[] units, IPackageFragment accessorClassPackage, String accessorClassName, IPackageFragment resourceBundlePackage, String resourceBundleName) {
+		Assert.isNotNull(units);
+		Assert.isNotNull(accessorClassPackage);
+		Assert.isNotNull(accessorClassName);
+		Assert.isNotNull(resourceBundlePackage);
+		Assert.isNotNull(resourceBundleName);
+		fUnits= units;
+		fAccessorClassPackage= accessorClassPackage;
+		fAccessorClassName= accessorClassName;
+		fResourceBundlePackage= resourceBundlePackage;
+		fResourceBundleName= resourceBundleName;
+	}
+
+	/**
+	 * Returns the compilation units contained in the given elements, sorted by path.
+	 *
+	 * @param elements compilation units, packages, package fragment roots or projects
+	 * @return the source compilation units of the elements
+	 * @throws JavaModelException if the children of an element could not be accessed
+	 */
+	public static ICompilationUnit[] getCompilationUnits(IJavaElement[] elements) throws JavaModelException {
+		Set<ICompilationUnit> result= new LinkedHashSet<>();
+		for (IJavaElement element : elements) {
+			switch (element.getElementType()) {
+				case IJavaElement.COMPILATION_UNIT:
+					result.add((ICompilationUnit) element);
+					break;
+				case IJavaElement.PACKAGE_FRAGMENT:
+					addCompilationUnits((IPackageFragment) element, result);
+					break;
+				case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+					addCompilationUnits((IPackageFragmentRoot) element, result);
+					break;
+				case IJavaElement.JAVA_PROJECT:
+					for (IPackageFragmentRoot root : ((IJavaProject) element).getPackageFragmentRoots()) {
+						addCompilationUnits(root, result);
+					}
+					break;
+				default:
+					break;
+			}
+		}
+		List<ICompilationUnit> units= new ArrayList<>(result);
+		units.sort(Comparator.comparing(unit -> unit.getPath().toString()));
+		return units.toArray(new ICompilationUnit[units.size()]);
+	}
+
+	private static void addCompilationUnits(IPackageFragmentRoot root, Set<ICompilationUnit> result) throws JavaModelException {
+		if (root.getKind() != IPackageFragmentRoot.K_SOURCE)
+			return;
+		for (IJavaElement child : root.getChildren()) {
+			addCompilationUnits((IPackageFragment) child, result);
+		}
+	}
+
+	private static void addCompilationUnits(IPackageFragment pack, Set<ICompilationUnit> result) throws JavaModelException {
+		if (pack.getKind() != IPackageFragmentRoot.K_SOURCE)
+			return;
+		for (ICompilationUnit unit : pack.getCompilationUnits()) {
+			result.add(unit);
+		}
+	}
+
+	/**
+	 * Sets whether the Eclipse NLSing mechanism or standard resource bundle mechanism is used.
+	 *
+	 * @param isEclipseNLS <code>true</code> if NLSing is done the Eclipse way and
+	 *            <code>false</code> if the standard resource bundle mechanism is used
+	 */
+	public void setIsEclipseNLS(boolean isEclipseNLS) {
+		fIsEclipseNLS= isEclipseNLS;
+	}
+
+	public boolean isEclipseNLS() {
+		return fIsEclipseNLS;
+	}
+
+	/**
+	 * Sets the substitution pattern for the standard resource bundle mechanism.
+	 *
+	 * @param pattern the pattern, see {@link NLSRefactoring#setSubstitutionPattern(String)}
+	 */
+	public void setSubstitutionPattern(String pattern) {
+		Assert.isNotNull(pattern);
+		fSubstitutionPattern= pattern;
+	}
+
+	private String getSubstitutionPattern() {
+		return fIsEclipseNLS ? NLSRefactoring.KEY : fSubstitutionPattern;
+	}
+
+	/**
+	 * @return the newly externalized substitutions of all compilation units, or
+	 *         <code>null</code> if the initial conditions have not been checked yet
+	 */
+	public NLSSubstitution[] getSubstitutions() {
+		return fSubstitutions;
+	}
+
+	public IPath getPropertyFilePath() {
+		return fResourceBundlePackage.getPath().append(fResourceBundleName);
+	}
+
+	@Override
+	public String getName() {
+		return Messages.format(NLSMessages.NLSBatchRefactoring_name, Integer.valueOf(fUnits.length));
+	}
+
+	@Override
+	public RefactoringStatus checkInitialConditions(IProgressMonitor pm) throws CoreException {
+		pm.beginTask(NLSMessages.NLSBatchRefactoring_analyzing, fUnits.length);
+		try {
+			analyze(pm);
+			if (fSubstitutions.length == 0)
+				return RefactoringStatus.createFatalErrorStatus(NLSMessages.NLSBatchRefactoring_no_strings);
+			return new RefactoringStatus();
+		} finally {
+			pm.done();
+		}
+	}
+
+	/**
+	 * Reads the strings of all compilation units in parallel. As soon as a compilation unit has
+	 * been read, its strings are externalized and its change is created, while the following
+	 * units are still being read.
+	 *
+	 * @param pm the progress monitor
+	 * @throws CoreException if a compilation unit could not be analyzed
+	 */
+	private void analyze(final IProgressMonitor pm) throws CoreException {
+		final ICompilationUnit accessorCu= getAccessorCu();
+		final IProgressMonitor cancelMonitor= ParallelUtil.createCancelMonitor(pm);
+		fRefactorings= new ArrayList<>();
+		fUnitChanges= new ArrayList<>();
+		List<NLSSubstitution> substitutions= new ArrayList<>();
+		KeyGenerator keys= new KeyGenerator(getPropertyFileHandle());
+		try (ExecutorService executor= ParallelUtil.createExecutor()) {
+			List<Future<NLSRefactoring>> futures= new ArrayList<>(fUnits.length);
+			for (final ICompilationUnit unit : fUnits) {
+				futures.add(executor.submit(() -> {
+					if (cancelMonitor.isCanceled())
+						throw new OperationCanceledException();
+					if (unit.equals(accessorCu))
+						return null;
+					return NLSRefactoring.create(unit);
+				}));
+			}
+			for (Future<NLSRefactoring> future : futures) {
+				NLSRefactoring refactoring= ParallelUtil.get(future, pm);
+				if (refactoring != null && NLSSubstitution.countItems(refactoring.getSubstitutions(), NLSSubstitution.INTERNALIZED) > 0) {
+					refactoring.setAccessorClassPackage(fAccessorClassPackage);
+					refactoring.setAccessorClassName(fAccessorClassName);
+					refactoring.setResourceBundlePackage(fResourceBundlePackage);
+					refactoring.setResourceBundleName(fResourceBundleName);
+					refactoring.setIsEclipseNLS(fIsEclipseNLS);
+					refactoring.setSubstitutionPattern(fSubstitutionPattern);
+					keys.externalize(refactoring.getSubstitutions(), getPrefix(refactoring.getCu()), substitutions);
+					fUnitChanges.add(NLSSourceModifier.create(refactoring.getCu(), refactoring.getSubstitutions(), getSubstitutionPattern(), fAccessorClassPackage, fAccessorClassName, fIsEclipseNLS));
+					fRefactorings.add(refactoring);
+				}
+				pm.worked(1);
+			}
+		}
+		fSubstitutions= substitutions.toArray(new NLSSubstitution[substitutions.size()]);
+	}
+
+	private String getPrefix(ICompilationUnit cu) {
+		String name= JavaCore.removeJavaLikeExtension(cu.getElementName());
+		return fIsEclipseNLS ? name + '_' : name + '.';
+	}
+
+	@Override
+	public RefactoringStatus checkFinalConditions(IProgressMonitor pm) throws CoreException {
+		pm.beginTask(NLSMessages.NLSRefactoring_checking, 1);
+		try {
+			RefactoringStatus result= Checks.validateModifiesFiles(getAllFilesToModify(), getValidationContext(), pm);
+			if (!getPropertyFileHandle().exists()) {
+				String msg= Messages.format(NLSMessages.NLSRefactoring_will_be_created, BasicElementLabels.getPathLabel(getPropertyFilePath(), false));
+				result.addInfo(msg);
+			}
+			return result;
+		} finally {
+			pm.done();
+		}
+	}
+
+	private IFile[] getAllFilesToModify() {
+		List<IResource> files= new ArrayList<>();
+		for (NLSRefactoring refactoring : fRefactorings) {
+			IResource resource= refactoring.getCu().getResource();
+			if (resource != null && resource.exists())
+				files.add(resource);
+		}
+		IFile propertyFile= getPropertyFileHandle();
+		if (propertyFile.exists())
+			files.add(propertyFile);
+		if (fIsEclipseNLS) {
+			IResource accessorFile= getAccessorCu().getResource();
+			if (accessorFile != null && accessorFile.exists())
+				files.add(accessorFile);
+		}
+		return files.toArray(new IFile[files.size()]);
+	}
+
+	@Override
+	public Change createChange(IProgressMonitor pm) throws CoreException {
+		Assert.isNotNull(fSubstitutions);
+		pm.beginTask("", 2); //$NON-NLS-1$
+		try {
+			DynamicValidationStateChange result= new DynamicValidationStateChange(NLSMessages.NLSRefactoring_change_name);
+
+			// one change for the accessor class and one for the properties file, shared by all units
+			ICompilationUnit accessorCu= getAccessorCu();
+			boolean createAccessorClass= !accessorCu.exists() && Checks.findTypeInPackage(fAccessorClassPackage, fAccessorClassName) == null && !Checks.resourceExists(accessorCu.getPath());
+			if (createAccessorClass) {
+				ICompilationUnit cu= fRefactorings.get(0).getCu();
+				result.add(AccessorClassCreator.create(cu, fAccessorClassName, accessorCu.getPath(), fAccessorClassPackage, getPropertyFilePath(), fIsEclipseNLS, fSubstitutions, getSubstitutionPattern(), Progress.subMonitor(pm, 1)));
+			} else {
+				pm.worked(1);
+			}
+
+			for (Change change : fUnitChanges) {
+				result.add(change);
+			}
+
+			result.add(NLSPropertyFileModifier.create(fSubstitutions, getPropertyFilePath()));
+			if (fIsEclipseNLS && !createAccessorClass) {
+				Change change= AccessorClassModifier.create(accessorCu, fSubstitutions);
+				if (change != null)
+					result.add(change);
+			}
+			pm.worked(1);
+
+			return result;
+		} finally {
+			pm.done();
+		}
+	}
+
+	private IFile getPropertyFileHandle() {
+		return ResourcesPlugin.getWorkspace().getRoot().getFile(getPropertyFilePath());
+	}
+
+	private ICompilationUnit getAccessorCu() {
+		return fAccessorClassPackage.getCompilationUnit(fAccessorClassName + JavaModelUtil.DEFAULT_CU_SUFFIX);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -47,6 +47,9 @@ public final class NLSMessages extends NLS {
 	public static String NLSRefactoring_no_strings;
 	public static String NLSRefactoring_warning;
 	public static String NLSRefactoring_change_name;
+	public static String NLSBatchRefactoring_name;
+	public static String NLSBatchRefactoring_analyzing;
+	public static String NLSBatchRefactoring_no_strings;
 	public static String AccessorClassModifier_add_entry;
 	public static String AccessorClassModifier_add_fields_to_accessor;
 	public static String AccessorClassModifier_remove_entry;
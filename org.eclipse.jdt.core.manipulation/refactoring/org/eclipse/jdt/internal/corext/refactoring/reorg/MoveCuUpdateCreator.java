@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,8 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
@@ -69,12 +71,31 @@ import org.eclipse.jdt.internal.corext.refactoring.structure.ReferenceFinderUtil
 import org.eclipse.jdt.internal.corext.refactoring.util.TextChangeManager;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 import org.eclipse.jdt.internal.corext.util.Messages;
+import org.eclipse.jdt.internal.corext.util.ParallelUtil;
 import org.eclipse.jdt.internal.corext.util.SearchUtils;
 
 import org.eclipse.jdt.internal.ui.util.Progress;
 
 public class MoveCuUpdateCreator {
 
+	/**
+	 * The search results for one moved compilation unit.
+	 */
+	private static final class UnitAnalysis {
+
+		private final ICompilationUnit fUnit;
+
+		private final RefactoringStatus fStatus= new RefactoringStatus();
+
+		private IType[] fReferencedTypes;
+
+		private SearchResultGroup[] fReferences;
+
+		public UnitAnalysis(ICompilationUnit unit) {
+			fUnit= unit;
+		}
+	}
+
 	private final String fNewPackage;
 	private ICompilationUnit[] fCus;
 	private IPackageFragment fDestination;
@@ -122,35 +143,72 @@ public class MoveCuUpdateCreator {
 	}
 
 	private void addUpdates(TextChangeManager changeManager, IProgressMonitor pm, RefactoringStatus status) throws CoreException {
-		pm.beginTask("", fCus.length);  //$NON-NLS-1$
-		for (ICompilationUnit cu : fCus) {
-			if (pm.isCanceled())
-				throw new OperationCanceledException();
-			addUpdates(changeManager, cu, Progress.subMonitor(pm, 1), status);
+		pm.beginTask("", 2 * fCus.length);  //$NON-NLS-1$
+		try {
+			List<ICompilationUnit> units= new ArrayList<>(fCus.length);
+			for (ICompilationUnit cu : fCus) {
+				if (isInAnotherFragmentOfSamePackage(cu, fDestination))
+					pm.worked(2);
+				else
+					units.add(cu);
+			}
+			pm.subTask(Messages.format(RefactoringCoreMessages.MoveCuUpdateCreator_analyzing, Integer.valueOf(units.size())));
+			UnitAnalysis[] analyses= analyze(units, pm);
+
+			// import rewrites and text changes are not thread-safe, create the updates sequentially
+			pm.subTask(RefactoringCoreMessages.MoveCuUpdateCreator_creating_updates);
+			IType[] destinationTypes= getDestinationPackageTypes();
+			for (UnitAnalysis analysis : analyses) {
+				if (pm.isCanceled())
+					throw new OperationCanceledException();
+				status.merge(analysis.fStatus);
+				addImportToSourcePackageTypes(analysis.fUnit, analysis.fReferencedTypes);
+				removeImportsToDestinationPackageTypes(analysis.fUnit, destinationTypes);
+				addReferenceUpdates(changeManager, analysis.fUnit, analysis.fReferences);
+				pm.worked(1);
+			}
+		} finally {
+			pm.done();
 		}
 	}
 
-	private void addUpdates(TextChangeManager changeManager, ICompilationUnit movedUnit, IProgressMonitor pm, RefactoringStatus status) throws CoreException{
-		try{
-			pm.beginTask("", 3);  //$NON-NLS-1$
-		  	pm.subTask(Messages.format(RefactoringCoreMessages.MoveCuUpdateCreator_searching, BasicElementLabels.getFileName(movedUnit)));
-
-			if (isInAnotherFragmentOfSamePackage(movedUnit, fDestination)){
-				pm.worked(3);
-				return;
+	/**
+	 * Searches the types referenced by the moved units and the references to the moved units.
+	 * The units are analyzed in parallel.
+	 *
+	 * @param units the moved units to analyze
+	 * @param pm the progress monitor, which is advanced by one tick per unit
+	 * @return the analyses, in the order of the units
+	 * @throws CoreException if a search failed
+	 */
+	private static UnitAnalysis[] analyze(List<ICompilationUnit> units, final IProgressMonitor pm) throws CoreException {
+		final IProgressMonitor cancelMonitor= ParallelUtil.createCancelMonitor(pm);
+		UnitAnalysis[] result= new UnitAnalysis[units.size()];
+		try (ExecutorService executor= ParallelUtil.createExecutor()) {
+			List<Future<UnitAnalysis>> futures= new ArrayList<>(units.size());
+			for (ICompilationUnit unit : units) {
+				futures.add(executor.submit(() -> analyze(unit, cancelMonitor)));
+			}
+			for (int index= 0; index < result.length; index++) {
+				result[index]= ParallelUtil.get(futures.get(index), pm);
+				pm.worked(1);
 			}
-
-		  	addImportToSourcePackageTypes(movedUnit, Progress.subMonitor(pm, 1));
-			removeImportsToDestinationPackageTypes(movedUnit);
-			addReferenceUpdates(changeManager, movedUnit, Progress.subMonitor(pm, 2), status);
-		} finally{
-			pm.done();
 		}
+		return result;
+	}
+
+	private static UnitAnalysis analyze(ICompilationUnit unit, IProgressMonitor pm) throws CoreException {
+		if (pm.isCanceled())
+			throw new OperationCanceledException();
+		UnitAnalysis result= new UnitAnalysis(unit);
+		result.fReferencedTypes= ReferenceFinderUtil.getTypesReferencedIn(unit.getAllTypes(), pm);
+		result.fReferences= getReferences(unit, pm, result.fStatus);
+		return result;
 	}
 
-	private void addReferenceUpdates(TextChangeManager changeManager, ICompilationUnit movedUnit, IProgressMonitor pm, RefactoringStatus status) throws JavaModelException, CoreException {
+	private void addReferenceUpdates(TextChangeManager changeManager, ICompilationUnit movedUnit, SearchResultGroup[] references) throws JavaModelException, CoreException {
 		List<ICompilationUnit> cuList= Arrays.asList(fCus);
-		for (SearchResultGroup searchResultGroup : getReferences(movedUnit, pm, status)) {
+		for (SearchResultGroup searchResultGroup : references) {
 			ICompilationUnit referencingCu= searchResultGroup.getCompilationUnit();
 			if (referencingCu == null)
 				continue;
@@ -219,9 +277,9 @@ public class MoveCuUpdateCreator {
 		return result.toString();
     }
 
-	private void removeImportsToDestinationPackageTypes(ICompilationUnit movedUnit) throws CoreException{
+	private void removeImportsToDestinationPackageTypes(ICompilationUnit movedUnit, IType[] destinationTypes) throws CoreException{
 		ImportRewrite importEdit= getImportRewrite(movedUnit);
-		for (IType destinationType : getDestinationPackageTypes()) {
+		for (IType destinationType : destinationTypes) {
 			importEdit.removeImport(destinationType.getFullyQualifiedName('.'));
 		}
 		importEdit.removeImport(fDestination.getElementName().concat(".*")); //$NON-NLS-1$
@@ -237,13 +295,12 @@ public class MoveCuUpdateCreator {
 		return types.toArray(new IType[types.size()]);
 	}
 
-	private void addImportToSourcePackageTypes(ICompilationUnit movedUnit, IProgressMonitor pm) throws CoreException{
+	private void addImportToSourcePackageTypes(ICompilationUnit movedUnit, IType[] referencedTypes) throws CoreException{
 		List<ICompilationUnit> cuList= Arrays.asList(fCus);
-		IType[] allCuTypes= movedUnit.getAllTypes();
 		ImportRewrite importEdit= getImportRewrite(movedUnit);
 		importEdit.setFilterImplicitImports(false);
 		IPackageFragment srcPack= (IPackageFragment)movedUnit.getParent();
-		for (IType type : ReferenceFinderUtil.getTypesReferencedIn(allCuTypes, pm)) {
+		for (IType type : referencedTypes) {
 			if (! type.exists())
 				continue;
 			if (!JavaModelUtil.isSamePackage(type.getPackageFragment(), srcPack))
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,6 +38,10 @@ import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Plugin;
 import org.eclipse.core.runtime.preferences.InstanceScope;
 
+import org.eclipse.debug.core.DebugPlugin;
+
+import org.eclipse.jdt.internal.junit.launcher.TestFinderCache;
+import org.eclipse.jdt.internal.junit.launcher.TestImpactAnalyzer;
 import org.eclipse.jdt.internal.junit.model.JUnitModel;
 
 /**
@@ -103,6 +107,10 @@ public class JUnitCorePlugin extends Plugin {
 
 	private BundleContext fBundleContext;
 
+	private final TestFinderCache fTestFinderCache= new TestFinderCache();
+
+	private final TestImpactAnalyzer.RecordCleaner fRecordCleaner= new TestImpactAnalyzer.RecordCleaner();
+
 	private static boolean fIsStopped= false;
 
 
@@ -127,6 +135,9 @@ public class JUnitCorePlugin extends Plugin {
 		super.start(context);
 		fBundleContext= context;
 		fJUnitModel.start();
+		fTestFinderCache.start();
+		fNewTestRunListeners.add(new TestImpactAnalyzer.SuccessfulRunRecorder());
+		DebugPlugin.getDefault().getLaunchManager().addLaunchConfigurationListener(fRecordCleaner);
 	}
 
 	/**
@@ -136,7 +147,9 @@ public class JUnitCorePlugin extends Plugin {
 	public void stop(BundleContext context) throws Exception {
 		fIsStopped= true;
 		try {
+			DebugPlugin.getDefault().getLaunchManager().removeLaunchConfigurationListener(fRecordCleaner);
 			InstanceScope.INSTANCE.getNode(JUnitCorePlugin.CORE_PLUGIN_ID).flush();
+			fTestFinderCache.stop();
 			fJUnitModel.stop();
 		} finally {
 			super.stop(context);
@@ -162,6 +175,13 @@ public class JUnitCorePlugin extends Plugin {
 		return getDefault().fJUnitModel;
 	}
 
+	/**
+	 * @return the cache of the tests found by the test finders of this plug-in
+	 */
+	public TestFinderCache getTestFinderCache() {
+		return fTestFinderCache;
+	}
+
 	/**
 	 * Initializes TestRun Listener extensions
 	 * @deprecated to avoid deprecation warning
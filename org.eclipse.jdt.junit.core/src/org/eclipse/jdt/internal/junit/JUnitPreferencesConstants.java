@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -31,6 +31,15 @@ public class JUnitPreferencesConstants {
 	 */
 	public static final String DO_FILTER_STACK= JUnitCorePlugin.PLUGIN_ID + ".do_filter_stack"; //$NON-NLS-1$
 
+	/**
+	 * Boolean preference controlling whether the frames which match the active stack filters are
+	 * removed from the failure traces when the tests report them, so that they are neither kept in
+	 * memory nor in the test run history.
+	 */
+	public static final String DO_FILTER_STACK_ON_CAPTURE= JUnitCorePlugin.PLUGIN_ID + ".do_filter_stack_on_capture"; //$NON-NLS-1$
+
+	public static final boolean DO_FILTER_STACK_ON_CAPTURE_DEFAULT= false;
+
 	/**
 	 * Boolean preference controlling whether the JUnit view should be shown on
 	 * errors only.
@@ -45,6 +54,14 @@ public class JUnitPreferencesConstants {
 
 	public static final boolean ENABLE_ASSERTIONS_DEFAULT= true;
 
+	/**
+	 * Boolean preference controlling whether the test runner is asked to send its messages in the
+	 * binary protocol instead of the text protocol.
+	 */
+	public static final String USE_BINARY_PROTOCOL= JUnitCorePlugin.PLUGIN_ID + ".use_binary_protocol"; //$NON-NLS-1$
+
+	public static final boolean USE_BINARY_PROTOCOL_DEFAULT= true;
+
 	/**
 	 * List of active stack filters. A String containing a comma separated list
 	 * of fully qualified type names/patterns.
@@ -245,4 +262,20 @@ public class JUnitPreferencesConstants {
 	public static void setFilterStack(boolean filter) {
 		InstanceScope.INSTANCE.getNode(JUnitCorePlugin.CORE_PLUGIN_ID).putBoolean(DO_FILTER_STACK, filter);
 	}
+
+	public static boolean getFilterStackOnCapture() {
+		return Platform.getPreferencesService().getBoolean(JUnitCorePlugin.CORE_PLUGIN_ID, DO_FILTER_STACK_ON_CAPTURE, DO_FILTER_STACK_ON_CAPTURE_DEFAULT, null);
+	}
+
+	public static void setFilterStackOnCapture(boolean filter) {
+		InstanceScope.INSTANCE.getNode(JUnitCorePlugin.CORE_PLUGIN_ID).putBoolean(DO_FILTER_STACK_ON_CAPTURE, filter);
+	}
+
+	public static boolean getUseBinaryProtocol() {
+		return Platform.getPreferencesService().getBoolean(JUnitCorePlugin.CORE_PLUGIN_ID, USE_BINARY_PROTOCOL, USE_BINARY_PROTOCOL_DEFAULT, null);
+	}
+
+	public static void setUseBinaryProtocol(boolean useBinaryProtocol) {
+		InstanceScope.INSTANCE.getNode(JUnitCorePlugin.CORE_PLUGIN_ID).putBoolean(USE_BINARY_PROTOCOL, useBinaryProtocol);
+	}
 }
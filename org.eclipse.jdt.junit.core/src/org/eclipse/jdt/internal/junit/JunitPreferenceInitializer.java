@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -29,9 +29,11 @@ public class JunitPreferenceInitializer extends AbstractPreferenceInitializer {
 		IEclipsePreferences prefs= DefaultScope.INSTANCE.getNode(JUnitCorePlugin.CORE_PLUGIN_ID);
 
 		prefs.putBoolean(JUnitPreferencesConstants.DO_FILTER_STACK, true);
+		prefs.putBoolean(JUnitPreferencesConstants.DO_FILTER_STACK_ON_CAPTURE, JUnitPreferencesConstants.DO_FILTER_STACK_ON_CAPTURE_DEFAULT);
 
 		prefs.putBoolean(JUnitPreferencesConstants.SHOW_ON_ERROR_ONLY, false);
 		prefs.putBoolean(JUnitPreferencesConstants.ENABLE_ASSERTIONS, JUnitPreferencesConstants.ENABLE_ASSERTIONS_DEFAULT);
+		prefs.putBoolean(JUnitPreferencesConstants.USE_BINARY_PROTOCOL, JUnitPreferencesConstants.USE_BINARY_PROTOCOL_DEFAULT);
 
 		String[] filters= JUnitPreferencesConstants.createDefaultStackFiltersList();
 		String active= JUnitPreferencesConstants.serializeList(filters);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2015 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -42,6 +42,15 @@ public class JUnit3TestFinder implements ITestFinder {
 			throw new IllegalArgumentException();
 		}
 
+		TestFinderCache cache= TestFinderCache.getDefault();
+		if (cache != null) {
+			cache.findTestsInContainer(this, element, result, pm, this::searchTestsInContainer);
+		} else {
+			searchTestsInContainer(element, result, pm);
+		}
+	}
+
+	private void searchTestsInContainer(IJavaElement element, Set<IType> result, IProgressMonitor pm) throws CoreException {
 		SubMonitor subMon= SubMonitor.convert(pm, JUnitMessages.TestSearchEngine_message_searching, 10);
 		try {
 			if (element instanceof IType) {
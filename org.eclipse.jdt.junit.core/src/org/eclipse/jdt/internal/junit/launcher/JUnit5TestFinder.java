@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 IBM Corporation and others.
+ * Copyright (c) 2016, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -202,6 +202,15 @@ public class JUnit5TestFinder implements ITestFinder {
 			throw new IllegalArgumentException();
 		}
 
+		TestFinderCache cache= TestFinderCache.getDefault();
+		if (cache != null) {
+			cache.findTestsInContainer(this, element, result, pm, this::searchTestsInContainer);
+		} else {
+			searchTestsInContainer(element, result, pm);
+		}
+	}
+
+	private void searchTestsInContainer(IJavaElement element, Set<IType> result, IProgressMonitor pm) throws CoreException {
 		if (element instanceof IType) {
 			IType type= (IType) element;
 			if (internalIsTest(type, pm)) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -85,6 +85,59 @@ public class JUnitLaunchConfigurationConstants {
 	 */
 	public static final String ATTR_TEST_UNIQUE_ID= JUnitCorePlugin.PLUGIN_ID + ".TEST_UNIQUE_ID"; //$NON-NLS-1$
 
+	/**
+	 * If <code>true</code>, only the tests which are affected by the changes since the last
+	 * successful run of the launch configuration are run, see {@link TestImpactAnalyzer}.
+	 */
+	public static final String ATTR_RUN_AFFECTED_TESTS_ONLY= JUnitCorePlugin.PLUGIN_ID + ".RUN_AFFECTED_TESTS_ONLY"; //$NON-NLS-1$
+
+	/**
+	 * The ID under which the last successful run of the launch configuration is recorded, for
+	 * {@link #ATTR_RUN_AFFECTED_TESTS_ONLY}. Unlike the name of the configuration, the ID does not
+	 * change when the configuration is renamed. Without an ID, all tests are run.
+	 */
+	public static final String ATTR_RUN_RECORD_ID= JUnitCorePlugin.PLUGIN_ID + ".RUN_RECORD_ID"; //$NON-NLS-1$
+
+	/**
+	 * Launch attribute with the comma-separated stamps of the configurations and classpaths of the
+	 * tests of a launch which runs the affected tests only, see
+	 * {@link TestImpactAnalyzer#computeStamp(ILaunchConfiguration, IJavaProject)}.
+	 */
+	public static final String ATTR_RUN_STAMPS= JUnitCorePlugin.PLUGIN_ID + ".RUN_STAMPS"; //$NON-NLS-1$
+
+	/**
+	 * The number of VMs across which the test classes are split, see
+	 * {@link TestDurationPrioritizer}. The tests run in one VM if the attribute is missing or less
+	 * than 2.
+	 */
+	public static final String ATTR_SHARD_COUNT= JUnitCorePlugin.PLUGIN_ID + ".SHARD_COUNT"; //$NON-NLS-1$
+
+	/**
+	 * Launch attribute with the comma-separated ports of the VMs of a launch which is split across
+	 * several VMs, set before {@link #ATTR_PORT}, which is the port of the first VM.
+	 */
+	public static final String ATTR_SHARD_PORTS= JUnitCorePlugin.PLUGIN_ID + ".SHARD_PORTS"; //$NON-NLS-1$
+
+	/**
+	 * The names of the projects whose tests run in a VM of their own, in parallel. If the list has
+	 * more than one element, it replaces {@link IJavaLaunchConfigurationConstants#ATTR_PROJECT_NAME},
+	 * {@link #ATTR_TEST_CONTAINER} and the classpath of the configuration: each VM runs all tests of
+	 * its project with the default classpath of the project.
+	 */
+	public static final String ATTR_PROJECT_NAMES= JUnitCorePlugin.PLUGIN_ID + ".PROJECT_NAMES"; //$NON-NLS-1$
+
+	/**
+	 * Launch attribute with the names of the VMs of a launch which runs several projects, separated
+	 * by {@link #SHARD_NAMES_SEPARATOR} and in the order of {@link #ATTR_SHARD_PORTS}. The test run
+	 * session groups the tests of each VM by these names.
+	 */
+	public static final String ATTR_SHARD_NAMES= JUnitCorePlugin.PLUGIN_ID + ".SHARD_NAMES"; //$NON-NLS-1$
+
+	/**
+	 * The separator of {@link #ATTR_SHARD_NAMES}, which does not occur in project names.
+	 */
+	public static final String SHARD_NAMES_SEPARATOR= "/"; //$NON-NLS-1$
+
 	public static ITestKind getTestRunnerKind(ILaunchConfiguration launchConfiguration) {
 		try {
 			String loaderId = launchConfiguration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_RUNNER_KIND, (String) null);
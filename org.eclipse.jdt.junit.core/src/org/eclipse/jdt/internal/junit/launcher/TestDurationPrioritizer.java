@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.launcher;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+import org.eclipse.debug.core.ILaunchConfiguration;
+
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+
+/**
+ * Orders and distributes the test classes of a launch which is split across several VMs by the
+ * durations of the classes in previous runs of the launch configuration, see
+ * {@link JUnitLaunchConfigurationConstants#ATTR_SHARD_COUNT}.
+ * <p>
+ * The slowest classes start first and each class goes to the VM with the least total duration so
+ * far, so that the VMs finish at about the same time. Classes with equal durations are distributed
+ * evenly. Classes without a previous duration, e.g. new ones, count with the average duration.
+ * </p>
+ */
+public class TestDurationPrioritizer {
+
+	/** The number of previous runs from which durations are taken */
+	private static final int MAX_SESSIONS= 3;
+
+	private TestDurationPrioritizer() {
+	}
+
+	/**
+	 * Returns the durations of the test classes in the latest runs of a launch configuration in the
+	 * test run history. Sessions which are swapped out are not swapped in, their durations are kept
+	 * in memory, see {@link TestRunSession#getClassDurations()}.
+	 *
+	 * @param configuration the launch configuration
+	 * @return the durations in seconds by the fully qualified names of the top level classes
+	 */
+	public static Map<String, Double> getClassDurations(ILaunchConfiguration configuration) {
+		Map<String, Double> durations= new HashMap<>();
+		int sessionCount= 0;
+		for (TestRunSession session : JUnitCorePlugin.getModel().getTestRunSessions()) {
+			if (sessionCount == MAX_SESSIONS)
+				break;
+			if (!configuration.getName().equals(session.getTestRunName()) || session.isRunning() || session.isStarting())
+				continue;
+			sessionCount++;
+			// the latest run wins
+			session.getClassDurations().forEach(durations::putIfAbsent);
+		}
+		return durations;
+	}
+
+	/**
+	 * Distributes tests to shards, slowest first.
+	 *
+	 * @param <T> the type of the tests
+	 * @param tests the tests
+	 * @param durations the previous duration of a test, or {@link Double#NaN} if it is not known
+	 * @param shardCount the maximum number of shards
+	 * @return the non-empty shards, each ordered by descending duration
+	 */
+	public static <T> List<List<T>> createShards(List<T> tests, ToDoubleFunction<T> durations, int shardCount) {
+		double total= 0;
+		int known= 0;
+		Map<T, Double> testDurations= new HashMap<>();
+		for (T test : tests) {
+			double duration= durations.applyAsDouble(test);
+			if (!Double.isNaN(duration)) {
+				total+= duration;
+				known++;
+			}
+			testDurations.put(test, Double.valueOf(duration));
+		}
+		double average= known > 0 ? total / known : 1;
+		testDurations.replaceAll((test, duration) -> Double.isNaN(duration.doubleValue()) ? Double.valueOf(average) : duration);
+
+		List<T> sortedTests= new ArrayList<>(tests);
+		sortedTests.sort(Comparator.comparingDouble((T test) -> testDurations.get(test).doubleValue()).reversed());
+
+		int count= Math.max(1, Math.min(shardCount, sortedTests.size()));
+		List<List<T>> shards= new ArrayList<>(count);
+		double[] loads= new double[count];
+		for (int i= 0; i < count; i++) {
+			shards.add(new ArrayList<>());
+		}
+		for (T test : sortedTests) {
+			int shard= 0;
+			for (int i= 1; i < count; i++) {
+				if (loads[i] < loads[shard] || (loads[i] == loads[shard] && shards.get(i).size() < shards.get(shard).size()))
+					shard= i;
+			}
+			shards.get(shard).add(test);
+			loads[shard]+= testDurations.get(test).doubleValue();
+		}
+		shards.removeIf(List::isEmpty);
+		return shards;
+	}
+}
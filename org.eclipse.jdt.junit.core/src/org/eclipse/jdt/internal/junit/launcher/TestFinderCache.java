@@ -0,0 +1,290 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.launcher;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaModel;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+
+/**
+ * Caches the tests which the {@link ITestFinder}s of the JUnit core plug-in found in Java projects,
+ * source folders and packages, so that launching the tests of a container again does not search
+ * the type hierarchy of the container again.
+ * <p>
+ * The cache is maintained with Java element deltas: changes which cannot change whether a type is a
+ * test, like edits of method bodies, keep the cached results. Other changes remove the results for
+ * the changed project and for the projects which require it, the next search for them is a full
+ * search again. Tests in types and compilation units are not cached, searching them is cheap.
+ * </p>
+ * <p>
+ * The result of a search is only cached if no change removed cached results while the search ran,
+ * since the search may have missed the change.
+ * </p>
+ */
+public class TestFinderCache implements IElementChangedListener {
+
+	/**
+	 * Searches for tests in a container.
+	 */
+	public interface ITestSearch {
+
+		/**
+		 * @param element element to search for tests
+		 * @param result a Set to add ITypes
+		 * @param pm the progress monitor
+		 * @throws CoreException thrown when tests can not be found
+		 */
+		void search(IJavaElement element, Set<IType> result, IProgressMonitor pm) throws CoreException;
+	}
+
+	private static class Entry {
+
+		private final IJavaProject fProject;
+
+		private final IType[] fTests;
+
+		public Entry(IJavaProject project, IType[] tests) {
+			fProject= project;
+			fTests= tests;
+		}
+	}
+
+	/**
+	 * The flags of a compilation unit, type or member delta which do not change whether a type is a
+	 * test.
+	 */
+	private static final int IRRELEVANT_FLAGS= IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_FINE_GRAINED | IJavaElementDelta.F_CHILDREN
+			| IJavaElementDelta.F_PRIMARY_RESOURCE | IJavaElementDelta.F_PRIMARY_WORKING_COPY | IJavaElementDelta.F_AST_AFFECTED;
+
+	/** The cached results by finder and container */
+	private final Map<String, Entry> fEntries= new HashMap<>();
+
+	/** Incremented whenever cached results are removed, guarded by {@link #fEntries} */
+	private long fStamp;
+
+	/** The number of searches which are running, guarded by {@link #fEntries} */
+	private int fSearches;
+
+	/**
+	 * Returns the cache of the JUnit core plug-in.
+	 *
+	 * @return the cache, or <code>null</code> if the plug-in is not running
+	 */
+	public static TestFinderCache getDefault() {
+		JUnitCorePlugin plugin= JUnitCorePlugin.getDefault();
+		return plugin != null ? plugin.getTestFinderCache() : null;
+	}
+
+	/**
+	 * Adds the tests in a container to a set, either from the cache or by searching them.
+	 *
+	 * @param finder the finder on whose behalf the tests are searched
+	 * @param element element to search for tests
+	 * @param result a Set to add ITypes
+	 * @param pm the progress monitor
+	 * @param search the search to run if the tests of the container are not cached
+	 * @throws CoreException thrown when tests can not be found
+	 */
+	public void findTestsInContainer(ITestFinder finder, IJavaElement element, Set<IType> result, IProgressMonitor pm, ITestSearch search) throws CoreException {
+		int elementType= element.getElementType();
+		if (elementType != IJavaElement.JAVA_PROJECT && elementType != IJavaElement.PACKAGE_FRAGMENT_ROOT && elementType != IJavaElement.PACKAGE_FRAGMENT) {
+			search.search(element, result, pm);
+			return;
+		}
+
+		String key= finder.getClass().getName() + ':' + element.getHandleIdentifier();
+		long stamp;
+		synchronized (fEntries) {
+			Entry entry= fEntries.get(key);
+			if (entry != null) {
+				result.addAll(Arrays.asList(entry.fTests));
+				return;
+			}
+			stamp= fStamp;
+			fSearches++;
+		}
+
+		Set<IType> tests= new LinkedHashSet<>();
+		boolean completed= false;
+		try {
+			search.search(element, tests, pm);
+			completed= pm == null || !pm.isCanceled();
+		} finally {
+			synchronized (fEntries) {
+				fSearches--;
+				if (completed && stamp == fStamp)
+					fEntries.put(key, new Entry(element.getJavaProject(), tests.toArray(new IType[tests.size()])));
+			}
+		}
+		result.addAll(tests);
+	}
+
+	/**
+	 * Removes all cached results.
+	 */
+	public void clear() {
+		synchronized (fEntries) {
+			fEntries.clear();
+			fStamp++;
+		}
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		synchronized (fEntries) {
+			if (fEntries.isEmpty() && fSearches == 0)
+				return;
+		}
+		Set<IJavaProject> changedProjects= new HashSet<>();
+		if (!collectChangedProjects(event.getDelta(), changedProjects)) {
+			clear();
+			return;
+		}
+		if (changedProjects.isEmpty())
+			return;
+
+		synchronized (fEntries) {
+			fStamp++;
+			for (Iterator<Entry> iter= fEntries.values().iterator(); iter.hasNext();) {
+				if (requiresAny(iter.next().fProject, changedProjects, new HashSet<>()))
+					iter.remove();
+			}
+		}
+	}
+
+	/**
+	 * Collects the projects with changes which may change the tests in the project.
+	 *
+	 * @param delta the delta
+	 * @param changedProjects the set to add the projects to
+	 * @return <code>false</code> if projects were added, removed, opened or closed, which may change
+	 *         the tests in any project
+	 */
+	private static boolean collectChangedProjects(IJavaElementDelta delta, Set<IJavaProject> changedProjects) {
+		IJavaElement element= delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				for (IJavaElementDelta child : delta.getAffectedChildren()) {
+					if (!collectChangedProjects(child, changedProjects))
+						return false;
+				}
+				return true;
+			case IJavaElement.JAVA_PROJECT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & (IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED)) != 0)
+					return false;
+				if (isRelevant(delta))
+					changedProjects.add((IJavaProject) element);
+				return true;
+			default:
+				if (isRelevant(delta))
+					changedProjects.add(element.getJavaProject());
+				return true;
+		}
+	}
+
+	/**
+	 * Tells whether a delta may change whether types are tests.
+	 *
+	 * @param delta the delta of a project or an element in a project
+	 * @return <code>false</code> if the delta only contains changes of the contents of compilation
+	 *         units and their members without changes to the declarations, e.g. edits of method
+	 *         bodies
+	 */
+	private static boolean isRelevant(IJavaElementDelta delta) {
+		int elementType= delta.getElement().getElementType();
+		if (delta.getKind() != IJavaElementDelta.CHANGED)
+			return true;
+		switch (elementType) {
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if ((delta.getFlags() & ~IJavaElementDelta.F_CHILDREN) != 0)
+					return true;
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				if ((delta.getFlags() & ~IRRELEVANT_FLAGS) != 0)
+					return true;
+				// a change of the contents without details
+				if ((delta.getFlags() & IJavaElementDelta.F_CONTENT) != 0 && (delta.getFlags() & IJavaElementDelta.F_FINE_GRAINED) == 0)
+					return true;
+				break;
+			case IJavaElement.TYPE:
+			case IJavaElement.METHOD:
+			case IJavaElement.FIELD:
+			case IJavaElement.INITIALIZER:
+				if ((delta.getFlags() & ~IRRELEVANT_FLAGS) != 0)
+					return true;
+				break;
+			default:
+				// e.g. imports and annotations
+				return true;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (isRelevant(child))
+				return true;
+		}
+		return false;
+	}
+
+	private static boolean requiresAny(IJavaProject project, Set<IJavaProject> changedProjects, Set<IJavaProject> visited) {
+		if (changedProjects.contains(project))
+			return true;
+		if (!visited.add(project))
+			return false;
+		try {
+			IJavaModel model= project.getJavaModel();
+			for (String name : project.getRequiredProjectNames()) {
+				if (requiresAny(model.getJavaProject(name), changedProjects, visited))
+					return true;
+			}
+			return false;
+		} catch (JavaModelException e) {
+			return true;
+		}
+	}
+
+	/**
+	 * Starts listening to changes in the Java model.
+	 */
+	public void start() {
+		JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	/**
+	 * Stops listening to changes in the Java model and removes the cached results.
+	 */
+	public void stop() {
+		JavaCore.removeElementChangedListener(this);
+		clear();
+	}
+}
@@ -0,0 +1,428 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.launcher;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.jdt.junit.TestRunListener;
+import org.eclipse.jdt.junit.model.ITestElement.Result;
+import org.eclipse.jdt.junit.model.ITestRunSession;
+
+import org.osgi.service.prefs.BackingStoreException;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.ILaunchConfigurationListener;
+
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaModel;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+import org.eclipse.jdt.internal.junit.JUnitMessages;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+
+/**
+ * Selects the tests which are affected by the changes since the last successful run of a launch
+ * configuration, see {@link JUnitLaunchConfigurationConstants#ATTR_RUN_AFFECTED_TESTS_ONLY}.
+ * <p>
+ * A compilation unit is changed if its file was modified after the last successful run. It is
+ * affected if it is changed or if it references a type of an affected compilation unit, which is
+ * determined with the Java search engine in the sources of the project and of the projects it
+ * requires. A test is affected if its compilation unit is affected.
+ * </p>
+ * <p>
+ * Types which are only used through reflection are not found this way. Therefore all tests are
+ * affected if the configuration, the resolved classpath, a library on it or a non-Java resource in
+ * a source folder changed, and a full run is needed to establish the first successful run.
+ * </p>
+ * <p>
+ * The last successful run is recorded under the
+ * {@link JUnitLaunchConfigurationConstants#ATTR_RUN_RECORD_ID} of the configuration, together with
+ * the stamps of the configuration and the classpaths it ran with. Records of deleted configurations
+ * are removed by the {@link RecordCleaner}.
+ * </p>
+ */
+public class TestImpactAnalyzer {
+
+	/**
+	 * Records the start of successful runs of launch configurations.
+	 */
+	public static class SuccessfulRunRecorder extends TestRunListener {
+
+		@Override
+		public void sessionFinished(ITestRunSession session) {
+			if (!(session instanceof TestRunSession))
+				return;
+			TestRunSession testRunSession= (TestRunSession) session;
+			ILaunch launch= testRunSession.getLaunch();
+			if (launch == null || launch.getLaunchConfiguration() == null || testRunSession.isStopped())
+				return;
+			Result result= testRunSession.getTestResult(true);
+			if (result != Result.OK && result != Result.IGNORED)
+				return;
+
+			// changes which were saved while the tests were built or ran are not covered by the run
+			long start= testRunSession.getStartTime();
+			String timestamp= launch.getAttribute(DebugPlugin.ATTR_LAUNCH_TIMESTAMP);
+			if (timestamp != null) {
+				try {
+					start= Long.parseLong(timestamp);
+				} catch (NumberFormatException e) {
+					// use the start of the test run
+				}
+			}
+			String stamps= launch.getAttribute(JUnitLaunchConfigurationConstants.ATTR_RUN_STAMPS);
+			if (stamps != null)
+				recordSuccessfulRun(launch.getLaunchConfiguration(), stamps, start);
+		}
+	}
+
+	/**
+	 * Removes the records of the launch configurations which have been deleted.
+	 */
+	public static class RecordCleaner implements ILaunchConfigurationListener {
+
+		@Override
+		public void launchConfigurationAdded(ILaunchConfiguration configuration) {
+		}
+
+		@Override
+		public void launchConfigurationChanged(ILaunchConfiguration configuration) {
+		}
+
+		@Override
+		public void launchConfigurationRemoved(ILaunchConfiguration configuration) {
+			// a renamed configuration keeps its ID
+			if (DebugPlugin.getDefault().getLaunchManager().getMovedTo(configuration) == null)
+				removeObsoleteRecords();
+		}
+	}
+
+	private static final ILog LOG= ILog.of(TestImpactAnalyzer.class);
+
+	private static final String LAST_SUCCESSFUL_RUNS_NODE= "lastSuccessfulRuns"; //$NON-NLS-1$
+
+	private static final String LAUNCH_TIME_KEY= "launchTime"; //$NON-NLS-1$
+
+	private static final String STAMPS_KEY= "stamps"; //$NON-NLS-1$
+
+	private static final String CLASSPATH_FILE= ".classpath"; //$NON-NLS-1$
+
+	private TestImpactAnalyzer() {
+	}
+
+	private static IEclipsePreferences getLastSuccessfulRuns() {
+		return (IEclipsePreferences) InstanceScope.INSTANCE.getNode(JUnitCorePlugin.CORE_PLUGIN_ID).node(LAST_SUCCESSFUL_RUNS_NODE);
+	}
+
+	private static String getRecordId(ILaunchConfiguration configuration) throws CoreException {
+		String id= configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_RUN_RECORD_ID, (String) null);
+		return id != null && !id.isEmpty() ? id : null;
+	}
+
+	/**
+	 * Computes a stamp of the attributes of a launch configuration and of the resolved classpaths
+	 * of a project and the projects it requires. A successful run only applies to later runs with
+	 * the same stamp.
+	 *
+	 * @param configuration the launch configuration
+	 * @param javaProject the project of the tests
+	 * @return the stamp
+	 * @throws CoreException if the attributes or the classpath can not be read
+	 */
+	public static String computeStamp(ILaunchConfiguration configuration, IJavaProject javaProject) throws CoreException {
+		StringBuilder buf= new StringBuilder();
+		buf.append(new TreeMap<>(configuration.getAttributes()));
+		List<IJavaProject> projects= new ArrayList<>();
+		collectRequiredProjects(javaProject, projects);
+		for (IJavaProject project : projects) {
+			buf.append('\n').append(project.getElementName());
+			for (IClasspathEntry entry : project.getResolvedClasspath(true)) {
+				buf.append('\n').append(entry.getEntryKind()).append(' ').append(entry.getPath());
+			}
+		}
+		return Integer.toHexString(buf.toString().hashCode());
+	}
+
+	/**
+	 * @param configuration the launch configuration
+	 * @param stamp the stamp of the configuration and of the classpath of the tests, see
+	 *            {@link #computeStamp(ILaunchConfiguration, IJavaProject)}
+	 * @return the time at which the last successful run of the configuration with the given stamp
+	 *         was launched, or 0 if there was none
+	 * @throws CoreException if the attributes of the configuration can not be read
+	 */
+	public static long getLastSuccessfulRun(ILaunchConfiguration configuration, String stamp) throws CoreException {
+		String id= getRecordId(configuration);
+		if (id == null)
+			return 0;
+		IEclipsePreferences lastSuccessfulRuns= getLastSuccessfulRuns();
+		try {
+			if (!lastSuccessfulRuns.nodeExists(id))
+				return 0;
+		} catch (BackingStoreException e) {
+			return 0;
+		}
+		IEclipsePreferences record= (IEclipsePreferences) lastSuccessfulRuns.node(id);
+		if (!Arrays.asList(record.get(STAMPS_KEY, "").split(",")).contains(stamp)) //$NON-NLS-1$ //$NON-NLS-2$
+			return 0;
+		return record.getLong(LAUNCH_TIME_KEY, 0);
+	}
+
+	/**
+	 * @param configuration the launch configuration
+	 * @param stamps the comma-separated stamps of the configuration and of the classpaths of the
+	 *            tests which ran, see {@link #computeStamp(ILaunchConfiguration, IJavaProject)}
+	 * @param launchTime the time at which the successful run was launched
+	 */
+	public static void recordSuccessfulRun(ILaunchConfiguration configuration, String stamps, long launchTime) {
+		try {
+			String id= getRecordId(configuration);
+			if (id == null)
+				return;
+			IEclipsePreferences record= (IEclipsePreferences) getLastSuccessfulRuns().node(id);
+			record.putLong(LAUNCH_TIME_KEY, launchTime);
+			record.put(STAMPS_KEY, stamps);
+		} catch (CoreException e) {
+			LOG.error(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Removes the records whose IDs are not used by any launch configuration.
+	 */
+	public static void removeObsoleteRecords() {
+		try {
+			IEclipsePreferences lastSuccessfulRuns= getLastSuccessfulRuns();
+			String[] ids= lastSuccessfulRuns.childrenNames();
+			if (ids.length == 0)
+				return;
+			Set<String> usedIds= new HashSet<>();
+			for (ILaunchConfiguration configuration : DebugPlugin.getDefault().getLaunchManager().getLaunchConfigurations()) {
+				if (configuration.exists()) {
+					String id= getRecordId(configuration);
+					if (id != null)
+						usedIds.add(id);
+				}
+			}
+			for (String id : ids) {
+				if (!usedIds.contains(id))
+					lastSuccessfulRuns.node(id).removeNode();
+			}
+		} catch (CoreException | BackingStoreException e) {
+			LOG.error(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Returns the tests which are affected by the changes since a given time.
+	 *
+	 * @param javaProject the project of the tests
+	 * @param tests the tests to select from
+	 * @param since the time of the last successful run, or 0 to select all tests
+	 * @param monitor the progress monitor
+	 * @return the affected tests
+	 * @throws CoreException if the changes or references can not be determined
+	 */
+	public static Set<IType> findAffectedTests(IJavaProject javaProject, Collection<IType> tests, long since, IProgressMonitor monitor) throws CoreException {
+		SubMonitor subMon= SubMonitor.convert(monitor, JUnitMessages.TestImpactAnalyzer_searching_description, 10);
+		Set<IType> result= new LinkedHashSet<>(tests);
+		if (since <= 0)
+			return result;
+
+		List<IJavaProject> projects= new ArrayList<>();
+		collectRequiredProjects(javaProject, projects);
+
+		Set<ICompilationUnit> changed= new HashSet<>();
+		if (!collectChangedCompilationUnits(projects, since, changed))
+			return result;
+		subMon.worked(1);
+
+		Set<ICompilationUnit> affected= new HashSet<>(changed);
+		List<IType> references= new ArrayList<>();
+		for (ICompilationUnit cu : changed) {
+			references.addAll(Arrays.asList(cu.getAllTypes()));
+		}
+		IJavaSearchScope scope= SearchEngine.createJavaSearchScope(projects.toArray(new IJavaElement[projects.size()]), IJavaSearchScope.SOURCES);
+		SubMonitor searchMon= subMon.split(9);
+		while (!references.isEmpty()) {
+			searchMon.setWorkRemaining(10);
+			List<IType> referencingTypes= new ArrayList<>();
+			findReferencingTypes(references, scope, affected, referencingTypes, searchMon.split(1));
+			references= referencingTypes;
+		}
+
+		for (IType test : tests) {
+			ICompilationUnit cu= test.getCompilationUnit();
+			if (cu != null && !affected.contains(cu))
+				result.remove(test);
+		}
+		return result;
+	}
+
+	private static void collectRequiredProjects(IJavaProject javaProject, List<IJavaProject> projects) throws CoreException {
+		if (projects.contains(javaProject) || !javaProject.exists())
+			return;
+		projects.add(javaProject);
+		IJavaModel model= javaProject.getJavaModel();
+		for (String name : javaProject.getRequiredProjectNames()) {
+			collectRequiredProjects(model.getJavaProject(name), projects);
+		}
+	}
+
+	/**
+	 * Collects the compilation units which were modified since a given time.
+	 *
+	 * @param projects the projects
+	 * @param since the time
+	 * @param changed the set to add the compilation units to
+	 * @return <code>false</code> if a classpath, a library or a non-Java resource in a source folder
+	 *         was modified, i.e. if all tests are affected
+	 * @throws CoreException if the modification times can not be determined
+	 */
+	private static boolean collectChangedCompilationUnits(List<IJavaProject> projects, long since, Set<ICompilationUnit> changed) throws CoreException {
+		for (IJavaProject project : projects) {
+			if (isModifiedSince(project.getProject().getFile(CLASSPATH_FILE), since))
+				return false;
+			for (IClasspathEntry entry : project.getResolvedClasspath(true)) {
+				if (entry.getEntryKind() == IClasspathEntry.CPE_LIBRARY && isModifiedSince(entry.getPath(), since))
+					return false;
+			}
+			for (IPackageFragmentRoot root : project.getPackageFragmentRoots()) {
+				if (root.getKind() != IPackageFragmentRoot.K_SOURCE)
+					continue;
+				if (isModifiedSince(root.getNonJavaResources(), since))
+					return false;
+				for (IJavaElement child : root.getChildren()) {
+					IPackageFragment pack= (IPackageFragment) child;
+					if (isModifiedSince(pack.getNonJavaResources(), since))
+						return false;
+					for (ICompilationUnit cu : pack.getCompilationUnits()) {
+						if (isModifiedSince(cu.getResource(), since))
+							changed.add(cu);
+					}
+				}
+			}
+		}
+		return true;
+	}
+
+	private static boolean isModifiedSince(Object[] resources, long since) throws CoreException {
+		for (Object resource : resources) {
+			if (resource instanceof IResource && isModifiedSince((IResource) resource, since))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Tells whether a library, i.e. an archive or a class folder, was modified since a given time.
+	 *
+	 * @param path the path of the library in the workspace or in the file system
+	 * @param since the time
+	 * @return <code>true</code> if the library was modified
+	 * @throws CoreException if the modification times can not be determined
+	 */
+	private static boolean isModifiedSince(IPath path, long since) throws CoreException {
+		IResource resource= ResourcesPlugin.getWorkspace().getRoot().findMember(path);
+		if (resource != null)
+			return isModifiedSince(resource, since);
+		return isModifiedSince(path.toFile(), since);
+	}
+
+	private static boolean isModifiedSince(File file, long since) {
+		if (file.lastModified() >= since)
+			return true;
+		File[] children= file.listFiles();
+		if (children != null) {
+			for (File child : children) {
+				if (isModifiedSince(child, since))
+					return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isModifiedSince(IResource resource, long since) throws CoreException {
+		if (resource == null || !resource.exists())
+			return false;
+		if (resource.getLocalTimeStamp() >= since)
+			return true;
+		return resource instanceof IContainer && isModifiedSince(((IContainer) resource).members(), since);
+	}
+
+	/**
+	 * Searches the compilation units which reference the given types and are not affected yet.
+	 *
+	 * @param types the types
+	 * @param scope the search scope
+	 * @param affected the affected compilation units, the found ones are added
+	 * @param referencingTypes the list to add the types of the found compilation units to
+	 * @param monitor the progress monitor
+	 * @throws CoreException if the search fails
+	 */
+	private static void findReferencingTypes(List<IType> types, IJavaSearchScope scope, Set<ICompilationUnit> affected, List<IType> referencingTypes, IProgressMonitor monitor) throws CoreException {
+		SearchPattern pattern= null;
+		for (IType type : types) {
+			SearchPattern typePattern= SearchPattern.createPattern(type, IJavaSearchConstants.REFERENCES);
+			pattern= pattern == null ? typePattern : SearchPattern.createOrPattern(pattern, typePattern);
+		}
+		SearchRequestor requestor= new SearchRequestor() {
+			@Override
+			public void acceptSearchMatch(SearchMatch match) throws CoreException {
+				if (match.getElement() instanceof IJavaElement) {
+					ICompilationUnit cu= (ICompilationUnit) ((IJavaElement) match.getElement()).getAncestor(IJavaElement.COMPILATION_UNIT);
+					if (cu != null && affected.add(cu))
+						referencingTypes.addAll(Arrays.asList(cu.getAllTypes()));
+				}
+			}
+		};
+		SearchParticipant[] participants= new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() };
+		new SearchEngine().search(pattern, participants, scope, requestor, monitor);
+	}
+}
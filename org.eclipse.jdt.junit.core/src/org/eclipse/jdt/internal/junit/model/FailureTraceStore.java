@@ -0,0 +1,255 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.model;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Stores the failure traces and the expected and actual values of the test elements of a test run
+ * in a compact form, see {@link TestRoot#getFailureTraceStore()}.
+ * <p>
+ * The failures of a test run mostly share their stack frames, so the lines of all traces are kept
+ * only once and a trace is encoded as the sequence of its line numbers. Expected and actual values
+ * are compressed when they are large. The strings are only restored when they are requested, e.g.
+ * when a failure is selected in the JUnit view.
+ * </p>
+ */
+public class FailureTraceStore {
+
+	/**
+	 * The minimum length of the values which are compressed.
+	 */
+	private static final int COMPRESSION_THRESHOLD= 1024;
+
+	private static final byte PLAIN= 0;
+	private static final byte DEFLATED= 1;
+
+	private static final String FRAME_PREFIX= "at "; //$NON-NLS-1$
+
+	/**
+	 * The lines of the traces, including their line delimiters.
+	 */
+	private final List<String> fLines= new ArrayList<>();
+
+	private final Map<String, Integer> fLineIndices= new HashMap<>();
+
+	/**
+	 * Encodes a trace.
+	 *
+	 * @param trace the trace, can be <code>null</code>
+	 * @return the encoded trace, or <code>null</code> if the trace is <code>null</code>
+	 */
+	public synchronized byte[] encodeTrace(String trace) {
+		if (trace == null)
+			return null;
+		ByteArrayOutputStream out= new ByteArrayOutputStream(trace.length() / 32 + 4);
+		int start= 0;
+		int length= trace.length();
+		while (start < length) {
+			int end= start;
+			while (end < length && trace.charAt(end) != '\n' && trace.charAt(end) != '\r')
+				end++;
+			if (end < length && trace.charAt(end) == '\r')
+				end++;
+			if (end < length && trace.charAt(end) == '\n')
+				end++;
+			String line= trace.substring(start, end);
+			Integer index= fLineIndices.get(line);
+			if (index == null) {
+				index= Integer.valueOf(fLines.size());
+				fLines.add(line);
+				fLineIndices.put(line, index);
+			}
+			writeVarInt(out, index.intValue());
+			start= end;
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * Restores an encoded trace.
+	 *
+	 * @param encodedTrace the encoded trace, can be <code>null</code>
+	 * @return the trace, or <code>null</code> if the encoded trace is <code>null</code>
+	 */
+	public synchronized String decodeTrace(byte[] encodedTrace) {
+		if (encodedTrace == null)
+			return null;
+		StringBuilder trace= new StringBuilder(encodedTrace.length * 64);
+		int position= 0;
+		while (position < encodedTrace.length) {
+			int index= 0;
+			int shift= 0;
+			byte b;
+			do {
+				b= encodedTrace[position++];
+				index|= (b & 0x7F) << shift;
+				shift+= 7;
+			} while ((b & 0x80) != 0);
+			trace.append(fLines.get(index));
+		}
+		return trace.toString();
+	}
+
+	/**
+	 * @return the number of distinct lines of the stored traces
+	 */
+	public synchronized int getLineCount() {
+		return fLines.size();
+	}
+
+	private static void writeVarInt(ByteArrayOutputStream out, int value) {
+		while ((value & ~0x7F) != 0) {
+			out.write((value & 0x7F) | 0x80);
+			value>>>= 7;
+		}
+		out.write(value);
+	}
+
+	/**
+	 * Encodes an expected or actual value. Values with at least {@value #COMPRESSION_THRESHOLD}
+	 * characters are compressed.
+	 *
+	 * @param value the value, can be <code>null</code>
+	 * @return the encoded value, or <code>null</code> if the value is <code>null</code>
+	 */
+	public static byte[] encodeValue(String value) {
+		if (value == null)
+			return null;
+		byte[] bytes= value.getBytes(StandardCharsets.UTF_8);
+		if (value.length() < COMPRESSION_THRESHOLD)
+			return prepend(PLAIN, bytes);
+
+		Deflater deflater= new Deflater(Deflater.BEST_SPEED);
+		try {
+			deflater.setInput(bytes);
+			deflater.finish();
+			ByteArrayOutputStream out= new ByteArrayOutputStream(bytes.length / 4 + 16);
+			out.write(DEFLATED);
+			byte[] buffer= new byte[8192];
+			while (!deflater.finished()) {
+				int count= deflater.deflate(buffer);
+				out.write(buffer, 0, count);
+			}
+			return out.size() < bytes.length + 1 ? out.toByteArray() : prepend(PLAIN, bytes);
+		} finally {
+			deflater.end();
+		}
+	}
+
+	/**
+	 * Restores an encoded expected or actual value.
+	 *
+	 * @param encodedValue the encoded value, can be <code>null</code>
+	 * @return the value, or <code>null</code> if the encoded value is <code>null</code>
+	 */
+	public static String decodeValue(byte[] encodedValue) {
+		if (encodedValue == null)
+			return null;
+		if (encodedValue[0] == PLAIN)
+			return new String(encodedValue, 1, encodedValue.length - 1, StandardCharsets.UTF_8);
+
+		Inflater inflater= new Inflater();
+		try {
+			inflater.setInput(encodedValue, 1, encodedValue.length - 1);
+			ByteArrayOutputStream out= new ByteArrayOutputStream(encodedValue.length * 4);
+			byte[] buffer= new byte[8192];
+			while (!inflater.finished()) {
+				int count= inflater.inflate(buffer);
+				if (count == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+					throw new IllegalStateException("Truncated value"); //$NON-NLS-1$
+				out.write(buffer, 0, count);
+			}
+			return out.toString(StandardCharsets.UTF_8);
+		} catch (DataFormatException e) {
+			throw new IllegalStateException(e);
+		} finally {
+			inflater.end();
+		}
+	}
+
+	private static byte[] prepend(byte first, byte[] bytes) {
+		byte[] result= new byte[bytes.length + 1];
+		result[0]= first;
+		System.arraycopy(bytes, 0, result, 1, bytes.length);
+		return result;
+	}
+
+	/**
+	 * Removes the stack frames which match the given filter patterns from a trace. The first line
+	 * and the lines before the first stack frame are always kept.
+	 *
+	 * @param trace the trace, can be <code>null</code>
+	 * @param filterPatterns the filter patterns, see
+	 *            {@link org.eclipse.jdt.internal.junit.JUnitPreferencesConstants#getFilterPatterns()}
+	 * @return the filtered trace, with a line delimiter after each line
+	 */
+	public static String filterStack(String trace, String[] filterPatterns) {
+		if (filterPatterns.length == 0 || trace == null)
+			return trace;
+
+		StringBuilder filtered= new StringBuilder(trace.length());
+		String lineDelimiter= System.lineSeparator();
+		boolean firstLine= true;
+		boolean stackFrameSeen= false;
+		for (String line : trace.split("\r\n|\r|\n", -1)) { //$NON-NLS-1$
+			if (firstLine || !stackFrameSeen || !filterLine(filterPatterns, line))
+				filtered.append(line).append(lineDelimiter);
+			firstLine= false;
+			if (!stackFrameSeen) {
+				stackFrameSeen= isStackFrame(line.replace('\t', ' '));
+			}
+		}
+		// split() returns an empty last line for a trace which ends with a line delimiter
+		if (trace.isEmpty() || trace.endsWith("\n") || trace.endsWith("\r")) //$NON-NLS-1$ //$NON-NLS-2$
+			filtered.setLength(filtered.length() - lineDelimiter.length());
+		return filtered.toString();
+	}
+
+	private static boolean filterLine(String[] patterns, String line) {
+		for (int i= patterns.length - 1; i >= 0; --i) {
+			String pattern= patterns[i];
+			int len= pattern.length() - 1;
+			if (pattern.charAt(len) == '*') {
+				// strip trailing * from a package filter
+				pattern= pattern.substring(0, len);
+			} else if (Character.isUpperCase(pattern.charAt(0))) {
+				// class in the default package
+				pattern= FRAME_PREFIX + pattern + '.';
+			} else {
+				// class names start w/ an uppercase letter after the .
+				int lastDotIndex= pattern.lastIndexOf('.');
+				if (lastDotIndex != -1 && lastDotIndex != len && Character.isUpperCase(pattern.charAt(lastDotIndex + 1)))
+					pattern+= '.'; // append . to a class filter
+			}
+
+			if (line.indexOf(pattern) > 0)
+				return true;
+		}
+		return false;
+	}
+
+	private static boolean isStackFrame(String line) {
+		// heuristic for detecting a stack frame - works for JDK
+		return line.contains(" at "); //$NON-NLS-1$
+	}
+}
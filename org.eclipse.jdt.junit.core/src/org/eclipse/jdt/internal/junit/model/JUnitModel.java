@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -126,16 +127,26 @@ public final class JUnitModel {
 			if (portStr == null)
 				return;
 			try {
-				final int port= Integer.parseInt(portStr);
+				int[] ports;
+				String shardPortsStr= launch.getAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_PORTS);
+				if (shardPortsStr != null) {
+					ports= Arrays.stream(shardPortsStr.split(",")).mapToInt(Integer::parseInt).toArray(); //$NON-NLS-1$
+				} else {
+					ports= new int[] { Integer.parseInt(portStr) };
+				}
+				String shardNamesStr= launch.getAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_NAMES);
+				String[] names= shardNamesStr != null ? shardNamesStr.split(JUnitLaunchConfigurationConstants.SHARD_NAMES_SEPARATOR) : null;
+				if (names != null && names.length != ports.length)
+					return;
 				fTrackedLaunches.remove(launch);
-				connectTestRunner(launch, javaProject, port);
+				connectTestRunner(launch, javaProject, ports, names);
 			} catch (NumberFormatException e) {
 				return;
 			}
 		}
 
-		private void connectTestRunner(ILaunch launch, IJavaProject javaProject, int port) {
-			TestRunSession testRunSession= new TestRunSession(launch, javaProject, port);
+		private void connectTestRunner(ILaunch launch, IJavaProject javaProject, int[] ports, String[] names) {
+			TestRunSession testRunSession= new TestRunSession(launch, javaProject, ports, names);
 			addTestRunSession(testRunSession);
 
 			for (TestRunListener listener : JUnitCorePlugin.getDefault().getNewTestRunListeners()) {
@@ -467,23 +478,6 @@ public final class JUnitModel {
 		return session[0];
 	}
 
-	public static void importIntoTestRunSession(File swapFile, TestRunSession testRunSession) throws CoreException {
-		try {
-			SAXParserFactory parserFactory= XmlProcessorFactoryJdtJunit.createSAXFactoryWithErrorOnDOCTYPE();
-//			parserFactory.setValidating(true); // TODO: add DTD and debug flag
-			SAXParser parser= parserFactory.newSAXParser();
-			TestRunHandler handler= new TestRunHandler(testRunSession);
-			parser.parse(swapFile, handler);
-		} catch (ParserConfigurationException | SAXException e) {
-			throwImportError(swapFile, e);
-		} catch (IOException e) {
-			throwImportError(swapFile, e);
-		} catch (IllegalArgumentException e) {
-			// Bug in parser: can throw IAE even if file is not null
-			throwImportError(swapFile, e);
-		}
-	}
-
 	/**
 	 * Exports the given test run session.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -185,14 +185,23 @@ public abstract class TestElement implements ITestElement {
 
 	/**
 	 * The unique ID of the test element which can be <code>null</code> as it is applicable to JUnit 5
-	 * and above.
+	 * and above. If {@link #fUniqueIdExtendsParent} is set, only the part after the unique ID of the
+	 * parent is kept, since the unique IDs of large test runs mostly consist of the IDs of their
+	 * containers.
 	 */
 	private String fUniqueId;
 
+	private boolean fUniqueIdExtendsParent;
+
 	private Status fStatus;
-	private String fTrace;
-	private String fExpected;
-	private String fActual;
+
+	/**
+	 * The failure trace, encoded by the {@link FailureTraceStore} of the root, and the encoded
+	 * expected and actual values. They are only decoded when they are requested.
+	 */
+	private byte[] fTrace;
+	private byte[] fExpected;
+	private byte[] fActual;
 
 	private boolean fAssumptionFailed;
 
@@ -226,7 +235,13 @@ public abstract class TestElement implements ITestElement {
 		fTestName= testName;
 		fDisplayName= displayName;
 		fParameterTypes= parameterTypes;
-		fUniqueId= uniqueId;
+		String parentUniqueId= parent != null ? parent.getUniqueId() : null;
+		if (uniqueId != null && parentUniqueId != null && uniqueId.length() > parentUniqueId.length() && uniqueId.startsWith(parentUniqueId)) {
+			fUniqueId= uniqueId.substring(parentUniqueId.length());
+			fUniqueIdExtendsParent= true;
+		} else {
+			fUniqueId= uniqueId;
+		}
 		fStatus= Status.NOT_RUN;
 		if (parent != null)
 			parent.addChild(this);
@@ -260,14 +275,22 @@ public abstract class TestElement implements ITestElement {
 
 	@Override
 	public FailureTrace getFailureTrace() {
-		Result testResult= getTestResult(false);
-		if (testResult == Result.ERROR || testResult == Result.FAILURE
-				|| (testResult == Result.IGNORED && fTrace != null)) {
-			return new FailureTrace(fTrace, fExpected, fActual);
+		if (hasFailureTrace()) {
+			return new FailureTrace(getTrace(), getExpected(), getActual());
 		}
 		return null;
 	}
 
+	/**
+	 * @return <code>true</code> iff {@link #getFailureTrace()} returns a failure trace, without
+	 *         decoding it
+	 */
+	public boolean hasFailureTrace() {
+		Result testResult= getTestResult(false);
+		return testResult == Result.ERROR || testResult == Result.FAILURE
+				|| (testResult == Result.IGNORED && fTrace != null);
+	}
+
 	/**
 	 * @return the parent suite, or <code>null</code> for the root
 	 */
@@ -304,13 +327,14 @@ public abstract class TestElement implements ITestElement {
 	}
 
 	public void setStatus(Status status, String trace, String expected, String actual) {
+		FailureTraceStore store= getRoot().getFailureTraceStore();
 		if (trace != null && fTrace != null) {
 			//don't overwrite first trace if same test run logs multiple errors
-			fTrace= fTrace + trace;
+			fTrace= store.encodeTrace(store.decodeTrace(fTrace) + trace);
 		} else {
-			fTrace= trace;
-			fExpected= expected;
-			fActual= actual;
+			fTrace= store.encodeTrace(trace);
+			fExpected= FailureTraceStore.encodeValue(expected);
+			fActual= FailureTraceStore.encodeValue(actual);
 		}
 		setStatus(status);
 	}
@@ -320,15 +344,15 @@ public abstract class TestElement implements ITestElement {
 	}
 
 	public String getTrace() {
-		return fTrace;
+		return fTrace != null ? getRoot().getFailureTraceStore().decodeTrace(fTrace) : null;
 	}
 
 	public String getExpected() {
-		return fExpected;
+		return FailureTraceStore.decodeValue(fExpected);
 	}
 
 	public String getActual() {
-		return fActual;
+		return FailureTraceStore.decodeValue(fActual);
 	}
 
 	public boolean isComparisonFailure() {
@@ -419,6 +443,8 @@ public abstract class TestElement implements ITestElement {
 	 * @return the unique ID of the test, can be <code>null</code>
 	 */
 	public String getUniqueId() {
+		if (fUniqueIdExtendsParent)
+			return fParent.getUniqueId() + fUniqueId;
 		return fUniqueId;
 	}
 
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.model;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Maps the ids of the test elements of a {@link TestRunSession} to the elements.
+ * <p>
+ * The test runner and the import of test runs number the tests, see
+ * <code>org.eclipse.jdt.internal.junit.runner.TestIdMap</code>. Such ids are used as the index of
+ * an array, which takes a fraction of the memory of a hash map for runs with hundreds of
+ * thousands of tests. Other ids, e.g. the id of the suite for unrooted tests, are kept in a map.
+ * </p>
+ */
+public class TestElementIndex {
+
+	/** The number of elements by which the array may grow beyond twice its length */
+	private static final int MAX_GAP= 1024;
+
+	private TestElement[] fElements= new TestElement[64];
+
+	private Map<String, TestElement> fOtherElements;
+
+	/**
+	 * @param id the test id
+	 * @return the test element with the given id, or <code>null</code> if there is none
+	 */
+	public TestElement get(String id) {
+		int index= toIndex(id);
+		if (index != -1 && index < fElements.length)
+			return fElements[index];
+		return fOtherElements != null ? fOtherElements.get(id) : null;
+	}
+
+	/**
+	 * Adds a test element, replacing the element with the same id.
+	 *
+	 * @param id the test id
+	 * @param element the test element
+	 */
+	public void put(String id, TestElement element) {
+		int index= toIndex(id);
+		if (index != -1 && index < 2 * fElements.length + MAX_GAP) {
+			if (index >= fElements.length) {
+				TestElement[] elements= new TestElement[Math.max(index + 1, 2 * fElements.length)];
+				System.arraycopy(fElements, 0, elements, 0, fElements.length);
+				fElements= elements;
+				moveOtherElements();
+			}
+			fElements[index]= element;
+			return;
+		}
+		if (fOtherElements == null)
+			fOtherElements= new HashMap<>();
+		fOtherElements.put(id, element);
+	}
+
+	/**
+	 * Moves the elements of the map whose ids are now covered by the array into the array, so
+	 * that {@link #get(String)} finds them. The elements are added in any order, e.g. when a
+	 * swapped out session is read back in pre-order, so large ids may come before small ones.
+	 */
+	private void moveOtherElements() {
+		if (fOtherElements == null)
+			return;
+		for (Iterator<Map.Entry<String, TestElement>> iter= fOtherElements.entrySet().iterator(); iter.hasNext();) {
+			Map.Entry<String, TestElement> entry= iter.next();
+			int index= toIndex(entry.getKey());
+			if (index != -1 && index < fElements.length) {
+				fElements[index]= entry.getValue();
+				iter.remove();
+			}
+		}
+		if (fOtherElements.isEmpty())
+			fOtherElements= null;
+	}
+
+	/**
+	 * Returns the index for a test id.
+	 *
+	 * @param id the test id
+	 * @return the index, or -1 if the id is not the decimal representation of a small non-negative
+	 *         int, e.g. "-2" or "007"
+	 */
+	private static int toIndex(String id) {
+		int length= id.length();
+		if (length == 0 || length > 9 || (length > 1 && id.charAt(0) == '0'))
+			return -1;
+		int index= 0;
+		for (int i= 0; i < length; i++) {
+			char c= id.charAt(i);
+			if (c < '0' || c > '9')
+				return -1;
+			index= 10 * index + c - '0';
+		}
+		return index;
+	}
+}
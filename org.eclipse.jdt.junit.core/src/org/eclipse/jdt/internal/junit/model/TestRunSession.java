@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@
 package org.eclipse.jdt.internal.junit.model;
 
 import java.io.File;
+import java.io.IOException;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -23,6 +24,7 @@ import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.jdt.junit.model.ITestElement;
 import org.eclipse.jdt.junit.model.ITestElementContainer;
@@ -43,6 +45,7 @@ import org.eclipse.jdt.core.IJavaProject;
 
 import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
 import org.eclipse.jdt.internal.junit.JUnitMessages;
+import org.eclipse.jdt.internal.junit.JUnitPreferencesConstants;
 import org.eclipse.jdt.internal.junit.launcher.ITestKind;
 import org.eclipse.jdt.internal.junit.launcher.JUnitLaunchConfigurationConstants;
 import org.eclipse.jdt.internal.junit.model.TestElement.Status;
@@ -68,9 +71,9 @@ public class TestRunSession implements ITestRunSession {
 	private final ITestKind fTestRunnerKind;
 
 	/**
-	 * Test runner client or <code>null</code>.
+	 * Test runner clients, one for each VM of the launch, or <code>null</code>.
 	 */
-	private RemoteTestRunnerClient fTestRunnerClient;
+	private RemoteTestRunnerClient[] fTestRunnerClients;
 
 	private final ListenerList<ITestSessionListener> fSessionListeners;
 
@@ -84,10 +87,21 @@ public class TestRunSession implements ITestRunSession {
 	 */
 	private Result fTestResult;
 
+	/**
+	 * The summed durations of the test classes in seconds by the fully qualified names of the top
+	 * level classes, cached when the session is swapped out and only used while it is.
+	 */
+	private Map<String, Double> fClassDurations;
+
 	/**
 	 * Map from testId to testElement.
 	 */
-	private HashMap<String, TestElement> fIdToTest;
+	private TestElementIndex fIdToTest;
+
+	/**
+	 * Names which occur in many test elements, e.g. parameter types, shared among them.
+	 */
+	private HashMap<String, String> fNames= new HashMap<>();
 
 	/**
 	 * The TestSuites for which additional children are expected.
@@ -96,6 +110,27 @@ public class TestRunSession implements ITestRunSession {
 
 	private List<IncompleteTestSuite> fFactoryTestSuites;
 
+	/**
+	 * The shard whose events are processed, or <code>null</code> if the tests run in one VM.
+	 */
+	private ShardNotifier fCurrentShard;
+
+	/*
+	 * The progress of the shards of a launch which is split across several VMs, guarded by the
+	 * TestSessionNotifier.
+	 */
+	private int fStartedShards;
+	private int fFinishedShards;
+	private boolean fShardsStopped;
+	private boolean fShardsTerminated;
+	private long fShardsElapsedTime;
+
+	/**
+	 * The stack filter patterns which are applied to the failure traces when the tests report them,
+	 * or <code>null</code> if the traces are kept unfiltered.
+	 */
+	private final String[] fCaptureFilterPatterns;
+
 	/**
 	 * Suite for unrooted test case elements, or <code>null</code>.
 	 */
@@ -170,16 +205,34 @@ public class TestRunSession implements ITestRunSession {
 		fTestRunnerKind= ITestKind.NULL; //TODO
 
 		fTestRoot= new TestRoot(this);
-		fIdToTest= new HashMap<>();
+		fIdToTest= new TestElementIndex();
 
-		fTestRunnerClient= null;
+		fTestRunnerClients= null;
+		fCaptureFilterPatterns= null;
 
 		fSessionListeners= new ListenerList<>();
 	}
 
 
 	public TestRunSession(ILaunch launch, IJavaProject project, int port) {
+		this(launch, project, new int[] { port }, null);
+	}
+
+	/**
+	 * Creates a test run session for a launch whose tests run in several VMs. The events of the
+	 * VMs are merged into this session.
+	 *
+	 * @param launch the launch
+	 * @param project the Java project
+	 * @param ports the ports on which the test runners of the VMs connect, one for each VM
+	 * @param names the names of the suites which group the tests of each VM, e.g. the names of
+	 *            the projects whose tests the VMs run, or <code>null</code> to merge the tests of
+	 *            the VMs
+	 */
+	public TestRunSession(ILaunch launch, IJavaProject project, int[] ports, String[] names) {
 		Assert.isNotNull(launch);
+		Assert.isLegal(ports.length > 0);
+		Assert.isLegal(names == null || names.length == ports.length);
 
 		fLaunch= launch;
 		fProject= project;
@@ -194,28 +247,30 @@ public class TestRunSession implements ITestRunSession {
 		}
 
 		fTestRoot= new TestRoot(this);
-		fIdToTest= new HashMap<>();
-
-		fTestRunnerClient= new RemoteTestRunnerClient(fTestRunnerKind);
-		fTestRunnerClient.startListening(new ITestRunListener2[] { new TestSessionNotifier() }, port);
+		fIdToTest= new TestElementIndex();
+		fCaptureFilterPatterns= JUnitPreferencesConstants.getFilterStackOnCapture() ? JUnitPreferencesConstants.getFilterPatterns() : null;
+
+		TestSessionNotifier notifier= new TestSessionNotifier();
+		fTestRunnerClients= new RemoteTestRunnerClient[ports.length];
+		for (int i= 0; i < ports.length; i++) {
+			ITestRunListener2 listener= ports.length == 1 ? notifier : new ShardNotifier(notifier, i, ports.length, names != null ? names[i] : null);
+			fTestRunnerClients[i]= new RemoteTestRunnerClient(fTestRunnerKind);
+			fTestRunnerClients[i].startListening(new ITestRunListener2[] { listener }, ports[i]);
+		}
 
 		final ILaunchManager launchManager= DebugPlugin.getDefault().getLaunchManager();
 		launchManager.addLaunchListener(new ILaunchesListener2() {
 			@Override
 			public void launchesTerminated(ILaunch[] launches) {
 				if (Arrays.asList(launches).contains(fLaunch)) {
-					if (fTestRunnerClient != null) {
-						fTestRunnerClient.stopWaiting();
-					}
+					stopWaiting();
 					launchManager.removeLaunchListener(this);
 				}
 			}
 			@Override
 			public void launchesRemoved(ILaunch[] launches) {
 				if (Arrays.asList(launches).contains(fLaunch)) {
-					if (fTestRunnerClient != null) {
-						fTestRunnerClient.stopWaiting();
-					}
+					stopWaiting();
 					launchManager.removeLaunchListener(this);
 				}
 			}
@@ -231,6 +286,15 @@ public class TestRunSession implements ITestRunSession {
 		addTestSessionListener(new TestRunListenerAdapter(this));
 	}
 
+	private void stopWaiting() {
+		RemoteTestRunnerClient[] clients= fTestRunnerClients;
+		if (clients != null) {
+			for (RemoteTestRunnerClient client : clients) {
+				client.stopWaiting();
+			}
+		}
+	}
+
 	void reset() {
 		fStartedCount= 0;
 		fFailureCount= 0;
@@ -241,7 +305,8 @@ public class TestRunSession implements ITestRunSession {
 
 		fTestRoot= new TestRoot(this);
 		fTestResult= null;
-		fIdToTest= new HashMap<>();
+		fIdToTest= new TestElementIndex();
+		fNames= new HashMap<>();
 	}
 
 	@Override
@@ -264,6 +329,40 @@ public class TestRunSession implements ITestRunSession {
 		}
 	}
 
+	/**
+	 * Returns the durations of the test classes of this session. Unlike the test elements, the
+	 * durations are kept when the session is swapped out.
+	 *
+	 * @return the summed durations of the test cases in seconds by the fully qualified names of the
+	 *         top level classes
+	 */
+	public synchronized Map<String, Double> getClassDurations() {
+		if (fTestRoot != null) {
+			Map<String, Double> durations= new HashMap<>();
+			collectClassDurations(fTestRoot, durations);
+			return durations;
+		} else {
+			return fClassDurations;
+		}
+	}
+
+	private static void collectClassDurations(TestElement element, Map<String, Double> durations) {
+		if (element instanceof TestSuiteElement) {
+			for (ITestElement child : ((TestSuiteElement) element).getChildren()) {
+				collectClassDurations((TestElement) child, durations);
+			}
+		} else if (element instanceof TestCaseElement) {
+			double time= element.getElapsedTimeInSeconds();
+			if (Double.isNaN(time))
+				return;
+			String className= TestElement.extractRawClassName(element.getTestName());
+			int nested= className.indexOf('$');
+			if (nested != -1)
+				className= className.substring(0, nested);
+			durations.merge(className, Double.valueOf(time), Double::sum);
+		}
+	}
+
 	@Override
 	public ITestElement[] getChildren() {
 		return getTestRoot().getChildren();
@@ -373,20 +472,30 @@ public class TestRunSession implements ITestRunSession {
 		try {
 			File swapFile= getSwapFile();
 
-			JUnitModel.exportTestRunSession(this, swapFile);
+			TestRunSessionSwapFile.write(this, swapFile);
 			fTestResult= fTestRoot.getTestResult(true);
+			fClassDurations= getClassDurations();
 			fTestRoot= null;
-			fTestRunnerClient= null;
-			fIdToTest= new HashMap<>();
+			fTestRunnerClients= null;
+			fIdToTest= new TestElementIndex();
+			fNames= new HashMap<>();
 			fIncompleteTestSuites= null;
 			fFactoryTestSuites= null;
+			fCurrentShard= null;
 			fUnrootedSuite= null;
 
-		} catch (IllegalStateException | CoreException e) {
+		} catch (IllegalStateException | IOException e) {
 			LOG.error(e.getMessage(), e);
 		}
 	}
 
+	/**
+	 * @return <code>true</code> iff the test elements of this session are swapped to disk
+	 */
+	public synchronized boolean isSwappedOut() {
+		return fTestRoot == null;
+	}
+
 	public boolean isStarting() {
 		return getStartTime() == 0 && fLaunch != null && ! fLaunch.isTerminated();
 	}
@@ -401,7 +510,7 @@ public class TestRunSession implements ITestRunSession {
 	private File getSwapFile() throws IllegalStateException {
 		File historyDir= JUnitCorePlugin.getHistoryDirectory();
 		String isoTime= new SimpleDateFormat("yyyyMMdd-HHmmss.SSS").format(new Date(getStartTime())); //$NON-NLS-1$
-		String swapFileName= isoTime + ".xml"; //$NON-NLS-1$
+		String swapFileName= isoTime + ".swap"; //$NON-NLS-1$
 		return new File(historyDir, swapFileName);
 	}
 
@@ -411,8 +520,8 @@ public class TestRunSession implements ITestRunSession {
 			return;
 
 		try {
-			JUnitModel.importIntoTestRunSession(getSwapFile(), this);
-		} catch (IllegalStateException | CoreException e) {
+			TestRunSessionSwapFile.read(getSwapFile(), this);
+		} catch (IllegalStateException | IOException e) {
 			LOG.error(e.getMessage(), e);
 			fTestRoot= new TestRoot(this);
 			fTestResult= null;
@@ -422,17 +531,20 @@ public class TestRunSession implements ITestRunSession {
 	public void stopTestRun() {
 		if (isRunning() || ! isKeptAlive())
 			fIsStopped= true;
-		if (fTestRunnerClient != null)
-			fTestRunnerClient.stopTest();
+		RemoteTestRunnerClient[] clients= fTestRunnerClients;
+		if (clients != null) {
+			for (RemoteTestRunnerClient client : clients) {
+				client.stopTest();
+			}
+		}
 	}
 
 	/**
 	 * @return <code>true</code> iff the runtime VM of this test session is still alive
 	 */
 	public boolean isKeptAlive() {
-		if (fTestRunnerClient != null
-				&& fLaunch != null
-				&& fTestRunnerClient.isRunning()
+		if (fLaunch != null
+				&& isTestRunnerRunning()
 				&& ILaunchManager.DEBUG_MODE.equals(fLaunch.getLaunchMode())) {
 			ILaunchConfiguration config= fLaunch.getLaunchConfiguration();
 			try {
@@ -447,6 +559,17 @@ public class TestRunSession implements ITestRunSession {
 		}
 	}
 
+	private boolean isTestRunnerRunning() {
+		RemoteTestRunnerClient[] clients= fTestRunnerClients;
+		if (clients != null) {
+			for (RemoteTestRunnerClient client : clients) {
+				if (client.isRunning())
+					return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * @return <code>true</code> iff this session has been started, but not ended nor stopped nor terminated
 	 */
@@ -470,7 +593,12 @@ public class TestRunSession implements ITestRunSession {
 			} else if (status == Status.FAILURE) {
 				fFailureCount--;
 			}
-			fTestRunnerClient.rerunTest(testId, className, testName);
+			RemoteTestRunnerClient[] clients= fTestRunnerClients;
+			if (clients.length == 1) {
+				clients[0].rerunTest(testId, className, testName);
+			} else {
+				clients[getShard(testId, clients.length)].rerunTest(toRunnerId(testId, clients.length), className, testName);
+			}
 			return true;
 		}
 		return false;
@@ -483,7 +611,7 @@ public class TestRunSession implements ITestRunSession {
 	private TestElement addTreeEntry(String treeEntry) {
 		// format: testId","testName","isSuite","testcount","isDynamicTest","parentId","displayName","parameterTypes","uniqueId
 		int index0= treeEntry.indexOf(',');
-		String id= treeEntry.substring(0, index0);
+		String id= toSessionId(treeEntry.substring(0, index0));
 
 		StringBuilder testNameBuffer= new StringBuilder(100);
 		int index1= scanTestName(treeEntry, index0 + 1, testNameBuffer);
@@ -519,6 +647,8 @@ public class TestRunSession implements ITestRunSession {
 			parentId= treeEntry.substring(index4 + 1, index5);
 			if ("-1".equals(parentId)) { //$NON-NLS-1$
 				parentId= null;
+			} else {
+				parentId= toSessionId(parentId);
 			}
 
 			int index6= scanTestName(treeEntry, index5 + 1, displayNameBuffer);
@@ -554,7 +684,8 @@ public class TestRunSession implements ITestRunSession {
 			return createTestElement(getUnrootedSuite(), id, testName, isSuite, testCount, isDynamicTest, displayName, parameterTypes, uniqueId); // should not reach here
 		} else {
 			if (fIncompleteTestSuites.isEmpty()) {
-				return createTestElement(fTestRoot, id, testName, isSuite, testCount, isDynamicTest, displayName, parameterTypes, uniqueId);
+				TestSuiteElement root= fCurrentShard != null && fCurrentShard.fGroup != null ? fCurrentShard.fGroup : fTestRoot;
+				return createTestElement(root, id, testName, isSuite, testCount, isDynamicTest, displayName, parameterTypes, uniqueId);
 			} else {
 				int suiteIndex= fIncompleteTestSuites.size() - 1;
 				IncompleteTestSuite openSuite= fIncompleteTestSuites.get(suiteIndex);
@@ -568,8 +699,8 @@ public class TestRunSession implements ITestRunSession {
 
 	public TestElement createTestElement(TestSuiteElement parent, String id, String testName, boolean isSuite, int testCount, boolean isDynamicTest, String displayName, String[] parameterTypes, String uniqueId) {
 		TestElement testElement;
-		if (parameterTypes != null && parameterTypes.length > 1) {
-			parameterTypes= Arrays.stream(parameterTypes).map(String::trim).toArray(String[]::new);
+		if (parameterTypes != null) {
+			parameterTypes= Arrays.stream(parameterTypes).map(type -> internName(type.trim())).toArray(String[]::new);
 		}
 		if (isSuite) {
 			TestSuiteElement testSuiteElement= new TestSuiteElement(parent, id, testName, testCount, displayName, parameterTypes, uniqueId);
@@ -586,6 +717,11 @@ public class TestRunSession implements ITestRunSession {
 		return testElement;
 	}
 
+	private String internName(String name) {
+		String interned= fNames.putIfAbsent(name, name);
+		return interned != null ? interned : name;
+	}
+
 	/**
 	 * Append the test name from <code>s</code> to <code>testName</code>.
 	 *
@@ -621,6 +757,44 @@ public class TestRunSession implements ITestRunSession {
 		return fUnrootedSuite;
 	}
 
+	private String toSessionId(String runnerId) {
+		return fCurrentShard != null ? fCurrentShard.toSessionId(runnerId) : runnerId;
+	}
+
+	/**
+	 * Tells whether a test id is a number assigned by the test runner, see
+	 * <code>org.eclipse.jdt.internal.junit.runner.TestIdMap</code>.
+	 *
+	 * @param id the test id
+	 * @return <code>true</code> if the id is the decimal representation of a non-negative int
+	 *         without leading zeros
+	 */
+	private static boolean isNumericId(String id) {
+		int length= id.length();
+		if (length == 0 || length > 9 || (length > 1 && id.charAt(0) == '0'))
+			return false;
+		for (int i= 0; i < length; i++) {
+			char c= id.charAt(i);
+			if (c < '0' || c > '9')
+				return false;
+		}
+		return true;
+	}
+
+	private static int getShard(String sessionId, int shardCount) {
+		int separator= sessionId.indexOf(':');
+		if (separator == -1)
+			return Integer.parseInt(sessionId) % shardCount;
+		return Integer.parseInt(sessionId.substring(0, separator));
+	}
+
+	private static String toRunnerId(String sessionId, int shardCount) {
+		int separator= sessionId.indexOf(':');
+		if (separator == -1)
+			return Integer.toString(Integer.parseInt(sessionId) / shardCount);
+		return sessionId.substring(separator + 1);
+	}
+
 	/**
 	 * An {@link ITestRunListener2} that listens to events from the
 	 * {@link RemoteTestRunnerClient} and translates them into high-level model
@@ -773,6 +947,7 @@ public class TestRunSession implements ITestRunSession {
 				status= Status.convert(statusCode);
 			}
 
+			trace= filterCapturedTrace(trace);
 			registerTestFailureStatus(testElement, status, trace, expected, actual);
 
 			for (ITestSessionListener listener : fSessionListeners) {
@@ -792,6 +967,7 @@ public class TestRunSession implements ITestRunSession {
 			TestCaseElement testCaseElement= (TestCaseElement) testElement;
 
 			Status status= Status.convert(statusCode);
+			trace= filterCapturedTrace(trace);
 			registerTestFailureStatus(testElement, status, trace, expectedResult, actualResult);
 
 			for (ITestSessionListener listener : fSessionListeners) {
@@ -805,6 +981,163 @@ public class TestRunSession implements ITestRunSession {
 		}
 	}
 
+	/**
+	 * Forwards the events of the test runner in one VM of a launch which is split across several
+	 * VMs to the {@link TestSessionNotifier}, see
+	 * {@link JUnitLaunchConfigurationConstants#ATTR_SHARD_COUNT}. The VMs are called shards.
+	 * <p>
+	 * The test ids of the shards are mapped to ids which are unique in the session: the n-th test of
+	 * shard k of s shards gets the id n*s+k, which keeps the ids small for the
+	 * {@link TestElementIndex}, other ids are prefixed with "k:". The session starts with the first
+	 * shard and ends when all shards have ended.
+	 * </p>
+	 * <p>
+	 * If the shard has a name, its tests are grouped in a suite with the name and the id "k:".
+	 * </p>
+	 */
+	private class ShardNotifier implements ITestRunListener2 {
+
+		private final TestSessionNotifier fNotifier;
+
+		private final int fShard;
+
+		private final int fShardCount;
+
+		private final List<IncompleteTestSuite> fShardIncompleteTestSuites= new ArrayList<>();
+
+		private final List<IncompleteTestSuite> fShardFactoryTestSuites= new ArrayList<>();
+
+		private final String fName;
+
+		/**
+		 * The suite which groups the tests of the shard, or <code>null</code>.
+		 */
+		TestSuiteElement fGroup;
+
+		private boolean fFinished;
+
+		public ShardNotifier(TestSessionNotifier notifier, int shard, int shardCount, String name) {
+			fNotifier= notifier;
+			fShard= shard;
+			fShardCount= shardCount;
+			fName= name;
+		}
+
+		String toSessionId(String runnerId) {
+			if (isNumericId(runnerId) && Integer.parseInt(runnerId) <= (Integer.MAX_VALUE - fShard) / fShardCount)
+				return Integer.toString(Integer.parseInt(runnerId) * fShardCount + fShard);
+			return fShard + ":" + runnerId; //$NON-NLS-1$
+		}
+
+		/**
+		 * Makes the session build the test tree of this shard, the events of the shards arrive
+		 * interleaved.
+		 */
+		private void enter() {
+			fCurrentShard= this;
+			fIncompleteTestSuites= fShardIncompleteTestSuites;
+			fFactoryTestSuites= fShardFactoryTestSuites;
+		}
+
+		private void finish(long elapsedTime, boolean stopped, boolean terminated) {
+			if (fFinished)
+				return;
+			fFinished= true;
+			fShardsStopped|= stopped;
+			fShardsTerminated|= terminated;
+			fShardsElapsedTime= Math.max(fShardsElapsedTime, elapsedTime);
+			if (++fFinishedShards < fShardCount)
+				return;
+			if (fShardsTerminated) {
+				fNotifier.testRunTerminated();
+			} else if (fShardsStopped) {
+				fNotifier.testRunStopped(fShardsElapsedTime);
+			} else {
+				fNotifier.testRunEnded(fShardsElapsedTime);
+			}
+		}
+
+		@Override
+		public void testRunStarted(int testCount) {
+			synchronized (fNotifier) {
+				if (fStartedShards++ == 0) {
+					fNotifier.testRunStarted(testCount);
+				} else {
+					fTotalCount+= testCount;
+				}
+				if (fName != null) {
+					String id= fShard + ":"; //$NON-NLS-1$
+					fGroup= new TestSuiteElement(fTestRoot, id, fName, 0, null, null, null);
+					fIdToTest.put(id, fGroup);
+					for (ITestSessionListener listener : fSessionListeners) {
+						listener.testAdded(fGroup);
+					}
+				}
+			}
+		}
+
+		@Override
+		public void testRunEnded(long elapsedTime) {
+			synchronized (fNotifier) {
+				finish(elapsedTime, false, false);
+			}
+		}
+
+		@Override
+		public void testRunStopped(long elapsedTime) {
+			synchronized (fNotifier) {
+				finish(elapsedTime, true, false);
+			}
+		}
+
+		@Override
+		public void testRunTerminated() {
+			synchronized (fNotifier) {
+				finish(0, true, true);
+			}
+		}
+
+		@Override
+		public void testTreeEntry(String description) {
+			synchronized (fNotifier) {
+				enter();
+				fNotifier.testTreeEntry(description);
+			}
+		}
+
+		@Override
+		public void testStarted(String testId, String testName) {
+			synchronized (fNotifier) {
+				enter();
+				fNotifier.testStarted(toSessionId(testId), testName);
+			}
+		}
+
+		@Override
+		public void testEnded(String testId, String testName) {
+			synchronized (fNotifier) {
+				enter();
+				fNotifier.testEnded(toSessionId(testId), testName);
+			}
+		}
+
+		@Override
+		public void testFailed(int status, String testId, String testName, String trace, String expected, String actual) {
+			synchronized (fNotifier) {
+				enter();
+				fNotifier.testFailed(status, toSessionId(testId), testName, trace, expected, actual);
+			}
+		}
+
+		@Override
+		public void testReran(String testId, String className, String testName, int status, String trace, String expected, String actual) {
+			synchronized (fNotifier) {
+				enter();
+				fNotifier.testReran(toSessionId(testId), className, testName, status, trace, expected, actual);
+			}
+		}
+	}
+
 	private static class IncompleteTestSuite {
 		public TestSuiteElement fTestSuiteElement;
 		public int fOutstandingChildren;
@@ -815,6 +1148,12 @@ public class TestRunSession implements ITestRunSession {
 		}
 	}
 
+	private String filterCapturedTrace(String trace) {
+		if (fCaptureFilterPatterns == null)
+			return trace;
+		return FailureTraceStore.filterStack(trace, fCaptureFilterPatterns);
+	}
+
 	public void registerTestFailureStatus(TestElement testElement, Status status, String trace, String expected, String actual) {
 		testElement.setStatus(status, trace, expected, actual);
 		if (!testElement.isAssumptionFailure()) {
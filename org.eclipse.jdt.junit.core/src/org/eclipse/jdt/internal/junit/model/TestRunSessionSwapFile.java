@@ -0,0 +1,295 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.model;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.junit.model.ITestElement;
+
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+
+/**
+ * Reads and writes the binary files to which {@link TestRunSession#swapOut()} moves the test
+ * elements of inactive sessions. XML is only used to import and export test runs, see
+ * {@link JUnitModel#exportTestRunSession(TestRunSession, File)}.
+ * <p>
+ * A swap file consists of
+ * </p>
+ * <ul>
+ * <li>a header with the counters of the session and the number of elements,</li>
+ * <li>the elements in pre-order, as records of {@link #RECORD_SIZE} bytes which refer to their
+ * parent and to their strings by index,</li>
+ * <li>the string table: the number of strings, their offsets and their UTF-8 bytes. Equal strings,
+ * e.g. class names and parameter types, are stored once.</li>
+ * </ul>
+ * <p>
+ * Since the records have a fixed size, an element or the strings of an element can be read without
+ * reading the elements before it. Unlike the XML import, a swap file restores the ids and the
+ * exact status of the test elements.
+ * </p>
+ */
+public final class TestRunSessionSwapFile {
+
+	private static final int MAGIC= 0x4A555357; // "JUSW"
+
+	private static final int VERSION= 1;
+
+	/** magic, version, 6 counters, element count */
+	private static final int HEADER_SIZE= 9 * 4;
+
+	/** flags, status, parent index, 8 string indices, elapsed time */
+	private static final int RECORD_SIZE= 1 + 1 + 4 + 8 * 4 + 8;
+
+	private static final int NO_STRING= -1;
+
+	private static final int FLAG_SUITE= 1;
+	private static final int FLAG_DYNAMIC_TEST= 2;
+	private static final int FLAG_IGNORED= 4;
+	private static final int FLAG_ASSUMPTION_FAILED= 8;
+
+	/** The statuses by their code in a swap file, the order must not change */
+	private static final Status[] STATUSES= {
+			Status.NOT_RUN,
+			Status.RUNNING,
+			Status.RUNNING_FAILURE,
+			Status.RUNNING_ERROR,
+			Status.OK,
+			Status.FAILURE,
+			Status.ERROR,
+	};
+
+	private TestRunSessionSwapFile() {
+	}
+
+	/**
+	 * Writes the test elements and counters of a session.
+	 *
+	 * @param session the test run session
+	 * @param file the swap file
+	 * @throws IOException if writing fails
+	 */
+	public static void write(TestRunSession session, File file) throws IOException {
+		List<TestElement> elements= new ArrayList<>();
+		List<Integer> parents= new ArrayList<>();
+		for (ITestElement child : session.getTestRoot().getChildren()) {
+			collectElements((TestElement) child, -1, elements, parents);
+		}
+
+		Map<String, Integer> stringIndices= new HashMap<>();
+		List<byte[]> strings= new ArrayList<>();
+		try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 64 * 1024))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(session.getTotalCount());
+			out.writeInt(session.getStartedCount());
+			out.writeInt(session.getFailureCount());
+			out.writeInt(session.getErrorCount());
+			out.writeInt(session.getIgnoredCount());
+			out.writeInt(session.getAssumptionFailureCount());
+			out.writeInt(elements.size());
+			for (int i= 0; i < elements.size(); i++) {
+				TestElement element= elements.get(i);
+				int flags= 0;
+				Status status;
+				if (element instanceof TestSuiteElement) {
+					flags|= FLAG_SUITE;
+					status= ((TestSuiteElement) element).getSuiteStatus();
+				} else {
+					TestCaseElement testCase= (TestCaseElement) element;
+					if (testCase.isDynamicTest())
+						flags|= FLAG_DYNAMIC_TEST;
+					if (testCase.isIgnored())
+						flags|= FLAG_IGNORED;
+					status= testCase.getStatus();
+				}
+				if (element.isAssumptionFailure())
+					flags|= FLAG_ASSUMPTION_FAILED;
+				String[] parameterTypes= element.getParameterTypes();
+
+				out.writeByte(flags);
+				out.writeByte(getStatusCode(status));
+				out.writeInt(parents.get(i).intValue());
+				out.writeInt(addString(element.getId(), stringIndices, strings));
+				out.writeInt(addString(element.getTestName(), stringIndices, strings));
+				out.writeInt(addString(element.getDisplayName(), stringIndices, strings));
+				out.writeInt(addString(parameterTypes != null ? String.join(",", parameterTypes) : null, stringIndices, strings)); //$NON-NLS-1$
+				out.writeInt(addString(element.getUniqueId(), stringIndices, strings));
+				out.writeInt(addString(element.getTrace(), stringIndices, strings));
+				out.writeInt(addString(element.getExpected(), stringIndices, strings));
+				out.writeInt(addString(element.getActual(), stringIndices, strings));
+				out.writeDouble(element.getElapsedTimeInSeconds());
+			}
+			if (out.size() != HEADER_SIZE + elements.size() * RECORD_SIZE)
+				throw new IllegalStateException();
+
+			out.writeInt(strings.size());
+			int offset= 0;
+			for (byte[] string : strings) {
+				out.writeInt(offset);
+				offset+= string.length;
+			}
+			out.writeInt(offset);
+			for (byte[] string : strings) {
+				out.write(string);
+			}
+		}
+	}
+
+	private static void collectElements(TestElement element, int parent, List<TestElement> elements, List<Integer> parents) {
+		int index= elements.size();
+		elements.add(element);
+		parents.add(Integer.valueOf(parent));
+		if (element instanceof TestSuiteElement) {
+			for (ITestElement child : ((TestSuiteElement) element).getChildren()) {
+				collectElements((TestElement) child, index, elements, parents);
+			}
+		}
+	}
+
+	private static int addString(String string, Map<String, Integer> stringIndices, List<byte[]> strings) {
+		if (string == null)
+			return NO_STRING;
+		Integer index= stringIndices.get(string);
+		if (index == null) {
+			index= Integer.valueOf(strings.size());
+			stringIndices.put(string, index);
+			strings.add(string.getBytes(StandardCharsets.UTF_8));
+		}
+		return index.intValue();
+	}
+
+	private static int getStatusCode(Status status) {
+		for (int i= 0; i < STATUSES.length; i++) {
+			if (STATUSES[i] == status)
+				return i;
+		}
+		throw new IllegalArgumentException(String.valueOf(status));
+	}
+
+	/**
+	 * Replaces the test elements and counters of a session by the ones from a swap file.
+	 *
+	 * @param file the swap file
+	 * @param session the test run session
+	 * @throws IOException if reading fails or if the file is not a valid swap file
+	 */
+	public static void read(File file, TestRunSession session) throws IOException {
+		ByteBuffer buffer= ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+		try {
+			new Reader(buffer).readInto(session);
+		} catch (IndexOutOfBoundsException | NegativeArraySizeException | ClassCastException e) {
+			throw new IOException("Corrupt swap file: " + file, e); //$NON-NLS-1$
+		}
+	}
+
+	private static class Reader {
+
+		private final ByteBuffer fBuffer;
+
+		private final int fElementCount;
+
+		private final int fStringOffsetsPosition;
+
+		private final int fStringsPosition;
+
+		private final String[] fStrings;
+
+		public Reader(ByteBuffer buffer) throws IOException {
+			fBuffer= buffer;
+			if (buffer.getInt(0) != MAGIC)
+				throw new IOException("Not a swap file"); //$NON-NLS-1$
+			int version= buffer.getInt(4);
+			if (version != VERSION)
+				throw new IOException("Unsupported swap file version: " + version); //$NON-NLS-1$
+			fElementCount= buffer.getInt(HEADER_SIZE - 4);
+			int stringCountPosition= HEADER_SIZE + fElementCount * RECORD_SIZE;
+			fStrings= new String[buffer.getInt(stringCountPosition)];
+			fStringOffsetsPosition= stringCountPosition + 4;
+			fStringsPosition= fStringOffsetsPosition + (fStrings.length + 1) * 4;
+		}
+
+		public void readInto(TestRunSession session) throws IOException {
+			session.reset();
+			TestElement[] elements= new TestElement[fElementCount];
+			for (int i= 0; i < fElementCount; i++) {
+				int record= HEADER_SIZE + i * RECORD_SIZE;
+				int flags= fBuffer.get(record);
+				int parentIndex= fBuffer.getInt(record + 2);
+				if (parentIndex >= i)
+					throw new IOException("Invalid parent: " + parentIndex); //$NON-NLS-1$
+				TestSuiteElement parent= parentIndex == -1 ? session.getTestRoot() : (TestSuiteElement) elements[parentIndex];
+				String parameterTypes= getString(record, 3);
+				elements[i]= session.createTestElement(parent, getString(record, 0), getString(record, 1), (flags & FLAG_SUITE) != 0, 0, (flags & FLAG_DYNAMIC_TEST) != 0,
+						getString(record, 2), parameterTypes != null ? parameterTypes.split(",") : null, getString(record, 4)); //$NON-NLS-1$
+			}
+
+			// like the XML import, set the status of children before the status of their parents
+			for (int i= fElementCount - 1; i >= 0; i--) {
+				int record= HEADER_SIZE + i * RECORD_SIZE;
+				TestElement element= elements[i];
+				int flags= fBuffer.get(record);
+				Status status= STATUSES[fBuffer.get(record + 1)];
+				if ((flags & FLAG_IGNORED) != 0 && element instanceof TestCaseElement)
+					((TestCaseElement) element).setIgnored(true);
+				if ((flags & FLAG_ASSUMPTION_FAILED) != 0)
+					element.setAssumptionFailed(true);
+				String trace= getString(record, 5);
+				String expected= getString(record, 6);
+				String actual= getString(record, 7);
+				if (status != Status.NOT_RUN || trace != null || expected != null || actual != null)
+					element.setStatus(status, trace, expected, actual);
+				element.setElapsedTimeInSeconds(fBuffer.getDouble(record + RECORD_SIZE - 8));
+			}
+
+			session.fTotalCount= fBuffer.getInt(8);
+			session.fStartedCount= fBuffer.getInt(12);
+			session.fFailureCount= fBuffer.getInt(16);
+			session.fErrorCount= fBuffer.getInt(20);
+			session.fIgnoredCount= fBuffer.getInt(24);
+			session.fAssumptionFailureCount= fBuffer.getInt(28);
+		}
+
+		/**
+		 * Returns a string of an element record.
+		 *
+		 * @param record the position of the record
+		 * @param field the index of the string in the record
+		 * @return the string, or <code>null</code>
+		 */
+		private String getString(int record, int field) {
+			int index= fBuffer.getInt(record + 6 + 4 * field);
+			if (index == NO_STRING)
+				return null;
+			String string= fStrings[index];
+			if (string == null) {
+				int start= fBuffer.getInt(fStringOffsetsPosition + 4 * index);
+				int end= fBuffer.getInt(fStringOffsetsPosition + 4 * index + 4);
+				string= new String(fBuffer.array(), fStringsPosition + start, end - start, StandardCharsets.UTF_8);
+				fStrings[index]= string;
+			}
+			return string;
+		}
+	}
+}
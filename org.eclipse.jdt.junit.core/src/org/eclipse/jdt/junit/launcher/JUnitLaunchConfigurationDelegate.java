@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,7 +27,10 @@ import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -50,7 +53,10 @@ import org.eclipse.core.runtime.URIUtil;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
 import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.debug.core.sourcelookup.ISourceContainer;
+import org.eclipse.debug.core.sourcelookup.ISourceLookupDirector;
 
 import org.eclipse.jdt.core.IClasspathAttribute;
 import org.eclipse.jdt.core.IClasspathEntry;
@@ -67,18 +73,23 @@ import org.eclipse.jdt.core.JavaModelException;
 
 import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
 import org.eclipse.jdt.internal.junit.JUnitMessages;
+import org.eclipse.jdt.internal.junit.JUnitPreferencesConstants;
 import org.eclipse.jdt.internal.junit.Messages;
 import org.eclipse.jdt.internal.junit.buildpath.BuildPathSupport;
 import org.eclipse.jdt.internal.junit.launcher.ITestKind;
 import org.eclipse.jdt.internal.junit.launcher.JUnitLaunchConfigurationConstants;
 import org.eclipse.jdt.internal.junit.launcher.JUnitRuntimeClasspathEntry;
+import org.eclipse.jdt.internal.junit.launcher.TestDurationPrioritizer;
+import org.eclipse.jdt.internal.junit.launcher.TestImpactAnalyzer;
 import org.eclipse.jdt.internal.junit.launcher.TestKindRegistry;
+import org.eclipse.jdt.internal.junit.runner.MessageIds;
 import org.eclipse.jdt.internal.junit.util.CoreTestSearchEngine;
 import org.eclipse.jdt.internal.junit.util.IJUnitStatusConstants;
 
 import org.eclipse.jdt.launching.AbstractJavaLaunchConfigurationDelegate;
 import org.eclipse.jdt.launching.ExecutionArguments;
 import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
+import org.eclipse.jdt.launching.IRuntimeClasspathEntry;
 import org.eclipse.jdt.launching.IVMRunner;
 import org.eclipse.jdt.launching.JavaRuntime;
 import org.eclipse.jdt.launching.SocketUtil;
@@ -98,6 +109,9 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 	private boolean fKeepAlive= false;
 	private int fPort;
 	private IJavaElement[] fTestElements;
+	private int[] fShardPorts;
+	private IJavaElement[][] fShardTestElements;
+	private int fProjectPort;
 
 	private static final String DEFAULT= "<default>"; //$NON-NLS-1$
 
@@ -138,7 +152,7 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 	 * @since 3.15
 	 */
 	protected final VMRunnerConfiguration getVMRunnerConfiguration(ILaunchConfiguration configuration, ILaunch launch, String mode, IProgressMonitor monitor) throws CoreException {
-		SubMonitor subMon= SubMonitor.convert(monitor, JUnitMessages.JUnitLaunchConfigurationDelegate_verifying_attriburtes_description, 4);
+		SubMonitor subMon= SubMonitor.convert(monitor, JUnitMessages.JUnitLaunchConfigurationDelegate_verifying_attriburtes_description, 6);
 		// check for cancellation
 		if (subMon.isCanceled()) {
 			return null;
@@ -164,8 +178,6 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 			}
 
 			fKeepAlive= ILaunchManager.DEBUG_MODE.equals(mode) && configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_KEEPRUNNING, false);
-			fPort= evaluatePort();
-			launch.setAttribute(JUnitLaunchConfigurationConstants.ATTR_PORT, String.valueOf(fPort));
 
 			ITestKind testKind= getTestRunnerKind(configuration);
 			IJavaProject javaProject= getJavaProject(configuration);
@@ -179,6 +191,31 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 					fTestElements= evaluateTests(configuration, subMon.newChild(1));
 				}
 			}
+			if (configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_RUN_AFFECTED_TESTS_ONLY, false)) {
+				fTestElements= selectAffectedTests(configuration, launch, javaProject, subMon.newChild(1));
+			}
+
+			int shardCount= configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_COUNT, 1);
+			fShardTestElements= shardCount > 1 ? createShards(configuration, shardCount, subMon.newChild(1)) : null;
+			if (fShardTestElements != null) {
+				// the session connects to all VMs once the port of the first VM is set
+				fShardPorts= new int[fShardTestElements.length];
+				StringBuilder shardPorts= new StringBuilder();
+				for (int i= 0; i < fShardPorts.length; i++) {
+					fShardPorts[i]= evaluatePort(Arrays.copyOf(fShardPorts, i));
+					if (i > 0)
+						shardPorts.append(',');
+					shardPorts.append(fShardPorts[i]);
+				}
+				launch.setAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_PORTS, shardPorts.toString());
+				fPort= fShardPorts[0];
+				fTestElements= fShardTestElements[0];
+			} else {
+				fPort= fProjectPort != 0 ? fProjectPort : evaluatePort();
+			}
+			if (fProjectPort == 0) {
+				launch.setAttribute(JUnitLaunchConfigurationConstants.ATTR_PORT, String.valueOf(fPort));
+			}
 
 			String mainTypeName= verifyMainTypeName(configuration);
 
@@ -192,14 +229,6 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 			// Environment variables
 			String[] envp= getEnvironment(configuration);
 
-			ArrayList<String> vmArguments= new ArrayList<>();
-			ArrayList<String> programArguments= new ArrayList<>();
-			collectExecutionArguments(configuration, vmArguments, programArguments);
-			vmArguments.addAll(Arrays.asList(DebugPlugin.parseArguments(getVMArguments(configuration, mode))));
-			if (JavaRuntime.isModularProject(javaProject)) {
-				vmArguments.add("--add-modules=ALL-MODULE-PATH"); //$NON-NLS-1$
-			}
-
 			// VM-specific attributes
 			Map<String, Object> vmAttributesMap= getVMSpecificAttributesMap(configuration);
 
@@ -258,8 +287,7 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 
 			// Create VM config
 			VMRunnerConfiguration runConfig= new VMRunnerConfiguration(mainTypeName, classpath);
-			runConfig.setVMArguments(vmArguments.toArray(new String[vmArguments.size()]));
-			runConfig.setProgramArguments(programArguments.toArray(new String[programArguments.size()]));
+			setExecutionArguments(runConfig, configuration, mode, javaProject);
 			runConfig.setEnvironment(envp);
 			runConfig.setWorkingDirectory(workingDirName);
 			runConfig.setVMSpecificAttributesMap(vmAttributesMap);
@@ -289,6 +317,18 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 		}
 	}
 
+	private void setExecutionArguments(VMRunnerConfiguration runConfig, ILaunchConfiguration configuration, String mode, IJavaProject javaProject) throws CoreException {
+		ArrayList<String> vmArguments= new ArrayList<>();
+		ArrayList<String> programArguments= new ArrayList<>();
+		collectExecutionArguments(configuration, vmArguments, programArguments);
+		vmArguments.addAll(Arrays.asList(DebugPlugin.parseArguments(getVMArguments(configuration, mode))));
+		if (JavaRuntime.isModularProject(javaProject)) {
+			vmArguments.add("--add-modules=ALL-MODULE-PATH"); //$NON-NLS-1$
+		}
+		runConfig.setVMArguments(vmArguments.toArray(new String[vmArguments.size()]));
+		runConfig.setProgramArguments(programArguments.toArray(new String[programArguments.size()]));
+	}
+
 	@Override
 	public synchronized void launch(ILaunchConfiguration configuration, String mode, ILaunch launch, IProgressMonitor monitor) throws CoreException {
 		if (monitor == null) {
@@ -296,6 +336,11 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 		}
 
 		try {
+			List<String> projectNames= configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_PROJECT_NAMES, Collections.emptyList());
+			if (projectNames.size() > 1) {
+				launchProjects(configuration, projectNames, mode, launch, monitor);
+				return;
+			}
 
 			VMRunnerConfiguration runConfig = getVMRunnerConfiguration(configuration, launch, mode, monitor);
 			if ( monitor.isCanceled() || runConfig == null) {
@@ -310,16 +355,133 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 			// Launch the configuration - 1 unit of work
 			runner.run(runConfig, launch, monitor);
 
+			// the other VMs of a split launch differ in their port and tests only
+			if (fShardTestElements != null) {
+				String vmMode= JUnitLaunchConfigurationConstants.MODE_RUN_QUIETLY_MODE.equals(mode) ? ILaunchManager.RUN_MODE : mode;
+				IJavaProject javaProject= getJavaProject(configuration);
+				for (int i= 1; i < fShardTestElements.length && !monitor.isCanceled(); i++) {
+					fPort= fShardPorts[i];
+					fTestElements= fShardTestElements[i];
+					setExecutionArguments(runConfig, configuration, vmMode, javaProject);
+					runner.run(runConfig, launch, monitor);
+				}
+			}
+
 			// check for cancellation
 			if (monitor.isCanceled()) {
 				return;
 			}
 		} finally {
 			fTestElements= null;
+			fShardTestElements= null;
+			fShardPorts= null;
+			fProjectPort= 0;
 			monitor.done();
 		}
 	}
 
+	/**
+	 * Runs the tests of several projects in parallel, each in a VM of its own with the default
+	 * classpath of its project, see {@link JUnitLaunchConfigurationConstants#ATTR_PROJECT_NAMES}.
+	 *
+	 * @param configuration the launch configuration
+	 * @param projectNames the names of the projects
+	 * @param mode the launch mode
+	 * @param launch the launch
+	 * @param monitor the progress monitor
+	 * @throws CoreException if a project can not be launched
+	 */
+	private void launchProjects(ILaunchConfiguration configuration, List<String> projectNames, String mode, ILaunch launch, IProgressMonitor monitor) throws CoreException {
+		SubMonitor subMon= SubMonitor.convert(monitor, 2 * projectNames.size() + 1);
+		int[] ports= new int[projectNames.size()];
+		VMRunnerConfiguration[] runConfigs= new VMRunnerConfiguration[ports.length];
+		IVMRunner[] runners= new IVMRunner[ports.length];
+		ILaunchConfiguration[] projectConfigurations= new ILaunchConfiguration[ports.length];
+
+		// configure all VMs before the session connects to them
+		for (int i= 0; i < ports.length; i++) {
+			projectConfigurations[i]= createProjectConfiguration(configuration, projectNames.get(i));
+			ports[i]= evaluatePort(Arrays.copyOf(ports, i));
+			fProjectPort= ports[i];
+			runConfigs[i]= getVMRunnerConfiguration(projectConfigurations[i], launch, mode, subMon.split(1));
+			if (subMon.isCanceled() || runConfigs[i] == null) {
+				return;
+			}
+			runners[i]= getVMRunner(projectConfigurations[i], mode);
+		}
+
+		subMon.subTask(JUnitMessages.JUnitLaunchConfigurationDelegate_create_source_locator_description);
+		setSourceLocator(launch, configuration, projectConfigurations);
+		subMon.worked(1);
+
+		StringBuilder shardPorts= new StringBuilder();
+		for (int i= 0; i < ports.length; i++) {
+			if (i > 0)
+				shardPorts.append(',');
+			shardPorts.append(ports[i]);
+		}
+		launch.setAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_NAMES, String.join(JUnitLaunchConfigurationConstants.SHARD_NAMES_SEPARATOR, projectNames));
+		launch.setAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_PORTS, shardPorts.toString());
+		launch.setAttribute(JUnitLaunchConfigurationConstants.ATTR_PORT, String.valueOf(ports[0]));
+
+		for (int i= 0; i < ports.length && !subMon.isCanceled(); i++) {
+			runners[i].run(runConfigs[i], launch, subMon.split(1));
+		}
+	}
+
+	/**
+	 * Sets the default source locator of a launch which runs several projects, unless the launch
+	 * has a source locator already. The locator looks up the sources of all projects.
+	 *
+	 * @param launch the launch
+	 * @param configuration the launch configuration
+	 * @param projectConfigurations the configurations of the projects, see
+	 *            {@link #createProjectConfiguration(ILaunchConfiguration, String)}
+	 * @throws CoreException if the source lookup path of a project can not be computed
+	 */
+	private void setSourceLocator(ILaunch launch, ILaunchConfiguration configuration, ILaunchConfiguration[] projectConfigurations) throws CoreException {
+		if (launch.getSourceLocator() != null)
+			return;
+		setDefaultSourceLocator(launch, configuration);
+		if (!(launch.getSourceLocator() instanceof ISourceLookupDirector))
+			return;
+		Set<ISourceContainer> containers= new LinkedHashSet<>();
+		for (ILaunchConfiguration projectConfiguration : projectConfigurations) {
+			IRuntimeClasspathEntry[] entries= JavaRuntime.computeUnresolvedSourceLookupPath(projectConfiguration);
+			IRuntimeClasspathEntry[] resolved= JavaRuntime.resolveSourceLookupPath(entries, projectConfiguration);
+			containers.addAll(Arrays.asList(JavaRuntime.getSourceContainers(resolved)));
+		}
+		((ISourceLookupDirector) launch.getSourceLocator()).setSourceContainers(containers.toArray(new ISourceContainer[containers.size()]));
+	}
+
+	/**
+	 * Creates a copy of a configuration which runs all tests of one of its projects.
+	 *
+	 * @param configuration the launch configuration
+	 * @param projectName the name of the project
+	 * @return the configuration for the project
+	 * @throws CoreException if the project does not exist
+	 */
+	private ILaunchConfigurationWorkingCopy createProjectConfiguration(ILaunchConfiguration configuration, String projectName) throws CoreException {
+		ILaunchConfigurationWorkingCopy projectConfiguration= configuration.copy(configuration.getName());
+		projectConfiguration.setAttribute(IJavaLaunchConfigurationConstants.ATTR_PROJECT_NAME, projectName);
+		IJavaProject javaProject= getJavaProject(projectConfiguration);
+		if (javaProject == null || !javaProject.exists()) {
+			abort(JUnitMessages.JUnitLaunchConfigurationDelegate_error_invalidproject, null, IJavaLaunchConfigurationConstants.ERR_NOT_A_JAVA_PROJECT);
+		}
+		projectConfiguration.setAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_CONTAINER, javaProject.getHandleIdentifier());
+		projectConfiguration.setAttribute(IJavaLaunchConfigurationConstants.ATTR_MAIN_TYPE_NAME, ""); //$NON-NLS-1$
+		projectConfiguration.setAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_RUNNER_KIND, TestKindRegistry.getContainerTestKindId(javaProject));
+		projectConfiguration.removeAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_NAME);
+		projectConfiguration.removeAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_UNIQUE_ID);
+		projectConfiguration.removeAttribute(JUnitLaunchConfigurationConstants.ATTR_PROJECT_NAMES);
+		projectConfiguration.removeAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_COUNT);
+		// the default classpath of the project only, so that the projects cannot conflict
+		projectConfiguration.removeAttribute(IJavaLaunchConfigurationConstants.ATTR_CLASSPATH);
+		projectConfiguration.removeAttribute(IJavaLaunchConfigurationConstants.ATTR_DEFAULT_CLASSPATH);
+		return projectConfiguration;
+	}
+
 	private int evaluatePort() throws CoreException {
 		int port= SocketUtil.findFreePort();
 		if (port == -1) {
@@ -328,6 +490,14 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 		return port;
 	}
 
+	private int evaluatePort(int[] usedPorts) throws CoreException {
+		while (true) {
+			int port= evaluatePort();
+			if (Arrays.stream(usedPorts).noneMatch(p -> p == port))
+				return port;
+		}
+	}
+
 	/**
 	 * Performs a check on the launch configuration's attributes. If an attribute contains an invalid value, a {@link CoreException}
 	 * with the error is thrown.
@@ -413,6 +583,93 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 		return result.toArray(new IMember[result.size()]);
 	}
 
+	/**
+	 * Reduces the tests to run to the ones which are affected by the changes since the last
+	 * successful run of the configuration. The stamp of the configuration and of the classpath of
+	 * the tests is added to the launch, so that a successful run can be recorded for it.
+	 *
+	 * @param configuration the launch configuration
+	 * @param launch the launch
+	 * @param javaProject the project of the tests
+	 * @param monitor the progress monitor
+	 * @return the affected test types and methods
+	 * @throws CoreException if no test is affected or if the affected tests can not be determined
+	 */
+	private IJavaElement[] selectAffectedTests(ILaunchConfiguration configuration, ILaunch launch, IJavaProject javaProject, IProgressMonitor monitor) throws CoreException {
+		// the configurations of the projects of a multi-project launch are copies of the launched one
+		ILaunchConfiguration launchedConfiguration= launch.getLaunchConfiguration() != null ? launch.getLaunchConfiguration() : configuration;
+		String stamp= TestImpactAnalyzer.computeStamp(launchedConfiguration, javaProject);
+		String stamps= launch.getAttribute(JUnitLaunchConfigurationConstants.ATTR_RUN_STAMPS);
+		launch.setAttribute(JUnitLaunchConfigurationConstants.ATTR_RUN_STAMPS, stamps != null ? stamps + ',' + stamp : stamp);
+
+		long lastSuccessfulRun= TestImpactAnalyzer.getLastSuccessfulRun(configuration, stamp);
+		if (lastSuccessfulRun == 0)
+			return fTestElements;
+
+		SubMonitor subMon= SubMonitor.convert(monitor, 2);
+		IJavaElement[] testElements= fTestElements;
+		if (testElements.length == 1 && !(testElements[0] instanceof IMember)) {
+			testElements= evaluateTests(configuration, subMon.newChild(1));
+		}
+		Set<IType> testTypes= new LinkedHashSet<>();
+		for (IJavaElement testElement : testElements) {
+			testTypes.add(getTestType(testElement));
+		}
+		Set<IType> affectedTypes= TestImpactAnalyzer.findAffectedTests(javaProject, testTypes, lastSuccessfulRun, subMon.newChild(1));
+
+		List<IJavaElement> affectedElements= new ArrayList<>();
+		for (IJavaElement testElement : testElements) {
+			if (affectedTypes.contains(getTestType(testElement)))
+				affectedElements.add(testElement);
+		}
+		if (affectedElements.isEmpty()) {
+			abort(JUnitMessages.JUnitLaunchConfigurationDelegate_error_no_affected_tests, null, IJavaLaunchConfigurationConstants.ERR_UNSPECIFIED_MAIN_TYPE);
+		}
+		return affectedElements.toArray(new IJavaElement[affectedElements.size()]);
+	}
+
+	/**
+	 * Splits the tests to run across several VMs by their durations in previous runs, see
+	 * {@link TestDurationPrioritizer}. The tests of a class run in the same VM.
+	 *
+	 * @param configuration the launch configuration
+	 * @param shardCount the maximum number of VMs
+	 * @param monitor the progress monitor
+	 * @return the tests for each VM, or <code>null</code> if the tests can not be split
+	 * @throws CoreException if the tests can not be determined
+	 */
+	private IJavaElement[][] createShards(ILaunchConfiguration configuration, int shardCount, IProgressMonitor monitor) throws CoreException {
+		IJavaElement[] testElements= fTestElements;
+		if (testElements.length == 1 && !(testElements[0] instanceof IMember)) {
+			testElements= evaluateTests(configuration, monitor);
+		}
+		Map<IType, List<IJavaElement>> testsByType= new LinkedHashMap<>();
+		for (IJavaElement testElement : testElements) {
+			testsByType.computeIfAbsent(getTestType(testElement), type -> new ArrayList<>()).add(testElement);
+		}
+		if (testsByType.size() < 2)
+			return null;
+
+		Map<String, Double> durations= TestDurationPrioritizer.getClassDurations(configuration);
+		List<List<IType>> shards= TestDurationPrioritizer.createShards(new ArrayList<>(testsByType.keySet()),
+				type -> durations.getOrDefault(type.getFullyQualifiedName(), Double.valueOf(Double.NaN)).doubleValue(), shardCount);
+		if (shards.size() < 2)
+			return null;
+		IJavaElement[][] shardTestElements= new IJavaElement[shards.size()][];
+		for (int i= 0; i < shardTestElements.length; i++) {
+			List<IJavaElement> shardTests= new ArrayList<>();
+			for (IType type : shards.get(i)) {
+				shardTests.addAll(testsByType.get(type));
+			}
+			shardTestElements[i]= shardTests.toArray(new IJavaElement[shardTests.size()]);
+		}
+		return shardTestElements;
+	}
+
+	private static IType getTestType(IJavaElement testElement) {
+		return testElement instanceof IType ? (IType) testElement : ((IMember) testElement).getDeclaringType();
+	}
+
 	/**
 	 * Collects all VM and program arguments. Implementors can modify and add arguments.
 	 *
@@ -467,6 +724,9 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 
 		programArguments.add("-port"); //$NON-NLS-1$
 		programArguments.add(String.valueOf(fPort));
+		// older runtimes ignore the argument and send text, the client accepts both
+		if (JUnitPreferencesConstants.getUseBinaryProtocol())
+			programArguments.add(MessageIds.BINARY_PROTOCOL_ARG);
 
 		if (fKeepAlive)
 			programArguments.add(0, "-keepalive"); //$NON-NLS-1$
@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.runner;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the messages written by a {@link BinaryMessageWriter} and returns them as the messages of
+ * the text protocol, see {@link MessageIds}.
+ */
+public class BinaryMessageReader {
+
+	/** The maximal length of the line delimiter in the header, in bytes */
+	private static final int MAX_DELIMITER_LENGTH= 16;
+
+	private final DataInputStream fIn;
+
+	private final String fLineDelimiter;
+
+	private final List<String> fStrings= new ArrayList<>();
+
+	private byte[] fBatch= new byte[0];
+
+	private int fBatchLength;
+
+	private int fPosition;
+
+	/**
+	 * Creates a reader for a stream which starts with {@link MessageIds#getBinaryProtocolMagic()}.
+	 *
+	 * @param in the stream, positioned after the magic bytes
+	 * @throws IOException if the header cannot be read or if the protocol version is not supported
+	 * @see #readMagic(BufferedInputStream)
+	 */
+	public BinaryMessageReader(InputStream in) throws IOException {
+		fIn= new DataInputStream(in);
+		int version= fIn.readUnsignedByte();
+		if (version != MessageIds.BINARY_PROTOCOL_VERSION)
+			throw new IOException("Unsupported binary protocol version: " + version); //$NON-NLS-1$
+		int length= readVarint(fIn);
+		if (length < 0 || length > MAX_DELIMITER_LENGTH)
+			throw new IOException("Invalid line delimiter length: " + length); //$NON-NLS-1$
+		byte[] delimiter= new byte[length];
+		fIn.readFully(delimiter);
+		fLineDelimiter= new String(delimiter, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Tells whether a stream uses the binary protocol. The magic bytes are consumed if it does,
+	 * otherwise the stream is reset to where it was.
+	 *
+	 * @param in the stream
+	 * @return <code>true</code> if the stream starts with {@link MessageIds#getBinaryProtocolMagic()}
+	 * @throws IOException if reading fails
+	 */
+	public static boolean readMagic(BufferedInputStream in) throws IOException {
+		byte[] magic= MessageIds.getBinaryProtocolMagic();
+		in.mark(magic.length);
+		for (byte b : magic) {
+			int read= in.read();
+			if (read != (b & 0xFF)) {
+				in.reset();
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return the line delimiter of the test VM
+	 */
+	public String getLineDelimiter() {
+		return fLineDelimiter;
+	}
+
+	/**
+	 * Reads the next message.
+	 *
+	 * @return the message in the format of the text protocol, or <code>null</code> at the end of
+	 *         the stream
+	 * @throws IOException if reading fails or if the stream is corrupt
+	 */
+	public String readMessage() throws IOException {
+		if (fPosition == fBatchLength && !readBatch())
+			return null;
+		int opcode= fBatch[fPosition++] & 0xFF;
+		if (opcode == BinaryMessageWriter.OP_TEXT)
+			return readString();
+		if (opcode > BinaryMessageWriter.MESSAGE_IDS.length)
+			throw new IOException("Unknown opcode: " + opcode); //$NON-NLS-1$
+		String id= BinaryMessageWriter.MESSAGE_IDS[opcode - 1];
+		if (!BinaryMessageWriter.isTestMessage(opcode))
+			return id + readString();
+		StringBuilder message= new StringBuilder(64);
+		message.append(id).append(readInterned()).append(',').append(readInterned());
+		if (id == MessageIds.TEST_TREE)
+			message.append(',').append(readString());
+		return message.toString();
+	}
+
+	private boolean readBatch() throws IOException {
+		int length;
+		try {
+			length= fIn.readInt();
+		} catch (EOFException e) {
+			return false;
+		}
+		if (length <= 0)
+			throw new IOException("Invalid batch length: " + length); //$NON-NLS-1$
+		if (fBatch.length < length)
+			fBatch= new byte[Math.max(length, 2 * fBatch.length)];
+		fIn.readFully(fBatch, 0, length);
+		fBatchLength= length;
+		fPosition= 0;
+		return true;
+	}
+
+	private String readInterned() throws IOException {
+		int reference= readVarint();
+		if (reference == 0) {
+			String string= readString();
+			fStrings.add(string);
+			return string;
+		}
+		if (reference > fStrings.size())
+			throw new IOException("Invalid string reference: " + reference); //$NON-NLS-1$
+		return fStrings.get(reference - 1);
+	}
+
+	private String readString() throws IOException {
+		int length= readVarint();
+		if (length < 0 || length > fBatchLength - fPosition)
+			throw new IOException("Invalid string length: " + length); //$NON-NLS-1$
+		String string= new String(fBatch, fPosition, length, StandardCharsets.UTF_8);
+		fPosition+= length;
+		return string;
+	}
+
+	private int readVarint() throws IOException {
+		int value= 0;
+		for (int shift= 0; shift < 32; shift+= 7) {
+			if (fPosition == fBatchLength)
+				throw new IOException("Truncated message"); //$NON-NLS-1$
+			int b= fBatch[fPosition++];
+			value|= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0)
+				return value;
+		}
+		throw new IOException("Invalid varint"); //$NON-NLS-1$
+	}
+
+	private static int readVarint(DataInputStream in) throws IOException {
+		int value= 0;
+		for (int shift= 0; shift < 32; shift+= 7) {
+			int b= in.readUnsignedByte();
+			value|= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0)
+				return value;
+		}
+		throw new IOException("Invalid varint"); //$NON-NLS-1$
+	}
+}
@@ -0,0 +1,273 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.runner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes the messages of the RemoteTestRunner in the binary protocol.
+ * <p>
+ * The stream starts with {@link MessageIds#getBinaryProtocolMagic()}, the
+ * {@link MessageIds#BINARY_PROTOCOL_VERSION} as one byte and the line delimiter of the test VM.
+ * It is followed by batches, each of them an int length and that many bytes of frames. A frame
+ * starts with the opcode of its message id, which is its index in {@link #MESSAGE_IDS} plus one,
+ * or {@link #OP_TEXT} for messages without id, e.g. stack traces. The ids and names of tests are
+ * interned: the first occurrence is sent as a string, later ones as a reference to it.
+ * </p>
+ * <p>
+ * Messages are collected in a batch which is written when it is large enough, on
+ * {@link #flush()} or at the latest {@link #MAX_BATCH_DELAY} after it was started. The latter is
+ * done by a daemon thread, which only wakes up while a batch is pending and which ends with
+ * {@link #stopFlusher()} or {@link #close()}. Like a <code>PrintWriter</code>, the writer does not
+ * report I/O errors, it stops writing after the first one.
+ * </p>
+ *
+ * @see BinaryMessageReader
+ */
+public class BinaryMessageWriter implements MessageSender {
+
+	/** Opcode of a message without id */
+	static final int OP_TEXT= 0;
+
+	/** The message ids which have an opcode, the order must not change */
+	static final String[] MESSAGE_IDS= {
+			MessageIds.TRACE_START,
+			MessageIds.TRACE_END,
+			MessageIds.EXPECTED_START,
+			MessageIds.EXPECTED_END,
+			MessageIds.ACTUAL_START,
+			MessageIds.ACTUAL_END,
+			MessageIds.RTRACE_START,
+			MessageIds.RTRACE_END,
+			MessageIds.TEST_RUN_START,
+			MessageIds.TEST_START,
+			MessageIds.TEST_END,
+			MessageIds.TEST_ERROR,
+			MessageIds.TEST_FAILED,
+			MessageIds.TEST_RUN_END,
+			MessageIds.TEST_STOPPED,
+			MessageIds.TEST_RERAN,
+			MessageIds.TEST_TREE,
+	};
+
+	/** The size from which a batch is written */
+	private static final int MAX_BATCH_SIZE= 32 * 1024;
+
+	/** The time in nanoseconds after which a batch is written */
+	private static final long MAX_BATCH_DELAY= 100_000_000L;
+
+	private static final Map<String, Integer> fgOpcodes= new HashMap<>();
+
+	static {
+		for (int i= 0; i < MESSAGE_IDS.length; i++) {
+			fgOpcodes.put(MESSAGE_IDS[i], Integer.valueOf(i + 1));
+		}
+	}
+
+	private final OutputStream fOut;
+
+	private final ByteArrayOutputStream fBatch= new ByteArrayOutputStream(MAX_BATCH_SIZE + 1024);
+
+	private final Map<String, Integer> fStrings= new HashMap<>();
+
+	private long fBatchStart;
+
+	private boolean fError;
+
+	private boolean fFlusherStopped;
+
+	/**
+	 * Creates a writer and writes the header of the protocol.
+	 *
+	 * @param out the stream to write to, should be buffered
+	 */
+	public BinaryMessageWriter(OutputStream out) {
+		fOut= out;
+		ByteArrayOutputStream header= new ByteArrayOutputStream();
+		byte[] magic= MessageIds.getBinaryProtocolMagic();
+		header.write(magic, 0, magic.length);
+		header.write(MessageIds.BINARY_PROTOCOL_VERSION);
+		writeString(header, System.lineSeparator());
+		try {
+			header.writeTo(fOut);
+		} catch (IOException e) {
+			fError= true;
+		}
+		Thread flusher= new Thread(this::runFlusher, "BinaryMessageWriter Flusher"); //$NON-NLS-1$
+		flusher.setDaemon(true);
+		flusher.start();
+	}
+
+	/**
+	 * Tells whether the message id is followed by a test id and a test name.
+	 *
+	 * @param opcode the opcode
+	 * @return <code>true</code> if the test id and the test name are interned
+	 */
+	static boolean isTestMessage(int opcode) {
+		if (opcode == OP_TEXT)
+			return false;
+		String id= MESSAGE_IDS[opcode - 1];
+		return id == MessageIds.TEST_START || id == MessageIds.TEST_END || id == MessageIds.TEST_ERROR || id == MessageIds.TEST_FAILED || id == MessageIds.TEST_TREE;
+	}
+
+	/**
+	 * Returns the end of an escaped test name, see {@link RemoteTestRunner#escapeText(String)}.
+	 *
+	 * @param arg the arguments of a message
+	 * @param start the start of the test name
+	 * @return the index of the comma after the test name, or -1 if the name is not followed by a comma
+	 */
+	static int indexOfUnescapedComma(String arg, int start) {
+		for (int i= start; i < arg.length(); i++) {
+			char c= arg.charAt(i);
+			if (c == '\\')
+				i++;
+			else if (c == ',')
+				return i;
+		}
+		return -1;
+	}
+
+	@Override
+	public synchronized void sendMessage(String message) {
+		if (fError)
+			return;
+		if (fBatch.size() == 0) {
+			fBatchStart= System.nanoTime();
+			notifyAll();
+		}
+		Integer opcode= message.length() >= MessageIds.MSG_HEADER_LENGTH ? fgOpcodes.get(message.substring(0, MessageIds.MSG_HEADER_LENGTH)) : null;
+		if (opcode != null && !isTestMessage(opcode.intValue())) {
+			fBatch.write(opcode.intValue());
+			writeString(fBatch, message.substring(MessageIds.MSG_HEADER_LENGTH));
+		} else if (opcode == null || !writeTestMessage(opcode.intValue(), message)) {
+			// e.g. a line of a stack trace or a test message without test id
+			fBatch.write(OP_TEXT);
+			writeString(fBatch, message);
+		}
+		if (fBatch.size() >= MAX_BATCH_SIZE || System.nanoTime() - fBatchStart >= MAX_BATCH_DELAY)
+			writeBatch();
+	}
+
+	private boolean writeTestMessage(int opcode, String message) {
+		int idEnd= message.indexOf(',', MessageIds.MSG_HEADER_LENGTH);
+		if (idEnd == -1)
+			return false;
+		boolean isTree= MESSAGE_IDS[opcode - 1] == MessageIds.TEST_TREE;
+		int nameEnd= isTree ? indexOfUnescapedComma(message, idEnd + 1) : message.length();
+		if (nameEnd == -1)
+			return false;
+		fBatch.write(opcode);
+		writeInterned(message.substring(MessageIds.MSG_HEADER_LENGTH, idEnd));
+		writeInterned(message.substring(idEnd + 1, nameEnd));
+		if (isTree)
+			writeString(fBatch, message.substring(nameEnd + 1));
+		return true;
+	}
+
+	private void writeInterned(String string) {
+		Integer index= fStrings.get(string);
+		if (index != null) {
+			writeVarint(fBatch, index.intValue() + 1);
+		} else {
+			writeVarint(fBatch, 0);
+			writeString(fBatch, string);
+			fStrings.put(string, Integer.valueOf(fStrings.size()));
+		}
+	}
+
+	private static void writeString(ByteArrayOutputStream out, String string) {
+		byte[] bytes= string.getBytes(StandardCharsets.UTF_8);
+		writeVarint(out, bytes.length);
+		out.write(bytes, 0, bytes.length);
+	}
+
+	private static void writeVarint(ByteArrayOutputStream out, int value) {
+		while ((value & ~0x7F) != 0) {
+			out.write((value & 0x7F) | 0x80);
+			value>>>= 7;
+		}
+		out.write(value);
+	}
+
+	private void writeBatch() {
+		if (fBatch.size() == 0)
+			return;
+		try {
+			int length= fBatch.size();
+			fOut.write(length >>> 24);
+			fOut.write(length >>> 16);
+			fOut.write(length >>> 8);
+			fOut.write(length);
+			fBatch.writeTo(fOut);
+			fOut.flush();
+		} catch (IOException e) {
+			fError= true;
+		}
+		fBatch.reset();
+	}
+
+	private synchronized void runFlusher() {
+		while (!fFlusherStopped) {
+			long delay= MAX_BATCH_DELAY - (System.nanoTime() - fBatchStart);
+			if (fBatch.size() > 0 && delay <= 0) {
+				if (!fError)
+					writeBatch();
+				continue;
+			}
+			try {
+				if (fBatch.size() == 0)
+					wait();
+				else
+					wait(delay / 1_000_000L + 1);
+			} catch (InterruptedException e) {
+				return;
+			}
+		}
+	}
+
+	@Override
+	public synchronized void flush() {
+		if (!fError)
+			writeBatch();
+	}
+
+	/**
+	 * Stops the thread which writes pending batches. Afterwards, batches are only written when they
+	 * are large enough, on {@link #flush()} or when the next message is sent.
+	 */
+	public synchronized void stopFlusher() {
+		fFlusherStopped= true;
+		notifyAll();
+	}
+
+	/**
+	 * Writes the pending messages, stops the flusher thread and closes the stream.
+	 */
+	public synchronized void close() {
+		flush();
+		stopFlusher();
+		try {
+			fOut.close();
+		} catch (IOException e) {
+			// like PrintWriter
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2021 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,14 @@
 
 package org.eclipse.jdt.internal.junit.runner;
 
+/**
+ * Sends the events of a test run to the client.
+ * <p>
+ * Tests may run in parallel, e.g. with the parallel execution of JUnit Jupiter. The messages of an
+ * event are sent while holding the lock of the sender, so that the messages of a failure are not
+ * interleaved with the messages of other tests.
+ * </p>
+ */
 public class FirstRunExecutionListener implements IListensToTestExecutions {
 	protected MessageSender fSender;
 
@@ -30,21 +38,30 @@ public class FirstRunExecutionListener implements IListensToTestExecutions {
 
 	@Override
 	public void notifyTestEnded(ITestIdentifier test) {
-		sendMessage(test, MessageIds.TEST_END);
-		fSender.flush();
+		String message= createMessage(test, MessageIds.TEST_END);
+		synchronized (fSender) {
+			fSender.sendMessage(message);
+			fSender.flush();
+		}
 	}
 
 	@Override
-	public synchronized void notifyTestFailed(TestReferenceFailure failure) {
-		sendMessage(failure.getTest(), failure.getStatus());
-		sendFailure(failure, MessageIds.TRACE_START, MessageIds.TRACE_END);
-		// fSender.flush(); // flush is implicitly done by sendFailure()
+	public void notifyTestFailed(TestReferenceFailure failure) {
+		String message= createMessage(failure.getTest(), failure.getStatus());
+		synchronized (fSender) {
+			fSender.sendMessage(message);
+			sendFailure(failure, MessageIds.TRACE_START, MessageIds.TRACE_END);
+			// fSender.flush(); // flush is implicitly done by sendFailure()
+		}
 	}
 
 	@Override
 	public void notifyTestStarted(ITestIdentifier test) {
-		sendMessage(test, MessageIds.TEST_START);
-		fSender.flush();
+		String message= createMessage(test, MessageIds.TEST_START);
+		synchronized (fSender) {
+			fSender.sendMessage(message);
+			fSender.flush();
+		}
 	}
 
 	private String getTestId(ITestIdentifier test) {
@@ -54,17 +71,19 @@ public class FirstRunExecutionListener implements IListensToTestExecutions {
 	protected void sendFailure(TestReferenceFailure failure, String startTrace,
 			String endTrace) {
 		FailedComparison comparison = failure.getComparison();
-		if (comparison != null)
-			comparison.sendMessages(fSender);
+		synchronized (fSender) {
+			if (comparison != null)
+				comparison.sendMessages(fSender);
 
-		fSender.sendMessage(startTrace);
-		fSender.sendMessage(failure.getTrace());
-		fSender.sendMessage(endTrace);
-		fSender.flush();
+			fSender.sendMessage(startTrace);
+			fSender.sendMessage(failure.getTrace());
+			fSender.sendMessage(endTrace);
+			fSender.flush();
+		}
 	}
 
-	private void sendMessage(ITestIdentifier test, String status) {
-		fSender.sendMessage(status + getTestId(test) + ',' + RemoteTestRunner.escapeText(test.getName()));
+	private String createMessage(ITestIdentifier test, String status) {
+		return status + getTestId(test) + ',' + RemoteTestRunner.escapeText(test.getName());
 	}
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -133,6 +133,33 @@ public class MessageIds {
 	 */
 	public static final String TEST_RERUN=	">RERUN  "; //$NON-NLS-1$
 
+	/**
+	 * Program argument which requests the binary protocol, see {@link BinaryMessageWriter}.
+	 * Clients which do not pass it get the text protocol described above.
+	 */
+	public static final String BINARY_PROTOCOL_ARG= "-binaryprotocol"; //$NON-NLS-1$
+
+	/**
+	 * The bytes a RemoteTestRunner sends first when it uses the binary protocol. A text message
+	 * never starts with a zero byte, so clients can tell both protocols apart.
+	 */
+	private static final byte[] BINARY_PROTOCOL_MAGIC= { 0, 'J', 'U', 'B' };
+
+	/**
+	 * The version of the binary protocol, sent after {@link #getBinaryProtocolMagic()}.
+	 */
+	public static final int BINARY_PROTOCOL_VERSION= 1;
+
+	/**
+	 * Returns the bytes a RemoteTestRunner sends first when it uses the binary protocol. A text
+	 * message never starts with a zero byte, so clients can tell both protocols apart.
+	 *
+	 * @return a copy of the magic bytes
+	 */
+	public static byte[] getBinaryProtocolMagic() {
+		return BINARY_PROTOCOL_MAGIC.clone();
+	}
+
 	/**
 	 * MessageFormat to encode test method identifiers:
 	 * testMethod(testClass)
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.junit.runner;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
@@ -105,6 +106,11 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	 * Print writer for sending messages
 	 */
 	private PrintWriter fWriter;
+	/**
+	 * Writer for sending messages in the binary protocol, <code>null</code> if the text
+	 * protocol is used
+	 */
+	private BinaryMessageWriter fBinaryWriter;
 	/**
 	 * Reader for incoming messages
 	 */
@@ -151,6 +157,11 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	private boolean fConsoleMode = false;
 
+	/**
+	 * Use the binary protocol if connected through a socket (argument -binaryprotocol)
+	 */
+	private boolean fBinaryProtocol= false;
+
 	/**
 	 * Reader thread that processes messages from the client.
 	 */
@@ -216,6 +227,7 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	 * -host: the host to connect to default local host
 	 * -port: the port to connect to, mandatory argument
 	 * -keepalive: keep the process alive after a test run
+	 * -binaryprotocol: send messages in the binary protocol, see BinaryMessageWriter
      * </pre>
      */
 	public static void main(String[] args) {
@@ -320,6 +332,8 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 			} else if ("-junitconsole".equalsIgnoreCase(args[i])) { //$NON-NLS-1$
 			    fConsoleMode  = true;
+			} else if (MessageIds.BINARY_PROTOCOL_ARG.equalsIgnoreCase(args[i])) {
+				fBinaryProtocol= true;
 			} else if ("-testloaderclass".equalsIgnoreCase(args[i])) { //$NON-NLS-1$
 				String className = args[i + 1];
 				createLoader(className);
@@ -715,11 +729,15 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 		for (int i= 1; i < 20; i++) {
 			try{
 				fClientSocket= new Socket(fHost, fPort);
-				try {
-				    fWriter= new PrintWriter(new BufferedWriter(new OutputStreamWriter(fClientSocket.getOutputStream(), StandardCharsets.UTF_8)), false/*true*/);
-	            } catch (UnsupportedEncodingException e1) {
-	                fWriter= new PrintWriter(new BufferedWriter(new OutputStreamWriter(fClientSocket.getOutputStream())), false/*true*/);
-	            }
+				if (fBinaryProtocol) {
+					fBinaryWriter= new BinaryMessageWriter(new BufferedOutputStream(fClientSocket.getOutputStream()));
+				} else {
+					try {
+					    fWriter= new PrintWriter(new BufferedWriter(new OutputStreamWriter(fClientSocket.getOutputStream(), StandardCharsets.UTF_8)), false/*true*/);
+		            } catch (UnsupportedEncodingException e1) {
+		                fWriter= new PrintWriter(new BufferedWriter(new OutputStreamWriter(fClientSocket.getOutputStream())), false/*true*/);
+		            }
+				}
 				try {
 				    fReader= new BufferedReader(new InputStreamReader(fClientSocket.getInputStream(), StandardCharsets.UTF_8));
                 } catch (UnsupportedEncodingException e1) {
@@ -744,6 +762,10 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	 * Shutsdown the connection to the remote test listener.
 	 */
 	private void shutDown() {
+		if (fBinaryWriter != null) {
+			fBinaryWriter.close();
+			fBinaryWriter= null;
+		}
 		if (fWriter != null) {
 			fWriter.close();
 			fWriter= null;
@@ -777,6 +799,10 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	@Override
 	public void sendMessage(String msg) {
+		if (fBinaryWriter != null) {
+			fBinaryWriter.sendMessage(msg);
+			return;
+		}
 		if(fWriter == null)
 			return;
 		fWriter.println(msg);
@@ -790,18 +816,23 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	private void notifyTestRunEnded(long elapsedTime) {
 		fSender.sendMessage(MessageIds.TEST_RUN_END + elapsedTime);
-		fSender.flush();
+		flushMessages();
+		stopFlusher();
 		//shutDown();
 	}
 
 	protected void notifyTestRunStopped(long elapsedTime) {
 		fSender.sendMessage(MessageIds.TEST_STOPPED + elapsedTime);
-		fSender.flush();
+		flushMessages();
+		stopFlusher();
 		//shutDown();
 	}
 
 	protected void notifyTestTreeEntry(String treeEntry) {
-		fSender.sendMessage(MessageIds.TEST_TREE + treeEntry);
+		// dynamic tests are registered while other tests may be running, see FirstRunExecutionListener
+		synchronized (fSender) {
+			fSender.sendMessage(MessageIds.TEST_TREE + treeEntry);
+		}
 	}
 
 	/*
@@ -811,13 +842,40 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	public void notifyRerunComplete(RerunRequest r, String status) {
 		if (fPort != -1) {
 			fSender.sendMessage(MessageIds.TEST_RERAN + r.fRerunTestId + " " + r.fRerunClassName + " " + r.fRerunTestName + " " + status); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-			fSender.flush();
+			flushMessages();
 		}
 	}
 
+	/**
+	 * Stops the thread of the binary writer which writes pending messages, once no more tests
+	 * run. Reruns flush their messages explicitly.
+	 */
+	private void stopFlusher() {
+		if (fBinaryWriter != null)
+			fBinaryWriter.stopFlusher();
+	}
+
+	/**
+	 * Flushes the messages after each test. The binary protocol ignores this: its batches are
+	 * written when they are large enough or when they are pending for too long, see
+	 * {@link BinaryMessageWriter}, and explicitly by {@link #flushMessages()}.
+	 */
 	@Override
 	public void flush() {
-	    fWriter.flush();
+		if (fBinaryWriter == null)
+			fWriter.flush();
+	}
+
+	/**
+	 * Writes all pending messages, at the end of a run or of a rerun.
+	 */
+	private void flushMessages() {
+		if (fSender != this)
+			fSender.flush();
+		else if (fBinaryWriter != null)
+			fBinaryWriter.flush();
+		else
+			fWriter.flush();
 	}
 
 	private void runTests(TestExecution execution) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2019 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,10 +24,10 @@ public class RerunExecutionListener extends FirstRunExecutionListener {
 		super(sender, ids);
 	}
 
-	private String fStatus = RemoteTestRunner.RERAN_OK;
+	private volatile String fStatus = RemoteTestRunner.RERAN_OK;
 
 	@Override
-	public synchronized void notifyTestFailed(TestReferenceFailure failure) {
+	public void notifyTestFailed(TestReferenceFailure failure) {
 		sendFailure(failure, MessageIds.RTRACE_START, MessageIds.RTRACE_END);
 
 		String status = failure.getStatus();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2021 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,20 +16,28 @@
 
 package org.eclipse.jdt.internal.junit.runner;
 
-import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Assigns the ids of the tests which are sent to the client.
+ * <p>
+ * This class is thread-safe: tests which run in parallel, e.g. with the parallel execution of
+ * JUnit Jupiter, get their ids without locking. Ids are unique but not necessarily consecutive.
+ * </p>
+ */
 public class TestIdMap {
-	private HashMap<ITestIdentifier, String> fIdMap= new HashMap<>();
+	private final ConcurrentHashMap<ITestIdentifier, String> fIdMap= new ConcurrentHashMap<>();
 
-	private int fNextId= 1;
+	private final AtomicInteger fNextId= new AtomicInteger(1);
 
 	public String getTestId(ITestIdentifier identifier) {
-		Object id= fIdMap.get(identifier);
+		String id= fIdMap.get(identifier);
 		if (id != null)
-			return (String) id;
-		String newId= Integer.toString(fNextId++);
-		fIdMap.put(identifier, newId);
-		return newId;
+			return id;
+		String newId= Integer.toString(fNextId.getAndIncrement());
+		id= fIdMap.putIfAbsent(identifier, newId);
+		return id != null ? id : newId;
 	}
 
 	public String getTestId(ITestReference ref) { // not used
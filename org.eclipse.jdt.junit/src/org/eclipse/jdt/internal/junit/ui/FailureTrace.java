@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.junit.ui;
 
+import java.util.Objects;
+
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.dnd.Clipboard;
 import org.eclipse.swt.widgets.Composite;
@@ -198,7 +200,8 @@ public class FailureTrace implements IMenuListener {
 	    updateEnablement(test);
 	    if (test != null)
 	        trace= test.getTrace();
-		if (fInputTrace == trace)
+		// the trace is decoded on each request, so compare the contents
+		if (Objects.equals(fInputTrace, trace))
 			return;
 		fInputTrace= trace;
 		updateTable(trace);
@@ -211,7 +214,7 @@ public class FailureTrace implements IMenuListener {
 			fCompareAction.updateOpenDialog(test);
 		}
 
-		boolean enableShowTraceInConsole= test != null && test.getFailureTrace() != null;
+		boolean enableShowTraceInConsole= test != null && test.hasFailureTrace();
 		fShowTraceInConsoleAction.setEnabled(enableShowTraceInConsole);
 	}
 
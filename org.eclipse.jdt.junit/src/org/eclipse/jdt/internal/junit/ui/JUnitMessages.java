@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -148,6 +148,9 @@ public final class JUnitMessages extends NLS {
 
 	public static String JUnitLaunchConfigurationTab_label_method;
 
+	public static String JUnitLaunchConfigurationTab_label_run_affected_tests_only;
+	public static String JUnitLaunchConfigurationTab_label_shard_count;
+
 	public static String JUnitLaunchConfigurationTab_label_oneTest;
 
 	public static String JUnitLaunchConfigurationTab_label_project;
@@ -233,6 +236,10 @@ public final class JUnitMessages extends NLS {
 
 	public static String JUnitPreferencePage_showInAllViews_label;
 
+	public static String JUnitPreferencePage_filterStackOnCapture_label;
+
+	public static String JUnitPreferencePage_useBinaryProtocol_label;
+
 	public static String JUnitQuickFixProcessor_add_assert_description;
 
 	public static String JUnitQuickFixProcessor_apply_problem_description;
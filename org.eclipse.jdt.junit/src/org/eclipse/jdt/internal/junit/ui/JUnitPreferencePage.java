@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -67,6 +67,8 @@ public class JUnitPreferencePage extends PreferencePage implements IWorkbenchPre
 	private final JavaFilterTable fJavaFilterTable;
 	private Button fEnableAssertionsCheckBox;
 	private Button fShowInAllViewsCheckBox;
+	private Button fFilterStackOnCaptureCheckBox;
+	private Button fUseBinaryProtocolCheckBox;
 
 	public JUnitPreferencePage() {
 		super();
@@ -103,6 +105,8 @@ public class JUnitPreferencePage extends PreferencePage implements IWorkbenchPre
 
 		createEnableAssertionsCheckbox(composite);
 		createShowInAllViewsCheckbox(composite);
+		createFilterStackOnCaptureCheckbox(composite);
+		createUseBinaryProtocolCheckbox(composite);
 		createJavaFilterTable(composite);
 		Dialog.applyDialogFont(composite);
 		return composite;
@@ -139,6 +143,24 @@ public class JUnitPreferencePage extends PreferencePage implements IWorkbenchPre
 		setShowInAllViewsCheckBoxSelection(JUnitUIPreferencesConstants.getShowInAllViews());
 	}
 
+	private void createFilterStackOnCaptureCheckbox(Composite container) {
+		fFilterStackOnCaptureCheckBox= new Button(container, SWT.CHECK | SWT.WRAP);
+		fFilterStackOnCaptureCheckBox.setText(JUnitMessages.JUnitPreferencePage_filterStackOnCapture_label);
+		GridData gd= getButtonGridData(fFilterStackOnCaptureCheckBox);
+		fFilterStackOnCaptureCheckBox.setLayoutData(gd);
+		SWTUtil.setButtonDimensionHint(fFilterStackOnCaptureCheckBox);
+		fFilterStackOnCaptureCheckBox.setSelection(JUnitPreferencesConstants.getFilterStackOnCapture());
+	}
+
+	private void createUseBinaryProtocolCheckbox(Composite container) {
+		fUseBinaryProtocolCheckBox= new Button(container, SWT.CHECK | SWT.WRAP);
+		fUseBinaryProtocolCheckBox.setText(JUnitMessages.JUnitPreferencePage_useBinaryProtocol_label);
+		GridData gd= getButtonGridData(fUseBinaryProtocolCheckBox);
+		fUseBinaryProtocolCheckBox.setLayoutData(gd);
+		SWTUtil.setButtonDimensionHint(fUseBinaryProtocolCheckBox);
+		fUseBinaryProtocolCheckBox.setSelection(JUnitPreferencesConstants.getUseBinaryProtocol());
+	}
+
 	/**
 	 * Programatic access to enable assertions checkbox
 	 * @return boolean indicating check box selected or not
@@ -173,6 +195,8 @@ public class JUnitPreferencePage extends PreferencePage implements IWorkbenchPre
 	public boolean performOk() {
 		AssertionVMArg.setEnableAssertionsPreference(getAssertionCheckBoxSelection());
 		JUnitUIPreferencesConstants.setShowInAllViews(getShowInAllViewsCheckBoxSelection());
+		JUnitPreferencesConstants.setFilterStackOnCapture(fFilterStackOnCaptureCheckBox.getSelection());
+		JUnitPreferencesConstants.setUseBinaryProtocol(fUseBinaryProtocolCheckBox.getSelection());
 		fJavaFilterTable.performOk(getPreferenceStore());
 		return true;
 	}
@@ -188,6 +212,10 @@ public class JUnitPreferencePage extends PreferencePage implements IWorkbenchPre
 				.getBoolean(JUnitPreferencesConstants.ENABLE_ASSERTIONS, JUnitPreferencesConstants.ENABLE_ASSERTIONS_DEFAULT));
 		fShowInAllViewsCheckBox.setSelection(DefaultScope.INSTANCE.getNode(JUnitPlugin.PLUGIN_ID)
 				.getBoolean(JUnitUIPreferencesConstants.SHOW_IN_ALL_VIEWS, JUnitUIPreferencesConstants.SHOW_IN_ALL_VIEWS_DEFAULT));
+		fFilterStackOnCaptureCheckBox.setSelection(DefaultScope.INSTANCE.getNode(JUnitCorePlugin.CORE_PLUGIN_ID)
+				.getBoolean(JUnitPreferencesConstants.DO_FILTER_STACK_ON_CAPTURE, JUnitPreferencesConstants.DO_FILTER_STACK_ON_CAPTURE_DEFAULT));
+		fUseBinaryProtocolCheckBox.setSelection(DefaultScope.INSTANCE.getNode(JUnitCorePlugin.CORE_PLUGIN_ID)
+				.getBoolean(JUnitPreferencesConstants.USE_BINARY_PROTOCOL, JUnitPreferencesConstants.USE_BINARY_PROTOCOL_DEFAULT));
 		fJavaFilterTable.performDefaults();
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,6 +38,7 @@ import java.text.MessageFormat;
 import java.text.NumberFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
@@ -200,6 +201,14 @@ public class TestRunnerViewPart extends ViewPart {
 	protected boolean fShowOnErrorOnly= false;
 	protected Clipboard fClipboard;
 	protected volatile String fInfoMessage;
+	/**
+	 * The test that was started last, the info message for it is only formatted when it is shown.
+	 */
+	private volatile TestCaseElement fStartedTestCase;
+	/**
+	 * The values shown by the counter panel and the progress bar, or <code>null</code>.
+	 */
+	private int[] fShownCounters;
 
 	private FailureTrace fFailureTrace;
 
@@ -695,7 +704,7 @@ public class TestRunnerViewPart extends ViewPart {
 			getDisplay().asyncExec(() -> {
 				if (JUnitUIPreferencesConstants.getShowInAllViews() ||
 						getSite().getWorkbenchWindow() == JUnitPlugin.getActiveWorkbenchWindow()) {
-					if (fInfoMessage == null) {
+					if (fInfoMessage == null && fStartedTestCase == null) {
 						String testRunLabel= BasicElementLabels.getJavaElementName(testRunSession.getTestRunName());
 						String msg;
 						if (testRunSession.getLaunch() != null) {
@@ -818,10 +827,8 @@ public class TestRunnerViewPart extends ViewPart {
 			fTestViewer.registerAutoScrollTarget(testCaseElement);
 			fTestViewer.registerViewerUpdate(testCaseElement);
 
-			String className= BasicElementLabels.getJavaElementName(testCaseElement.getClassName());
-			String method= BasicElementLabels.getJavaElementName(testCaseElement.getTestMethodName());
-			String status= Messages.format(JUnitMessages.TestRunnerViewPart_message_started, new String[] { className, method });
-			registerInfoMessage(status);
+			fInfoMessage= null;
+			fStartedTestCase= testCaseElement;
 		}
 
 		@Override
@@ -1751,10 +1758,6 @@ action enablement
 	}
 
 	private void refreshCounters() {
-		 // TODO: Inefficient. Either
-		// - keep a boolean fHasTestRun and update only on changes, or
-		// - improve components to only redraw on changes (once!).
-
 		int startedCount;
 		int ignoredCount;
 		int totalCount;
@@ -1784,11 +1787,6 @@ action enablement
 			stopped= false;
 		}
 
-		fCounterPanel.setTotal(totalCount);
-		fCounterPanel.setRunValue(startedCount, ignoredCount, assumptionFailureCount);
-		fCounterPanel.setErrorValue(errorCount);
-		fCounterPanel.setFailureValue(failureCount);
-
 		int ticksDone;
 		if (startedCount == 0)
 			ticksDone= 0;
@@ -1797,6 +1795,17 @@ action enablement
 		else
 			ticksDone= startedCount - 1;
 
+		// only update and redraw the components if a value has changed since the last refresh
+		int[] counters= { totalCount, startedCount, ignoredCount, assumptionFailureCount, errorCount, failureCount, ticksDone, stopped ? 1 : 0 };
+		if (Arrays.equals(counters, fShownCounters))
+			return;
+		fShownCounters= counters;
+
+		fCounterPanel.setTotal(totalCount);
+		fCounterPanel.setRunValue(startedCount, ignoredCount, assumptionFailureCount);
+		fCounterPanel.setErrorValue(errorCount);
+		fCounterPanel.setFailureValue(failureCount);
+
 		fProgressBar.reset(hasErrorsOrFailures, stopped, ticksDone, totalCount);
 	}
 
@@ -1831,6 +1840,13 @@ action enablement
 	}
 
 	protected void doShowInfoMessage() {
+		TestCaseElement startedTestCase= fStartedTestCase;
+		if (fInfoMessage == null && startedTestCase != null) {
+			String className= BasicElementLabels.getJavaElementName(startedTestCase.getClassName());
+			String method= BasicElementLabels.getJavaElementName(startedTestCase.getTestMethodName());
+			fInfoMessage= Messages.format(JUnitMessages.TestRunnerViewPart_message_started, new String[] { className, method });
+		}
+		fStartedTestCase= null;
 		if (fInfoMessage != null) {
 			setContentDescription(fInfoMessage);
 			fInfoMessage= null;
@@ -1838,6 +1854,7 @@ action enablement
 	}
 
 	protected void registerInfoMessage(String message) {
+		fStartedTestCase= null;
 		fInfoMessage= message;
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,9 +21,11 @@
 package org.eclipse.jdt.internal.junit.ui;
 
 import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -221,6 +223,7 @@ public class TestViewer {
 
 	private boolean fTreeNeedsRefresh;
 	private boolean fTableNeedsRefresh;
+	private HashSet<TestElement> fNeedAdd;
 	private HashSet<TestElement> fNeedUpdate;
 	private TestCaseElement fAutoScrollTarget;
 
@@ -707,16 +710,31 @@ public class TestViewer {
 
 		StructuredViewer viewer= getActiveViewer();
 		if (getActiveViewerNeedsRefresh()) {
-			clearUpdateAndExpansion();
+			synchronized (this) {
+				if (! fNeedAdd.isEmpty()) {
+					// the inactive viewer would miss the added elements
+					fTreeNeedsRefresh= true;
+					fTableNeedsRefresh= true;
+				}
+				clearUpdateAndExpansion();
+			}
 			setActiveViewerNeedsRefresh(false);
 			viewer.setInput(testRoot);
 
 		} else {
+			Object[] toAdd;
 			Object[] toUpdate;
 			synchronized (this) {
+				toAdd= fNeedAdd.toArray();
+				fNeedAdd.clear();
 				toUpdate= fNeedUpdate.toArray();
 				fNeedUpdate.clear();
 			}
+			if (! fTreeNeedsRefresh && toAdd.length > 0)
+				addElementsToTree(toAdd);
+			if (! fTableNeedsRefresh && toAdd.length > 0)
+				addElementsToTable(toAdd);
+
 			if (! fTreeNeedsRefresh && toUpdate.length > 0) {
 				if (fTreeHasFilter)
 					for (Object element : toUpdate)
@@ -725,8 +743,8 @@ public class TestViewer {
 					HashSet<Object> toUpdateWithParents= new HashSet<>(Arrays.asList(toUpdate));
 					for (Object element : toUpdate) {
 						TestElement parent= ((TestElement) element).getParent();
-						while (parent != null) {
-							toUpdateWithParents.add(parent);
+						// stop at the first ancestor that is already collected, its ancestors are as well
+						while (parent != null && toUpdateWithParents.add(parent)) {
 							parent= parent.getParent();
 						}
 					}
@@ -744,6 +762,42 @@ public class TestViewer {
 		autoScrollInUI();
 	}
 
+	/**
+	 * Adds new elements to the tree, grouped by parent. Elements below collapsed parents do not
+	 * get items, the content provider returns them when the parent is expanded.
+	 *
+	 * @param added the added elements, parents before their children
+	 */
+	private void addElementsToTree(Object[] added) {
+		if (fTreeHasFilter) {
+			for (Object element : added)
+				updateElementInTree((TestElement) element);
+			return;
+		}
+		LinkedHashMap<TestSuiteElement, List<Object>> childrenByParent= new LinkedHashMap<>();
+		for (Object element : added) {
+			TestElement testElement= (TestElement) element;
+			TestSuiteElement parent= testElement.getParent();
+			if (parent != null && fTreeViewer.testFindItem(testElement) == null)
+				childrenByParent.computeIfAbsent(parent, p -> new ArrayList<>()).add(testElement);
+		}
+		childrenByParent.forEach((parent, children) -> fTreeViewer.add(parent, children.toArray()));
+	}
+
+	private void addElementsToTable(Object[] added) {
+		List<Object> testCases= new ArrayList<>();
+		for (Object element : added) {
+			if (element instanceof TestCaseElement) {
+				if (fTableHasFilter)
+					updateElementInTable((TestElement) element);
+				else if (fTableViewer.testFindItem(element) == null)
+					testCases.add(element);
+			}
+		}
+		if (! testCases.isEmpty())
+			fTableViewer.add(testCases.toArray());
+	}
+
 	private void updateElementInTree(final TestElement testElement) {
 		if (isShown(testElement)) {
 			updateShownElementInTree(testElement);
@@ -942,6 +996,7 @@ public class TestViewer {
 	}
 
 	private void clearUpdateAndExpansion() {
+		fNeedAdd= new LinkedHashSet<>();
 		fNeedUpdate= new LinkedHashSet<>();
 		fAutoClose= new LinkedList<>();
 		fAutoExpand= new HashSet<>();
@@ -951,9 +1006,7 @@ public class TestViewer {
 	 * @param testElement the added test
 	 */
 	public synchronized void registerTestAdded(TestElement testElement) {
-		//TODO: performance: would only need to refresh parent of added element
-		fTreeNeedsRefresh= true;
-		fTableNeedsRefresh= true;
+		fNeedAdd.add(testElement);
 	}
 
 	public synchronized void registerViewerUpdate(final TestElement testElement) {
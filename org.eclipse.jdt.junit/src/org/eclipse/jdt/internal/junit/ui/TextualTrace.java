@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2023 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,9 +15,9 @@ package org.eclipse.jdt.internal.junit.ui;
 
 import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.io.StringReader;
-import java.io.StringWriter;
+
+import org.eclipse.jdt.internal.junit.model.FailureTraceStore;
 
 public class TextualTrace {
 	public static final int LINE_TYPE_EXCEPTION = 1;
@@ -30,7 +30,7 @@ public class TextualTrace {
 
 	public TextualTrace(String trace, String[] filterPatterns) {
 		super();
-		fTrace = filterStack(trace, filterPatterns);
+		fTrace = FailureTraceStore.filterStack(trace, filterPatterns);
 	}
 
 	public void display(ITraceDisplay display, int maxLabelLength) {
@@ -77,61 +77,6 @@ public class TextualTrace {
 		}
 	}
 
-	private boolean filterLine(String[] patterns, String line) {
-		String pattern;
-		int len;
-		for (int i = (patterns.length - 1); i >= 0; --i) {
-			pattern = patterns[i];
-			len = pattern.length() - 1;
-			if (pattern.charAt(len) == '*') {
-				// strip trailing * from a package filter
-				pattern = pattern.substring(0, len);
-			} else if (Character.isUpperCase(pattern.charAt(0))) {
-				// class in the default package
-				pattern = FailureTrace.FRAME_PREFIX + pattern + '.';
-			} else {
-				// class names start w/ an uppercase letter after the .
-				final int lastDotIndex = pattern.lastIndexOf('.');
-				if ((lastDotIndex != -1)
-					&& (lastDotIndex != len)
-					&& Character.isUpperCase(pattern.charAt(lastDotIndex + 1)))
-					pattern += '.'; // append . to a class filter
-			}
-
-			if (line.indexOf(pattern) > 0)
-				return true;
-		}
-		return false;
-	}
-
-	private String filterStack(String stackTrace, String[] filterPatterns) {
-		if (filterPatterns.length == 0 || stackTrace == null)
-			return stackTrace;
-
-		StringWriter stringWriter = new StringWriter();
-		PrintWriter printWriter = new PrintWriter(stringWriter);
-		StringReader stringReader = new StringReader(stackTrace);
-		BufferedReader bufferedReader = new BufferedReader(stringReader);
-
-		String line;
-		String[] patterns = filterPatterns;
-		boolean firstLine= true;
-		boolean stackFrameSeen= false;
-		try {
-			while ((line= bufferedReader.readLine()) != null) {
-				if (firstLine || !stackFrameSeen || !filterLine(patterns, line))
-					printWriter.println(line);
-				firstLine= false;
-				if (!(stackFrameSeen)) {
-					stackFrameSeen= isAStackFrame(line.replace('\t', ' '));
-				}
-			}
-		} catch (IOException e) {
-			return stackTrace; // return the stack unfiltered
-		}
-		return stringWriter.toString();
-	}
-
 	private boolean isAStackFrame(String itemLabel) {
 		// heuristic for detecting a stack frame - works for JDK
 		return itemLabel.contains(" at "); //$NON-NLS-1$
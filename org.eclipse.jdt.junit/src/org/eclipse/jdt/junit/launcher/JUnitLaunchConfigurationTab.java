@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,7 +20,9 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.SelectionAdapter;
@@ -33,6 +35,7 @@ import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Label;
 import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Spinner;
 import org.eclipse.swt.widgets.Text;
 
 import org.eclipse.core.runtime.CoreException;
@@ -130,6 +133,8 @@ import org.eclipse.jdt.internal.ui.wizards.TypedViewerFilter;
  */
 public class JUnitLaunchConfigurationTab extends AbstractLaunchConfigurationTab {
 
+	private static final int MAX_SHARD_COUNT= 64;
+
 	// Project UI widgets
 	private Label fProjLabel;
 
@@ -139,6 +144,10 @@ public class JUnitLaunchConfigurationTab extends AbstractLaunchConfigurationTab
 
 	private Button fKeepRunning;
 
+	private Button fRunAffectedTestsOnly;
+
+	private Spinner fShardCount;
+
 	// Test class UI widgets
 	private Text fTestText;
 
@@ -158,6 +167,13 @@ public class JUnitLaunchConfigurationTab extends AbstractLaunchConfigurationTab
 
 	private IJavaElement fContainerElement;
 
+	/**
+	 * The projects of a configuration which runs several projects, see
+	 * {@link JUnitLaunchConfigurationConstants#ATTR_PROJECT_NAMES}. They are shown as the
+	 * container until another container is chosen.
+	 */
+	private List<String> fProjectNames= Collections.emptyList();
+
 	private final ILabelProvider fJavaElementLabelProvider= new JavaElementLabelProvider();
 
 	private Button fContainerSearchButton;
@@ -208,6 +224,8 @@ public class JUnitLaunchConfigurationTab extends AbstractLaunchConfigurationTab
 		createTestLoaderGroup(comp);
 		createSpacer(comp);
 
+		createRunAffectedTestsOnlyGroup(comp);
+		createShardCountGroup(comp);
 		createKeepAliveGroup(comp);
 		Dialog.applyDialogFont(comp);
 		PlatformUI.getWorkbench().getHelpSystem().setHelp(getControl(), IJUnitHelpContextIds.LAUNCH_CONFIGURATION_DIALOG_JUNIT_MAIN_TAB);
@@ -435,11 +453,33 @@ public class JUnitLaunchConfigurationTab extends AbstractLaunchConfigurationTab
 
 	private void setContainerElement(IJavaElement javaElement) {
 		fContainerElement= javaElement;
+		fProjectNames= Collections.emptyList();
 		fContainerText.setText(getPresentationName(javaElement));
 		validatePage();
 		updateLaunchConfigurationDialog();
 	}
 
+	private void createRunAffectedTestsOnlyGroup(Composite comp) {
+		fRunAffectedTestsOnly= new Button(comp, SWT.CHECK);
+		fRunAffectedTestsOnly.addSelectionListener(SelectionListener.widgetSelectedAdapter(e -> updateLaunchConfigurationDialog()));
+		fRunAffectedTestsOnly.setText(JUnitMessages.JUnitLaunchConfigurationTab_label_run_affected_tests_only);
+		GridData gd= new GridData();
+		gd.horizontalAlignment= GridData.FILL;
+		gd.horizontalSpan= 2;
+		fRunAffectedTestsOnly.setLayoutData(gd);
+	}
+
+	private void createShardCountGroup(Composite comp) {
+		Label label= new Label(comp, SWT.NONE);
+		label.setText(JUnitMessages.JUnitLaunchConfigurationTab_label_shard_count);
+		fShardCount= new Spinner(comp, SWT.BORDER);
+		fShardCount.setValues(1, 1, MAX_SHARD_COUNT, 0, 1, 4);
+		fShardCount.addModifyListener(e -> updateLaunchConfigurationDialog());
+		GridData gd= new GridData();
+		gd.horizontalSpan= 2;
+		fShardCount.setLayoutData(gd);
+	}
+
 	private void createKeepAliveGroup(Composite comp) {
 		GridData gd;
 		fKeepRunning= new Button(comp, SWT.CHECK);
@@ -470,6 +510,7 @@ public class JUnitLaunchConfigurationTab extends AbstractLaunchConfigurationTab
 			fLaunchConfiguration= config;
 
 			updateProjectFromConfig(config);
+			fProjectNames= Collections.emptyList();
 			String containerHandle= ""; //$NON-NLS-1$
 			try {
 				containerHandle= config.getAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_CONTAINER, ""); //$NON-NLS-1$
@@ -482,6 +523,8 @@ public class JUnitLaunchConfigurationTab extends AbstractLaunchConfigurationTab
 				updateTestTypeFromConfig(config);
 			}
 			updateKeepRunning(config);
+			updateRunAffectedTestsOnly(config);
+			updateShardCount(config);
 			updateTestLoaderFromConfig(config);
 
 			calculateMethodsCache();
@@ -519,6 +562,24 @@ public class JUnitLaunchConfigurationTab extends AbstractLaunchConfigurationTab
 		fKeepRunning.setSelection(running);
 	}
 
+	private void updateRunAffectedTestsOnly(ILaunchConfiguration config) {
+		boolean affectedOnly= false;
+		try {
+			affectedOnly= config.getAttribute(JUnitLaunchConfigurationConstants.ATTR_RUN_AFFECTED_TESTS_ONLY, false);
+		} catch (CoreException ce) {
+		}
+		fRunAffectedTestsOnly.setSelection(affectedOnly);
+	}
+
+	private void updateShardCount(ILaunchConfiguration config) {
+		int shardCount= 1;
+		try {
+			shardCount= config.getAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_COUNT, 1);
+		} catch (CoreException ce) {
+		}
+		fShardCount.setSelection(shardCount);
+	}
+
 	private void updateProjectFromConfig(ILaunchConfiguration config) {
 		String projectName= ""; //$NON-NLS-1$
 		try {
@@ -562,11 +623,18 @@ public class JUnitLaunchConfigurationTab extends AbstractLaunchConfigurationTab
 		}
 		if (containerElement != null)
 			fContainerElement= containerElement;
+		try {
+			fProjectNames= config.getAttribute(JUnitLaunchConfigurationConstants.ATTR_PROJECT_NAMES, Collections.emptyList());
+		} catch (CoreException ce) {
+			fProjectNames= Collections.emptyList();
+		}
 		fTestContainerRadioButton.setSelection(true);
 		setEnableSingleTestGroup(false);
 		setEnableContainerTestGroup(true);
 		fTestRadioButton.setSelection(false);
-		if (fContainerElement != null)
+		if (fProjectNames.size() > 1)
+			fContainerText.setText(String.join(", ", fProjectNames)); //$NON-NLS-1$
+		else if (fContainerElement != null)
 			fContainerText.setText(getPresentationName(fContainerElement));
 
 		try (var __= fTestMethodsCache.runNestedCancelable()) {
@@ -582,13 +650,34 @@ public class JUnitLaunchConfigurationTab extends AbstractLaunchConfigurationTab
 			config.setAttribute(IJavaLaunchConfigurationConstants.ATTR_MAIN_TYPE_NAME, ""); //$NON-NLS-1$
 			//workaround for bug 65399
 			config.setAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_NAME, ""); //$NON-NLS-1$
+			if (fProjectNames.size() > 1)
+				config.setAttribute(JUnitLaunchConfigurationConstants.ATTR_PROJECT_NAMES, fProjectNames);
+			else
+				config.removeAttribute(JUnitLaunchConfigurationConstants.ATTR_PROJECT_NAMES);
 		} else {
 			config.setAttribute(IJavaLaunchConfigurationConstants.ATTR_PROJECT_NAME, fProjText.getText());
 			config.setAttribute(IJavaLaunchConfigurationConstants.ATTR_MAIN_TYPE_NAME, fTestText.getText());
 			config.setAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_CONTAINER, ""); //$NON-NLS-1$
 			config.setAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_NAME, fTestMethodText.getText());
+			config.removeAttribute(JUnitLaunchConfigurationConstants.ATTR_PROJECT_NAMES);
 		}
 		config.setAttribute(JUnitLaunchConfigurationConstants.ATTR_KEEPRUNNING, fKeepRunning.getSelection());
+		if (fRunAffectedTestsOnly.getSelection()) {
+			config.setAttribute(JUnitLaunchConfigurationConstants.ATTR_RUN_AFFECTED_TESTS_ONLY, true);
+			try {
+				if (!config.hasAttribute(JUnitLaunchConfigurationConstants.ATTR_RUN_RECORD_ID))
+					config.setAttribute(JUnitLaunchConfigurationConstants.ATTR_RUN_RECORD_ID, UUID.randomUUID().toString());
+			} catch (CoreException e) {
+				JUnitPlugin.log(e.getStatus());
+			}
+		} else {
+			config.removeAttribute(JUnitLaunchConfigurationConstants.ATTR_RUN_AFFECTED_TESTS_ONLY);
+		}
+		if (fShardCount.getSelection() > 1) {
+			config.setAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_COUNT, fShardCount.getSelection());
+		} else {
+			config.removeAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_COUNT);
+		}
 		try {
 			mapResources(config);
 		} catch (CoreException e) {
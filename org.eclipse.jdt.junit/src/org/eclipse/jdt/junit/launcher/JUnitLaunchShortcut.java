@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@ package org.eclipse.jdt.junit.launcher;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -172,6 +173,16 @@ public class JUnitLaunchShortcut implements ILaunchShortcut2 {
 
 	private void launch(Object[] elements, String mode) {
 		try {
+			if (elements.length > 1) {
+				List<IJavaProject> projects= getJavaProjects(elements);
+				if (projects == null) {
+					showNoTestsFoundDialog();
+				} else {
+					performLaunch(projects, mode);
+				}
+				return;
+			}
+
 			IJavaElement elementToLaunch= null;
 
 			if (elements.length == 1) {
@@ -232,8 +243,48 @@ public class JUnitLaunchShortcut implements ILaunchShortcut2 {
 		return TestSearchEngine.findTests(PlatformUI.getWorkbench().getActiveWorkbenchWindow(), cu, testKind);
 	}
 
+	/**
+	 * @param elements the selected elements
+	 * @return the selected projects, or <code>null</code> if not all elements are Java projects
+	 */
+	private static List<IJavaProject> getJavaProjects(Object[] elements) {
+		List<IJavaProject> projects= new ArrayList<>();
+		for (Object element : elements) {
+			if (!(element instanceof IJavaProject) && element instanceof IAdaptable) {
+				element= ((IAdaptable) element).getAdapter(IJavaProject.class);
+			}
+			if (!(element instanceof IJavaProject))
+				return null;
+			projects.add((IJavaProject) element);
+		}
+		return projects;
+	}
+
 	private void performLaunch(IJavaElement element, String mode) throws InterruptedException, CoreException {
-		ILaunchConfigurationWorkingCopy temparary= createLaunchConfiguration(element);
+		performLaunch(createLaunchConfiguration(element), mode);
+	}
+
+	/**
+	 * Launches the tests of several projects, each in a VM of its own, see
+	 * {@link JUnitLaunchConfigurationConstants#ATTR_PROJECT_NAMES}.
+	 *
+	 * @param projects the projects
+	 * @param mode the launch mode
+	 * @throws InterruptedException if the selection of a configuration was canceled
+	 * @throws CoreException if the launch failed
+	 */
+	private void performLaunch(List<IJavaProject> projects, String mode) throws InterruptedException, CoreException {
+		List<String> projectNames= new ArrayList<>();
+		for (IJavaProject project : projects) {
+			projectNames.add(project.getElementName());
+		}
+		ILaunchConfigurationWorkingCopy temporary= createLaunchConfiguration(projects.get(0));
+		temporary.setAttribute(JUnitLaunchConfigurationConstants.ATTR_PROJECT_NAMES, projectNames);
+		temporary.rename(getLaunchManager().generateLaunchConfigurationName(String.join(", ", projectNames))); //$NON-NLS-1$
+		performLaunch(temporary, mode);
+	}
+
+	private void performLaunch(ILaunchConfigurationWorkingCopy temparary, String mode) throws InterruptedException, CoreException {
 		ILaunchConfiguration config= findExistingLaunchConfiguration(temparary, mode);
 		if (config == null) {
 			// no existing found: create a new one
@@ -512,7 +563,9 @@ public class JUnitLaunchShortcut implements ILaunchShortcut2 {
 					return false;
 				}
 			}
-			return true;
+			List<String> projectNames1= config1.getAttribute(JUnitLaunchConfigurationConstants.ATTR_PROJECT_NAMES, Collections.emptyList());
+			List<String> projectNames2= config2.getAttribute(JUnitLaunchConfigurationConstants.ATTR_PROJECT_NAMES, Collections.emptyList());
+			return projectNames1.equals(projectNames2);
 		} catch (CoreException e) {
 			// ignore access problems here, return false
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2025 IBM Corporation and others.
+ * Copyright (c) 2016, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -42,7 +42,8 @@ public class JUnit6TestListener implements TestExecutionListener {
 
 	private RemoteTestRunner fRemoteTestRunner;
 
-	private TestPlan fTestPlan;
+	// executions of tests are reported from the worker threads of parallel execution
+	private volatile TestPlan fTestPlan;
 
 	private volatile boolean fStopped;
 
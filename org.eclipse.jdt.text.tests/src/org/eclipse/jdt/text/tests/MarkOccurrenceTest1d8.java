@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2022 IBM Corporation and others.
+ * Copyright (c) 2011, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,6 +38,7 @@ import org.eclipse.jdt.internal.core.manipulation.search.ExceptionOccurrencesFin
 import org.eclipse.jdt.internal.core.manipulation.search.IOccurrencesFinder;
 import org.eclipse.jdt.internal.core.manipulation.search.IOccurrencesFinder.OccurrenceLocation;
 import org.eclipse.jdt.internal.core.manipulation.search.MethodExitsFinder;
+import org.eclipse.jdt.internal.core.manipulation.search.OccurrencesFinder;
 
 import org.eclipse.jdt.ui.PreferenceConstants;
 import org.eclipse.jdt.ui.tests.core.rules.Java1d8ProjectTestSetup;
@@ -279,4 +280,42 @@ public class MarkOccurrenceTest1d8 {
 		OccurrenceLocation[] ranges= { find(s, "String", 1), find(s, "return null;", 1) };
 		checkSelection(s, offset, length, ranges);
 	}
+
+	@Test
+	public void testMarkFieldOccurrencesInSameAST() throws Exception {
+		String s= """
+			class E {
+				E next;
+				int count;
+				void foo(E e) {
+					count= e.count + 1;
+					this.next= e.next;
+					new E().count++;
+				}
+			}
+			""";
+		CompilationUnit root= createCompilationUnit(s);
+
+		fFinder= new OccurrencesFinder();
+		assertNull(fFinder.initialize(root, s.indexOf("count"), 0));
+		OccurrenceLocation[] expected= { find(s, "count", 1), find(s, "count", 2), find(s, "count", 3), find(s, "count", 4) };
+		OccurrenceLocation[] locations= fFinder.getOccurrences();
+		assertEquals("number of selections", expected.length, locations.length);
+		for (int i= 0; i < locations.length; i++) {
+			assertEquals(expected[i].getOffset(), locations[i].getOffset());
+			int flags= i == 2 ? IOccurrencesFinder.F_READ_OCCURRENCE : IOccurrencesFinder.F_WRITE_OCCURRENCE;
+			assertEquals(flags, locations[i].getFlags());
+		}
+
+		// a second search in the same AST uses the index built by the first one
+		fFinder= new OccurrencesFinder();
+		assertNull(fFinder.initialize(root, s.indexOf("next"), 0));
+		expected= new OccurrenceLocation[] { find(s, "next", 1), find(s, "next", 2), find(s, "next", 3) };
+		locations= fFinder.getOccurrences();
+		assertEquals("number of selections", expected.length, locations.length);
+		for (int i= 0; i < locations.length; i++) {
+			assertEquals(expected[i].getOffset(), locations[i].getOffset());
+			assertEquals(expected[i].getLength(), locations[i].getLength());
+		}
+	}
 }
@@ -0,0 +1,17 @@
+// Move mA1 to field fB, inline delegator, caller in the target compilation unit
+package p1;
+
+import p2.B;
+
+public class A {
+	public B fB;
+	
+	public void mA1() {
+		fB.mB1();
+		mA2();
+		fB.mB2();
+		System.out.println(this);
+	}
+	
+	public void mA2() {}
+}
\ No newline at end of file
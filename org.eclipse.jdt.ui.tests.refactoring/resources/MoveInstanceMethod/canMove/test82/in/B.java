@@ -0,0 +1,15 @@
+package p2;
+
+import p1.A;
+
+public class B {
+	public void mB1() {}
+	
+	public void mB2() {}
+}
+
+class Caller {
+	void m(A a) {
+		a.mA1();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,10 @@
+package p3;
+
+import p1.A;
+
+class C {
+	C() {
+		A a= new A();
+		a.mA1();
+	}
+}
\ No newline at end of file
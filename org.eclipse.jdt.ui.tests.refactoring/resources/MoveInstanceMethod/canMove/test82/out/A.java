@@ -0,0 +1,10 @@
+// Move mA1 to field fB, inline delegator, caller in the target compilation unit
+package p1;
+
+import p2.B;
+
+public class A {
+	public B fB;
+	
+	public void mA2() {}
+}
\ No newline at end of file
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,7 +22,8 @@ import org.junit.platform.suite.api.Suite;
 	MoveRenameResourceChangeTests.class,
 	RenameSourceFolderChangeTests.class,
 	CopyPackageChangeTest.class,
-	DocumentChangeTest.class
+	DocumentChangeTest.class,
+	DynamicValidationStateChangeTest.class
 })
 public class AllChangeTests {
 }
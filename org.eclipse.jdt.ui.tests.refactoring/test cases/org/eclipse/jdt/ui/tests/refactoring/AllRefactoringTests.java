@@ -120,7 +120,9 @@ import org.junit.platform.suite.api.Suite;
 
 	//--helpers
 	RenamingNameSuggestorTests.class,
-	DelegateCreatorTests.class
+	DelegateCreatorTests.class,
+	RefactoringSessionCacheTests.class,
+	FlowAnalysisCacheTests.class
 })
 public class AllRefactoringTests {
 }
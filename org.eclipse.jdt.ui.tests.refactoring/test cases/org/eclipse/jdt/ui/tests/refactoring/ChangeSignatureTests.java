@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,11 +23,17 @@ import static org.junit.Assume.assumeFalse;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Ignore;
 import org.junit.Test;
 
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
 import org.eclipse.core.tests.harness.FussyProgressMonitor;
 
 import org.eclipse.ltk.core.refactoring.Change;
@@ -36,8 +42,10 @@ import org.eclipse.ltk.core.refactoring.RefactoringStatus;
 import org.eclipse.ltk.core.refactoring.participants.ProcessorBasedRefactoring;
 
 import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.dom.Modifier;
@@ -2418,5 +2426,53 @@ public class ChangeSignatureTests extends GenericRefactoringTest {
 		helperRenameMethod(signature, "renamed", true, false);
 	}
 
-}
+	@Test
+	public void testWorkingSetSize() throws Exception {
+		// occurrences spread over several chunks and projects get the same edits as in one chunk
+		IJavaProject otherProject= JavaProjectHelper.createJavaProject("ChangeSignature2", "bin");
+		try {
+			assertNotNull(JavaProjectHelper.addRTJar(otherProject));
+			IPackageFragmentRoot otherRoot= JavaProjectHelper.addSourceContainer(otherProject, "src");
+			JavaProjectHelper.addRequiredProject(otherProject, getRoot().getJavaProject());
+			IPackageFragment otherPack= otherRoot.createPackageFragment("r", true, null);
 
+			String declaration= """
+				package p;
+				public class A {
+					public void m(%s) {
+					}
+				}
+				""";
+			String caller= """
+				package %s;
+				public class %s {
+					void f(p.A a) {
+						a.m(%s);
+					}
+				}
+				""";
+			ICompilationUnit cu= createCU(getPackageP(), "A.java", declaration.formatted("int i, String s"));
+			Map<ICompilationUnit, String> expected= new LinkedHashMap<>();
+			for (int i= 0; i < 5; i++) {
+				String pName= "B" + i;
+				expected.put(createCU(getPackageP(), pName + ".java", caller.formatted("p", pName, "1, \"s\"")), caller.formatted("p", pName, "\"s\", 1"));
+				String rName= "C" + i;
+				expected.put(createCU(otherPack, rName + ".java", caller.formatted("r", rName, "1, \"s\"")), caller.formatted("r", rName, "\"s\", 1"));
+			}
+
+			ChangeSignatureProcessor processor= new ChangeSignatureProcessor(getType(cu, "A").getMethod("m", new String[] { "I", "QString;" }));
+			processor.setWorkingSetSize(2);
+			modifyInfos(processor.getParameterInfos(), new String[] { "s", "i" }, null, null);
+			Refactoring ref= new ProcessorBasedRefactoring(processor);
+			assertTrue(ref.checkAllConditions(new NullProgressMonitor()).isOK());
+			performChange(ref, false);
+
+			assertEqualLines(declaration.formatted("String s, int i"), cu.getSource());
+			for (Map.Entry<ICompilationUnit, String> entry : expected.entrySet()) {
+				assertEqualLines(entry.getKey().getElementName(), entry.getValue(), entry.getKey().getSource());
+			}
+		} finally {
+			JavaProjectHelper.delete(otherProject);
+		}
+	}
+}
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.text.edits.InsertEdit;
+
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.CompositeChange;
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+import org.eclipse.ltk.core.refactoring.TextFileChange;
+
+import org.eclipse.jdt.internal.corext.refactoring.changes.DynamicValidationStateChange;
+
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
+
+public class DynamicValidationStateChangeTest extends GenericRefactoringTest {
+
+	private static final class CountingChange extends TextFileChange {
+
+		private int fValidations;
+
+		public CountingChange(IFile file) {
+			super(file.getName(), file);
+			setEdit(new InsertEdit(0, "// inserted\n"));
+		}
+
+		@Override
+		public RefactoringStatus isValid(IProgressMonitor monitor) throws CoreException {
+			fValidations++;
+			return super.isValid(monitor);
+		}
+	}
+
+	public DynamicValidationStateChangeTest() {
+		rts= new RefactoringTestSetup();
+	}
+
+	private IFile createFile(String name) throws Exception {
+		return (IFile) createCU(getPackageP(), name + ".java", "package p;\nclass " + name + " {}\n").getResource();
+	}
+
+	@Test
+	public void testNestedChanges() throws Exception {
+		IFile fileA= createFile("A");
+		IFile fileB= createFile("B");
+		IFile fileC= createFile("C");
+		CountingChange changeA= new CountingChange(fileA);
+		CountingChange changeB= new CountingChange(fileB);
+		CountingChange changeC= new CountingChange(fileC);
+		changeC.setEnabled(false);
+		CompositeChange inner= new CompositeChange("inner", new Change[] { changeB, changeC });
+		CompositeChange outer= new CompositeChange("outer", new Change[] { changeA, inner });
+		DynamicValidationStateChange change= new DynamicValidationStateChange(outer);
+		try {
+			change.initializeValidationData(new NullProgressMonitor());
+
+			assertTrue(change.isValid(new NullProgressMonitor()).isOK());
+			assertTrue(change.isValid(new NullProgressMonitor()).isOK());
+			assertEquals(1, changeA.fValidations);
+			assertEquals(1, changeB.fValidations);
+			assertEquals(0, changeC.fValidations);
+
+			// only the nested change whose file changed is validated again
+			fileB.setContents(new ByteArrayInputStream("package p;\nclass B { }\n".getBytes(StandardCharsets.UTF_8)), IResource.NONE, null);
+			RefactoringStatus status= change.isValid(new NullProgressMonitor());
+			assertFalse(status.isOK());
+			assertEquals(1, changeA.fValidations);
+			assertEquals(2, changeB.fValidations);
+
+			// a failed validation is not remembered
+			change.isValid(new NullProgressMonitor());
+			assertEquals(1, changeA.fValidations);
+			assertEquals(3, changeB.fValidations);
+			assertEquals(0, changeC.fValidations);
+		} finally {
+			change.dispose();
+		}
+	}
+}
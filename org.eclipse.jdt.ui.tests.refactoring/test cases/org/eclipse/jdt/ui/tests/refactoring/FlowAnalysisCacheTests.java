@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.IVariableBinding;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.Statement;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+import org.eclipse.jdt.internal.corext.dom.LocalVariableIndex;
+import org.eclipse.jdt.internal.corext.dom.Selection;
+import org.eclipse.jdt.internal.corext.refactoring.code.flow.FlowAnalysisCache;
+import org.eclipse.jdt.internal.corext.refactoring.code.flow.FlowContext;
+import org.eclipse.jdt.internal.corext.refactoring.code.flow.FlowInfo;
+import org.eclipse.jdt.internal.corext.refactoring.code.flow.InOutFlowAnalyzer;
+import org.eclipse.jdt.internal.corext.refactoring.code.flow.InputFlowAnalyzer;
+import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
+
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
+
+public class FlowAnalysisCacheTests extends GenericRefactoringTest {
+
+	private static final int READS= FlowInfo.READ | FlowInfo.READ_POTENTIAL | FlowInfo.UNKNOWN;
+
+	private static final int WRITES= FlowInfo.WRITE | FlowInfo.WRITE_POTENTIAL | FlowInfo.UNKNOWN;
+
+	public FlowAnalysisCacheTests() {
+		rts= new RefactoringTestSetup();
+	}
+
+	private static FlowContext createContext(int maxVariableId, boolean returnValues) {
+		FlowContext context= new FlowContext(0, maxVariableId + 1);
+		context.setConsiderAccessMode(true);
+		context.setComputeMode(returnValues ? FlowContext.RETURN_VALUES : FlowContext.ARGUMENTS);
+		return context;
+	}
+
+	private static Set<String> getNames(FlowInfo info, FlowContext context, int mode) {
+		Set<String> result= new TreeSet<>();
+		for (IVariableBinding binding : info.get(context, mode)) {
+			result.add(binding.getName());
+		}
+		return result;
+	}
+
+	@Test
+	public void testCachedAnalysis() throws Exception {
+		String str= """
+			package p;
+			class A {
+				int m(int a) {
+					int b= a + 1;
+					int c= b * 2;
+					b++;
+					return b + c;
+				}
+				void n() {
+					int x= 1;
+				}
+			}
+			""";
+		ICompilationUnit cu= createCU(getPackageP(), "A.java", str);
+		CompilationUnit root= new RefactoringASTParser(IASTSharedValues.SHARED_AST_LEVEL).parse(cu, true, null);
+		TypeDeclaration type= (TypeDeclaration) root.types().get(0);
+		MethodDeclaration method= type.getMethods()[0];
+		List<Statement> statements= method.getBody().statements();
+
+		// the local variable index is shared by all selections in a body declaration
+		int maxVariableId= FlowAnalysisCache.getMaxVariableId(method);
+		assertEquals(LocalVariableIndex.perform(method), maxVariableId);
+		assertEquals(maxVariableId, FlowAnalysisCache.getMaxVariableId(method));
+		assertEquals(LocalVariableIndex.perform(type.getMethods()[1]), FlowAnalysisCache.getMaxVariableId(type.getMethods()[1]));
+
+		ASTNode[] selectedNodes= { statements.get(1) };
+		FlowContext uncachedContext= createContext(maxVariableId, false);
+		FlowInfo uncached= new InOutFlowAnalyzer(uncachedContext).perform(selectedNodes);
+		FlowInfo cached= FlowAnalysisCache.performInOutFlowAnalysis(createContext(maxVariableId, false), selectedNodes);
+		FlowContext context= createContext(maxVariableId, false);
+		assertSame(cached, FlowAnalysisCache.performInOutFlowAnalysis(context, selectedNodes));
+		assertEquals(Set.of("b"), getNames(uncached, uncachedContext, READS));
+		assertEquals(getNames(uncached, uncachedContext, READS), getNames(cached, context, READS));
+
+		// the settings of the flow context are part of the key
+		FlowContext returnContext= createContext(maxVariableId, true);
+		FlowInfo returnInfo= FlowAnalysisCache.performInOutFlowAnalysis(returnContext, selectedNodes);
+		assertNotSame(cached, returnInfo);
+		assertEquals(Set.of("c"), getNames(returnInfo, returnContext, WRITES));
+
+		Selection selection= Selection.createFromStartLength(statements.get(1).getStartPosition(), statements.get(1).getLength());
+		uncachedContext= createContext(maxVariableId, false);
+		uncached= new InputFlowAnalyzer(uncachedContext, selection, true).perform(method);
+		cached= FlowAnalysisCache.performInputFlowAnalysis(createContext(maxVariableId, false), selection, true, method);
+		context= createContext(maxVariableId, false);
+		assertSame(cached, FlowAnalysisCache.performInputFlowAnalysis(context, selection, true, method));
+		assertTrue(getNames(uncached, uncachedContext, READS).contains("c"));
+		assertEquals(getNames(uncached, uncachedContext, READS), getNames(cached, context, READS));
+
+		// modifying the AST discards the results
+		statements.remove(2);
+		assertNotSame(cached, FlowAnalysisCache.performInputFlowAnalysis(createContext(maxVariableId, false), selection, true, method));
+	}
+}
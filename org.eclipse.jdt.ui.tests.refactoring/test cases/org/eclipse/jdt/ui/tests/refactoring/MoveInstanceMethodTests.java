@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -734,6 +734,12 @@ public class MoveInstanceMethodTests extends GenericRefactoringTest {
 		helper1(new String[] { "p1.A", "p1.a.T", "p2.B", "p2.b.T"}, "p1.A", 15, 14, 15, 17, FIELD, "fB", true, true);
 	}
 
+	// Move mA1 to field fB, inline delegator, caller in the target compilation unit
+	@Test
+	public void test82() throws Exception {
+		helper1(new String[] { "p1.A", "p2.B", "p3.C"}, "p1.A", 9, 17, 9, 20, FIELD, "fB", true, true);
+	}
+
 	// Move mA1 to field fB, do not inline delegator
 	@Test
 	public void test3() throws Exception {
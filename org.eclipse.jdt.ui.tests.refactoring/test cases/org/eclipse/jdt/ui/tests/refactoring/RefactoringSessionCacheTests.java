@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+
+import org.eclipse.ltk.core.refactoring.RefactoringCore;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.refactoring.IJavaRefactorings;
+import org.eclipse.jdt.core.refactoring.descriptors.MoveDescriptor;
+import org.eclipse.jdt.core.refactoring.descriptors.RenameJavaElementDescriptor;
+
+import org.eclipse.jdt.internal.core.refactoring.descriptors.RefactoringSignatureDescriptorFactory;
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
+import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringSessionCache;
+
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
+
+public class RefactoringSessionCacheTests extends GenericRefactoringTest {
+
+	private static final String TYPE= """
+		package %s;
+
+		public class A {
+			public void m() {
+			}
+		}
+		""";
+
+	private static final String USER= """
+		package %s;
+
+		public class User {
+			void f(A a) {
+				a.m();
+			}
+		}
+		""";
+
+	public RefactoringSessionCacheTests() {
+		rts= new RefactoringTestSetup();
+	}
+
+	/**
+	 * Renames type <code>A</code> to <code>B</code> and moves it to another package.
+	 *
+	 * @param packageName the name of the package of the type and its reference
+	 * @return the sources of the moved type and of its reference after the refactorings
+	 * @throws Exception if the refactorings could not be performed
+	 */
+	private String[] replayHistory(String packageName) throws Exception {
+		IPackageFragment pack= getRoot().createPackageFragment(packageName, true, null);
+		IPackageFragment destination= getRoot().createPackageFragment(packageName + ".target", true, null);
+		ICompilationUnit type= createCU(pack, "A.java", TYPE.formatted(packageName));
+		ICompilationUnit user= createCU(pack, "User.java", USER.formatted(packageName));
+
+		RenameJavaElementDescriptor rename= RefactoringSignatureDescriptorFactory.createRenameJavaElementDescriptor(IJavaRefactorings.RENAME_TYPE);
+		rename.setJavaElement(type.getType("A"));
+		rename.setNewName("B");
+		rename.setUpdateReferences(true);
+		assertNull("rename was supposed to pass", performRefactoring(rename));
+
+		MoveDescriptor move= (MoveDescriptor) RefactoringCore.getRefactoringContribution(IJavaRefactorings.MOVE).createDescriptor();
+		move.setMoveResources(new IFile[0], new IFolder[0], new ICompilationUnit[] { pack.getCompilationUnit("B.java") });
+		move.setDestination(destination);
+		move.setUpdateReferences(true);
+		assertNull("move was supposed to pass", performRefactoring(move));
+
+		return new String[] { destination.getCompilationUnit("B.java").getSource(), user.getSource() };
+	}
+
+	@Test
+	public void testHistory() throws Exception {
+		String[] uncached= replayHistory("uncached");
+		String[] cached;
+		RefactoringSessionCache session= RefactoringSessionCache.begin();
+		try {
+			cached= replayHistory("cached");
+			assertTrue(session.getASTRequestCount() > 0);
+		} finally {
+			session.end();
+		}
+		assertNull(RefactoringSessionCache.getActive());
+
+		// the move has to see the reference updated by the rename
+		assertTrue(cached[1], cached[1].contains("import cached.target.B;"));
+		assertTrue(cached[1], cached[1].contains("void f(B a)"));
+		for (int i= 0; i < cached.length; i++) {
+			assertEquals(uncached[i].replace("uncached", "cached"), cached[i]);
+		}
+	}
+
+	@Test
+	public void testInvalidation() throws Exception {
+		ICompilationUnit type= createCU(getPackageP(), "A.java", TYPE.formatted("p"));
+		ICompilationUnit user= createCU(getPackageP(), "User.java", USER.formatted("p"));
+		RefactoringASTParser parser= new RefactoringASTParser(IASTSharedValues.SHARED_AST_LEVEL);
+		RefactoringSessionCache session= RefactoringSessionCache.begin();
+		try {
+			CompilationUnit root= parser.parse(user, true, null);
+			assertSame(root, parser.parse(user, true, null));
+			assertSame(root, parser.parse(user, false, null));
+			assertEquals(2, session.getParsesAvoided());
+
+			// ASTs are not shared with other threads
+			CompilationUnit[] other= new CompilationUnit[1];
+			Thread thread= new Thread(() -> other[0]= new RefactoringASTParser(IASTSharedValues.SHARED_AST_LEVEL).parse(user, true, null));
+			thread.start();
+			thread.join();
+			assertNotSame(root, other[0]);
+
+			// the ASTs with bindings and the ASTs of the changed units are discarded when a unit changes
+			ICompilationUnit other= createCU(getPackageP(), "Other.java", "package p;\n\npublic class Other {\n}\n");
+			CompilationUnit otherRoot= parser.parse(other, false, null);
+			CompilationUnit otherBindings= parser.parse(other, true, null);
+			RenameJavaElementDescriptor rename= RefactoringSignatureDescriptorFactory.createRenameJavaElementDescriptor(IJavaRefactorings.RENAME_TYPE);
+			rename.setJavaElement(type.getType("A"));
+			rename.setNewName("B");
+			rename.setUpdateReferences(true);
+			assertNull("rename was supposed to pass", performRefactoring(rename));
+			CompilationUnit newRoot= parser.parse(user, true, null);
+			assertNotSame(root, newRoot);
+			assertTrue(newRoot.toString(), newRoot.toString().contains("B a"));
+			assertSame(otherRoot, parser.parse(other, false, null));
+			assertNotSame(otherBindings, parser.parse(other, true, null));
+
+			CompilationUnit flushed= parser.parse(user, true, null);
+			assertSame(newRoot, flushed);
+			session.flush();
+			CompilationUnit modified= parser.parse(user, true, null);
+			assertNotSame(flushed, modified);
+
+			// an AST which a client modified is not handed out again
+			assertSame(modified, parser.parse(user, true, null));
+			modified.types().clear();
+			CompilationUnit reparsed= parser.parse(user, true, null);
+			assertNotSame(modified, reparsed);
+			assertEquals(1, reparsed.types().size());
+		} finally {
+			session.end();
+		}
+		assertNull(RefactoringSessionCache.getActive());
+	}
+
+	@Test
+	public void testSuspend() throws Exception {
+		ICompilationUnit type= createCU(getPackageP(), "A.java", TYPE.formatted("p"));
+		RefactoringASTParser parser= new RefactoringASTParser(IASTSharedValues.SHARED_AST_LEVEL);
+		RefactoringSessionCache session= RefactoringSessionCache.begin();
+		try {
+			CompilationUnit root= parser.parse(type, false, null);
+			session.suspend();
+			assertNull(RefactoringSessionCache.getActive());
+			assertNotSame(root, parser.parse(type, false, null));
+
+			// the session is resumed on another thread, as by a history replay
+			CompilationUnit[] resumed= new CompilationUnit[1];
+			Thread thread= new Thread(() -> {
+				session.resume();
+				resumed[0]= parser.parse(type, false, null);
+				session.suspend();
+			});
+			thread.start();
+			thread.join();
+			assertSame(root, resumed[0]);
+			assertNull(RefactoringSessionCache.getActive());
+		} finally {
+			session.end();
+		}
+		assertEquals(1, session.getParsesAvoided());
+	}
+}
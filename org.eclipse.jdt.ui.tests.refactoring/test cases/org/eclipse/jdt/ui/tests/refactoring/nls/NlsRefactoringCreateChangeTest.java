@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -35,11 +35,13 @@ import org.eclipse.core.resources.IFolder;
 import org.eclipse.ltk.core.refactoring.Change;
 
 import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaModelException;
 
+import org.eclipse.jdt.internal.corext.refactoring.nls.NLSBatchRefactoring;
 import org.eclipse.jdt.internal.corext.refactoring.nls.NLSRefactoring;
 import org.eclipse.jdt.internal.corext.refactoring.nls.NLSSubstitution;
 
@@ -818,6 +820,78 @@ public class NlsRefactoringCreateChangeTest {
 		checkContentOfCu("nls file", cu, str3);
 	}
 
+	@Test
+	public void batchExternalizePackage() throws Exception {
+		fHelper.createPackageFragment("q", "/TestSetupProject/src1"); //$NON-NLS-1$//$NON-NLS-2$
+		IPackageFragment pack= fHelper.getPackageFragment("/TestSetupProject/src1/q");
+
+		String str= """
+			package q;
+			class A {
+				String hello="hello";
+				String world="world";
+			}
+			""";
+		ICompilationUnit a= GenericRefactoringTest.createCU(pack, "A.java", str);
+		String str1= """
+			package q;
+			class B {
+				String hello="hello";
+				String ignored="ignored"; //$NON-NLS-1$
+			}
+			""";
+		ICompilationUnit b= GenericRefactoringTest.createCU(pack, "B.java", str1);
+
+		ICompilationUnit[] units= NLSBatchRefactoring.getCompilationUnits(new IJavaElement[] { pack });
+		assertEquals(2, units.length);
+
+		NLSBatchRefactoring nls= new NLSBatchRefactoring(units, fHelper.getPackageFragment("/TestSetupProject/src1/p"), "Messages", //$NON-NLS-1$
+				fHelper.getPackageFragment("/TestSetupProject/src2/p"), "test.properties"); //$NON-NLS-1$
+		nls.checkInitialConditions(fHelper.fNpm);
+		assertEquals(3, nls.getSubstitutions().length);
+		nls.checkFinalConditions(fHelper.fNpm);
+		Change c= nls.createChange(fHelper.fNpm);
+		c.initializeValidationData(fHelper.fNpm);
+		try {
+			c.perform(fHelper.fNpm);
+		} finally {
+			c.dispose();
+		}
+
+		String str2= """
+			package q;
+			
+			import p.Messages;
+			
+			class A {
+				String hello=Messages.getString("A.0"); //$NON-NLS-1$
+				String world=Messages.getString("A.1"); //$NON-NLS-1$
+			}
+			""";
+		checkContentOfCu("manipulated class A", a, str2);
+
+		String str3= """
+			package q;
+			
+			import p.Messages;
+			
+			class B {
+				String hello=Messages.getString("A.0"); //$NON-NLS-1$
+				String ignored="ignored"; //$NON-NLS-1$
+			}
+			""";
+		checkContentOfCu("manipulated class B", b, str3);
+
+		// identical strings share a key
+		Properties properties= new Properties();
+		try (InputStream in= fHelper.getFile("/TestSetupProject/src2/p/test.properties").getContents()) {
+			properties.load(in);
+		}
+		assertEquals(2, properties.size());
+		assertEquals("hello", properties.getProperty("A.0"));
+		assertEquals("world", properties.getProperty("A.1"));
+	}
+
 	private IFile createPropertyFile(IPackageFragment pack, String name, String content) throws UnsupportedEncodingException, CoreException {
 		ByteArrayInputStream is= new ByteArrayInputStream(content.getBytes("8859_1"));
 		IFile file= ((IFolder) pack.getResource()).getFile(name);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -252,7 +252,7 @@ public class TypeEnvironmentTests extends AbstractJunit4CUTestCase {
 			assertTrue("Not same erasure", types[i].getErasure().isEqualTo(bindings[i].getErasure()));
 			assertTrue("Not same type declaration", types[i].getTypeDeclaration().isEqualTo(bindings[i].getTypeDeclaration()));
 			assertSame("Not same type", types[i], environment.create(bindings[i]));
-
+			assertSame("Not same type for id", types[i], environment.getType(types[i].getTypeId()));
 		}
 		for (int o= 0; o < bindings.length; o++) {
 			for (int i= 0; i < bindings.length; i++) {
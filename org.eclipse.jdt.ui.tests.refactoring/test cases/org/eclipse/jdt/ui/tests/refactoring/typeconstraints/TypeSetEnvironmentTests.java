@@ -0,0 +1,190 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring.typeconstraints;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.ArrayType;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TypeEnvironment;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets.EnumeratedTypeSet;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets.TypeSet;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets.TypeSetEnvironment;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets.TypeSetEnvironment.TypeClosure;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.TTypes;
+
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
+
+public class TypeSetEnvironmentTests {
+
+	@Rule
+	public RefactoringTestSetup rts= new RefactoringTestSetup();
+
+	private Map<String, ITypeBinding> fBindings;
+
+	@Before
+	public void setUp() throws Exception {
+		IPackageFragment pack= rts.getDefaultSourceFolder().createPackageFragment("hierarchy", true, null);
+		String str= """
+			package hierarchy;
+			class A<T> {}
+			class B<T> extends A<T> {}
+			class C<T> extends B<T> {}
+			class D<T> extends A<T> {}
+			""";
+		ICompilationUnit cu= pack.createCompilationUnit("A.java", str, true, null);
+		ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
+		parser.setProject(rts.getProject());
+		parser.setResolveBindings(true);
+		parser.setSource(cu);
+		CompilationUnit root= (CompilationUnit) parser.createAST(null);
+		fBindings= new HashMap<>();
+		for (AbstractTypeDeclaration type : (List<AbstractTypeDeclaration>) root.types()) {
+			fBindings.put(type.getName().getIdentifier(), ((TypeDeclaration) type).resolveBinding());
+		}
+	}
+
+	@Test
+	public void testSubTypeClosures() throws Exception {
+		TypeEnvironment environment= new TypeEnvironment(true);
+		TType a= environment.create(fBindings.get("A"));
+		environment.create(fBindings.get("B"));
+		TType c= environment.create(fBindings.get("C"));
+		TypeSetEnvironment typeSetEnvironment= new TypeSetEnvironment(environment);
+
+		TypeClosure superClosure= typeSetEnvironment.getSuperTypeClosure(c);
+		assertEquals(toSet(TTypes.getAllSuperTypesIterator(c)), new HashSet<>(superClosure.getTypes()));
+		assertTrue(superClosure.getIds().get(a.getTypeId()));
+
+		TypeClosure closure= typeSetEnvironment.getSubTypeClosure(a);
+		assertEquals(toSet(TTypes.getAllSubTypesIterator(a)), new HashSet<>(closure.getTypes()));
+		assertTrue(closure.getIds().get(a.getTypeId()));
+
+		// creating array types does not add subtype relations, so the closure stays valid
+		int modificationCount= environment.getSubTypesModificationCount();
+		TypeClosure arrayClosure= typeSetEnvironment.getArraySubTypeClosure(a, 2);
+		assertEquals(modificationCount, environment.getSubTypesModificationCount());
+		assertSame(closure, typeSetEnvironment.getSubTypeClosure(a));
+		Set<TType> expectedArrays= new HashSet<>();
+		for (Iterator<TType> iter= TTypes.getAllSubTypesIterator(a); iter.hasNext();) {
+			expectedArrays.add(TTypes.createArrayType(iter.next(), 2));
+		}
+		assertEquals(expectedArrays, new HashSet<>(arrayClosure.getTypes()));
+		assertSame(arrayClosure, typeSetEnvironment.getArraySubTypeClosure(a, 2));
+
+		// a new subtype invalidates the subtype closures
+		environment.create(fBindings.get("D"));
+		assertTrue(environment.getSubTypesModificationCount() > modificationCount);
+		TypeClosure newClosure= typeSetEnvironment.getSubTypeClosure(a);
+		assertNotSame(closure, newClosure);
+		assertEquals(toSet(TTypes.getAllSubTypesIterator(a)), new HashSet<>(newClosure.getTypes()));
+		assertNotSame(arrayClosure, typeSetEnvironment.getArraySubTypeClosure(a, 2));
+
+		// supertypes never change
+		assertSame(superClosure, typeSetEnvironment.getSuperTypeClosure(c));
+	}
+
+	@Test
+	public void testBoundsAndEnumeration() throws Exception {
+		TypeEnvironment environment= new TypeEnvironment(true);
+		TType a= environment.create(fBindings.get("A"));
+		TType b= environment.create(fBindings.get("B"));
+		TType c= environment.create(fBindings.get("C"));
+		TypeSetEnvironment typeSetEnvironment= new TypeSetEnvironment(environment);
+
+		EnumeratedTypeSet types= new EnumeratedTypeSet(Arrays.asList(a, b, c).iterator(), typeSetEnvironment);
+		assertEquals(Set.of(c), toSet(types.lowerBound().iterator()));
+		assertEquals(previousLowerBound(types, 0), toSet(types.lowerBound().iterator()));
+
+		TType aArray= TTypes.createArrayType(a, 1);
+		TType bArray= TTypes.createArrayType(b, 1);
+		TType cArray= TTypes.createArrayType(c, 1);
+		EnumeratedTypeSet arrays= new EnumeratedTypeSet(Arrays.asList(aArray, bArray, cArray).iterator(), typeSetEnvironment);
+		assertEquals(Set.of(cArray), toSet(arrays.lowerBound().iterator()));
+		assertEquals(previousLowerBound(arrays, 1), toSet(arrays.lowerBound().iterator()));
+
+		// the closures keep the order of the hierarchy iterators
+		TypeSet superTypes= typeSetEnvironment.createSuperTypesSet(new EnumeratedTypeSet(Arrays.asList(cArray).iterator(), typeSetEnvironment));
+		Set<TType> expectedSuperTypes= new LinkedHashSet<>();
+		for (Iterator<TType> iter= TTypes.getAllSuperTypesIterator(c); iter.hasNext();) {
+			expectedSuperTypes.add(TTypes.createArrayType(iter.next(), 1));
+		}
+		expectedSuperTypes.add(cArray);
+		expectedSuperTypes.add(environment.getJavaLangObject());
+		assertEquals(List.copyOf(expectedSuperTypes), List.copyOf(toSet(superTypes.enumerate().iterator())));
+
+		TypeSet subTypes= typeSetEnvironment.createSubTypesOfSingleton(a);
+		Set<TType> expectedSubTypes= toSet(TTypes.getAllSubTypesIterator(a));
+		expectedSubTypes.add(a);
+		assertEquals(List.copyOf(expectedSubTypes), List.copyOf(toSet(subTypes.enumerate().iterator())));
+	}
+
+	/**
+	 * Computes the lower bound of an enumerated type set like before the closures were cached.
+	 *
+	 * @param set the type set
+	 * @param dimensions the dimensions of the array types in the set, or 0
+	 * @return the members which have no proper subtype in the set
+	 */
+	private static Set<TType> previousLowerBound(EnumeratedTypeSet set, int dimensions) {
+		Set<TType> result= toSet(set.iterator());
+		for (Iterator<TType> members= set.iterator(); members.hasNext();) {
+			TType t= members.next();
+			if (dimensions == 0) {
+				for (Iterator<TType> iter= TTypes.getAllSuperTypesIterator(t); iter.hasNext();) {
+					result.remove(iter.next());
+				}
+			} else {
+				TType elementType= ((ArrayType) t).getElementType();
+				for (Iterator<TType> iter= TTypes.getAllSuperTypesIterator(elementType); iter.hasNext();) {
+					result.remove(TTypes.createArrayType(iter.next(), dimensions));
+				}
+			}
+		}
+		return result;
+	}
+
+	private static Set<TType> toSet(Iterator<TType> types) {
+		Set<TType> result= new LinkedHashSet<>();
+		while (types.hasNext()) {
+			result.add(types.next());
+		}
+		return result;
+	}
+}
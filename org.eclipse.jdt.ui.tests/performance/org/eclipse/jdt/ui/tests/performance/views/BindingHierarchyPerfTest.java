@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExternalResource;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.testplugin.JavaTestPlugin;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.IVariableBinding;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.SimpleName;
+
+import org.eclipse.jdt.internal.corext.dom.BindingHierarchyCache;
+import org.eclipse.jdt.internal.corext.dom.Bindings;
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+/**
+ * Measures the hierarchy lookups done by the override indicators and the semantic highlightings
+ * of inherited members over all compilation units of a project, with and without
+ * {@link BindingHierarchyCache}.
+ */
+public class BindingHierarchyPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static class MyTestSetup extends ExternalResource {
+		public static final String SRC_CONTAINER= "src";
+
+		public static IJavaProject fJProject1;
+
+		@Override
+		public void before() throws Throwable {
+			fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+			assertNotNull("rt not found", JavaProjectHelper.addRTJar(fJProject1));
+			File junitSrcArchive= JavaTestPlugin.getDefault().getFileInPlugin(JavaProjectHelper.JUNIT_SRC_381);
+			JavaProjectHelper.addSourceContainerWithImport(fJProject1, SRC_CONTAINER, junitSrcArchive, JavaProjectHelper.JUNIT_SRC_ENCODING);
+		}
+
+		@Override
+		public void after() {
+			try {
+				if (fJProject1 != null && fJProject1.exists()) {
+					JavaProjectHelper.delete(fJProject1);
+				}
+			} catch (CoreException e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	@Rule
+	public MyTestSetup stup= new MyTestSetup();
+
+	private void addAllCUs(IJavaElement[] children, List<ICompilationUnit> result) throws JavaModelException {
+		for (IJavaElement element : children) {
+			if (element instanceof ICompilationUnit) {
+				result.add((ICompilationUnit) element);
+			} else if (element instanceof IPackageFragmentRoot) {
+				addAllCUs(((IPackageFragmentRoot) element).getChildren(), result);
+			} else if (element instanceof IPackageFragment) {
+				addAllCUs(((IPackageFragment) element).getChildren(), result);
+			}
+		}
+	}
+
+	private CompilationUnit[] createASTs() throws JavaModelException {
+		List<ICompilationUnit> cus= new ArrayList<>();
+		addAllCUs(MyTestSetup.fJProject1.getChildren(), cus);
+		CompilationUnit[] result= new CompilationUnit[cus.size()];
+		for (int i= 0; i < result.length; i++) {
+			ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+			parser.setSource(cus.get(i));
+			parser.setResolveBindings(true);
+			result[i]= (CompilationUnit) parser.createAST(null);
+		}
+		return result;
+	}
+
+	@Test
+	public void testHierarchyLookups() throws Exception {
+		measure(Performance.getDefault().getNullPerformanceMeter(), 10, false);
+		measure(fPerformanceMeter, 10, false);
+
+		commitMeasurements();
+		Performance.getDefault().assertPerformance(fPerformanceMeter);
+	}
+
+	@Test
+	public void testCachedHierarchyLookups() throws Exception {
+		measure(Performance.getDefault().getNullPerformanceMeter(), 10, true);
+		int[] counts= measure(fPerformanceMeter, 10, true);
+
+		commitMeasurements();
+		Performance.getDefault().assertPerformance(fPerformanceMeter);
+
+		assertTrue(counts[0] + " hits, " + counts[1] + " misses", counts[0] > counts[1]);
+	}
+
+	private int[] measure(PerformanceMeter performanceMeter, int runs, boolean cached) throws Exception {
+		int[] counts= new int[2];
+		for (int j= 0; j < runs; j++) {
+			CompilationUnit[] roots= createASTs();
+
+			joinBackgroudActivities();
+
+			performanceMeter.start();
+			for (CompilationUnit root : roots) {
+				root.accept(new HierarchyLookups(cached ? BindingHierarchyCache.getCache(root) : null));
+			}
+			performanceMeter.stop();
+
+			if (cached) {
+				counts[0]= 0;
+				counts[1]= 0;
+				for (CompilationUnit root : roots) {
+					counts[0]+= BindingHierarchyCache.getCache(root).getHitCount();
+					counts[1]+= BindingHierarchyCache.getCache(root).getMissCount();
+				}
+			}
+		}
+		return counts;
+	}
+
+	private static class HierarchyLookups extends ASTVisitor {
+
+		private final BindingHierarchyCache fCache;
+
+		public HierarchyLookups(BindingHierarchyCache cache) {
+			fCache= cache;
+		}
+
+		@Override
+		public boolean visit(MethodDeclaration node) {
+			IMethodBinding binding= node.resolveBinding();
+			if (binding != null) {
+				if (fCache != null)
+					fCache.findOverriddenMethod(binding, true);
+				else
+					Bindings.findOverriddenMethod(binding, true);
+			}
+			return true;
+		}
+
+		@Override
+		public boolean visit(SimpleName node) {
+			IBinding binding= node.resolveBinding();
+			ITypeBinding declaringType= null;
+			if (binding instanceof IMethodBinding)
+				declaringType= ((IMethodBinding) binding).getDeclaringClass();
+			else if (binding instanceof IVariableBinding)
+				declaringType= ((IVariableBinding) binding).getDeclaringClass();
+			ITypeBinding currentType= Bindings.getBindingOfParentType(node);
+			if (declaringType != null && currentType != null && declaringType != currentType) {
+				if (fCache != null)
+					fCache.isSuperType(declaringType, currentType);
+				else
+					Bindings.isSuperType(declaringType, currentType);
+			}
+			return true;
+		}
+	}
+}
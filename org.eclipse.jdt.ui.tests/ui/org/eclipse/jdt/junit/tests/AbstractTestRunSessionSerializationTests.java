@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -115,6 +115,11 @@ public class AbstractTestRunSessionSerializationTests {
 			// due to lingering TestRunnerViewPart$TestSessionListeners
 			serializationResult.fTestRunSession.swapOut();
 			assertEqualSessions(serializationResult.fTestRunSession, imported);
+
+			// the session has been swapped in from its swap file
+			ByteArrayOutputStream out= new ByteArrayOutputStream();
+			JUnitModel.exportTestRunSession(serializationResult.fTestRunSession, out);
+			assertEqualXML(expectedXML, out.toString("UTF-8"));
 		} finally {
 			if (resultFile.exists())
 				try {
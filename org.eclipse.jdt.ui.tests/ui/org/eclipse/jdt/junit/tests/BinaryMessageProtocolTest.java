@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.junit.runner.BinaryMessageReader;
+import org.eclipse.jdt.internal.junit.runner.BinaryMessageWriter;
+import org.eclipse.jdt.internal.junit.runner.MessageIds;
+
+public class BinaryMessageProtocolTest {
+
+	private static List<String> roundTrip(List<String> messages) throws Exception {
+		ByteArrayOutputStream out= new ByteArrayOutputStream();
+		BinaryMessageWriter writer= new BinaryMessageWriter(out);
+		for (String message : messages) {
+			writer.sendMessage(message);
+		}
+		writer.close();
+
+		BufferedInputStream in= new BufferedInputStream(new ByteArrayInputStream(out.toByteArray()));
+		assertTrue(BinaryMessageReader.readMagic(in));
+		BinaryMessageReader reader= new BinaryMessageReader(in);
+		assertEquals(System.lineSeparator(), reader.getLineDelimiter());
+		List<String> result= new ArrayList<>();
+		String message;
+		while ((message= reader.readMessage()) != null) {
+			result.add(message);
+		}
+		return result;
+	}
+
+	@Test
+	public void testRoundTrip() throws Exception {
+		List<String> messages= Arrays.asList(
+				MessageIds.TEST_RUN_START + "2 v2",
+				MessageIds.TEST_TREE + "1,pack.ATest,true,2,false,-1,ATest,,[engine:junit-jupiter]/[class:pack.ATest]",
+				MessageIds.TEST_TREE + "2,test1(pack.ATest),false,1,false,1,test1(),,",
+				MessageIds.TEST_TREE + "3,test2(java.lang.String\\, int)(pack.ATest),false,1,false,1,test2(String\\, int),java.lang.String\\,int,",
+				MessageIds.TEST_START + "2,test1(pack.ATest)",
+				MessageIds.TEST_END + "2,test1(pack.ATest)",
+				MessageIds.TEST_START + "3,test2(java.lang.String\\, int)(pack.ATest)",
+				MessageIds.TEST_FAILED + "3,test2(java.lang.String\\, int)(pack.ATest)",
+				MessageIds.EXPECTED_START,
+				"äöü",
+				MessageIds.EXPECTED_END,
+				MessageIds.TRACE_START,
+				"org.junit.ComparisonFailure: expected:<[äöü]> but was:<[x]>\n\tat pack.ATest.test2(ATest.java:5)\n",
+				MessageIds.TRACE_END,
+				MessageIds.TEST_END + "3,test2(java.lang.String\\, int)(pack.ATest)",
+				MessageIds.TEST_START + "no test id",
+				MessageIds.TEST_TREE + "4,name without details",
+				"",
+				"%TEST",
+				MessageIds.TEST_RUN_END + "42");
+		assertEquals(messages, roundTrip(messages));
+	}
+
+	@Test
+	public void testManyMessages() throws Exception {
+		List<String> messages= new ArrayList<>();
+		for (int i= 0; i < 20000; i++) {
+			messages.add(MessageIds.TEST_TREE + i + ",test" + i + "(pack.ATest),false,1,false,-1,test" + i + "(),,");
+		}
+		for (int i= 0; i < 20000; i++) {
+			messages.add(MessageIds.TEST_START + i + ",test" + i + "(pack.ATest)");
+			messages.add(MessageIds.TEST_END + i + ",test" + i + "(pack.ATest)");
+		}
+		assertEquals(messages, roundTrip(messages));
+	}
+
+	@Test
+	public void testTextProtocolIsNotBinary() throws Exception {
+		byte[] text= (MessageIds.TEST_RUN_START + "1 v2\n").getBytes(StandardCharsets.UTF_8);
+		BufferedInputStream in= new BufferedInputStream(new ByteArrayInputStream(text));
+		assertFalse(BinaryMessageReader.readMagic(in));
+		assertEquals(text.length, in.available());
+		assertEquals('%', in.read());
+
+		in= new BufferedInputStream(new ByteArrayInputStream(new byte[0]));
+		assertFalse(BinaryMessageReader.readMagic(in));
+	}
+
+	@Test
+	public void testEmptyStream() throws Exception {
+		ByteArrayOutputStream out= new ByteArrayOutputStream();
+		new BinaryMessageWriter(out).close();
+		BufferedInputStream in= new BufferedInputStream(new ByteArrayInputStream(out.toByteArray()));
+		assertTrue(BinaryMessageReader.readMagic(in));
+		assertNull(new BinaryMessageReader(in).readMessage());
+	}
+
+	@Test
+	public void testMagicIsCopied() throws Exception {
+		MessageIds.getBinaryProtocolMagic()[0]= 'X';
+		assertEquals(0, MessageIds.getBinaryProtocolMagic()[0]);
+	}
+
+	@Test(expected= IOException.class)
+	public void testNegativeStringLength() throws Exception {
+		ByteArrayOutputStream out= new ByteArrayOutputStream();
+		DataOutputStream data= new DataOutputStream(out);
+		data.writeByte(MessageIds.BINARY_PROTOCOL_VERSION);
+		data.writeByte(1);
+		data.writeByte('\n');
+		// a message without id whose length overflows to -1
+		byte[] frame= { 0, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F };
+		data.writeInt(frame.length);
+		data.write(frame);
+		data.flush();
+		new BinaryMessageReader(new ByteArrayInputStream(out.toByteArray())).readMessage();
+	}
+}
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.junit.model.FailureTraceStore;
+
+public class FailureTraceStoreTest {
+
+	private static final String TRACE1= """
+		junit.framework.AssertionFailedError: first
+			at junit.framework.Assert.fail(Assert.java:47)
+			at p.ATest.testA(ATest.java:10)
+			at java.base/jdk.internal.reflect.DirectMethodHandleAccessor.invoke(DirectMethodHandleAccessor.java:103)
+			at junit.framework.TestCase.runTest(TestCase.java:164)
+		""";
+
+	private static final String TRACE2= "junit.framework.AssertionFailedError: second\r\n"
+			+ "\tat junit.framework.Assert.fail(Assert.java:47)\r\n"
+			+ "\tat p.BTest.testB(BTest.java:20)\n"
+			+ "\tat junit.framework.TestCase.runTest(TestCase.java:164)";
+
+	@Test
+	public void testSharedLines() {
+		FailureTraceStore store= new FailureTraceStore();
+		byte[] encoded1= store.encodeTrace(TRACE1);
+		int lineCount= store.getLineCount();
+		assertEquals(5, lineCount);
+		byte[] encoded2= store.encodeTrace(TRACE1);
+		assertEquals(lineCount, store.getLineCount());
+		assertTrue(encoded1.length < TRACE1.length() / 10);
+
+		byte[] encoded3= store.encodeTrace(TRACE2);
+		assertEquals(TRACE1, store.decodeTrace(encoded1));
+		assertEquals(TRACE1, store.decodeTrace(encoded2));
+		assertEquals(TRACE2, store.decodeTrace(encoded3));
+		assertEquals("", store.decodeTrace(store.encodeTrace("")));
+		assertNull(store.encodeTrace(null));
+		assertNull(store.decodeTrace(null));
+	}
+
+	@Test
+	public void testManyLines() {
+		FailureTraceStore store= new FailureTraceStore();
+		StringBuilder trace= new StringBuilder("java.lang.StackOverflowError\n");
+		for (int i= 0; i < 1000; i++) {
+			trace.append("\tat p.Recursion.call").append(i).append("(Recursion.java:").append(i).append(")\n");
+		}
+		byte[] encoded= store.encodeTrace(trace.toString());
+		assertEquals(trace.toString(), store.decodeTrace(encoded));
+	}
+
+	@Test
+	public void testValues() {
+		assertNull(FailureTraceStore.encodeValue(null));
+		assertNull(FailureTraceStore.decodeValue(null));
+		assertEquals("", FailureTraceStore.decodeValue(FailureTraceStore.encodeValue("")));
+		assertEquals("expected \u00e4", FailureTraceStore.decodeValue(FailureTraceStore.encodeValue("expected \u00e4")));
+
+		String large= "line of the expected value\n".repeat(1000);
+		byte[] encoded= FailureTraceStore.encodeValue(large);
+		assertTrue(encoded.length < large.length() / 10);
+		assertEquals(large, FailureTraceStore.decodeValue(encoded));
+	}
+
+	@Test
+	public void testFilterStack() {
+		String nl= System.lineSeparator();
+		String[] patterns= new String[] { "junit.framework.Assert", "java.base/jdk.internal.*", "junit.framework.TestCase" };
+		String expected= "junit.framework.AssertionFailedError: first" + nl
+				+ "\tat p.ATest.testA(ATest.java:10)" + nl;
+		// frames are filtered after the first one
+		assertEquals("junit.framework.AssertionFailedError: first" + nl
+				+ "\tat junit.framework.Assert.fail(Assert.java:47)" + nl
+				+ "\tat p.ATest.testA(ATest.java:10)" + nl, FailureTraceStore.filterStack(TRACE1, patterns));
+		assertEquals(expected, FailureTraceStore.filterStack(expected, patterns));
+		assertEquals(TRACE1, FailureTraceStore.filterStack(TRACE1, new String[0]));
+		assertNull(FailureTraceStore.filterStack(null, patterns));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2021 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,6 +26,13 @@ import org.junit.platform.suite.api.Suite;
 
 TestEnableAssertions.class,
 TestPriorization.class,
+BinaryMessageProtocolTest.class,
+ParallelExecutionMessagesTest.class,
+TestRunSessionModelTest.class,
+TestFinderCacheTest.class,
+TestImpactAnalyzerTest.class,
+TestDurationPrioritizerTest.class,
+FailureTraceStoreTest.class,
 TestTestSearchEngine.class,
 
 TestRunListenerTest3.class,
@@ -48,7 +55,9 @@ JUnitStandaloneDetectionTest.class,
 
 JUnitQuickAssistTest.class,
 
-TestSorting.class
+TestSorting.class,
+TestViewerUpdates.class,
+MultiProjectLaunchTest.class
 //LegacyTestRunListenerTest.class
 })
 public class JUnitJUnitTests {
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.junit.JUnitCore;
+import org.eclipse.jdt.junit.TestRunListener;
+import org.eclipse.jdt.junit.model.ITestElement;
+import org.eclipse.jdt.junit.model.ITestElement.Result;
+import org.eclipse.jdt.junit.model.ITestRunSession;
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
+import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.debug.core.sourcelookup.ISourceLookupDirector;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.internal.junit.launcher.JUnitLaunchConfigurationConstants;
+import org.eclipse.jdt.internal.junit.model.TestSuiteElement;
+
+/**
+ * Tests launches which run the tests of several projects, see
+ * {@link JUnitLaunchConfigurationConstants#ATTR_PROJECT_NAMES}.
+ */
+public class MultiProjectLaunchTest extends AbstractTestRunListenerTest {
+
+	private IJavaProject fOtherProject;
+
+	@Before
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		fOtherProject= JavaProjectHelper.createJavaProject("TestRunListenerTest2", "bin");
+		JavaProjectHelper.addRTJar13(fOtherProject);
+		JavaProjectHelper.addToClasspath(fOtherProject, JavaCore.newContainerEntry(JUnitCore.JUNIT4_CONTAINER_PATH));
+	}
+
+	@After
+	@Override
+	public void tearDown() throws Exception {
+		JavaProjectHelper.delete(fOtherProject);
+		super.tearDown();
+	}
+
+	private static String getSource(String packageName, String typeName) {
+		return "package " + packageName + ";\n"
+				+ "import junit.framework.TestCase;\n"
+				+ "public class " + typeName + " extends TestCase {\n"
+				+ "	public void testSucceed() { }\n"
+				+ "}\n";
+	}
+
+	@Test
+	public void testLaunchProjects() throws Exception {
+		IType aTest= createType(getSource("p", "ATest"), "p", "ATest.java");
+		IType bTest= createType(fOtherProject, getSource("q", "BTest"), "q", "BTest.java");
+		buildTestCase(aTest);
+		buildTestCase(bTest);
+
+		AtomicReference<ITestRunSession> finished= new AtomicReference<>();
+		TestRunListener testRunListener= new TestRunListener() {
+			@Override
+			public void sessionFinished(ITestRunSession session) {
+				finished.set(session);
+			}
+		};
+		LaunchesListener launchesListener= new LaunchesListener();
+		ILaunchConfigurationWorkingCopy configuration= createLaunchConfiguration(fProject, null, null, launchesListener);
+		configuration.setAttribute(JUnitLaunchConfigurationConstants.ATTR_PROJECT_NAMES,
+				Arrays.asList(fProject.getElementName(), fOtherProject.getElementName()));
+		JUnitCore.addTestRunListener(testRunListener);
+		try {
+			ILaunch launch= configuration.launch(ILaunchManager.RUN_MODE, null);
+			waitForCondition(launchesListener.fLaunchHasTerminated::get, 60 * 1000, 1000);
+			waitForCondition(() -> finished.get() != null, 15 * 1000, 100);
+			assertTrue("Launch has not terminated", launchesListener.fLaunchHasTerminated.get());
+
+			ITestRunSession session= finished.get();
+			assertNotNull("Session has not finished", session);
+			assertEquals(Result.OK, session.getTestResult(true));
+			// the tests of each project are grouped under the project, in the order the VMs started
+			Set<String> shardNames= new HashSet<>();
+			for (ITestElement shard : session.getChildren()) {
+				shardNames.add(((TestSuiteElement) shard).getSuiteTypeName());
+			}
+			assertEquals(new HashSet<>(Arrays.asList(fProject.getElementName(), fOtherProject.getElementName())), shardNames);
+
+			// the sources of all projects are found, not only the ones of the first project
+			ISourceLookupDirector director= (ISourceLookupDirector) launch.getSourceLocator();
+			assertEquals(1, director.findSourceElements("p/ATest.java").length);
+			assertEquals(1, director.findSourceElements("q/BTest.java").length);
+		} finally {
+			JUnitCore.removeTestRunListener(testRunListener);
+			cleanUp(configuration, launchesListener);
+		}
+	}
+}
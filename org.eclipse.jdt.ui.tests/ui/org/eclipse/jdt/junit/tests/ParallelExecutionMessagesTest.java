@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.junit.runner.BinaryMessageReader;
+import org.eclipse.jdt.internal.junit.runner.BinaryMessageWriter;
+import org.eclipse.jdt.internal.junit.runner.FirstRunExecutionListener;
+import org.eclipse.jdt.internal.junit.runner.ITestIdentifier;
+import org.eclipse.jdt.internal.junit.runner.MessageIds;
+import org.eclipse.jdt.internal.junit.runner.RemoteTestRunner;
+import org.eclipse.jdt.internal.junit.runner.TestIdMap;
+import org.eclipse.jdt.internal.junit.runner.TestReferenceFailure;
+
+/**
+ * Tests the parts of the test runner which are used by the worker threads of a parallel test run.
+ */
+public class ParallelExecutionMessagesTest {
+
+	private static final int THREADS= 8;
+
+	private static final int TESTS= 2000;
+
+	private static class Identifier implements ITestIdentifier {
+		private final String fName;
+
+		public Identifier(String name) {
+			fName= name;
+		}
+
+		@Override
+		public String getName() {
+			return fName;
+		}
+
+		@Override
+		public String getDisplayName() {
+			return fName;
+		}
+
+		@Override
+		public String getParameterTypes() {
+			return "";
+		}
+
+		@Override
+		public String getUniqueId() {
+			return fName;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof Identifier && fName.equals(((Identifier) obj).fName);
+		}
+
+		@Override
+		public int hashCode() {
+			return fName.hashCode();
+		}
+	}
+
+	private interface Work {
+		void run(int thread) throws Exception;
+	}
+
+	private static void runInParallel(Work work) throws Exception {
+		CountDownLatch start= new CountDownLatch(1);
+		List<Thread> threads= new ArrayList<>();
+		Map<Integer, Exception> errors= new ConcurrentHashMap<>();
+		for (int t= 0; t < THREADS; t++) {
+			final int thread= t;
+			threads.add(new Thread(() -> {
+				try {
+					start.await();
+					work.run(thread);
+				} catch (Exception e) {
+					errors.put(Integer.valueOf(thread), e);
+				}
+			}));
+		}
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		if (!errors.isEmpty())
+			throw errors.values().iterator().next();
+	}
+
+	@Test
+	public void testConcurrentTestIds() throws Exception {
+		TestIdMap ids= new TestIdMap();
+		List<Map<String, String>> idsByThread= new ArrayList<>();
+		for (int t= 0; t < THREADS; t++) {
+			idsByThread.add(new HashMap<>());
+		}
+		runInParallel(thread -> {
+			for (int i= 0; i < TESTS; i++) {
+				String name= "test" + i;
+				idsByThread.get(thread).put(name, ids.getTestId(new Identifier(name)));
+			}
+		});
+
+		Set<String> allIds= new HashSet<>();
+		for (int i= 0; i < TESTS; i++) {
+			String name= "test" + i;
+			String id= idsByThread.get(0).get(name);
+			for (Map<String, String> threadIds : idsByThread) {
+				assertEquals(name, id, threadIds.get(name));
+			}
+			assertTrue(id, allIds.add(id));
+		}
+	}
+
+	@Test
+	public void testConcurrentListeners() throws Exception {
+		ByteArrayOutputStream out= new ByteArrayOutputStream();
+		BinaryMessageWriter writer= new BinaryMessageWriter(out);
+		RemoteTestRunner runner= new RemoteTestRunner();
+		runner.setMessageSender(writer);
+		FirstRunExecutionListener listener= runner.firstRunExecutionListener();
+		runInParallel(thread -> {
+			for (int i= 0; i < TESTS; i++) {
+				String name= "test" + i + "(pack.Test" + thread + ")";
+				Identifier test= new Identifier(name);
+				listener.notifyTestStarted(test);
+				listener.notifyTestFailed(new TestReferenceFailure(test, MessageIds.TEST_FAILED, "trace of " + name));
+				listener.notifyTestEnded(test);
+			}
+		});
+		writer.close();
+
+		BufferedInputStream in= new BufferedInputStream(new ByteArrayInputStream(out.toByteArray()));
+		assertTrue(BinaryMessageReader.readMagic(in));
+		BinaryMessageReader reader= new BinaryMessageReader(in);
+		Set<String> failed= new HashSet<>();
+		int count= 0;
+		String message;
+		while ((message= reader.readMessage()) != null) {
+			count++;
+			if (message.startsWith(MessageIds.TEST_FAILED)) {
+				String test= message.substring(message.indexOf(',') + 1);
+				assertTrue(test, failed.add(test));
+				// the messages of a failure must not be interleaved with the messages of other tests
+				assertEquals(MessageIds.TRACE_START, reader.readMessage());
+				assertEquals("trace of " + test, reader.readMessage());
+				assertEquals(MessageIds.TRACE_END, reader.readMessage());
+				count+= 3;
+			}
+		}
+		assertEquals(THREADS * TESTS, failed.size());
+		assertEquals(THREADS * TESTS * 6, count);
+	}
+}
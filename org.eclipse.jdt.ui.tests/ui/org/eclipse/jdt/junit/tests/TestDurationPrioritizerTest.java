@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.junit.launcher.TestDurationPrioritizer;
+
+public class TestDurationPrioritizerTest {
+
+	private static List<List<String>> createShards(Map<String, Double> durations, int shardCount, String... tests) {
+		return TestDurationPrioritizer.createShards(Arrays.asList(tests), test -> durations.getOrDefault(test, Double.valueOf(Double.NaN)).doubleValue(), shardCount);
+	}
+
+	@Test
+	public void testSlowestFirst() {
+		Map<String, Double> durations= new HashMap<>();
+		durations.put("A", Double.valueOf(1));
+		durations.put("B", Double.valueOf(10));
+		durations.put("C", Double.valueOf(5));
+		assertEquals(Arrays.asList(Arrays.asList("B", "C", "A")), createShards(durations, 1, "A", "B", "C"));
+	}
+
+	@Test
+	public void testBalancedShards() {
+		Map<String, Double> durations= new HashMap<>();
+		durations.put("A", Double.valueOf(8));
+		durations.put("B", Double.valueOf(7));
+		durations.put("C", Double.valueOf(6));
+		durations.put("D", Double.valueOf(5));
+		durations.put("E", Double.valueOf(4));
+		assertEquals(Arrays.asList(Arrays.asList("A", "D", "E"), Arrays.asList("B", "C")), createShards(durations, 2, "E", "D", "C", "B", "A"));
+	}
+
+	@Test
+	public void testUnknownDurations() {
+		// without durations, the tests are distributed evenly in their order
+		assertEquals(Arrays.asList(Arrays.asList("A", "D"), Arrays.asList("B"), Arrays.asList("C")), createShards(new HashMap<>(), 3, "A", "B", "C", "D"));
+
+		// a new test counts with the average duration
+		Map<String, Double> durations= new HashMap<>();
+		durations.put("A", Double.valueOf(10));
+		durations.put("B", Double.valueOf(2));
+		assertEquals(Arrays.asList(Arrays.asList("A"), Arrays.asList("N", "B")), createShards(durations, 2, "A", "B", "N"));
+	}
+
+	@Test
+	public void testMoreShardsThanTests() {
+		assertEquals(Arrays.asList(Arrays.asList("A"), Arrays.asList("B")), createShards(new HashMap<>(), 4, "A", "B"));
+	}
+}
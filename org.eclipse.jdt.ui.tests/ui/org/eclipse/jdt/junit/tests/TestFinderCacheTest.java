@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.junit.JUnitCore;
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.testplugin.StringAsserts;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.internal.junit.launcher.ITestFinder;
+import org.eclipse.jdt.internal.junit.launcher.JUnit3TestFinder;
+import org.eclipse.jdt.internal.junit.launcher.TestFinderCache;
+
+public class TestFinderCacheTest {
+	private IJavaProject fProject;
+	private IPackageFragmentRoot fRoot;
+	private int fSearchCount;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= JavaProjectHelper.createJavaProject("TestProject", "bin");
+		JavaProjectHelper.addRTJar(fProject);
+		IClasspathEntry cpe= JavaCore.newContainerEntry(JUnitCore.JUNIT3_CONTAINER_PATH);
+		JavaProjectHelper.addToClasspath(fProject, cpe);
+
+		fRoot= JavaProjectHelper.addSourceContainer(fProject, "src");
+		TestFinderCache.getDefault().clear();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.delete(fProject);
+		TestFinderCache.getDefault().clear();
+	}
+
+	@Test
+	public void testCacheUpdates() throws Exception {
+		IPackageFragment p= fRoot.createPackageFragment("p", true, null);
+		String str= """
+			package p;
+			import junit.framework.TestCase;
+
+			public class MyTest extends TestCase {
+			        public void testFoo() {
+			        }
+			}
+			""";
+		ICompilationUnit cu= p.createCompilationUnit("MyTest.java", str, false, null);
+
+		assertTestsFound(p, new String[] { "p.MyTest" }, 1);
+		assertTestsFound(p, new String[] { "p.MyTest" }, 1);
+
+		// editing a method body keeps the cached tests
+		cu.becomeWorkingCopy(null);
+		try {
+			IBuffer buffer= cu.getBuffer();
+			int offset= buffer.getContents().indexOf("testFoo() {") + "testFoo() {".length();
+			buffer.replace(offset, 0, " int i= 0; ");
+			cu.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			cu.commitWorkingCopy(true, null);
+		} finally {
+			cu.discardWorkingCopy();
+		}
+		assertTestsFound(p, new String[] { "p.MyTest" }, 1);
+
+		// adding a test searches again
+		String str1= """
+			package p;
+			import junit.framework.TestCase;
+
+			public class MyOtherTest extends TestCase {
+			        public void testBar() {
+			        }
+			}
+			""";
+		p.createCompilationUnit("MyOtherTest.java", str1, false, null);
+		assertTestsFound(p, new String[] { "p.MyOtherTest", "p.MyTest" }, 2);
+
+		// changing the super class searches again
+		String str2= """
+			package p;
+
+			public class MyOtherTest {
+			        public void testBar() {
+			        }
+			}
+			""";
+		p.createCompilationUnit("MyOtherTest.java", str2, true, null);
+		assertTestsFound(p, new String[] { "p.MyTest" }, 3);
+		assertTestsFound(p, new String[] { "p.MyTest" }, 3);
+	}
+
+	@Test
+	public void testChangeDuringSearch() throws Exception {
+		IPackageFragment p= fRoot.createPackageFragment("p", true, null);
+		String str= """
+			package p;
+			import junit.framework.TestCase;
+
+			public class MyTest extends TestCase {
+			        public void testFoo() {
+			        }
+			}
+			""";
+		p.createCompilationUnit("MyTest.java", str, false, null);
+
+		// a test added after the search looked at the package is missed, the result is not cached
+		String str1= """
+			package p;
+			import junit.framework.TestCase;
+
+			public class MyOtherTest extends TestCase {
+			        public void testBar() {
+			        }
+			}
+			""";
+		ITestFinder finder= new JUnit3TestFinder();
+		Set<IType> set= new HashSet<>();
+		TestFinderCache.getDefault().findTestsInContainer(ITestFinder.NULL, p, set, null, (element, result, pm) -> {
+			fSearchCount++;
+			finder.findTestsInContainer(element, result, pm);
+			p.createCompilationUnit("MyOtherTest.java", str1, false, null);
+		});
+		assertEquals(1, set.size());
+
+		assertTestsFound(p, new String[] { "p.MyOtherTest", "p.MyTest" }, 2);
+		assertTestsFound(p, new String[] { "p.MyOtherTest", "p.MyTest" }, 2);
+	}
+
+	private void assertTestsFound(IJavaElement container, String[] expectedTests, int expectedSearchCount) throws CoreException {
+		ITestFinder finder= new JUnit3TestFinder();
+		Set<IType> set= new HashSet<>();
+		TestFinderCache.getDefault().findTestsInContainer(ITestFinder.NULL, container, set, null, (element, result, pm) -> {
+			fSearchCount++;
+			finder.findTestsInContainer(element, result, pm);
+		});
+		assertEquals(expectedSearchCount, fSearchCount);
+
+		HashSet<String> namesFound= new HashSet<>();
+		for (IType iType : set) {
+			namesFound.add(iType.getFullyQualifiedName('.'));
+		}
+		String[] actuals= namesFound.toArray(new String[namesFound.size()]);
+		StringAsserts.assertEqualStringsIgnoreOrder(actuals, expectedTests);
+	}
+}
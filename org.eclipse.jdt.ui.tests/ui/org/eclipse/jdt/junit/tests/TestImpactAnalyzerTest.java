@@ -0,0 +1,215 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.junit.JUnitCore;
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.ILaunchConfigurationType;
+import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
+import org.eclipse.debug.core.ILaunchManager;
+
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+import org.eclipse.jdt.internal.junit.launcher.JUnitLaunchConfigurationConstants;
+import org.eclipse.jdt.internal.junit.launcher.TestImpactAnalyzer;
+
+import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
+
+public class TestImpactAnalyzerTest {
+	private IJavaProject fProject;
+	private IPackageFragmentRoot fRoot;
+	/** after the creation of the project and its libraries */
+	private long fLastRun;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= JavaProjectHelper.createJavaProject("TestProject", "bin");
+		JavaProjectHelper.addRTJar(fProject);
+		IClasspathEntry cpe= JavaCore.newContainerEntry(JUnitCore.JUNIT3_CONTAINER_PATH);
+		JavaProjectHelper.addToClasspath(fProject, cpe);
+
+		fRoot= JavaProjectHelper.addSourceContainer(fProject, "src");
+		fLastRun= System.currentTimeMillis() + 60_000;
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.delete(fProject);
+	}
+
+	@Test
+	public void testAffectedTests() throws Exception {
+		IPackageFragment p= fRoot.createPackageFragment("p", true, null);
+		ICompilationUnit a= p.createCompilationUnit("A.java", """
+			package p;
+			public class A {
+			    public int get() { return 1; }
+			}
+			""", false, null);
+		ICompilationUnit b= p.createCompilationUnit("B.java", """
+			package p;
+			public class B {
+			    public int get() { return new A().get(); }
+			}
+			""", false, null);
+		ICompilationUnit c= p.createCompilationUnit("C.java", """
+			package p;
+			public class C {
+			    public int get() { return 3; }
+			}
+			""", false, null);
+		ICompilationUnit aTest= p.createCompilationUnit("ATest.java", """
+			package p;
+			import junit.framework.TestCase;
+			public class ATest extends TestCase {
+			    public void testGet() { assertEquals(1, new A().get()); }
+			}
+			""", false, null);
+		ICompilationUnit bTest= p.createCompilationUnit("BTest.java", """
+			package p;
+			import junit.framework.TestCase;
+			public class BTest extends TestCase {
+			    public void testGet() { assertEquals(1, new B().get()); }
+			}
+			""", false, null);
+		ICompilationUnit cTest= p.createCompilationUnit("CTest.java", """
+			package p;
+			import junit.framework.TestCase;
+			public class CTest extends TestCase {
+			    public void testGet() { assertEquals(3, new C().get()); }
+			}
+			""", false, null);
+		fProject.getProject().getFile(".classpath").setLocalTimeStamp(fLastRun - 1000);
+		for (ICompilationUnit cu : new ICompilationUnit[] { a, b, c, aTest, bTest, cTest }) {
+			cu.getResource().setLocalTimeStamp(fLastRun - 1000);
+		}
+		List<IType> tests= Arrays.asList(aTest.findPrimaryType(), bTest.findPrimaryType(), cTest.findPrimaryType());
+
+		assertAffectedTests(tests, 0, "p.ATest", "p.BTest", "p.CTest");
+		assertAffectedTests(tests, fLastRun);
+
+		// tests which use a changed type directly or indirectly
+		a.getResource().setLocalTimeStamp(fLastRun + 1000);
+		assertAffectedTests(tests, fLastRun, "p.ATest", "p.BTest");
+
+		// a changed test
+		a.getResource().setLocalTimeStamp(fLastRun - 1000);
+		cTest.getResource().setLocalTimeStamp(fLastRun + 1000);
+		assertAffectedTests(tests, fLastRun, "p.CTest");
+
+		// a changed resource may be used by any test
+		cTest.getResource().setLocalTimeStamp(fLastRun - 1000);
+		((IFolder) p.getResource()).getFile("test.properties").create(new ByteArrayInputStream(new byte[0]), IResource.NONE, null);
+		assertAffectedTests(tests, fLastRun, "p.ATest", "p.BTest", "p.CTest");
+	}
+
+	@Test
+	public void testChangedLibrary() throws Exception {
+		IPackageFragmentRoot classFolder= JavaProjectHelper.addClassFolder(fProject, "lib", null, null);
+		IPackageFragment p= fRoot.createPackageFragment("p", true, null);
+		ICompilationUnit aTest= p.createCompilationUnit("ATest.java", """
+			package p;
+			import junit.framework.TestCase;
+			public class ATest extends TestCase {
+			    public void testGet() throws Exception { assertEquals(1, Class.forName("q.A").getModifiers()); }
+			}
+			""", false, null);
+		IFolder folder= (IFolder) classFolder.getResource();
+		folder.getFolder("q").create(true, true, null);
+		IFile classFile= folder.getFolder("q").getFile("A.class");
+		classFile.create(new ByteArrayInputStream(new byte[0]), IResource.NONE, null);
+		classFile.setLocalTimeStamp(fLastRun - 1000);
+		folder.getFolder("q").setLocalTimeStamp(fLastRun - 1000);
+		List<IType> tests= Arrays.asList(aTest.findPrimaryType());
+		assertAffectedTests(tests, fLastRun);
+
+		// the test may use the library through reflection
+		classFile.setLocalTimeStamp(fLastRun + 1000);
+		assertAffectedTests(tests, fLastRun, "p.ATest");
+	}
+
+	@Test
+	public void testRecords() throws Exception {
+		ILaunchManager manager= DebugPlugin.getDefault().getLaunchManager();
+		ILaunchConfigurationType type= manager.getLaunchConfigurationType(JUnitLaunchConfigurationConstants.ID_JUNIT_APPLICATION);
+		ILaunchConfigurationWorkingCopy workingCopy= type.newInstance(null, "TestImpactAnalyzerTest");
+		workingCopy.setAttribute(IJavaLaunchConfigurationConstants.ATTR_PROJECT_NAME, fProject.getElementName());
+		workingCopy.setAttribute(JUnitLaunchConfigurationConstants.ATTR_RUN_AFFECTED_TESTS_ONLY, true);
+		workingCopy.setAttribute(JUnitLaunchConfigurationConstants.ATTR_RUN_RECORD_ID, "TestImpactAnalyzerTest");
+		ILaunchConfiguration configuration= workingCopy.doSave();
+		try {
+			String stamp= TestImpactAnalyzer.computeStamp(configuration, fProject);
+			TestImpactAnalyzer.recordSuccessfulRun(configuration, stamp, fLastRun);
+			assertEquals(fLastRun, TestImpactAnalyzer.getLastSuccessfulRun(configuration, stamp));
+
+			// the record is kept when the configuration is renamed
+			workingCopy= configuration.getWorkingCopy();
+			workingCopy.rename("TestImpactAnalyzerTest2");
+			configuration= workingCopy.doSave();
+			assertEquals(stamp, TestImpactAnalyzer.computeStamp(configuration, fProject));
+			assertEquals(fLastRun, TestImpactAnalyzer.getLastSuccessfulRun(configuration, stamp));
+
+			// but does not apply to a different classpath or configuration
+			JavaProjectHelper.addClassFolder(fProject, "lib", null, null);
+			assertEquals(0, TestImpactAnalyzer.getLastSuccessfulRun(configuration, TestImpactAnalyzer.computeStamp(configuration, fProject)));
+			workingCopy= configuration.getWorkingCopy();
+			workingCopy.setAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_CONTAINER, fRoot.getHandleIdentifier());
+			assertEquals(0, TestImpactAnalyzer.getLastSuccessfulRun(workingCopy, TestImpactAnalyzer.computeStamp(workingCopy, fProject)));
+		} finally {
+			configuration.delete();
+		}
+
+		// the record is removed with the configuration
+		IEclipsePreferences node= InstanceScope.INSTANCE.getNode(JUnitCorePlugin.CORE_PLUGIN_ID);
+		assertFalse(node.nodeExists("lastSuccessfulRuns/TestImpactAnalyzerTest"));
+	}
+
+	private void assertAffectedTests(List<IType> tests, long since, String... expectedTests) throws Exception {
+		Set<String> namesFound= new HashSet<>();
+		for (IType test : TestImpactAnalyzer.findAffectedTests(fProject, tests, since, null)) {
+			namesFound.add(test.getFullyQualifiedName('.'));
+		}
+		assertEquals(new HashSet<>(Arrays.asList(expectedTests)), namesFound);
+	}
+}
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.junit.model.TestCaseElement;
+import org.eclipse.jdt.internal.junit.model.TestElement;
+import org.eclipse.jdt.internal.junit.model.TestElementIndex;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.model.TestSuiteElement;
+
+public class TestRunSessionModelTest {
+
+	@Test
+	public void testElementIndex() throws Exception {
+		TestRunSession session= new TestRunSession("TestRunSessionModelTest", null);
+		TestElementIndex index= new TestElementIndex();
+		TestSuiteElement suite= new TestSuiteElement(session.getTestRoot(), "1", "pack.ATest", 0, null, null, null);
+		index.put("1", suite);
+		for (int i= 2; i < 100000; i++) {
+			index.put(Integer.toString(i), new TestCaseElement(suite, Integer.toString(i), "test" + i + "(pack.ATest)", null, false, null, null));
+		}
+		TestCaseElement unrooted= new TestCaseElement(suite, "-2", "unrooted", null, false, null, null);
+		index.put("-2", unrooted);
+		TestCaseElement leadingZero= new TestCaseElement(suite, "01", "leadingZero", null, false, null, null);
+		index.put("01", leadingZero);
+		TestCaseElement sparse= new TestCaseElement(suite, "999999999", "sparse", null, false, null, null);
+		index.put("999999999", sparse);
+
+		assertSame(suite, index.get("1"));
+		assertEquals("test2(pack.ATest)", index.get("2").getTestName());
+		assertEquals("test99999(pack.ATest)", index.get("99999").getTestName());
+		assertSame(unrooted, index.get("-2"));
+		assertSame(leadingZero, index.get("01"));
+		assertSame(sparse, index.get("999999999"));
+		assertNull(index.get("0"));
+		assertNull(index.get("100000"));
+		assertNull(index.get("x"));
+		assertNull(index.get(""));
+	}
+
+	@Test
+	public void testElementIndexOutOfOrder() throws Exception {
+		TestRunSession session= new TestRunSession("TestRunSessionModelTest", null);
+		TestElementIndex index= new TestElementIndex();
+		TestSuiteElement suite= new TestSuiteElement(session.getTestRoot(), "1", "pack.ATest", 0, null, null, null);
+		// e.g. a dynamic test which was reported late is read back before the static tests
+		TestCaseElement dynamic= new TestCaseElement(suite, "5001", "dynamic", null, false, null, null);
+		index.put("5001", dynamic);
+		index.put("1", suite);
+		for (int i= 2; i < 5000; i++) {
+			index.put(Integer.toString(i), new TestCaseElement(suite, Integer.toString(i), "test" + i + "(pack.ATest)", null, false, null, null));
+		}
+
+		assertSame(dynamic, index.get("5001"));
+		assertSame(suite, index.get("1"));
+		assertEquals("test4999(pack.ATest)", index.get("4999").getTestName());
+		assertNull(index.get("5000"));
+
+		// a replaced element is found instead of the previous one
+		TestCaseElement replaced= new TestCaseElement(suite, "5001", "replaced", null, false, null, null);
+		index.put("5001", replaced);
+		assertSame(replaced, index.get("5001"));
+	}
+
+	@Test
+	public void testUniqueIdsAndParameterTypes() throws Exception {
+		TestRunSession session= new TestRunSession("TestRunSessionModelTest", null);
+		String classId= "[engine:junit-jupiter]/[class:pack.ATest]";
+		TestSuiteElement suite= (TestSuiteElement) session.createTestElement(session.getTestRoot(), "0", "pack.ATest", true, 0, false, null, null, classId);
+		TestElement test1= session.createTestElement(suite, "1", "test1(pack.ATest)", false, 0, false, null, new String[] { " java.lang.String", "int " }, classId + "/[method:test1(java.lang.String, int)]");
+		TestElement test2= session.createTestElement(suite, "2", "test2(pack.ATest)", false, 0, false, null, new String[] { "java.lang.String" }, "[engine:other]/[test:test2]");
+		TestElement test3= session.createTestElement(suite, "3", "test3(pack.ATest)", false, 0, false, null, null, null);
+
+		assertSame(suite, session.getTestElement("0"));
+		assertSame(test1, session.getTestElement("1"));
+		assertEquals(classId, suite.getUniqueId());
+		assertEquals(classId + "/[method:test1(java.lang.String, int)]", test1.getUniqueId());
+		assertEquals("[engine:other]/[test:test2]", test2.getUniqueId());
+		assertNull(test3.getUniqueId());
+
+		assertArrayEquals(new String[] { "java.lang.String", "int" }, test1.getParameterTypes());
+		assertSame(test1.getParameterTypes()[0], test2.getParameterTypes()[0]);
+	}
+
+	@Test
+	public void testClassDurations() throws Exception {
+		TestRunSession session= new TestRunSession("TestRunSessionModelTest", null);
+		TestSuiteElement suite= (TestSuiteElement) session.createTestElement(session.getTestRoot(), "0", "pack.ATest", true, 0, false, null, null, null);
+		session.createTestElement(suite, "1", "test1(pack.ATest)", false, 0, false, null, null, null).setElapsedTimeInSeconds(1.5);
+		session.createTestElement(suite, "2", "test2(pack.ATest$Nested)", false, 0, false, null, null, null).setElapsedTimeInSeconds(0.5);
+		session.createTestElement(suite, "3", "test3(pack.BTest)", false, 0, false, null, null, null).setElapsedTimeInSeconds(3);
+		session.createTestElement(suite, "4", "test4(pack.CTest)", false, 0, false, null, null, null);
+
+		Map<String, Double> expected= new HashMap<>();
+		expected.put("pack.ATest", Double.valueOf(2));
+		expected.put("pack.BTest", Double.valueOf(3));
+		assertEquals(expected, session.getClassDurations());
+
+		// the durations of a swapped out session are read without swapping it in
+		session.swapOut();
+		try {
+			assertTrue(session.isSwappedOut());
+			assertEquals(expected, session.getClassDurations());
+			assertTrue(session.isSwappedOut());
+		} finally {
+			session.removeSwapFile();
+		}
+	}
+}
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.junit.JUnitCore;
+import org.eclipse.jdt.junit.TestRunListener;
+import org.eclipse.jdt.junit.model.ITestElement;
+import org.eclipse.jdt.junit.model.ITestElementContainer;
+
+import org.eclipse.swt.widgets.TableItem;
+import org.eclipse.swt.widgets.TreeItem;
+
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.TreeViewer;
+
+import org.eclipse.ui.IWorkbenchPage;
+
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.internal.junit.model.TestCaseElement;
+import org.eclipse.jdt.internal.junit.model.TestElement;
+import org.eclipse.jdt.internal.junit.ui.JUnitPlugin;
+import org.eclipse.jdt.internal.junit.ui.TestRunnerViewPart;
+import org.eclipse.jdt.internal.junit.ui.TestViewer;
+
+/**
+ * Tests that the tests which are added during a run are shown exactly once, although the viewers
+ * are no longer refreshed when a test is added.
+ */
+public class TestViewerUpdates extends AbstractTestRunListenerTest {
+
+	private static final int TESTS= 30;
+
+	private TestRunnerViewPart launch(int layoutMode) throws Exception {
+		IWorkbenchPage activePage= JUnitPlugin.getActivePage();
+		TestRunnerViewPart testRunnerViewPart= (TestRunnerViewPart) activePage.showView(TestRunnerViewPart.NAME);
+		testRunnerViewPart.setLayoutMode(layoutMode);
+
+		StringBuilder source= new StringBuilder();
+		source.append("package pack;\n");
+		source.append("import junit.framework.TestCase;\n");
+		source.append("public class ATestCase extends TestCase {\n");
+		for (int i= 0; i < TESTS; i++) {
+			source.append("\tpublic void test" + i + "() {\n\t}\n");
+		}
+		source.append("}\n");
+		IType aTestCase= createType(source.toString(), "pack", "ATestCase.java");
+
+		TestRunLog log= new TestRunLog();
+		TestRunListener testRunListener= new TestRunListeners.SequenceTest(log);
+		JUnitCore.addTestRunListener(testRunListener);
+		try {
+			launchJUnit(aTestCase, log);
+		} finally {
+			JUnitCore.removeTestRunListener(testRunListener);
+		}
+		testRunnerViewPart.getTestViewer().processChangesInUI();
+		return testRunnerViewPart;
+	}
+
+	private static void collectElements(ITestElement[] elements, List<TestElement> result) {
+		for (ITestElement element : elements) {
+			result.add((TestElement) element);
+			if (element instanceof ITestElementContainer)
+				collectElements(((ITestElementContainer) element).getChildren(), result);
+		}
+	}
+
+	private static void collectItems(TreeItem[] items, Map<Object, Integer> result) {
+		for (TreeItem item : items) {
+			result.merge(item.getData(), Integer.valueOf(1), (a, b) -> Integer.valueOf(a.intValue() + b.intValue()));
+			collectItems(item.getItems(), result);
+		}
+	}
+
+	private static void assertShownOnce(List<TestElement> elements, Map<Object, Integer> items) {
+		for (TestElement element : elements) {
+			assertEquals(element.toString(), Integer.valueOf(1), items.get(element));
+		}
+		assertEquals(elements.size(), items.size());
+	}
+
+	@Test
+	public void testTree() throws Exception {
+		TestRunnerViewPart testRunnerViewPart= launch(TestRunnerViewPart.LAYOUT_HIERARCHICAL);
+		TestViewer testViewer= testRunnerViewPart.getTestViewer();
+		List<TestElement> elements= new ArrayList<>();
+		collectElements(testRunnerViewPart.getTestRunSession().getChildren(), elements);
+		assertTrue(elements.size() > TESTS);
+
+		TreeViewer viewer= (TreeViewer) testViewer.getActiveViewer();
+		viewer.expandAll();
+		Map<Object, Integer> items= new HashMap<>();
+		collectItems(viewer.getTree().getItems(), items);
+		assertShownOnce(elements, items);
+
+		// elements which already have items must not be added again
+		for (TestElement element : elements) {
+			testViewer.registerTestAdded(element);
+		}
+		testViewer.processChangesInUI();
+		items.clear();
+		collectItems(viewer.getTree().getItems(), items);
+		assertShownOnce(elements, items);
+	}
+
+	@Test
+	public void testTable() throws Exception {
+		TestRunnerViewPart testRunnerViewPart= launch(TestRunnerViewPart.LAYOUT_FLAT);
+		TestViewer testViewer= testRunnerViewPart.getTestViewer();
+		List<TestElement> elements= new ArrayList<>();
+		collectElements(testRunnerViewPart.getTestRunSession().getChildren(), elements);
+		List<TestElement> testCases= new ArrayList<>();
+		for (TestElement element : elements) {
+			if (element instanceof TestCaseElement)
+				testCases.add(element);
+		}
+		assertEquals(TESTS, testCases.size());
+
+		TableViewer viewer= (TableViewer) testViewer.getActiveViewer();
+		Map<Object, Integer> items= new HashMap<>();
+		for (TableItem item : viewer.getTable().getItems()) {
+			items.merge(item.getData(), Integer.valueOf(1), (a, b) -> Integer.valueOf(a.intValue() + b.intValue()));
+		}
+		assertShownOnce(testCases, items);
+
+		// elements which already have items must not be added again
+		for (TestElement element : elements) {
+			testViewer.registerTestAdded(element);
+		}
+		testViewer.processChangesInUI();
+		items.clear();
+		for (TableItem item : viewer.getTable().getItems()) {
+			items.merge(item.getData(), Integer.valueOf(1), (a, b) -> Integer.valueOf(a.intValue() + b.intValue()));
+		}
+		assertShownOnce(testCases, items);
+	}
+}
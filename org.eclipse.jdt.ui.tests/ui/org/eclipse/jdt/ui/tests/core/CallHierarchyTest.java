@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,11 +18,20 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.junit.After;
 import org.junit.Before;
@@ -30,12 +39,18 @@ import org.junit.Test;
 
 import org.eclipse.core.runtime.NullProgressMonitor;
 
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IInitializer;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.search.SearchEngine;
 
+import org.eclipse.jdt.internal.corext.callhierarchy.CallGraph;
+import org.eclipse.jdt.internal.corext.callhierarchy.CallGraphBuilder;
 import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchy;
+import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchyCore;
+import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchySettings;
 import org.eclipse.jdt.internal.corext.callhierarchy.MethodWrapper;
 
 import org.eclipse.jdt.ui.tests.callhierarchy.CallHierarchyTestHelper;
@@ -96,6 +111,142 @@ public class CallHierarchyTest {
         helper.assertCalls(expectedSecondLevelMethods, wrapper2.getCalls(new NullProgressMonitor()));
     }
 
+	@Test
+	public void expandCallers() throws Exception {
+        helper.createSimpleClasses();
+
+        MethodWrapper wrapper= getSingleCallerRoot(helper.getMethod1());
+
+        Map<IMember, MethodWrapper[]> found= new ConcurrentHashMap<>();
+        CallHierarchyCore.getDefault().expandCalls(new MethodWrapper[] { wrapper }, 2, (parent, calls) -> found.put(parent.getMember(), calls), new NullProgressMonitor());
+
+        assertEquals(3, found.size());
+        helper.assertCalls(Arrays.asList(helper.getMethod2(), helper.getMethod3()), found.get(helper.getMethod1()));
+        helper.assertCalls(Arrays.asList(helper.getMethod3()), found.get(helper.getMethod2()));
+        helper.assertCalls(Arrays.asList(helper.getMethod4()), found.get(helper.getMethod3()));
+
+        MethodWrapper[] cachedCalls= wrapper.getCalls(new NullProgressMonitor());
+        helper.assertCalls(Arrays.asList(helper.getMethod2(), helper.getMethod3()), cachedCalls);
+    }
+
+	@Test
+	public void expandCallersOfSameMember() throws Exception {
+        helper.createSimpleClasses();
+
+        MethodWrapper wrapper1= getSingleCallerRoot(helper.getMethod1());
+        MethodWrapper wrapper2= getSingleCallerRoot(helper.getMethod1());
+
+        Map<MethodWrapper, MethodWrapper[]> found= Collections.synchronizedMap(new IdentityHashMap<>());
+        CallHierarchyCore.getDefault().expandCalls(new MethodWrapper[] { wrapper1, wrapper2 }, 3, found::put, new NullProgressMonitor());
+
+        // every wrapper is expanded, also if another wrapper of the same member has been searched
+        assertEquals(10, found.size());
+        helper.assertCalls(Arrays.asList(helper.getMethod2(), helper.getMethod3()), found.get(wrapper1));
+        helper.assertCalls(Arrays.asList(helper.getMethod2(), helper.getMethod3()), found.get(wrapper2));
+        for (MethodWrapper call : found.get(wrapper2)) {
+            assertTrue(found.containsKey(call));
+        }
+    }
+
+	@Test
+	public void callerGraph() throws Exception {
+        helper.createSimpleClasses();
+
+        CallGraph graph= CallGraphBuilder.build(new IMember[] { helper.getMethod1() }, true, createSettings(null), new NullProgressMonitor());
+        assertTrue(graph.isCallers());
+        assertEquals(1, graph.getRootCount());
+        assertEquals(4, graph.getNodeCount());
+        assertEdges(graph, helper.getMethod1(), helper.getMethod2(), helper.getMethod3());
+        assertEdges(graph, helper.getMethod2(), helper.getMethod3());
+        assertEdges(graph, helper.getMethod3(), helper.getMethod4());
+        assertEdges(graph, helper.getMethod4());
+
+        ByteArrayOutputStream output= new ByteArrayOutputStream();
+        graph.write(output);
+        CallGraph copy= CallGraph.read(new ByteArrayInputStream(output.toByteArray()));
+        assertTrue(copy.isCallers());
+        assertEquals(graph.getRootCount(), copy.getRootCount());
+        assertEquals(graph.getNodeCount(), copy.getNodeCount());
+        for (int node= 0; node < graph.getNodeCount(); node++) {
+            assertEquals(graph.getHandleIdentifier(node), copy.getHandleIdentifier(node));
+            assertEquals(Arrays.toString(graph.getEdges(node)), Arrays.toString(copy.getEdges(node)));
+        }
+
+        MethodWrapper wrapper= getSingleCallerRoot(helper.getMethod1());
+        copy.primeCache(wrapper);
+        helper.assertCalls(Arrays.asList(helper.getMethod2(), helper.getMethod3()), wrapper.getCalls(new NullProgressMonitor()));
+
+        // corrupt graphs are reported as I/O errors
+        byte[] bytes= output.toByteArray();
+        assertCorrupt(Arrays.copyOf(bytes, bytes.length - 3));
+        for (int count : new int[] { -1, 2, Integer.MAX_VALUE }) {
+            ByteArrayOutputStream corrupt= new ByteArrayOutputStream();
+            corrupt.write(bytes, 0, 9); // magic, version and direction
+            DataOutputStream data= new DataOutputStream(corrupt);
+            data.writeInt(1);
+            data.writeInt(1);
+            data.writeUTF(graph.getHandleIdentifier(0));
+            data.writeInt(count);
+            data.flush();
+            assertCorrupt(corrupt.toByteArray());
+        }
+    }
+
+	private static void assertCorrupt(byte[] bytes) {
+		try {
+			CallGraph.read(new ByteArrayInputStream(bytes));
+			fail("corrupt graph was read");
+		} catch (IOException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void callerGraphFilters() throws Exception {
+        helper.createSimpleClasses();
+
+        // the settings of the builder are independent of the call hierarchy preferences
+        CallGraph graph= CallGraphBuilder.build(new IMember[] { helper.getMethod1() }, true, createSettings("pack2.*"), new NullProgressMonitor());
+        assertEquals(2, graph.getNodeCount());
+        assertEdges(graph, helper.getMethod1(), helper.getMethod2());
+        assertEdges(graph, helper.getMethod2());
+    }
+
+	@Test
+	public void refreshCallerGraph() throws Exception {
+        helper.createSimpleClasses();
+
+        CallGraph graph= CallGraphBuilder.build(new IMember[] { helper.getMethod1() }, true, createSettings(null), new NullProgressMonitor());
+        assertEquals(4, graph.getNodeCount());
+
+        ICompilationUnit cu= helper.getType2().getCompilationUnit();
+        cu.getBuffer().setContents("package pack2;\npublic class B extends pack1.A {\npublic void method3() { method1(); }\n public void method4() { }\n}\n");
+        cu.save(null, true);
+        CallGraphBuilder.refresh(graph, createSettings(null), new NullProgressMonitor());
+
+        // method4 no longer calls method3 and is removed
+        assertEquals(3, graph.getNodeCount());
+        assertEquals(-1, graph.indexOf(helper.getMethod4().getHandleIdentifier()));
+        assertEdges(graph, helper.getMethod1(), helper.getMethod2(), helper.getMethod3());
+        assertEdges(graph, helper.getMethod2());
+        assertEdges(graph, helper.getMethod3());
+    }
+
+	private static CallHierarchySettings createSettings(String ignoreFilters) {
+		return new CallHierarchySettings(SearchEngine.createWorkspaceScope(), true, false, false, ignoreFilters);
+	}
+
+	private static void assertEdges(CallGraph graph, IMember member, IMember... expected) {
+		int node= graph.indexOf(member.getHandleIdentifier());
+		assertTrue(node != -1);
+		List<IMember> actual= new ArrayList<>();
+		for (int edge : graph.getEdges(node)) {
+			actual.add(graph.getMember(edge));
+		}
+		assertEquals(expected.length, actual.size());
+		assertTrue(actual.containsAll(Arrays.asList(expected)));
+	}
+
 	@Test
 	public void callersNoResults() throws Exception {
         helper.createSimpleClasses();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -25,8 +25,11 @@ import static org.junit.Assert.assertTrue;
 import java.io.File;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.After;
 import org.junit.Before;
@@ -70,6 +73,7 @@ import org.eclipse.jdt.core.search.TypeNameMatch;
 
 import org.eclipse.jdt.internal.core.CompilationUnit;
 import org.eclipse.jdt.internal.core.CompilationUnitElementInfo;
+import org.eclipse.jdt.internal.corext.codemanipulation.TypeNameMatchCache;
 
 import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.jdt.ui.PreferenceConstants;
@@ -180,6 +184,56 @@ public class ImportOrganizeTest extends CoreTests {
 		});
 	}
 
+	@Test
+	public void testTypeNameCache() throws Exception {
+		File junitSrcArchive= JavaTestPlugin.getDefault().getFileInPlugin(JavaProjectHelper.JUNIT_SRC_381);
+		assertNotNull("junit src not found", junitSrcArchive);
+		assertTrue("junit src not found", junitSrcArchive.exists());
+
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainerWithImport(fJProject1, "src", junitSrcArchive, JavaProjectHelper.JUNIT_SRC_ENCODING);
+		List<ICompilationUnit> units= new ArrayList<>();
+		for (String packageName : new String[] { "junit.extensions", "junit.runner", "junit.textui" }) {
+			units.addAll(Arrays.asList(root.getPackageFragment(packageName).getCompilationUnits()));
+		}
+		Map<ICompilationUnit, String> withoutImports= new HashMap<>();
+		for (ICompilationUnit cu : units) {
+			for (IImportDeclaration declaration : cu.getImports()) {
+				declaration.delete(true, null);
+			}
+			withoutImports.put(cu, cu.getSource());
+		}
+
+		// ambiguous names are resolved independently of the order of the matches
+		IChooseImportQuery query= (openChoices, ranges) -> {
+			TypeNameMatch[] res= new TypeNameMatch[openChoices.length];
+			for (int i= 0; i < openChoices.length; i++) {
+				for (TypeNameMatch match : openChoices[i]) {
+					if (res[i] == null || match.getFullyQualifiedName().compareTo(res[i].getFullyQualifiedName()) < 0) {
+						res[i]= match;
+					}
+				}
+			}
+			return res;
+		};
+
+		Map<ICompilationUnit, String> expected= new HashMap<>();
+		for (ICompilationUnit cu : units) {
+			createOperation(cu, new String[0], 99, false, true, true, query).run(null);
+			expected.put(cu, cu.getSource());
+			assertTrue(cu.getElementName(), cu.getImports().length > 0);
+		}
+
+		TypeNameMatchCache cache= new TypeNameMatchCache();
+		for (ICompilationUnit cu : units) {
+			cu.getBuffer().setContents(withoutImports.get(cu));
+			cu.save(null, true);
+			OrganizeImportsOperation op= createOperation(cu, new String[0], 99, false, true, true, query);
+			op.setTypeNameCache(cache);
+			op.run(null);
+			assertEquals(cu.getElementName(), expected.get(cu), cu.getSource());
+		}
+	}
+
 	@Test
 	public void test1WithOrder() throws Exception {
 		File junitSrcArchive= JavaTestPlugin.getDefault().getFileInPlugin(JavaProjectHelper.JUNIT_SRC_381);
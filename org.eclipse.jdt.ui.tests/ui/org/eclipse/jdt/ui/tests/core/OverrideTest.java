@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,11 +14,13 @@
 package org.eclipse.jdt.ui.tests.core;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
+import java.util.HashSet;
 
 import org.junit.After;
 import org.junit.Before;
@@ -38,6 +40,7 @@ import org.eclipse.jdt.core.dom.IMethodBinding;
 import org.eclipse.jdt.core.dom.ITypeBinding;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
 
+import org.eclipse.jdt.internal.corext.dom.BindingHierarchyCache;
 import org.eclipse.jdt.internal.corext.dom.Bindings;
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
 
@@ -813,4 +816,56 @@ public class OverrideTest {
 		assertNull(Bindings.findOverriddenMethod(efoo, true));
 	}
 
+	@Test
+	public void testBindingHierarchyCache() throws Exception {
+		String str= """
+			package override.test;
+			import java.io.Serializable;
+			abstract class A<T> implements Serializable {
+			    void g(T t) {}
+			    private void p() {}
+			}
+			public class B extends A<String> implements Runnable {
+			    void g(String t) {}
+			    private void p() {}
+			    public void run() {}
+			}
+			""";
+		ICompilationUnit cu= fPackage.createCompilationUnit("B.java", str, false, null);
+
+		CompilationUnit astRoot= createAST(cu);
+		IProblem[] problems= astRoot.getProblems();
+		assertEquals(0, problems.length);
+
+		TypeDeclaration a= (TypeDeclaration) astRoot.types().get(0);
+		TypeDeclaration b= (TypeDeclaration) astRoot.types().get(1);
+		ITypeBinding aType= a.resolveBinding();
+		ITypeBinding bType= b.resolveBinding();
+		ITypeBinding serializable= aType.getInterfaces()[0];
+		ITypeBinding runnable= bType.getInterfaces()[0];
+
+		BindingHierarchyCache cache= BindingHierarchyCache.getCache(astRoot);
+		assertSame(cache, BindingHierarchyCache.getCache(b));
+
+		int misses= 0;
+		for (int i= 0; i < 2; i++) {
+			for (IMethodBinding method : bType.getDeclaredMethods()) {
+				assertSame(Bindings.findOverriddenMethod(method, true), cache.findOverriddenMethod(method, true));
+			}
+			assertSame(Bindings.findMethodInHierarchy(bType, "g", new ITypeBinding[] { aType.getTypeParameters()[0] }), cache.findMethodInHierarchy(bType, "g", new ITypeBinding[] { aType.getTypeParameters()[0] }));
+			assertSame(Bindings.findMethodInHierarchy(bType, "run", null), cache.findMethodInHierarchy(bType, "run", null));
+			assertTrue(cache.isSuperType(serializable, bType));
+			assertTrue(cache.isSuperType(runnable, bType));
+			assertTrue(cache.isSuperType(aType, bType, false));
+			assertTrue(cache.isSuperType(bType, bType));
+			assertFalse(cache.isSuperType(aType, bType));
+			assertFalse(cache.isSuperType(bType, aType, false));
+			assertFalse(cache.isSuperType(runnable, aType));
+			assertEquals(new HashSet<>(Arrays.asList(Bindings.getAllSuperTypes(bType))), new HashSet<>(Arrays.asList(cache.getAllSuperTypes(bType))));
+			if (i == 0)
+				misses= cache.getMissCount();
+		}
+		assertEquals(misses, cache.getMissCount()); // the second round is answered from the cache
+	}
+
 }
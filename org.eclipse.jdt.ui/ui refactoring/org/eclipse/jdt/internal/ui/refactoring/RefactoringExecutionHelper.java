@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2009 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -42,6 +42,7 @@ import org.eclipse.ltk.core.refactoring.RefactoringCore;
 import org.eclipse.ltk.core.refactoring.RefactoringStatus;
 import org.eclipse.ltk.ui.refactoring.RefactoringUI;
 
+import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringSessionCache;
 import org.eclipse.jdt.internal.corext.util.Messages;
 
 import org.eclipse.jdt.ui.refactoring.RefactoringSaveHelper;
@@ -81,20 +82,31 @@ public class RefactoringExecutionHelper {
 				pm.beginTask("", fForked && !fForkChangeExecution ? 7 : 11); //$NON-NLS-1$
 				pm.subTask(""); //$NON-NLS-1$
 
-				final RefactoringStatus status= fRefactoring.checkAllConditions(Progress.subMonitorPrepend(pm, 4));
-				if (status.getSeverity() >= fStopSeverity) {
-					final boolean[] canceled= { false };
-					if (fForked) {
-						fParent.getDisplay().syncExec(() -> canceled[0]= showStatusDialog(status));
-					} else {
-						canceled[0]= showStatusDialog(status);
-					}
-					if (canceled[0]) {
-						throw new OperationCanceledException();
+				// share ASTs between the processor, the participants and the phases of the refactoring
+				RefactoringSessionCache session= RefactoringSessionCache.begin();
+				try {
+					final RefactoringStatus status= fRefactoring.checkAllConditions(Progress.subMonitorPrepend(pm, 4));
+					if (status.getSeverity() >= fStopSeverity) {
+						// do not hold on to the ASTs while the user looks at the status
+						session.end();
+						session= null;
+						final boolean[] canceled= { false };
+						if (fForked) {
+							fParent.getDisplay().syncExec(() -> canceled[0]= showStatusDialog(status));
+						} else {
+							canceled[0]= showStatusDialog(status);
+						}
+						if (canceled[0]) {
+							throw new OperationCanceledException();
+						}
+						session= RefactoringSessionCache.begin();
 					}
-				}
 
-				fChange= fRefactoring.createChange(Progress.subMonitorPrepend(pm, 2));
+					fChange= fRefactoring.createChange(Progress.subMonitorPrepend(pm, 2));
+				} finally {
+					if (session != null)
+						session.end();
+				}
 				fChange.initializeValidationData(Progress.subMonitorPrepend(pm, 1));
 
 				fPerformChangeOperation= new PerformChangeOperation(fChange);//RefactoringUI.createUIAwareChangeOperation(fChange);
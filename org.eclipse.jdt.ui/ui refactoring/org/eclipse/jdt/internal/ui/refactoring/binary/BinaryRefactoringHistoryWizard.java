@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2018 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -68,6 +68,7 @@ import org.eclipse.jdt.internal.corext.refactoring.RefactoringCoreMessages;
 import org.eclipse.jdt.internal.corext.refactoring.binary.SourceCreationOperation;
 import org.eclipse.jdt.internal.corext.refactoring.binary.StubCreationOperation;
 import org.eclipse.jdt.internal.corext.refactoring.util.JavaStatusContext;
+import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringSessionCache;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 import org.eclipse.jdt.internal.corext.util.Messages;
 
@@ -247,6 +248,9 @@ public abstract class BinaryRefactoringHistoryWizard extends RefactoringHistoryW
 	/** The java project or <code>null</code> */
 	protected IJavaProject fJavaProject= null;
 
+	/** The refactoring session shared by the refactorings of the history, or <code>null</code> */
+	private RefactoringSessionCache fSession= null;
+
 	/**
 	 * The packages which already have been processed (element type:
 	 * &lt;IPackageFragment&gt;)
@@ -339,7 +343,11 @@ public abstract class BinaryRefactoringHistoryWizard extends RefactoringHistoryW
 	protected RefactoringStatus aboutToPerformRefactoring(final Refactoring refactoring, final RefactoringDescriptor descriptor, final IProgressMonitor monitor) {
 		final RefactoringStatus status= new RefactoringStatus();
 		try {
-			// nothing to do
+			// share ASTs across the refactorings of the history
+			if (fSession == null)
+				fSession= RefactoringSessionCache.begin();
+			else
+				fSession.resume();
 		} finally {
 			monitor.done();
 		}
@@ -649,6 +657,7 @@ public abstract class BinaryRefactoringHistoryWizard extends RefactoringHistoryW
 			}
 			return status;
 		} finally {
+			endSession();
 			monitor.done();
 		}
 	}
@@ -656,14 +665,35 @@ public abstract class BinaryRefactoringHistoryWizard extends RefactoringHistoryW
 	@Override
 	public boolean performCancel() {
 		fCancelled= true;
+		endSession();
 		return super.performCancel();
 	}
 
+	/**
+	 * Ends the refactoring session of the history, if any.
+	 */
+	private void endSession() {
+		if (fSession != null) {
+			fSession.end();
+			fSession= null;
+		}
+	}
+
 	@Override
 	protected RefactoringStatus refactoringPerformed(final Refactoring refactoring, final IProgressMonitor monitor) {
 		try {
 			monitor.beginTask("", 120); //$NON-NLS-1$
-			final RefactoringStatus status= super.refactoringPerformed(refactoring, Progress.subMonitorSupressed(monitor, 100));
+			final RefactoringStatus status;
+			try {
+				status= super.refactoringPerformed(refactoring, Progress.subMonitorSupressed(monitor, 100));
+			} finally {
+				if (fSession != null) {
+					// the change events of the refactoring are deferred until its operation ends
+					fSession.invalidate();
+					// do not serve the pages shown until the next refactoring from the session
+					fSession.suspend();
+				}
+			}
 			if (!status.hasFatalError()) {
 				if (fSourceFolder != null) {
 					try {
@@ -13,10 +13,6 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.refactoring.nls.search;
 
-import java.io.BufferedInputStream;
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -28,11 +24,6 @@ import org.eclipse.core.runtime.IStatus;
 
 import org.eclipse.core.resources.IFile;
 
-import org.eclipse.core.filebuffers.FileBuffers;
-import org.eclipse.core.filebuffers.ITextFileBuffer;
-import org.eclipse.core.filebuffers.ITextFileBufferManager;
-import org.eclipse.core.filebuffers.LocationKind;
-
 import org.eclipse.jface.text.Position;
 
 import org.eclipse.search.ui.text.Match;
@@ -55,7 +46,6 @@ import org.eclipse.jdt.core.search.SearchRequestor;
 import org.eclipse.jdt.internal.corext.refactoring.nls.PropertyFileDocumentModel;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 
-import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.JavaUIStatus;
 import org.eclipse.jdt.internal.ui.util.StringMatcher;
 
@@ -83,10 +73,19 @@ class NLSSearchResultRequestor extends SearchRequestor {
 
 	private NLSSearchResult fResult;
 	private IFile fPropertiesFile;
+	private PropertiesFileIndex.Entry fPropertiesEntry;
 	private Properties fProperties;
 	private Properties fSpecifiedAsUsedProperties;
 	private HashSet<String> fUsedPropertyNames;
 
+	/*
+	 * Matches are reported per compilation unit, the source and the scanner of the
+	 * last unit are reused for all of its matches.
+	 */
+	private ICompilationUnit fLastUnit;
+	private String fLastSource;
+	private IScanner fLastScanner;
+
 	public NLSSearchResultRequestor(IFile propertiesFile, NLSSearchResult result) {
 		fPropertiesFile= propertiesFile;
 		fResult= result;
@@ -184,7 +183,7 @@ class NLSSearchResultRequestor extends SearchRequestor {
 		 * manner than what PropertyFileDocumentModel.unwindEscapeChars(.) produces.
 		 */
 		String escapedPropertyName= PropertyFileDocumentModel.escape(propertyName, false);
-		int start= findPropertyNameStartPosition(escapedPropertyName);
+		int start= fPropertiesEntry.getKeyPosition(escapedPropertyName);
 		int length;
 		if (start == -1) { // not found -> report at beginning
 			start= 0;
@@ -242,20 +241,27 @@ class NLSSearchResultRequestor extends SearchRequestor {
 		if (unit == null)
 			return null;
 
-		String source= unit.getSource();
-		if (source == null)
-			return null;
+		if (!unit.equals(fLastUnit)) {
+			String source= unit.getSource();
+			if (source == null)
+				return null;
 
-		IJavaProject javaProject= unit.getJavaProject();
-		IScanner scanner= null;
-		if (javaProject != null) {
-			String complianceLevel= javaProject.getOption(JavaCore.COMPILER_COMPLIANCE, true);
-			String sourceLevel= javaProject.getOption(JavaCore.COMPILER_SOURCE, true);
-			scanner= ToolFactory.createScanner(false, false, false, sourceLevel, complianceLevel);
-		} else {
-			scanner= ToolFactory.createScanner(false, false, false, false);
+			IJavaProject javaProject= unit.getJavaProject();
+			IScanner scanner= null;
+			if (javaProject != null) {
+				String complianceLevel= javaProject.getOption(JavaCore.COMPILER_COMPLIANCE, true);
+				String sourceLevel= javaProject.getOption(JavaCore.COMPILER_SOURCE, true);
+				scanner= ToolFactory.createScanner(false, false, false, sourceLevel, complianceLevel);
+			} else {
+				scanner= ToolFactory.createScanner(false, false, false, false);
+			}
+			scanner.setSource(source.toCharArray());
+			fLastSource= source;
+			fLastScanner= scanner;
+			fLastUnit= unit;
 		}
-		scanner.setSource(source.toCharArray());
+		String source= fLastSource;
+		IScanner scanner= fLastScanner;
 		scanner.resetTo(keyPositionResult.getOffset() + keyPositionResult.getLength(), source.length());
 
 		try {
@@ -325,68 +331,14 @@ class NLSSearchResultRequestor extends SearchRequestor {
 		}
 	}
 
-	/**
-	 * Finds the start position in the property file. We assume that
-	 * the key is the first match on a line.
-	 *
-	 * @param propertyName the property name
-	 * @return	the start position of the property name in the file, -1 if not found
-	 */
-	private int findPropertyNameStartPosition(String propertyName) {
-		// Fix for http://dev.eclipse.org/bugs/show_bug.cgi?id=19319
-		String encoding;
-		try {
-			encoding= fPropertiesFile.getCharset();
-		} catch (CoreException e1) {
-			encoding= "ISO-8859-1";  //$NON-NLS-1$
-		}
-		try (InputStream stream= createInputStream(fPropertiesFile); LineReader lineReader= new LineReader(stream, encoding)) {
-			int start= 0;
-			StringBuffer buf= new StringBuffer(80);
-			int eols= lineReader.readLine(buf);
-			int keyLength= propertyName.length();
-			while (eols > 0) {
-				String line= buf.toString();
-				int i= line.indexOf(propertyName);
-				int charPos= i + keyLength;
-				char terminatorChar= 0;
-				boolean hasNoValue= (charPos >= line.length());
-				if (i > -1 && !hasNoValue) {
-					terminatorChar= line.charAt(charPos);
-				}
-				if (line.trim().startsWith(propertyName) &&
-						(hasNoValue || Character.isWhitespace(terminatorChar) || terminatorChar == '=')) {
-					start+= line.indexOf(propertyName);
-					eols= -17; // found key
-				} else {
-					start+= line.length() + eols;
-					buf.setLength(0);
-					eols= lineReader.readLine(buf);
-				}
-			}
-			if (eols != -17) {
-				start= -1; //key not found in file. See bug 63794. This can happen if the key contains escaped characters.
-			}
-			return start;
-		} catch (CoreException | IOException ex) {
-			JavaPlugin.log(ex);
-			return -1;
-		}
-	}
-
 	private void loadProperties() {
-		Set<Object> duplicateKeys= new HashSet<>();
-		fProperties= new Properties(duplicateKeys);
-		Set<Object> duplicateKeys2= new HashSet<>();
-		fSpecifiedAsUsedProperties= new Properties(duplicateKeys2);
-		try (InputStream stream= new BufferedInputStream(createInputStream(fPropertiesFile))) {
-			fProperties.load(stream);
-		} catch (CoreException | IOException ex) {
-			fProperties= new Properties();
+		PropertiesFileIndex index= PropertiesFileIndex.getDefault();
+		fPropertiesEntry= index.getEntry(fPropertiesFile);
+		fProperties= fPropertiesEntry.getProperties();
+		fSpecifiedAsUsedProperties= new Properties();
+		reportDuplicateKeys(fPropertiesEntry.getDuplicateKeys());
+		if (!fPropertiesEntry.isLoaded())
 			return;
-		} finally {
-			reportDuplicateKeys(duplicateKeys);
-		}
 		if (!"properties".equalsIgnoreCase(fPropertiesFile.getFileExtension())) { //$NON-NLS-1$
 			return;
 		}
@@ -395,26 +347,10 @@ class NLSSearchResultRequestor extends SearchRequestor {
 				propertyFileName.substring(0, propertyFileName.length() - ".properties".length()).concat(NLSSearchQuery.NLS_USED_PROPERTIES_EXT); //$NON-NLS-1$
 		IFile ignoredPropertiesFile= (IFile) fPropertiesFile.getParent().findMember(ignorePropertyFileName);
 		if (ignoredPropertiesFile != null) {
-			try (InputStream stream= new BufferedInputStream(createInputStream(ignoredPropertiesFile))) {
-				fSpecifiedAsUsedProperties.load(stream);
-			} catch (CoreException | IOException ex) {
-				fSpecifiedAsUsedProperties= new Properties();
-			}
+			fSpecifiedAsUsedProperties= index.getEntry(ignoredPropertiesFile).getProperties();
 		}
 	}
 
-	private InputStream createInputStream(IFile propertiesFile) throws CoreException {
-		ITextFileBufferManager manager= FileBuffers.getTextFileBufferManager();
-		if (manager != null) {
-			ITextFileBuffer buffer= manager.getTextFileBuffer(propertiesFile.getFullPath(), LocationKind.IFILE);
-			if (buffer != null) {
-				return new ByteArrayInputStream(buffer.getDocument().get().getBytes());
-			}
-		}
-
-		return propertiesFile.getContents();
-	}
-
 	private void reportDuplicateKeys(Set<Object> duplicateKeys) {
 		if (duplicateKeys.isEmpty())
 			return;
@@ -0,0 +1,255 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.refactoring.nls.search;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+import org.eclipse.core.filebuffers.ITextFileBufferManager;
+import org.eclipse.core.filebuffers.LocationKind;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * Caches the keys of properties files and their positions for NLS searches.
+ * <p>
+ * A properties file is read at most once as long as its modification stamp does not change, so
+ * that searching for broken externalized strings again, or searching for several accessor
+ * classes sharing a properties file, does not load and scan the file over and over again. Files
+ * with unsaved changes in an open editor are never cached.
+ * </p>
+ * <p>
+ * This class is thread-safe. The returned entries must not be modified.
+ * </p>
+ */
+final class PropertiesFileIndex {
+
+	/** The maximal number of cached properties files */
+	private static final int MAX_ENTRIES= 1024;
+
+	private static final PropertiesFileIndex fgDefault= new PropertiesFileIndex();
+
+	/**
+	 * The keys of a properties file.
+	 */
+	static final class Entry {
+
+		private final IFile fFile;
+
+		private final long fStamp;
+
+		private final Properties fProperties;
+
+		private final Set<Object> fDuplicateKeys;
+
+		private final boolean fLoaded;
+
+		private List<String> fLines;
+
+		private int[] fLineDelimiterLengths;
+
+		private final Map<String, Integer> fKeyPositions= new HashMap<>();
+
+		private Entry(IFile file, long stamp) {
+			fFile= file;
+			fStamp= stamp;
+			Set<Object> duplicateKeys= new HashSet<>();
+			Properties properties= new Properties(duplicateKeys);
+			boolean loaded;
+			try (InputStream stream= new BufferedInputStream(createInputStream(file))) {
+				properties.load(stream);
+				loaded= true;
+			} catch (CoreException | IOException ex) {
+				properties= new Properties();
+				loaded= false;
+			}
+			fProperties= properties;
+			fDuplicateKeys= Collections.unmodifiableSet(duplicateKeys);
+			fLoaded= loaded;
+		}
+
+		/**
+		 * @return <code>true</code> if the file could be read
+		 */
+		public boolean isLoaded() {
+			return fLoaded;
+		}
+
+		/**
+		 * @return the properties of the file, which must not be modified
+		 */
+		public Properties getProperties() {
+			return fProperties;
+		}
+
+		/**
+		 * @return the keys which are defined more than once in the file
+		 */
+		public Set<Object> getDuplicateKeys() {
+			return fDuplicateKeys;
+		}
+
+		/**
+		 * Finds the start position of a key in the file. The assumption is that the key is the
+		 * first match on a line.
+		 *
+		 * @param escapedKey the key, escaped as in the file
+		 * @return the start position of the key in the file, -1 if not found
+		 */
+		public synchronized int getKeyPosition(String escapedKey) {
+			Integer position= fKeyPositions.get(escapedKey);
+			if (position == null) {
+				position= Integer.valueOf(findKeyPosition(escapedKey));
+				fKeyPositions.put(escapedKey, position);
+			}
+			return position.intValue();
+		}
+
+		private int findKeyPosition(String propertyName) {
+			if (fLines == null && !readLines())
+				return -1;
+			int start= 0;
+			int keyLength= propertyName.length();
+			for (int index= 0; index < fLines.size(); index++) {
+				String line= fLines.get(index);
+				int i= line.indexOf(propertyName);
+				int charPos= i + keyLength;
+				char terminatorChar= 0;
+				boolean hasNoValue= (charPos >= line.length());
+				if (i > -1 && !hasNoValue) {
+					terminatorChar= line.charAt(charPos);
+				}
+				if (line.trim().startsWith(propertyName) &&
+						(hasNoValue || Character.isWhitespace(terminatorChar) || terminatorChar == '=')) {
+					return start + i;
+				}
+				start+= line.length() + fLineDelimiterLengths[index];
+			}
+			return -1; //key not found in file. See bug 63794. This can happen if the key contains escaped characters.
+		}
+
+		private boolean readLines() {
+			// Fix for http://dev.eclipse.org/bugs/show_bug.cgi?id=19319
+			String encoding;
+			try {
+				encoding= fFile.getCharset();
+			} catch (CoreException e1) {
+				encoding= "ISO-8859-1";  //$NON-NLS-1$
+			}
+			List<String> lines= new ArrayList<>();
+			List<Integer> delimiterLengths= new ArrayList<>();
+			try (InputStream stream= createInputStream(fFile); LineReader lineReader= new LineReader(stream, encoding)) {
+				StringBuffer buf= new StringBuffer(80);
+				int eols= lineReader.readLine(buf);
+				// the last line is only considered if it is terminated
+				while (eols > 0) {
+					lines.add(buf.toString());
+					delimiterLengths.add(Integer.valueOf(eols));
+					buf.setLength(0);
+					eols= lineReader.readLine(buf);
+				}
+			} catch (CoreException | IOException ex) {
+				JavaPlugin.log(ex);
+				return false;
+			}
+			fLines= lines;
+			fLineDelimiterLengths= new int[delimiterLengths.size()];
+			for (int index= 0; index < fLineDelimiterLengths.length; index++) {
+				fLineDelimiterLengths[index]= delimiterLengths.get(index).intValue();
+			}
+			return true;
+		}
+	}
+
+	private final Map<IFile, Entry> fEntries= new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<IFile, Entry> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	/**
+	 * @return the shared index
+	 */
+	public static PropertiesFileIndex getDefault() {
+		return fgDefault;
+	}
+
+	private PropertiesFileIndex() {
+	}
+
+	/**
+	 * Returns the keys of the given properties file, reading the file if it has changed since it
+	 * was last read.
+	 *
+	 * @param file the properties file
+	 * @return the entry of the file
+	 */
+	public Entry getEntry(IFile file) {
+		long stamp= getStamp(file);
+		if (stamp == IResource.NULL_STAMP)
+			return new Entry(file, stamp);
+		synchronized (fEntries) {
+			Entry entry= fEntries.get(file);
+			if (entry != null && entry.fStamp == stamp)
+				return entry;
+		}
+		Entry entry= new Entry(file, stamp);
+		synchronized (fEntries) {
+			fEntries.put(file, entry);
+		}
+		return entry;
+	}
+
+	private static long getStamp(IFile file) {
+		ITextFileBufferManager manager= FileBuffers.getTextFileBufferManager();
+		if (manager != null) {
+			ITextFileBuffer buffer= manager.getTextFileBuffer(file.getFullPath(), LocationKind.IFILE);
+			if (buffer != null && buffer.isDirty())
+				return IResource.NULL_STAMP;
+		}
+		return file.getModificationStamp();
+	}
+
+	private static InputStream createInputStream(IFile propertiesFile) throws CoreException {
+		ITextFileBufferManager manager= FileBuffers.getTextFileBufferManager();
+		if (manager != null) {
+			ITextFileBuffer buffer= manager.getTextFileBuffer(propertiesFile.getFullPath(), LocationKind.IFILE);
+			if (buffer != null) {
+				return new ByteArrayInputStream(buffer.getDocument().get().getBytes());
+			}
+		}
+
+		return propertiesFile.getContents();
+	}
+}
@@ -488,6 +488,9 @@ public interface IJavaHelpContextIds {
 	String CALL_HIERARCHY_EXPAND_WITH_CONSTRUCTORS_ACTION= 				PREFIX + "call_hierarchy_expand_with_constructors_action_context"; //$NON-NLS-1$
 	String CALL_HIERARCHY_EXPAND_WITH_CONSTRUCTORS_DIALOG= 				PREFIX + "call_hierarchy_expand_with_constructors_dialog_context"; //$NON-NLS-1$
 	String CALL_HIERARCHY_REMOVE_FROM_VIEW_ACTION= 						PREFIX + "call_hierarchy_remove_from_view_action_context"; //$NON-NLS-1$
+	String CALL_HIERARCHY_EXPAND_CALLERS_ACTION= 						PREFIX + "call_hierarchy_expand_callers_action_context"; //$NON-NLS-1$
+	String CALL_HIERARCHY_OPEN_CALL_GRAPH_ACTION= 						PREFIX + "call_hierarchy_open_call_graph_action_context"; //$NON-NLS-1$
+	String CALL_HIERARCHY_SAVE_CALL_GRAPH_ACTION= 						PREFIX + "call_hierarchy_save_call_graph_action_context"; //$NON-NLS-1$
 
 	/**
 	 * @since 3.6
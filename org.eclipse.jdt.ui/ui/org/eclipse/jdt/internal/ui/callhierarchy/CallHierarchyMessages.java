@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -170,6 +170,19 @@ public final class CallHierarchyMessages extends NLS {
 	public static String ExpandWithConstructorsAction_expandWithConstructors_description;
 	public static String ExpandWithConstructorsAction_expandWithConstructors_tooltip;
 	public static String ExpandWithConstructorsDialog_title;
+	public static String ExpandCallersAction_text;
+	public static String ExpandCallersAction_description;
+	public static String ExpandCallersAction_tooltip;
+	public static String ExpandCallersAction_job_name;
+	public static String OpenCallGraphAction_text;
+	public static String OpenCallGraphAction_tooltip;
+	public static String OpenCallGraphAction_error_title;
+	public static String OpenCallGraphAction_error_message;
+	public static String OpenCallGraphAction_missing_message;
+	public static String SaveCallGraphAction_text;
+	public static String SaveCallGraphAction_tooltip;
+	public static String SaveCallGraphAction_error_title;
+	public static String SaveCallGraphAction_error_message;
 	public static String PinCallHierarchyViewAction_label;
 	public static String PinCallHierarchyViewAction_tooltip;
 	static {
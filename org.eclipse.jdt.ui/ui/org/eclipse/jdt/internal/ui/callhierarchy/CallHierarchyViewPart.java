@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -97,6 +97,7 @@ import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.search.IJavaSearchConstants;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
 
+import org.eclipse.jdt.internal.corext.callhierarchy.CallGraph;
 import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchy;
 import org.eclipse.jdt.internal.corext.callhierarchy.CallLocation;
 import org.eclipse.jdt.internal.corext.callhierarchy.MethodWrapper;
@@ -217,6 +218,10 @@ public class CallHierarchyViewPart extends ViewPart implements ICallHierarchyVie
     private MethodWrapper[] fCallerRoots;
     private IMemento fMemento;
     private IMember[] fInputElements;
+    /**
+     * The call graph whose calls are shown for the next roots, or <code>null</code>.
+     */
+    private CallGraph fInputGraph;
     private CallHierarchySelectionProvider fSelectionProviderMediator;
     private LocationViewer fLocationViewer;
     private SashForm fHierarchyLocationSplitter;
@@ -235,6 +240,9 @@ public class CallHierarchyViewPart extends ViewPart implements ICallHierarchyVie
     private CopyCallHierarchyAction fCopyAction;
     private CancelSearchAction fCancelSearchAction;
     private ExpandWithConstructorsAction fExpandWithConstructorsAction;
+    private ExpandCallersAction fExpandCallersAction;
+    private OpenCallGraphAction fOpenCallGraphAction;
+    private SaveCallGraphAction fSaveCallGraphAction;
     private RemoveFromViewAction fRemoveFromViewAction;
     private ShowSearchInDialogAction fShowSearchInDialogAction;
     private CompositeActionGroup fActionGroups;
@@ -304,6 +312,40 @@ public class CallHierarchyViewPart extends ViewPart implements ICallHierarchyVie
         return fInputElements;
     }
 
+	/**
+	 * Shows the members a call graph has been built for, with the calls of the graph. The calls are
+	 * searched again when the view is refreshed.
+	 *
+	 * @param graph the call graph
+	 * @return <code>false</code> if none of the members of the graph exists
+	 */
+	boolean setInputGraph(CallGraph graph) {
+		List<IMember> roots= new ArrayList<>();
+		for (int node= 0; node < graph.getRootCount(); node++) {
+			IMember member= graph.getMember(node);
+			if (member != null && member.exists())
+				roots.add(member);
+		}
+		if (roots.isEmpty())
+			return false;
+		fInputGraph= graph;
+		fInputElements= null;
+		setCallMode(graph.isCallers() ? CALL_MODE_CALLERS : CALL_MODE_CALLEES);
+		setInputElements(roots.toArray(new IMember[roots.size()]));
+		return true;
+	}
+
+	private void primeCache(MethodWrapper[] roots, boolean callers) {
+		if (fInputGraph == null)
+			return;
+		if (fInputGraph.isCallers() == callers && (!callers || fCurrentFieldMode == IJavaSearchConstants.REFERENCES)) {
+			for (MethodWrapper root : roots) {
+				fInputGraph.primeCache(root);
+			}
+		}
+		fInputGraph= null;
+	}
+
     public MethodWrapper[] getCurrentMethodWrappers() {
         if (fCurrentCallMode == CALL_MODE_CALLERS) {
             return fCallerRoots;
@@ -720,10 +762,17 @@ public class CallHierarchyViewPart extends ViewPart implements ICallHierarchyVie
 		}
         viewMenu.add(fieldSubMenu);
         viewMenu.add(fShowSearchInDialogAction);
+
+        viewMenu.add(new Separator());
+        viewMenu.add(fOpenCallGraphAction);
+        viewMenu.add(fSaveCallGraphAction);
     }
 
 	@Override
 	public void dispose() {
+		if (fExpandCallersAction != null)
+			fExpandCallersAction.cancel();
+
 		if (fActionGroups != null)
 			fActionGroups.dispose();
 
@@ -900,6 +949,7 @@ public class CallHierarchyViewPart extends ViewPart implements ICallHierarchyVie
     private MethodWrapper[] getCalleeRoots() {
         if (fCalleeRoots == null) {
             fCalleeRoots = CallHierarchy.getDefault().getCalleeRoots(fInputElements);
+            primeCache(fCalleeRoots, false);
         }
 
         return fCalleeRoots;
@@ -921,6 +971,7 @@ public class CallHierarchyViewPart extends ViewPart implements ICallHierarchyVie
 			for (MethodWrapper fCallerRoot : fCallerRoots) {
 				fCallerRoot.setFieldSearchMode(fCurrentFieldMode);
 			}
+			primeCache(fCallerRoots, true);
         }
 
         return fCallerRoots;
@@ -995,6 +1046,9 @@ public class CallHierarchyViewPart extends ViewPart implements ICallHierarchyVie
         if (fExpandWithConstructorsAction.canActionBeAdded()) {
         	menu.appendToGroup(GROUP_FOCUS, fExpandWithConstructorsAction);
         }
+        if (fExpandCallersAction.canActionBeAdded()) {
+        	menu.appendToGroup(GROUP_FOCUS, fExpandCallersAction);
+        }
 
         if (fRemoveFromViewAction.canActionBeAdded()){
         	menu.appendToGroup(GROUP_FOCUS, fRemoveFromViewAction);
@@ -1048,6 +1102,9 @@ public class CallHierarchyViewPart extends ViewPart implements ICallHierarchyVie
         fCancelSearchAction = new CancelSearchAction(this);
         setCancelEnabled(false);
         fExpandWithConstructorsAction= new ExpandWithConstructorsAction(this, fCallHierarchyViewer);
+        fExpandCallersAction= new ExpandCallersAction(this, fCallHierarchyViewer);
+        fOpenCallGraphAction= new OpenCallGraphAction(this);
+        fSaveCallGraphAction= new SaveCallGraphAction(this);
         fRemoveFromViewAction= new RemoveFromViewAction(this, fCallHierarchyViewer);
         fPinViewAction= new PinCallHierarchyViewAction(this);
         fFiltersAction = new ShowCallHierarchyFilterDialogAction(this, CallHierarchyMessages.ShowFilterDialogAction_text);
@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.callhierarchy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.jface.action.Action;
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.IStructuredSelection;
+
+import org.eclipse.ui.PlatformUI;
+
+import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchyCore;
+import org.eclipse.jdt.internal.corext.callhierarchy.CallerMethodWrapper;
+import org.eclipse.jdt.internal.corext.callhierarchy.MethodWrapper;
+import org.eclipse.jdt.internal.corext.util.Messages;
+
+import org.eclipse.jdt.internal.ui.IJavaHelpContextIds;
+
+/**
+ * The action to expand the callers of the selected members several levels deep. The callers of
+ * all members of a level are searched in parallel, and the nodes are expanded as soon as their
+ * callers are known.
+ */
+class ExpandCallersAction extends Action {
+
+	/**
+	 * The number of levels to expand.
+	 */
+	private static final int LEVELS= 3;
+
+	/**
+	 * The call hierarchy view part.
+	 */
+	private CallHierarchyViewPart fPart;
+
+	/**
+	 * The call hierarchy viewer.
+	 */
+	private CallHierarchyViewer fCallHierarchyViewer;
+
+	/**
+	 * The running expand job, or <code>null</code>.
+	 */
+	private Job fJob;
+
+	/**
+	 * Creates the action for expanding the callers of the selected members.
+	 *
+	 * @param callHierarchyViewPart the call hierarchy view part
+	 * @param callHierarchyViewer the call hierarchy viewer
+	 */
+	public ExpandCallersAction(CallHierarchyViewPart callHierarchyViewPart, CallHierarchyViewer callHierarchyViewer) {
+		super(Messages.format(CallHierarchyMessages.ExpandCallersAction_text, Integer.valueOf(LEVELS)));
+		fPart= callHierarchyViewPart;
+		fCallHierarchyViewer= callHierarchyViewer;
+		setDescription(Messages.format(CallHierarchyMessages.ExpandCallersAction_description, Integer.valueOf(LEVELS)));
+		setToolTipText(Messages.format(CallHierarchyMessages.ExpandCallersAction_tooltip, Integer.valueOf(LEVELS)));
+		PlatformUI.getWorkbench().getHelpSystem().setHelp(this, IJavaHelpContextIds.CALL_HIERARCHY_EXPAND_CALLERS_ACTION);
+	}
+
+	/*
+	 * @see Action#run
+	 */
+	@Override
+	public void run() {
+		List<MethodWrapper> wrappers= new ArrayList<>();
+		for (Object element : (IStructuredSelection) getSelection()) {
+			wrappers.add((MethodWrapper) element);
+		}
+		final MethodWrapper[] roots= wrappers.toArray(new MethodWrapper[wrappers.size()]);
+		final Display display= fCallHierarchyViewer.getControl().getDisplay();
+		cancel();
+		fJob= new Job(CallHierarchyMessages.ExpandCallersAction_job_name) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				try {
+					CallHierarchyCore.getDefault().expandCalls(roots, LEVELS, (wrapper, calls) -> expand(display, wrapper), monitor);
+				} catch (OperationCanceledException e) {
+					return Status.CANCEL_STATUS;
+				}
+				return Status.OK_STATUS;
+			}
+		};
+		fJob.setSystem(false);
+		fJob.schedule();
+	}
+
+	/**
+	 * Cancels the running expand job, if any.
+	 */
+	public void cancel() {
+		if (fJob != null) {
+			fJob.cancel();
+			fJob= null;
+		}
+	}
+
+	/**
+	 * Expands the node of the given wrapper, whose callers have been found.
+	 *
+	 * @param display the display of the call hierarchy viewer
+	 * @param wrapper the method wrapper
+	 */
+	private void expand(final Display display, final MethodWrapper wrapper) {
+		if (display.isDisposed())
+			return;
+		display.asyncExec(() -> {
+			if (!display.isDisposed() && !fCallHierarchyViewer.getControl().isDisposed())
+				fCallHierarchyViewer.setExpandedState(wrapper, true);
+		});
+	}
+
+	/**
+	 * Gets the selection from the call hierarchy view part.
+	 *
+	 * @return the current selection
+	 */
+	private ISelection getSelection() {
+		return fPart.getSelection();
+	}
+
+	/**
+	 * Checks whether this action can be added for the selected element in the call hierarchy.
+	 *
+	 * @return <code> true</code> if the action can be added, <code>false</code> otherwise
+	 */
+	public boolean canActionBeAdded() {
+		if (fPart.getCallMode() == CallHierarchyViewPart.CALL_MODE_CALLEES)
+			return false;
+		ISelection selection= getSelection();
+		if (selection.isEmpty() || !(selection instanceof IStructuredSelection))
+			return false;
+		for (Object element : (IStructuredSelection) selection) {
+			if (!(element instanceof CallerMethodWrapper))
+				return false;
+		}
+		return true;
+	}
+}
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.callhierarchy;
+
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.FileDialog;
+import org.eclipse.swt.widgets.Shell;
+
+import org.eclipse.jface.action.Action;
+import org.eclipse.jface.dialogs.MessageDialog;
+
+import org.eclipse.ui.PlatformUI;
+
+import org.eclipse.jdt.internal.corext.callhierarchy.CallGraph;
+
+import org.eclipse.jdt.internal.ui.IJavaHelpContextIds;
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * The action to show a call graph saved by {@link SaveCallGraphAction} in the view. The calls of
+ * the graph are shown without searching again, until the view is refreshed.
+ */
+class OpenCallGraphAction extends Action {
+
+	private static final String[] FILTER_EXTENSIONS= { "*.callgraph", "*.*" }; //$NON-NLS-1$ //$NON-NLS-2$
+
+	private CallHierarchyViewPart fPart;
+
+	public OpenCallGraphAction(CallHierarchyViewPart part) {
+		super(CallHierarchyMessages.OpenCallGraphAction_text);
+		fPart= part;
+		setToolTipText(CallHierarchyMessages.OpenCallGraphAction_tooltip);
+		PlatformUI.getWorkbench().getHelpSystem().setHelp(this, IJavaHelpContextIds.CALL_HIERARCHY_OPEN_CALL_GRAPH_ACTION);
+	}
+
+	@Override
+	public void run() {
+		Shell shell= fPart.getSite().getShell();
+		FileDialog dialog= new FileDialog(shell, SWT.OPEN | SWT.SHEET);
+		dialog.setFilterExtensions(FILTER_EXTENSIONS);
+		String path= dialog.open();
+		if (path == null)
+			return;
+		CallGraph graph;
+		try (InputStream stream= new BufferedInputStream(new FileInputStream(path))) {
+			graph= CallGraph.read(stream);
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+			MessageDialog.openError(shell, CallHierarchyMessages.OpenCallGraphAction_error_title, CallHierarchyMessages.OpenCallGraphAction_error_message);
+			return;
+		}
+		if (!fPart.setInputGraph(graph))
+			MessageDialog.openInformation(shell, CallHierarchyMessages.OpenCallGraphAction_error_title, CallHierarchyMessages.OpenCallGraphAction_missing_message);
+	}
+}
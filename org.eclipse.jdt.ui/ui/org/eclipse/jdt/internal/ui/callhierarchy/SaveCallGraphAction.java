@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.callhierarchy;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.FileDialog;
+import org.eclipse.swt.widgets.Shell;
+
+import org.eclipse.jface.action.Action;
+
+import org.eclipse.ui.PlatformUI;
+
+import org.eclipse.jdt.core.IMember;
+
+import org.eclipse.jdt.internal.corext.callhierarchy.CallGraph;
+import org.eclipse.jdt.internal.corext.callhierarchy.CallGraphBuilder;
+import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchyCore;
+import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchySettings;
+
+import org.eclipse.jdt.internal.ui.IJavaHelpContextIds;
+import org.eclipse.jdt.internal.ui.util.ExceptionHandler;
+
+/**
+ * The action to save the transitive callers or callees of the input members of the view to a
+ * file, which can be shown again with {@link OpenCallGraphAction}.
+ */
+class SaveCallGraphAction extends Action {
+
+	private static final String[] FILTER_EXTENSIONS= { "*.callgraph", "*.*" }; //$NON-NLS-1$ //$NON-NLS-2$
+
+	private CallHierarchyViewPart fPart;
+
+	public SaveCallGraphAction(CallHierarchyViewPart part) {
+		super(CallHierarchyMessages.SaveCallGraphAction_text);
+		fPart= part;
+		setToolTipText(CallHierarchyMessages.SaveCallGraphAction_tooltip);
+		PlatformUI.getWorkbench().getHelpSystem().setHelp(this, IJavaHelpContextIds.CALL_HIERARCHY_SAVE_CALL_GRAPH_ACTION);
+	}
+
+	@Override
+	public void run() {
+		IMember[] members= fPart.getInputElements();
+		if (members == null || members.length == 0)
+			return;
+		Shell shell= fPart.getSite().getShell();
+		FileDialog dialog= new FileDialog(shell, SWT.SAVE | SWT.SHEET);
+		dialog.setFilterExtensions(FILTER_EXTENSIONS);
+		dialog.setOverwrite(true);
+		String path= dialog.open();
+		if (path == null)
+			return;
+		boolean callers= fPart.getCallMode() == CallHierarchyViewPart.CALL_MODE_CALLERS;
+		CallHierarchySettings settings= CallHierarchyCore.getDefault().getSettings();
+		try {
+			PlatformUI.getWorkbench().getProgressService().busyCursorWhile(monitor -> {
+				CallGraph graph= CallGraphBuilder.build(members, callers, settings, monitor);
+				try (OutputStream stream= new BufferedOutputStream(new FileOutputStream(path))) {
+					graph.write(stream);
+				} catch (IOException e) {
+					throw new InvocationTargetException(e);
+				}
+			});
+		} catch (InvocationTargetException e) {
+			ExceptionHandler.handle(e, shell, CallHierarchyMessages.SaveCallGraphAction_error_title, CallHierarchyMessages.SaveCallGraphAction_error_message);
+		} catch (InterruptedException e) {
+			// canceled
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -3238,6 +3238,7 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 
 			// Add occurrence annotations
 			int length= fLocations.length;
+			Map<String, Annotation> annotations= new HashMap<>(length);
 			Map<Annotation, Position> annotationMap= new HashMap<>(length);
 			for (OccurrenceLocation location : fLocations) {
 
@@ -3249,28 +3250,51 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 				String description= location.getDescription();
 				String annotationType= (location.getFlags() == IOccurrencesFinder.F_WRITE_OCCURRENCE) ? "org.eclipse.jdt.ui.occurrences.write" : "org.eclipse.jdt.ui.occurrences"; //$NON-NLS-1$ //$NON-NLS-2$
 
-				annotationMap.put(new Annotation(annotationType, false, description), position);
+				Annotation annotation= new Annotation(annotationType, false, description);
+				if (annotations.putIfAbsent(getOccurrenceKey(annotation, position), annotation) == null)
+					annotationMap.put(annotation, position);
 			}
 
 			if (isCanceled(progressMonitor))
 				return Status.CANCEL_STATUS;
 
 			synchronized (getLockObject(annotationModel)) {
+				// only apply the difference to the current annotations, e.g. when the caret moves between occurrences of the same element
+				List<Annotation> result= new ArrayList<>(annotationMap.size());
+				List<Annotation> removed= new ArrayList<>();
+				if (fOccurrenceAnnotations != null) {
+					for (Annotation annotation : fOccurrenceAnnotations) {
+						Position position= annotationModel.getPosition(annotation);
+						Annotation replacement= position != null && !position.isDeleted() ? annotations.remove(getOccurrenceKey(annotation, position)) : null;
+						if (replacement != null) {
+							annotationMap.remove(replacement);
+							result.add(annotation);
+						} else {
+							removed.add(annotation);
+						}
+					}
+				}
 				if (annotationModel instanceof IAnnotationModelExtension) {
-					((IAnnotationModelExtension)annotationModel).replaceAnnotations(fOccurrenceAnnotations, annotationMap);
+					((IAnnotationModelExtension)annotationModel).replaceAnnotations(removed.toArray(new Annotation[removed.size()]), annotationMap);
 				} else {
-					removeOccurrenceAnnotations();
+					for (Annotation annotation : removed)
+						annotationModel.removeAnnotation(annotation);
 					Iterator<Entry<Annotation, Position>> iter= annotationMap.entrySet().iterator();
 					while (iter.hasNext()) {
 						Entry<Annotation, Position> mapEntry= iter.next();
 						annotationModel.addAnnotation(mapEntry.getKey(), mapEntry.getValue());
 					}
 				}
-				fOccurrenceAnnotations= annotationMap.keySet().toArray(new Annotation[annotationMap.size()]);
+				result.addAll(annotationMap.keySet());
+				fOccurrenceAnnotations= result.toArray(new Annotation[result.size()]);
 			}
 
 			return Status.OK_STATUS;
 		}
+
+		private String getOccurrenceKey(Annotation annotation, Position position) {
+			return position.getOffset() + ":" + position.getLength() + ":" + annotation.getType() + ":" + annotation.getText(); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -44,6 +44,7 @@ import org.eclipse.jdt.core.dom.SimpleName;
 import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
 
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
+import org.eclipse.jdt.internal.corext.dom.BindingHierarchyCache;
 import org.eclipse.jdt.internal.corext.dom.Bindings;
 import org.eclipse.jdt.internal.corext.util.JdtFlags;
 import org.eclipse.jdt.internal.corext.util.Messages;
@@ -175,6 +176,7 @@ class OverrideIndicatorManager implements IJavaReconcilingListener {
 			return;
 
 		final Map<Annotation, Position> annotationMap= new HashMap<>(50);
+		final BindingHierarchyCache hierarchyCache= BindingHierarchyCache.getCache(ast);
 
 		ast.accept(new ASTVisitor(false) {
 			/*
@@ -184,7 +186,7 @@ class OverrideIndicatorManager implements IJavaReconcilingListener {
 			public boolean visit(MethodDeclaration node) {
 				IMethodBinding binding= node.resolveBinding();
 				if (binding != null) {
-					IMethodBinding definingMethod= Bindings.findOverriddenMethod(binding, true);
+					IMethodBinding definingMethod= hierarchyCache.findOverriddenMethod(binding, true);
 					if (definingMethod != null) {
 
 						ITypeBinding definingType= definingMethod.getDeclaringClass();
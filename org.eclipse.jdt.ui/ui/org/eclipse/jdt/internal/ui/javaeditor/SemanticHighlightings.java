@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -56,6 +56,7 @@ import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
 import org.eclipse.jdt.core.dom.WildcardType;
 
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
+import org.eclipse.jdt.internal.corext.dom.BindingHierarchyCache;
 import org.eclipse.jdt.internal.corext.dom.Bindings;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 
@@ -864,7 +865,7 @@ public class SemanticHighlightings {
 			if (currentType == declaringType || currentType == null)
 				return false;
 
-			return Bindings.isSuperType(declaringType, currentType);
+			return BindingHierarchyCache.getCache(node).isSuperType(declaringType, currentType);
 		}
 	}
 
@@ -2017,7 +2018,7 @@ public class SemanticHighlightings {
 			if (declaringType == null || currentType == declaringType)
 				return false;
 
-			return Bindings.isSuperType(declaringType, currentType);
+			return BindingHierarchyCache.getCache(node).isSuperType(declaringType, currentType);
 		}
 	}
 